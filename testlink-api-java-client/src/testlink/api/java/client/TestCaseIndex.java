@@ -0,0 +1,218 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Lookup tables for all the test cases of a project. A test case can be
+ * found by its internal identifier, by its visible identifier
+ * (PREFIX-externalID) or by its name. The visible identifier and name
+ * are compared without regard to case and lead to the latest version of
+ * the test case, the one with the highest tcversion_id.
+ * <p>
+ * The index is built by the TestLinkAPIClient from one pass over the
+ * test cases of each first level suite and is kept up to date when the
+ * client creates test cases.
+ */
+public class TestCaseIndex implements TestLinkAPIConst
+{
+	private static final String VERSION_ID = "tcversion_id";
+	
+	private Integer projectID;
+	private String prefix;
+	private HashMap byInternalID = new HashMap();
+	private HashMap byVisibleID = new HashMap();
+	private HashMap byName = new HashMap();
+	
+	/* Set by the client that keeps the index */
+	long created = System.currentTimeMillis();
+	int cacheGeneration = 0;
+	
+	/**
+	 * Create an empty index for the test cases of a project.
+	 * 
+	 * @param projectID
+	 * @param prefix		The test case prefix of the project or null
+	 */
+	public TestCaseIndex(
+		Integer projectID,
+		String prefix)
+	{
+		this.projectID = projectID;
+		this.prefix = prefix;
+	}
+	
+	/**
+	 * The project of the test cases.
+	 * 
+	 * @return
+	 */
+	public Integer getProjectID()
+	{
+		return projectID;
+	}
+	
+	/**
+	 * The test case prefix of the project.
+	 * 
+	 * @return
+	 */
+	public String getPrefix()
+	{
+		return prefix;
+	}
+	
+	/**
+	 * The number of test cases in the index.
+	 * 
+	 * @return
+	 */
+	public synchronized int size()
+	{
+		return byInternalID.size();
+	}
+	
+	/**
+	 * Add the test cases returned by tl.getTestCasesForTestSuite.
+	 * 
+	 * @param cases
+	 */
+	public synchronized void addAll(
+		TestLinkAPIResults cases)
+	{
+		for ( int i = 0; i < cases.size(); i++ ) {
+			add(cases.getData(i));
+		}
+	}
+	
+	/**
+	 * Add a test case record. A record for the same name or visible
+	 * identifier only replaces the one in the index if it is a later
+	 * version.
+	 * 
+	 * @param testCase
+	 */
+	public synchronized void add(
+		Map testCase)
+	{
+		if ( testCase == null ) {
+			return;
+		}
+		Object id = testCase.get(API_RESULT_IDENTIFIER);
+		if ( id == null ) {
+			return;
+		}
+		if ( !byInternalID.containsKey(id.toString()) ) {
+			byInternalID.put(id.toString(), testCase);
+		}
+		
+		// Only versioned cases can be found by name
+		Object externalID = testCase.get(API_RESULT_TC_EXTERNAL_ID);
+		Object name = testCase.get(API_RESULT_NAME);
+		int version = getVersion(testCase);
+		if ( externalID == null || name == null || version < 0 ) {
+			return;
+		}
+		putLatest(byName, name.toString().toUpperCase(), testCase, version);
+		if ( prefix != null ) {
+			putLatest(byVisibleID, (prefix + '-' + externalID).toUpperCase(), testCase, version);
+		}
+	}
+	
+	/**
+	 * Get a test case by internal identifier.
+	 * 
+	 * @param testCaseID
+	 * @return The test case record or null if it is not in the project
+	 */
+	public synchronized Map getByInternalID(
+		Object testCaseID)
+	{
+		if ( testCaseID == null ) {
+			return null;
+		}
+		return (Map) byInternalID.get(testCaseID.toString());
+	}
+	
+	/**
+	 * Get the latest version of a test case by visible identifier.
+	 * 
+	 * @param visibleID		Example: PRJ-12
+	 * @return The test case record or null if it is not in the project
+	 */
+	public synchronized Map getByVisibleID(
+		String visibleID)
+	{
+		if ( visibleID == null ) {
+			return null;
+		}
+		return (Map) byVisibleID.get(visibleID.toUpperCase());
+	}
+	
+	/**
+	 * Get the latest version of a test case by name.
+	 * 
+	 * @param caseName
+	 * @return The test case record or null if it is not in the project
+	 */
+	public synchronized Map getByName(
+		String caseName)
+	{
+		if ( caseName == null ) {
+			return null;
+		}
+		return (Map) byName.get(caseName.toUpperCase());
+	}
+	
+	/*
+	 * Keep the record with the highest version. The first record
+	 * wins when the versions are the same.
+	 */
+	private static void putLatest(
+		HashMap index,
+		String key,
+		Map testCase,
+		int version)
+	{
+		Map current = (Map) index.get(key);
+		if ( current == null || version > getVersion(current) ) {
+			index.put(key, testCase);
+		}
+	}
+	
+	private static int getVersion(
+		Map testCase)
+	{
+		Object version = testCase.get(VERSION_ID);
+		if ( version == null ) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(version.toString());
+		} catch ( NumberFormatException e ) {
+			return -1;
+		}
+	}
+}
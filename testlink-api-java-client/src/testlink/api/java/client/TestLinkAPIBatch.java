@@ -0,0 +1,219 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+
+
+/**
+ * Collects TestLink API calls and sends them to the server in a single
+ * system.multicall request. Each queued call returns its position in
+ * the batch which is also the position of its results in the array
+ * returned by execute().
+ * <p>
+ * If the server does not support system.multicall the calls are sent
+ * one after the other.
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkAPIBatch batch = apiClient.createBatch();<br>
+ * int first = batch.getCasesForTestSuite(projectID, suiteID1);<br>
+ * int second = batch.getCasesForTestSuite(projectID, suiteID2);<br>
+ * TestLinkAPIResults[] results = batch.execute();
+ */
+public class TestLinkAPIBatch implements TestLinkAPIConst
+{
+	private TestLinkAPIClient apiClient;
+	private ArrayList methods = new ArrayList();
+	private ArrayList params = new ArrayList();
+	private ArrayList cacheKeys = new ArrayList();
+	private TestLinkAPIResults[] results = null;
+
+	/**
+	 * Create an empty batch for the client.
+	 *
+	 * @param apiClient
+	 */
+	public TestLinkAPIBatch(
+		TestLinkAPIClient apiClient)
+	{
+		this.apiClient = apiClient;
+	}
+
+	/**
+	 * Queue a request for all the test cases of a project test suite.
+	 *
+	 * @param testProjectID		Required
+	 * @param testSuiteID		Required
+	 * @return The position of the call in the batch
+	 * @throws TestLinkAPIException
+	 */
+	public int getCasesForTestSuite(
+		Integer testProjectID,
+		Integer testSuiteID) throws TestLinkAPIException
+	{
+		return add(API_METHOD_GET_TEST_CASES_FOR_SUITE,
+			apiClient.getCasesForTestSuiteParams(testProjectID, testSuiteID),
+			apiClient.getCasesForTestSuiteKey(testProjectID, testSuiteID));
+	}
+
+	/**
+	 * Queue a request for the last execution result of a test case in a plan.
+	 *
+	 * @param testPlanID	Required
+	 * @param testCaseID	Required
+	 * @return The position of the call in the batch
+	 * @throws TestLinkAPIException
+	 */
+	public int getLastExecutionResult(
+		Integer testPlanID,
+		Integer testCaseID) throws TestLinkAPIException
+	{
+		return add(API_METHOD_LAST_EXECUTION_RESULT,
+			apiClient.getLastExecutionResultParams(testPlanID, testCaseID),
+			apiClient.getLastExecutionResultKey(testPlanID, testCaseID));
+	}
+
+	/**
+	 * Queue a test case result report. If the build identifier is not
+	 * provided then the system is allowed to guess the latest build.
+	 *
+	 * @param testPlanID			Required
+	 * @param testCaseID			Required
+	 * @param buildID				Optional
+	 * @param execNotes				Optional
+	 * @param testResultStatus		Required
+	 * @return The position of the call in the batch
+	 * @throws TestLinkAPIException
+	 */
+	public int reportTestCaseResult(
+		Integer testPlanID,
+		Integer testCaseID,
+		Integer buildID,
+		String execNotes,
+		String testResultStatus) throws TestLinkAPIException
+	{
+		Boolean guess = new Boolean(buildID == null);
+		return add(API_METHOD_REPORT_TEST_RESULT,
+			apiClient.reportTestCaseResultParams(testPlanID, testCaseID, buildID, null, guess,
+				execNotes, testResultStatus), null);
+	}
+
+	/**
+	 * Queue a request to add a test case of a project to a test plan.
+	 *
+	 * @param projectID				Required
+	 * @param planID				Required
+	 * @param testCaseID			Optional
+	 * @param testCaseVisibleID		Required
+	 * @param version				Required
+	 * @param execOrder				Optional
+	 * @param urgency				Optional
+	 * @return The position of the call in the batch
+	 * @throws TestLinkAPIException
+	 */
+	public int addTestCaseToTestPlan(
+		Integer projectID,
+		Integer planID,
+		Integer testCaseID,
+		String testCaseVisibleID,
+		Integer version,
+		Integer execOrder,
+		String urgency) throws TestLinkAPIException
+	{
+		return add(API_METHOD_ADD_TEST_CASE_TO_PLAN,
+			apiClient.addTestCaseToTestPlanParams(projectID, planID, testCaseID,
+				testCaseVisibleID, version, execOrder, urgency), null);
+	}
+
+	/**
+	 * The number of calls in the batch.
+	 *
+	 * @return
+	 */
+	public int size()
+	{
+		return methods.size();
+	}
+
+	/**
+	 * Remove all the calls and results from the batch.
+	 */
+	public void clear()
+	{
+		methods.clear();
+		params.clear();
+		cacheKeys.clear();
+		results = null;
+	}
+
+	/**
+	 * Send all the queued calls to the TestLink API. The results are
+	 * returned in the order the calls were queued. An error reported
+	 * by TestLink for one call is returned in its results and can be
+	 * checked with hasError().
+	 *
+	 * @return One result list per queued call
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults[] execute() throws TestLinkAPIException
+	{
+		int count = methods.size();
+		results = apiClient.executeBatch(
+			(String[]) methods.toArray(new String[count]),
+			(Hashtable[]) params.toArray(new Hashtable[count]),
+			(TestLinkAPICacheKey[]) cacheKeys.toArray(new TestLinkAPICacheKey[count]));
+		return results;
+	}
+
+	/**
+	 * True if TestLink reported an error for the call at the position.
+	 * The batch must have been executed.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public boolean hasError(
+		int index)
+	{
+		if ( results == null ) {
+			throw new IllegalStateException("The batch has not been executed.");
+		}
+		return apiClient.isError(results[index]);
+	}
+
+	/*
+	 * Queue the call and return its position.
+	 */
+	private int add(
+		String method,
+		Hashtable callParams,
+		TestLinkAPICacheKey cacheKey)
+	{
+		methods.add(method);
+		params.add(callParams);
+		cacheKeys.add(cacheKey);
+		results = null;
+		return methods.size() - 1;
+	}
+}
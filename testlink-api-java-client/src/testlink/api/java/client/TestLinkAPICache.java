@@ -0,0 +1,457 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * The results cached by a TestLinkAPIClient. The cache is bounded by
+ * a maximum number of entries and a maximum number of result rows.
+ * When either limit is exceeded the least recently used entries are
+ * dropped. Entries can also be given a time to live, either for all
+ * methods or per TestLink API method, after which they are fetched
+ * again. A time to live of 0 keeps entries until they are dropped.
+ * <p>
+ * Entries can be tagged with the TestLink objects they depend on so
+ * a change to one object only drops the results that include it.
+ * <p>
+ * The cache can be used by several threads at the same time.
+ * <p>
+ * A TestLinkAPIDiskCache can be set as a persistent tier so results
+ * are kept across runs.
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkAPICache cache = apiClient.getCache();<br>
+ * cache.setMaxRows(50000);<br>
+ * cache.setTimeToLive(TestLinkAPIConst.API_METHOD_GET_LATEST_BUILD_FOR_PLAN, 60000);
+ */
+public class TestLinkAPICache implements TestLinkAPIConst
+{
+	private int maxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+	private int maxRows = DEFAULT_CACHE_MAX_ROWS;
+	private int compactRows = 0;
+	private long timeToLive = DEFAULT_CACHE_TIME_TO_LIVE;
+	private Map methodTimeToLive = new HashMap();
+	private int rowCount = 0;
+	private Map tagIndex = new HashMap();
+	
+	// Access ordered so the eldest entry is the least recently used
+	private LinkedHashMap entries = new LinkedHashMap(16, 0.75f, true);
+	private TestLinkAPIDiskCache diskCache = null;
+	
+	// Changed when all the results or all the results of a method are dropped
+	private int generation = 0;
+	
+	/**
+	 * Set the persistent tier that is read when results are not in
+	 * memory and that keeps a copy of the results that are cached.
+	 * 
+	 * @param diskCache		Optional
+	 */
+	public synchronized void setDiskCache(
+		TestLinkAPIDiskCache diskCache)
+	{
+		this.diskCache = diskCache;
+	}
+	
+	/**
+	 * Get the persistent tier of the cache.
+	 * 
+	 * @return The disk cache or null if there is none
+	 */
+	public synchronized TestLinkAPIDiskCache getDiskCache()
+	{
+		return diskCache;
+	}
+	
+	/**
+	 * Set the maximum number of cached results.
+	 * 
+	 * @param max
+	 */
+	public synchronized void setMaxEntries(
+		int max)
+	{
+		maxEntries = Math.max(max, 0);
+		trim();
+	}
+	
+	/**
+	 * Get the maximum number of cached results.
+	 * 
+	 * @return
+	 */
+	public synchronized int getMaxEntries()
+	{
+		return maxEntries;
+	}
+	
+	/**
+	 * Set the maximum number of result rows kept by the cache. A result
+	 * without rows counts as one row.
+	 * 
+	 * @param max
+	 */
+	public synchronized void setMaxRows(
+		int max)
+	{
+		maxRows = Math.max(max, 0);
+		trim();
+	}
+	
+	/**
+	 * Get the maximum number of result rows kept by the cache.
+	 * 
+	 * @return
+	 */
+	public synchronized int getMaxRows()
+	{
+		return maxRows;
+	}
+	
+	/**
+	 * Set the number of rows from which cached results are stored
+	 * column by column to use less memory. See TestLinkAPIResults.compact().
+	 * A value of 0 keeps all the results as they are.
+	 * 
+	 * @param rows
+	 */
+	public synchronized void setCompactRowThreshold(
+		int rows)
+	{
+		compactRows = Math.max(rows, 0);
+	}
+	
+	/**
+	 * Get the number of rows from which cached results are compacted.
+	 * 
+	 * @return
+	 */
+	public synchronized int getCompactRowThreshold()
+	{
+		return compactRows;
+	}
+	
+	/**
+	 * Set the time in milliseconds results are kept for methods that
+	 * do not have their own time to live. Applies to results cached
+	 * from now on.
+	 * 
+	 * @param millis
+	 */
+	public synchronized void setTimeToLive(
+		long millis)
+	{
+		timeToLive = millis;
+	}
+	
+	/**
+	 * Set the time in milliseconds the results of a TestLink API
+	 * method are kept. Applies to results cached from now on.
+	 * 
+	 * @param method
+	 * @param millis
+	 */
+	public synchronized void setTimeToLive(
+		String method,
+		long millis)
+	{
+		methodTimeToLive.put(method, new Long(millis));
+	}
+	
+	/**
+	 * Get the time in milliseconds the results of a method are kept.
+	 * 
+	 * @param method
+	 * @return
+	 */
+	public synchronized long getTimeToLive(
+		String method)
+	{
+		Long millis = (Long) methodTimeToLive.get(method);
+		if ( millis == null ) {
+			return timeToLive;
+		}
+		return millis.longValue();
+	}
+	
+	/**
+	 * The number of cached results.
+	 * 
+	 * @return
+	 */
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+	
+	/**
+	 * The number of result rows kept by the cache.
+	 * 
+	 * @return
+	 */
+	public synchronized int getRowCount()
+	{
+		return rowCount;
+	}
+	
+	/*
+	 * Changes each time all the results or all the results of a
+	 * method are dropped. Data derived from cached results, like the
+	 * test case indexes of the client, is rebuilt when it changes.
+	 */
+	synchronized int getGeneration()
+	{
+		return generation;
+	}
+	
+	/**
+	 * Drop all the cached results.
+	 */
+	public synchronized void clear()
+	{
+		entries.clear();
+		tagIndex.clear();
+		rowCount = 0;
+		generation++;
+		if ( diskCache != null ) {
+			diskCache.clear();
+		}
+	}
+	
+	/**
+	 * Drop the cached results for a key.
+	 * 
+	 * @param key
+	 */
+	public synchronized void invalidate(
+		TestLinkAPICacheKey key)
+	{
+		if ( key != null ) {
+			remove(key);
+			if ( diskCache != null ) {
+				diskCache.invalidate(key);
+			}
+		}
+	}
+	
+	/**
+	 * Drop all the cached results of a method.
+	 * 
+	 * @param method
+	 */
+	public synchronized void invalidateMethod(
+		String method)
+	{
+		Iterator keys = new ArrayList(entries.keySet()).iterator();
+		while ( keys.hasNext() ) {
+			TestLinkAPICacheKey key = (TestLinkAPICacheKey) keys.next();
+			if ( key.getMethod().equals(method) ) {
+				remove(key);
+			}
+		}
+		generation++;
+		if ( diskCache != null ) {
+			diskCache.invalidateMethod(method);
+		}
+	}
+	
+	/**
+	 * Drop all the cached results that were tagged with the tag.
+	 * 
+	 * @param tag
+	 */
+	public synchronized void invalidateTag(
+		Object tag)
+	{
+		if ( diskCache != null ) {
+			diskCache.invalidateTag(tag);
+		}
+		HashSet tagged = (HashSet) tagIndex.get(tag);
+		if ( tagged == null ) {
+			return;
+		}
+		Iterator keys = new ArrayList(tagged).iterator();
+		while ( keys.hasNext() ) {
+			remove((TestLinkAPICacheKey) keys.next());
+		}
+	}
+	
+	/**
+	 * Get the cached results or null if there are none or they expired.
+	 * 
+	 * @param key
+	 * @return
+	 */
+	TestLinkAPIResults get(
+		TestLinkAPICacheKey key)
+	{
+		TestLinkAPIDiskCache disk;
+		synchronized ( this ) {
+			Entry entry = (Entry) entries.get(key);
+			if ( entry != null ) {
+				if ( entry.expires <= 0 || entry.expires > System.currentTimeMillis() ) {
+					return entry.results;
+				}
+				remove(key);
+			}
+			disk = diskCache;
+		}
+		if ( disk == null ) {
+			return null;
+		}
+		
+		// The disk tier may call a version probe so it is read outside the lock
+		Object[] stored = disk.get(key);
+		if ( stored == null ) {
+			return null;
+		}
+		TestLinkAPIResults results = (TestLinkAPIResults) stored[0];
+		compact(results);
+		synchronized ( this ) {
+			putEntry(key, results, (Object[]) stored[1]);
+		}
+		return results;
+	}
+	
+	/**
+	 * Cache the results for a key.
+	 * 
+	 * @param key
+	 * @param results
+	 */
+	void put(
+		TestLinkAPICacheKey key,
+		TestLinkAPIResults results)
+	{
+		put(key, results, null);
+	}
+	
+	/**
+	 * Cache the results for a key and tag them with the objects
+	 * they depend on.
+	 * 
+	 * @param key
+	 * @param results
+	 * @param tags		Optional
+	 */
+	void put(
+		TestLinkAPICacheKey key,
+		TestLinkAPIResults results,
+		Object[] tags)
+	{
+		TestLinkAPIDiskCache disk;
+		compact(results);
+		synchronized ( this ) {
+			putEntry(key, results, tags);
+			disk = diskCache;
+		}
+		if ( disk != null ) {
+			disk.put(key, results, tags);
+		}
+	}
+	
+	/*
+	 * Compact large results before they are shared through the cache.
+	 */
+	private void compact(
+		TestLinkAPIResults results)
+	{
+		int threshold = getCompactRowThreshold();
+		if ( threshold > 0 && results.size() >= threshold ) {
+			results.compact();
+		}
+	}
+	
+	private void putEntry(
+		TestLinkAPICacheKey key,
+		TestLinkAPIResults results,
+		Object[] tags)
+	{
+		long millis = getTimeToLive(key.getMethod());
+		remove(key);
+		Entry entry = new Entry();
+		entry.results = results;
+		entry.rows = Math.max(results.size(), 1);
+		entry.expires = (millis > 0) ? System.currentTimeMillis() + millis : 0;
+		entry.tags = tags;
+		entries.put(key, entry);
+		for ( int i = 0; tags != null && i < tags.length; i++ ) {
+			HashSet tagged = (HashSet) tagIndex.get(tags[i]);
+			if ( tagged == null ) {
+				tagged = new HashSet();
+				tagIndex.put(tags[i], tagged);
+			}
+			tagged.add(key);
+		}
+		rowCount += entry.rows;
+		trim();
+	}
+	
+	/*
+	 * Drop the least recently used entries until the cache is
+	 * within its limits.
+	 */
+	private void trim()
+	{
+		while ( !entries.isEmpty() && (entries.size() > maxEntries || rowCount > maxRows) ) {
+			remove((TestLinkAPICacheKey) entries.keySet().iterator().next());
+		}
+	}
+	
+	private void remove(
+		TestLinkAPICacheKey key)
+	{
+		Entry entry = (Entry) entries.remove(key);
+		if ( entry == null ) {
+			return;
+		}
+		rowCount -= entry.rows;
+		for ( int i = 0; entry.tags != null && i < entry.tags.length; i++ ) {
+			HashSet tagged = (HashSet) tagIndex.get(entry.tags[i]);
+			if ( tagged != null ) {
+				tagged.remove(key);
+				if ( tagged.isEmpty() ) {
+					tagIndex.remove(entry.tags[i]);
+				}
+			}
+		}
+	}
+	
+	/*
+	 * A cached result.
+	 */
+	private static class Entry
+	{
+		TestLinkAPIResults results;
+		int rows;
+		long expires;
+		Object[] tags;
+	}
+}
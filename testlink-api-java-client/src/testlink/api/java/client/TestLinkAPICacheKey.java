@@ -0,0 +1,237 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Arrays;
+
+
+/**
+ * The key of results kept by the TestLinkAPICache. A key is made of
+ * the TestLink API method and the parameter values that select the
+ * results, in the order the method defines them. Optional parameters
+ * that were not given are null parts.
+ * <p>
+ * Keys are immutable and their hash code is computed once so they can
+ * be looked up without building strings. The external form of a key is
+ * used by cache tiers that keep results outside the JVM.
+ * <p>
+ * Example:
+ * <p>
+ * cache.invalidate(new TestLinkAPICacheKey(
+ * TestLinkAPIConst.API_METHOD_GET_BUILDS_FOR_PLAN, planID));
+ */
+public final class TestLinkAPICacheKey
+{
+	private static final Object[] NO_PARTS = new Object[0];
+	
+	private final String method;
+	private final Object[] parts;
+	private final int hash;
+	private String externalForm = null;
+	
+	/**
+	 * The key of a method without parameters.
+	 * 
+	 * @param method
+	 */
+	public TestLinkAPICacheKey(
+		String method)
+	{
+		this(method, NO_PARTS, false);
+	}
+	
+	/**
+	 * The key of a method selected by one parameter.
+	 * 
+	 * @param method
+	 * @param part
+	 */
+	public TestLinkAPICacheKey(
+		String method,
+		Object part)
+	{
+		this(method, new Object[] { part }, false);
+	}
+	
+	/**
+	 * The key of a method selected by two parameters.
+	 * 
+	 * @param method
+	 * @param part1
+	 * @param part2
+	 */
+	public TestLinkAPICacheKey(
+		String method,
+		Object part1,
+		Object part2)
+	{
+		this(method, new Object[] { part1, part2 }, false);
+	}
+	
+	/**
+	 * The key of a method selected by any number of parameters.
+	 * 
+	 * @param method
+	 * @param parts
+	 */
+	public TestLinkAPICacheKey(
+		String method,
+		Object[] parts)
+	{
+		this(method, parts, true);
+	}
+	
+	/*
+	 * The key of a method selected by any number of parameters. The
+	 * parts are only copied when asked so the client can hand over an
+	 * array it created for the key and does not change afterwards.
+	 */
+	TestLinkAPICacheKey(
+		String method,
+		Object[] parts,
+		boolean copyParts)
+	{
+		if ( method == null ) {
+			throw new IllegalArgumentException("A cache key requires a method.");
+		}
+		if ( parts == null ) {
+			parts = NO_PARTS;
+		} else if ( copyParts && parts.length > 0 ) {
+			parts = (Object[]) parts.clone();
+		}
+		this.method = method;
+		this.parts = parts;
+		this.hash = method.hashCode() * 31 + Arrays.hashCode(parts);
+	}
+	
+	/**
+	 * The TestLink API method.
+	 * 
+	 * @return
+	 */
+	public String getMethod()
+	{
+		return method;
+	}
+	
+	/**
+	 * The number of parameter values of the key.
+	 * 
+	 * @return
+	 */
+	public int getPartCount()
+	{
+		return parts.length;
+	}
+	
+	/**
+	 * A parameter value of the key.
+	 * 
+	 * @param index
+	 * @return The value or null if the parameter was not given
+	 */
+	public Object getPart(
+		int index)
+	{
+		return parts[index];
+	}
+	
+	/**
+	 * The key as a string that starts with the method followed by the
+	 * parameter values. Equal keys have the same external form.
+	 * 
+	 * @return
+	 */
+	public String toExternalForm()
+	{
+		if ( externalForm == null ) {
+			StringBuffer buffer = new StringBuffer(method.length() + parts.length * 8 + 2);
+			buffer.append(method).append('(');
+			for ( int i = 0; i < parts.length; i++ ) {
+				if ( i > 0 ) {
+					buffer.append(',');
+				}
+				appendPart(buffer, parts[i]);
+			}
+			externalForm = buffer.append(')').toString();
+		}
+		return externalForm;
+	}
+	
+	/**
+	 * The prefix of the external form of every key of a method.
+	 * 
+	 * @param method
+	 * @return
+	 */
+	public static String getExternalPrefix(
+		String method)
+	{
+		return method + '(';
+	}
+	
+	public int hashCode()
+	{
+		return hash;
+	}
+	
+	public boolean equals(
+		Object other)
+	{
+		if ( this == other ) {
+			return true;
+		}
+		if ( !(other instanceof TestLinkAPICacheKey) ) {
+			return false;
+		}
+		TestLinkAPICacheKey otherKey = (TestLinkAPICacheKey) other;
+		return hash == otherKey.hash && method.equals(otherKey.method)
+			&& Arrays.equals(parts, otherKey.parts);
+	}
+	
+	public String toString()
+	{
+		return toExternalForm();
+	}
+	
+	/*
+	 * Parts are escaped so the separators only appear between parts and
+	 * a missing part can not be confused with a value.
+	 */
+	private static void appendPart(
+		StringBuffer buffer,
+		Object part)
+	{
+		if ( part == null ) {
+			buffer.append("\\N");
+			return;
+		}
+		String value = part.toString();
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt(i);
+			if ( c == '\\' || c == ',' || c == '(' || c == ')' ) {
+				buffer.append('\\');
+			}
+			buffer.append(c);
+		}
+	}
+}
@@ -1,1398 +1,2673 @@
-/*
- * Daniel R Padilla
- *
- * Copyright (c) 2009, Daniel R Padilla
- *
- * This copyrighted material is made available to anyone wishing to use, modify,
- * copy, or redistribute it subject to the terms and conditions of the GNU
- * Lesser General Public License, as published by the Free Software Foundation.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
- * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
- * for more details.
- *
- * You should have received a copy of the GNU Lesser General Public License
- * along with this distribution; if not, write to:
- * Free Software Foundation, Inc.
- * 51 Franklin Street, Fifth Floor
- * Boston, MA  02110-1301  USA
- */
-package testlink.api.java.client;
-
-
-import java.net.URL;
-import java.util.*;
-import org.apache.xmlrpc.client.XmlRpcClient;
-import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
-
-
-/**
- * The TestLinkAPIClient class is the principal interface
- * to the TestLink API. An instance of the class can be used 
- * to make calls to most of the TestLink API xml-rpc methods. 
- * The list of supported methods can be found at
- * http://code.google.com/p/dbfacade-testlink-rpc-api/wiki/TestLinkMethods.
- * <p>
- * In addition methods that make access to the API without the
- * need to know internal TestLink database identfiers have been
- * provided to shield the user from the need to access the TestLink
- * database in order to use the API.
- * 
- * @author Daniel Padilla
- *
- */
-public class TestLinkAPIClient implements TestLinkAPIConst
-{
-
-	/* Cache Variables 
-	 * 
-	 * The way the client has been written it accesses
-	 * the API many times for the same information so
-	 * the following is a way to cache the information
-	 * if the user of the api chooses to cache.
-	 */
-	public boolean isConnected=false;
-	public String connectErrorMsg="";
-	boolean useCache = false;
-	Map cacheList = new HashMap();
-	
-	/* API Initialization variables */
-	
-	/**
-	 * The value in the TestLink database user record for API access. 
-	 * For TestLink version 1.8.2 this value had to be set manually using a database update statement.
-	 * See the TestLink API documentation for more information.
-	 * <p>
-	 * Example:
-	 * <p>
-	 * update users set script_key = 'AnyStringYouWant' where id=2
-	 * <p>
-	 * DEV_KEY = "AnyStringYouWant"
-	 */
-	public String DEV_KEY; 
-	
-	/**
-	 * The TestLink API URL. See the TestLink API documentation for more information.
-	 * <p>
-	 * Example: http://localhost/testlink/lib/api/xmlrpc.php
-	 */
-	public String SERVER_URL; 
-	
-	/**
-	 * Construct an instance with cache capabilities turned off.
-	 * 
-	 * @param devKey
-	 * @param url
-	 */
-	public TestLinkAPIClient(
-		String devKey,
-		String url)
-	{
-		DEV_KEY = devKey;
-		SERVER_URL = url;
-		check();
-	}
-	
-	/**
-	 * Construct an instance and indicate if cache capabilities should be enabled or disabled. 
-	 * <p>
-	 * If the cache is enabled during instantiation then the instance will
-	 * ignore all external changes made either manually or by other instances
-	 * of this class to the TestLink database. Therefore, results will only 
-	 * be up to date with the first query performed by the instance unless 
-	 * changes are made by the instance. If a change is made to the TestLink
-	 * database by the instance then the cache is reset.
-	 * 
-	 * The cache is very helpful when performing executions of test during which
-	 * test plans are known to not be changing.
-	 * 
-	 * @param devKey
-	 * @param url
-	 * @param useCache
-	 */
-	public TestLinkAPIClient(
-		String devKey,
-		String url,
-		boolean useCache)
-	{
-		DEV_KEY = devKey;
-		SERVER_URL = url;
-		this.useCache = useCache;
-		check();
-	}
-	
-	private void check() {
-		try {
-			about();
-			isConnected = true;
-		} catch (Exception e) {
-			isConnected=false;
-			connectErrorMsg = e.getMessage();
-		}
-	}
-	
-	/**
-	 * Get information about the TestLink API version.
-	 * 
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults about() throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		return execXmlRpcMethodWithCache(API_METHOD_ABOUT, params, null);
-	}
-	
-	/**
-	 * Allows user to test if the XML-RPC TestLink API is responding.
-	 * 
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults ping() throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		return execXmlRpcMethodWithCache(API_METHOD_PING, params, null);
-	}
-
-	/**
-	 * Report a test execution result for a test case by test
-	 * project name and test plan name for a specific build.
-	 * <p>
-	 * If the build is left as null then the system is allowed 
-	 * to guess on the latest build for the test case.
-	 * 
-	 * @param projectName				Required
-	 * @param testPlanName				Required
-	 * @param testCaseNameOrVisibleID	Required (Test Case Name or ID on web-page tree)
-	 * @param buildName					Optional
-	 * @param testResultStatus			Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults reportTestCaseResult(
-		String projectName,
-		String testPlanName,
-		String testCaseNameOrVisibleID,
-		String buildName,
-		String execNotes,
-		String testResultStatus) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found and the test case "
-				+ testCaseNameOrVisibleID + " could not be accessed to report a test result.");
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, testPlanName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException(
-				"The plan " + testPlanName + " was not found and the test case "
-				+ testCaseNameOrVisibleID + " could not be accessed to report a test result.");
-		}
-		Integer caseID = TestLinkAPIHelper.getTestCaseID(this, projectID,
-			testCaseNameOrVisibleID);
-		if ( caseID == null ) {
-			throw new TestLinkAPIException(
-				"The test case identifier " + caseID + " was not found and the test case "
-				+ testCaseNameOrVisibleID
-				+ " could not be accessed to report a test result to test plan "
-				+ testPlanName + ".");
-		}
-		
-		Integer buildID = null;
-		if ( buildName != null ) {
-			buildID = TestLinkAPIHelper.getBuildID(this, planID, buildName);
-			if ( buildID == null ) {
-				throw new TestLinkAPIException(
-					"The build name " + buildName + " was not found in test plan "
-					+ testPlanName + " and the test result for test case "
-					+ testCaseNameOrVisibleID + " could not be recorded.");
-			}
-		}
-		
-		TestLinkAPIResults results = reportTestCaseResult(planID, caseID, buildID,
-			execNotes, testResultStatus);
-		return results;
-	}
-	
-	/**
-	 * Report a test execution result for a test case by test
-	 * plan identifier and test case identifier for a specific 
-	 * build identifier.
-	 * 
-	 * If the build identifier is not provided then the system
-	 * is allowed to guess on the latest build for the test case.
-	 * 
-	 * @param testPlanID				Required
-	 * @param testCaseID				Required
-	 * @param buildID					Optional
-	 * @param testResultStatus			Required 
-	 */ 
-	public TestLinkAPIResults reportTestCaseResult(
-		Integer testPlanID,
-		Integer testCaseID,
-		Integer buildID,
-		String execNotes,
-		String  testResultStatus) throws TestLinkAPIException
-	{ 
-		Boolean guess = new Boolean(true);
-		if ( buildID != null ) {
-			guess = new Boolean(false);
-		}
-		TestLinkAPIResults results = reportTestCaseResult(testPlanID, testCaseID, buildID,
-			null, guess, execNotes, testResultStatus);
-		return results;
-	}
-	
-	/**
-	 * This method supports the TestLink API set of parameters
-	 * that can be used to report a test case result. 
-	 * 
-	 * @param testPlanID			Required
-	 * @param testCaseID			Required
-	 * @param buildID				Optional
-	 * @param bugID					Optional
-	 * @param execNotes				Optional
-	 * @param testResultStatus		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults reportTestCaseResult(
-		Integer testPlanID,
-		Integer testCaseID,
-		Integer buildID,
-		Integer bugID,
-		Boolean guess,
-		String  execNotes,
-		String  testResultStatus) throws TestLinkAPIException
-	{ 
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
-		setParam(params, REQUIRED, API_PARAM_TEST_CASE_ID, testCaseID);
-		setParam(params, OPTIONAL, API_PARAM_BUILD_ID, buildID);
-		setParam(params, OPTIONAL, API_PARAM_BUG_ID, bugID);
-		setParam(params, OPTIONAL, API_PARAM_GUESS, guess);
-		setParam(params, OPTIONAL, API_PARAM_NOTES, execNotes);
-		setParam(params, REQUIRED, API_PARAM_STATUS, testResultStatus);
-		return execXmlRpcMethodWithCache(API_METHOD_REPORT_TEST_RESULT, params, null);
-	}
-	
-	/**
-	 * Create a new project in TestLink database.
-	 * 
-	 * @param projectName		Required
-	 * @param testCasePrefix	Required
-	 * @param description		Required
-	 * @return The identifier for the created test project.
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createTestProject(
-		String projectName,
-		String testCasePrefix,
-		String description) throws TestLinkAPIException
-	{ 
-		initCache();
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_NAME, projectName);
-		setParam(params, REQUIRED, API_PARAM_TEST_CASE_PREFIX, testCasePrefix);
-		setParam(params, REQUIRED, API_PARAM_NOTES, description);
-		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_CREATE_PROJECT, params);
-		return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
-	}
-	
-	/**
-	 * Create top level test suite under a specific project name
-	 * 
-	 * @param projectName		Required
-	 * @param suiteName			Required
-	 * @param description		Required
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createTestSuite(
-		String projectName,
-		String suiteName,
-		String description) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID != null ) {
-			return createTestSuite(projectID, suiteName, description);
-		} else {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found and the test suite "
-				+ suiteName + " could not be created.");
-		}
-	}
-	
-	/**
-	 * Create top level test suite under a specific project identifier
-	 * 
-	 * @param projectID		Required
-	 * @param suiteName		Required
-	 * @param description	Required
-	 * @return The identifier for the created test suite.
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createTestSuite(
-		Integer projectID,
-		String suiteName,
-		String description) throws TestLinkAPIException
-	{
-		return createTestSuite(projectID, suiteName, description, null, null, null);
-	}
-	
-	/**
-	 * 
-	 * Create a test suite at any level using the project identifier and
-	 * the parent suite identifier information.
-	 * 
-	 * @param projectID		Required
-	 * @param suiteName		Required
-	 * @param description	Required
-	 * @param parentID		Optional
-	 * @param order			Optional
-	 * @param check			Optional
-	 * @return The identifier for the created test suite.
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createTestSuite(
-		Integer projectID, 
-		String suiteName,
-		String description,
-		Integer parentID,
-		Integer order,
-		Boolean check) throws TestLinkAPIException
-	{
-		initCache();
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID.toString());
-		setParam(params, REQUIRED, API_PARAM_TEST_SUITE_NAME, suiteName);
-		setParam(params, REQUIRED, API_PARAM_DETAILS, description);
-		setParam(params, OPTIONAL, API_PARAM_PARENT_ID, parentID);
-		setParam(params, OPTIONAL, API_PARAM_ORDER, order);
-		setParam(params, OPTIONAL, API_PARAM_CHECK_DUP_NAMES, check);
-		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_CREATE_SUITE, params);
-		return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
-	}
-	
-	/**
-	 * Create a test case by project name and suite name. 
-	 * 
-	 * @param projectName		Required
-	 * @param suiteName			Required
-	 * @param testCaseName		Required
-	 * @param summary			Required
-	 * @param steps				Required
-	 * @param expectedResults	Required
-	 * @param importance		Optional
-	 * @return The internal identifier for the created test case.
-	 */
-	public Integer createTestCase(
-		String authorLoginName,
-		String projectName, 
-		String suiteName,
-		String testCaseName,
-		String summary,
-		String steps,
-		String expectedResults,
-		String importance) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		Integer suiteID = TestLinkAPIHelper.getSuiteID(this, projectName, suiteName);
-		return createTestCase(authorLoginName, projectID, suiteID, testCaseName, summary,
-			steps, expectedResults, null, null, null, null, null, importance);
-	}
-	
-	/**
-	 * Create a new test case using all the variables that are provided by
-	 * the TestLink API. For more information on the parameters refer to the 
-	 * TestLink API documentation.
-	 * 
-	 * @param projectID					Required
-	 * @param suiteID					Required
-	 * @param caseName					Required
-	 * @param summary					Required
-	 * @param steps						Required
-	 * @param expectedResults			Required
-	 * @param order						Optional
-	 * @param internalID				Optional
-	 * @param checkDuplicatedName		Optional
-	 * @param actionOnDuplicatedName	Optional
-	 * @param executionType				Optional
-	 * @param importance				Optional
-	 * @return The internal identifier created test case
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createTestCase(
-		String authorLoginName,
-		Integer projectID,
-		Integer suiteID,
-		String caseName,
-		String summary,
-		String steps,
-		String expectedResults,
-		Integer order,
-		Integer internalID,
-		Boolean checkDuplicatedName,                        
-		String actionOnDuplicatedName,
-		String executionType,
-		String importance) throws TestLinkAPIException
-	{
-		initCache();
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_AUTHOR_LOGIN, authorLoginName);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);
-		setParam(params, REQUIRED, API_PARAM_TEST_SUITE_ID, suiteID);
-		setParam(params, REQUIRED, API_PARAM_TEST_CASE_NAME, caseName);
-		setParam(params, REQUIRED, API_PARAM_SUMMARY, summary);
-		setParam(params, REQUIRED, API_PARAM_STEPS, steps);
-		setParam(params, REQUIRED, API_PARAM_EXPECTED_RESULTS, expectedResults);
-		setParam(params, OPTIONAL, API_PARAM_ORDER, order);
-		setParam(params, OPTIONAL, API_PARAM_INTERNAL_ID, internalID);
-		setParam(params, OPTIONAL, API_PARAM_CHECK_DUP_NAMES, checkDuplicatedName);
-		setParam(params, OPTIONAL, API_PARAM_ACTION_DUP_NAME, actionOnDuplicatedName);
-		setParam(params, OPTIONAL, API_PARAM_EXEC_TYPE, executionType);
-		setParam(params, OPTIONAL, API_PARAM_IMPORTANCE, importance);
-		executeXmlRpcMethod(API_METHOD_CREATE_TEST_CASE, params);
-		// The id returned in results is the id within
-		// the project we want the actual test case id
-		return TestLinkAPIHelper.getCaseIDByName(this, projectID, suiteID, caseName);
-	}
-	
-	/*
-	 * This method is not supported by the TestLink API. It is
-	 * needed so that JUnit test could be run without human
-	 * intervention but right now manual creation is the only
-	 * way to get to all the other test.
-	 * 
-	 * 
-	 * @param projectName
-	 * @param planName
-	 * @param description
-	 * @throws TestLinkAPIException
-	 *
-	 public Integer createTestPlan(
-	 String projectName,
-	 String planName,
-	 String description) throws TestLinkAPIException
-	 {
-	 Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-	 if ( projectID != null ) {
-	 return createTestPlan(projectID, planName, description);
-	 } else {
-	 throw new TestLinkAPIException("The project " + projectName + " was not found and the test plan " + planName + " could not be created.");
-	 }
-	 }
-	 */
-	
-	/*
-	 * This method is not supported by the TestLink API. It is
-	 * needed so that JUnit test could be run without human
-	 * intervention but right now manual creation is the only
-	 * way to get to all the other test.
-	 * 
-	 * @param projectName
-	 * @param planName
-	 * @param description
-	 * @throws TestLinkAPIException
-	 *
-	 public Integer createTestPlan(
-	 Integer projectID,
-	 String planName,
-	 String description) throws TestLinkAPIException
-	 {
-	 initCache();
-	 Hashtable params = new Hashtable();				
-	 setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-	 setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID.toString());
-	 setParam(params, REQUIRED, "testplanname", planName); // not supported by TestLink
-	 setParam(params, REQUIRED, API_PARAM_NOTES, description);
-	 TestLinkAPIResults results = executeRpcMethod(API_METHOD_CREATE_TEST_PLAN, params);
-	 return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
-	 }
-	 */
-
-
-	/**
-	 * Create a new build under the provided project name and test plan.
-	 * 
-	 * @param projectName		Required
-	 * @param planName			Required
-	 * @param buildName			Required
-	 * @param buildNotes		Required
-	 * @return The identifier for the build that was created.
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createBuild(
-		String projectName,
-		String planName,
-		String buildName,
-		String buildNotes) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found and the build " + buildName
-				+ " could not be created.");
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
-		if ( planID != null ) {
-			return createBuild(planID, buildName, buildNotes);
-		} else {
-			throw new TestLinkAPIException(
-				"The plan " + planName + " was not found and the build " + buildName
-				+ " could not be created.");
-		}
-	}
-	
-	/**
-	 * Create a new build under the provided test plan identifier.
-	 * 
-	 * @param planID		Required
-	 * @param buildName		Required
-	 * @param buildNotes	Required
-	 * @return	The identifier for the build that was created.
-	 * @throws TestLinkAPIException
-	 */
-	public Integer createBuild(
-		Integer planID,
-		String buildName,
-		String buildNotes) throws TestLinkAPIException
-	{
-		initCache();
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);
-		setParam(params, REQUIRED, API_PARAM_BUILD_NAME, buildName);
-		setParam(params, REQUIRED, API_PARAM_BUILD_NOTES, buildNotes);
-		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_CREATE_BUILD, params);
-		return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
-	}
-	
-	/**
-	 * Appends that latest version of a test case to a test 
-	 * plan with a default level of urgency. Can only handle
-	 * test cases associated with first level suites.
-	 * 
-	 * 
-	 * @param projectName		Required
-	 * @param planName			Required
-	 * @param testCaseName		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults addTestCaseToTestPlan(
-		String projectName,
-		String planName,
-		String testCaseName) throws TestLinkAPIException
-	{
-		int maxNode = 0;
-		TestLinkAPIResults cases = getCasesForTestPlan(projectName, planName);
-		for ( int i = 0; i < cases.size(); i++ ) {
-			Map data = cases.getData(i);
-			Object node = data.get("execution_order");
-			if ( node != null ) {
-				try {
-					Integer cn = new Integer(node.toString());
-					if ( cn.intValue() > maxNode ) {
-						maxNode = cn.intValue();
-					}
-				} catch ( Exception e ) {}
-			}
-		}
-		maxNode++;
-		TestLinkAPIResults results = addTestCaseToTestPlan(projectName, planName,
-			testCaseName, new Integer(maxNode), null);	
-		return results;
-	}
-	
-	/**
-	 * Appends that latest version of a test case to a test plan with
-	 * a medium urgency. Can only handle test in first level suites.
-	 * 
-	 * @param projectName		Required
-	 * @param planName			Required
-	 * @param testCaseName		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults addTestCaseToTestPlan(
-		String projectName,
-		String planName,
-		String testCaseName,
-		Integer execOrder,
-		String urgency) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found and the test case "
-				+ testCaseName + " could not be appended.");
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException(
-				"The plan " + planName + " was not found and the test case " + testCaseName
-				+ " could not be appended.");
-		}
-		Integer caseID = TestLinkAPIHelper.getCaseIDByName(this, projectID, testCaseName);
-		if ( caseID == null ) {
-			throw new TestLinkAPIException(
-				"The test case " + testCaseName + " was not found and the test case"
-				+ " could not be appended to test plan " + planName + ".");
-		}
-		Map caseInfo = TestLinkAPIHelper.getTestCaseInfo(this, projectID, caseID);
-		if ( caseInfo == null ) {
-			throw new TestLinkAPIException(
-				"The test case identifier " + caseID + " was not found and the test case "
-				+ testCaseName + " could not be appended to test plan " + planName + ".");
-		}
-		Map projectInfo = TestLinkAPIHelper.getProjectInfo(this, projectName);
-		if ( projectInfo == null ) {
-			throw new TestLinkAPIException(
-				"The project information for " + projectName
-				+ " was not found and the test case " + testCaseName
-				+ " could not be appended to test plan " + planName + ".");
-		}
-		Object prefix = projectInfo.get("prefix");
-		Object externalID = caseInfo.get(API_RESULT_TC_EXTERNAL_ID);
-		String visibleTestCaseID = prefix.toString() + '-' + externalID.toString();
-		Object version = caseInfo.get(API_PARAM_VERSION);
-		TestLinkAPIResults results = addTestCaseToTestPlan(projectID, planID,
-				caseID, visibleTestCaseID, new Integer(version.toString()), execOrder, urgency);	
-		return results;
-	}
-	
-	/**
-	 * The method adds a test case from a project to the test plan.
-	 * 
-	 * @param projectID			Required
-	 * @param planID			Required
-	 * @param testCaseVisibleID	Required
-	 * @param version			Required
-	 * @param ExecOrder			Optional
-	 * @param Urgency			Optional
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults addTestCaseToTestPlan(
-		Integer projectID,
-		Integer planID,
-		Integer testCaseID,
-		String testCaseVisibleID,
-		Integer version,
-		Integer execOrder,
-		String urgency) throws TestLinkAPIException
-	{
-		initCache();
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);
-		
-		if ( testCaseID != null ) {
-			setParam(params, OPTIONAL, API_PARAM_TEST_CASE_ID, testCaseID);
-		}
-		
-		setParam(params, REQUIRED, API_PARAM_TEST_CASE_ID_EXTERNAL, testCaseVisibleID);
-		setParam(params, REQUIRED, API_PARAM_VERSION, version);
-		setParam(params, OPTIONAL, API_PARAM_URGENCY, urgency);
-		setParam(params, OPTIONAL, API_PARAM_EXEC_ORDER, execOrder);
-		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_ADD_TEST_CASE_TO_PLAN,
-			params);
-		if ( results.size() < 1 ) {
-			throw new TestLinkAPIException(
-				"Could not add test case " + testCaseVisibleID + " to test plan id " + planID);
-		}
-		Map data = results.getData(0);
-		if ( hasError(data) ) {
-			throw new TestLinkAPIException(
-				"Could not add test case " + testCaseVisibleID + " to test plan id " + planID
-				+ ". Results Message: [" + data.toString() + "]");
-		}
-		return results;
-	}
-				
-	/**
-	 * Get a list of all the existing test projects for the instantiated TestLink URL.
-	 * 
-	 * @return The results from the TestLink API as a list of Map entries
-	 */
-	public TestLinkAPIResults getProjects() throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		return execXmlRpcMethodWithCache(API_METHOD_GET_PROJECTS, params, "projects");
-	}
-	
-	/**
-	 * Get a list of all the existing test plans for a project by name.
-	 * 
-	 * @param projectName	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getProjectTestPlans(
-		String projectName) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		return getProjectTestPlans(projectID);
-	}
-	
-	/**
-	 * Get the test plans for a project identifier.
-	 * 
-	 * @param projectID		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getProjectTestPlans(
-		Integer projectID) throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);		
-		return execXmlRpcMethodWithCache(API_METHOD_GET_PROJECT_TEST_PLANS, params,
-			projectID);
-	}
-	
-	/**
-	 * Get the builds by project and plan name.
-	 * 
-	 * @param projectName	Required
-	 * @param planName		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getBuildsForTestPlan(
-		String projectName,
-		String planName) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found.");
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException("The plan " + planName + " was not found.");
-		}
-		return getBuildsForTestPlan(planID);
-	}
-		
-	/**
-	 * Get a list of builds for a test plan id
-	 * 
-	 * @param planID	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getBuildsForTestPlan(
-		Integer planID) throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);			
-		return execXmlRpcMethodWithCache(API_METHOD_GET_BUILDS_FOR_PLAN, params, planID);
-	}
-	
-	/**
-	 * Get the latest build by project and plan name.
-	 * 
-	 * @param projectName		Required
-	 * @param planName			Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getLatestBuildForTestPlan(
-		String projectName,
-		String planName) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found.");
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException("The plan " + planName + " was not found.");
-		}
-		return getLatestBuildForTestPlan(planID);
-	}
-		
-	/**
-	 * Get a latest build for a test plan id
-	 * 
-	 * @param planID	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getLatestBuildForTestPlan(
-		Integer planID) throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);			
-		return execXmlRpcMethodWithCache(API_METHOD_GET_LATEST_BUILD_FOR_PLAN, params,
-			planID);
-	}
-	
-	/**
-	 * Get all the first level project test suites by project name
-	 * 
-	 * @param projectName	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getFirstLevelTestSuitesForTestProject(
-		String projectName) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		return getFirstLevelTestSuitesForTestProject(projectID);
-	}
-	
-	/**
-	 * Get all the first level project test suites by project id
-	 * 
-	 * @param projectID		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getFirstLevelTestSuitesForTestProject(
-		Integer projectID) throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable();	
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);
-		return execXmlRpcMethodWithCache(API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT,
-			params, projectID);
-	}
-	
-	/**
-	 * Get a test case id by name
-	 * 
-	 * @param testCaseName		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getTestCaseIDByName(
-		String testCaseName) throws TestLinkAPIException
-	{ 
-		return this.getTestCaseIDByName(testCaseName, null, null);
-	}
-	
-	/**
-	 * Get test case by name. As an option the results can be
-	 * restricted to a project and and test suite name.
-	 * 
-	 * @param testCaseName 		Required
-	 * @param testProjectName	Optional
-	 * @param testSuiteName		Optional
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */ 
-	public TestLinkAPIResults getTestCaseIDByName(
-		String testCaseName,
-		String testProjectName,
-		String testSuiteName) throws TestLinkAPIException
-	{ 
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_CASE_NAME, testCaseName);
-		setParam(params, OPTIONAL, API_PARAM_TEST_PROJECT_NAME, testProjectName);
-		setParam(params, OPTIONAL, API_PARAM_TEST_SUITE_NAME, testSuiteName);
-		return execXmlRpcMethodWithCache(API_METHOD_GET_TEST_CASE_IDS_BY_NAME, params,
-			null);
-	}
-	
-	/**
-	 * Get all the test cases for a project identifier and test suite identifier.
-	 * 
-	 * @param int testProjectID		Required
-	 * @param int testSuiteID		Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 */ 
-	public TestLinkAPIResults getCasesForTestSuite(
-		Integer testProjectID,
-		Integer testSuiteID) throws TestLinkAPIException
-	{ 
-		String key = testProjectID.toString() + "-" + testSuiteID.toString();
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, testProjectID);
-		setParam(params, REQUIRED, API_PARAM_TEST_SUITE_ID, testSuiteID);
-		setParam(params, REQUIRED, API_PARAM_DEPTH_FLAG, new Boolean(true));
-		setParam(params, REQUIRED, API_PARAM_DETAILS, "full");
-		return execXmlRpcMethodWithCache(API_METHOD_GET_TEST_CASES_FOR_SUITE, params, key);
-	}
-	
-	/**
-	 * Get test suites for a test plan by project and plan name.
-	 * 
-	 * @param projectName		Required
-	 * @param planName			Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getTestSuitesForTestPlan(
-		String projectName,
-		String planName
-		) throws TestLinkAPIException
-	{ 
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"Could not get project identifier for " + projectName);
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException("Could not get plan identifier for " + planName);
-		}
-		return getTestSuitesForTestPlan(planID);
-	}
-	
-	/**
-	 * Get test suites for test test plan by plan identifier.
-	 * 
-	 * @param testPlanID	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getTestSuitesForTestPlan(
-		Integer testPlanID
-		) throws TestLinkAPIException
-	{ 
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
-		return execXmlRpcMethodWithCache(API_METHOD_GET_SUITES_FOR_PLAN, params,
-			testPlanID);
-	}
-	
-	/**
-	 * Get the last execution result by project, plan and test case name/visible id.
-	 * 
-	 * @param projectName				Required
-	 * @param testPlanName				Required
-	 * @param testCaseNameOrVisibleID	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getLastExecutionResult(
-		String projectName,
-		String testPlanName,
-		String testCaseNameOrVisibleID) throws TestLinkAPIException
-	{
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"The project " + projectName + " was not found.");
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, testPlanName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException("The plan " + testPlanName + " was not found.");
-		}
-		Integer caseID = TestLinkAPIHelper.getTestCaseID(this, projectID,
-			testCaseNameOrVisibleID);
-		if ( caseID == null ) {
-			throw new TestLinkAPIException(
-				"The test case " + testCaseNameOrVisibleID
-				+ " was not found and the test case"
-				+ " could not be accessed to report a test result against plan "
-				+ testPlanName + ".");
-		}
-
-		return getLastExecutionResult(planID, caseID);
-	}
-	
-	/**
-	 * Get the last execution result by plan identifier and test case internal identifier.
-	 * 
-	 * @param testPlanID	Required
-	 * @param testCaseID	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getLastExecutionResult(
-		Integer testPlanID,
-		Integer testCaseID) throws TestLinkAPIException
-	{
-		Hashtable params = new Hashtable(); 
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
-		setParam(params, REQUIRED, API_PARAM_TEST_CASE_ID, testCaseID);
-		return execXmlRpcMethodWithCache(API_METHOD_LAST_EXECUTION_RESULT, params,
-			testPlanID);
-	}
-	
-	/**
-	 * Gets all the test cases for a test plan by project name and plan name.
-	 * 
-	 * @param projectName		Required
-	 * @param planName			Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getCasesForTestPlan(
-		String projectName,
-		String planName
-		) throws TestLinkAPIException
-	{ 
-		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
-		if ( projectID == null ) {
-			throw new TestLinkAPIException(
-				"Could not get project identifier for " + projectName);
-		}
-		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
-		if ( planID == null ) {
-			throw new TestLinkAPIException("Could not get plan identifier for " + planName);
-		}
-		return getCasesForTestPlan(planID);
-	}
-	
-	/**
-	 * Get all the test cases associated with a test plan identifier.
-	 * 
-	 * @param testPlanID	Required
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getCasesForTestPlan(
-		Integer testPlanID
-		) throws TestLinkAPIException
-	{ 
-		return getCasesForTestPlan(testPlanID, null, null, null, null, null, null, null);
-	}
-	
-	/**
-	 * Get all the test cases associated with a test plan.
-	 * 
-	 * @param testPlanID		Required
-	 * @param testCaseID		Optional
-	 * @param buildID			Optional
-	 * @param keywordID			Optional
-	 * @param executed			Optional
-	 * @param assignedTo		Optional
-	 * @param execStatus		Optional
-	 * @param execType			Optional
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	public TestLinkAPIResults getCasesForTestPlan(
-		Integer testPlanID,
-		Integer testCaseID,
-		Integer buildID,
-		Integer keywordID,
-		String executed,
-		String assignedTo,
-		String execStatus,
-		String execType
-		) throws TestLinkAPIException
-	{ 
-		
-		// setup the key
-		String key = "Plan:" + testPlanID.toString();
-		
-		key += "Case:";
-		if ( testCaseID != null ) {
-			key += testCaseID.toString();
-		}
-		
-		key += "Build:";
-		if ( buildID != null ) {
-			key += buildID.toString();
-		}
-		
-		key += "KW:";
-		if ( keywordID != null ) {
-			key += keywordID.toString();
-		}
-		
-		key += "Exec:";
-		if ( executed != null ) {
-			key += executed;
-		}
-		
-		key += "Assign:";
-		if ( assignedTo != null ) {
-			key += assignedTo;
-		}
-		
-		key += "ES:";
-		if ( execStatus != null ) {
-			key += execStatus;
-		}
-		
-		key += "ET:";
-		if ( execType != null ) {
-			key += execType;
-		}
-				
-		// Setup hash parameters
-		Hashtable params = new Hashtable();				
-		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
-		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
-		setParam(params, OPTIONAL, API_PARAM_TEST_CASE_ID, testCaseID);
-		setParam(params, OPTIONAL, API_PARAM_BUILD_ID, buildID);
-		setParam(params, OPTIONAL, API_PARAM_KEY_WORD_ID, keywordID);
-		setParam(params, OPTIONAL, API_PARAM_EXECUTED, executed);
-		setParam(params, OPTIONAL, API_PARAM_ASSIGNED_TO, assignedTo);
-		setParam(params, OPTIONAL, API_PARAM_EXECUTE_STATUS, execStatus);
-		setParam(params, OPTIONAL, API_PARAM_EXEC_TYPE, execType);
-
-		return execXmlRpcMethodWithCache(API_METHOD_GET_TEST_CASES_FOR_PLAN, params, key);
-	}
-	
-	/* =========================================== */
-	
-	/* Private Methods                */
-	
-	/* =========================================== */
-	
-	/*
-	 * Initialize the cache
-	 */
-	private void initCache()
-	{
-		cacheList = new HashMap();
-	}
-	
-	/*
-	 * Executes the XML-RPC method but checks for cached results first. Also, if
-	 * an error exists in the results then the method throws an exception.
-	 * 
-	 * @param method		The xml-rpc method name
-	 * @param params		The parameters for the method
-	 * @param cacheKey		If caching is desired this must not be null
-	 * @return The results from the TestLink API as a list of Map entries
-	 * @throws TestLinkAPIException
-	 */
-	private TestLinkAPIResults execXmlRpcMethodWithCache(
-		String method,
-		Hashtable params,
-		Object cacheKey) throws TestLinkAPIException
-	{
-		boolean isCached = true;
-	
-		if ( method == null ) {
-			throw new TestLinkAPIException(
-				"A method must be provided for caching a xml-rpc calls to work.");
-		}
-	
-		// Check the hash
-		Map cache = (Map) cacheList.get(method);
-		if ( cache == null || useCache == false || cacheKey == null ) {
-			cache = new HashMap();
-			cacheList.put(method, cache);
-			isCached = false;
-		} else if ( !cache.containsKey(cacheKey) ) {
-			isCached = false;
-		}
-	
-		TestLinkAPIResults results = null;
-		if ( isCached == false ) {
-			results = executeXmlRpcMethod(method, params);
-			if ( cacheKey != null ) {
-				cache.put(cacheKey, results);
-			}
-		} else {
-			results = (TestLinkAPIResults) cache.get(cacheKey);
-		}
-	
-		if ( results == null ) {
-			throw new TestLinkAPIException(
-				"\nThe xml-rpc call to TestLink API method " + method
-				+ " failed because the results were null.");
-		}
-		if ( hasError(results) ) {
-			throw new TestLinkAPIException(
-				"\nThe xml-rpc call to TestLink API method " + method + " failed.\n"
-				+ results);
-		}
-		return results;
-	}
-
-	/*
-	 * Private method used to make xml-rpc method calls
-	 * to the TestLink api URL.
-	 */
-	
-	private TestLinkAPIResults executeXmlRpcMethod(
-		String method,
-		Hashtable executionData) throws TestLinkAPIException
-	{
-		TestLinkAPIResults results = new TestLinkAPIResults();
-		ArrayList params = new ArrayList();
-		XmlRpcClient rpcClient = getRpcClient();
-		int unknownResultTypeCnt = 0;
-		
-		try {
-			params.add(executionData);
-			Object[] rawResults = (Object[]) rpcClient.execute(method, params);			
-			for ( int i = 0; i < rawResults.length; i++ ) {
-				Object result = (Map) rawResults[i];
-				if ( result instanceof Map ) {
-					Map item = (Map) result;
-					results.add(item);
-				} else {
-					unknownResultTypeCnt++;
-					HashMap data = new HashMap();
-					data.put(getUnknownKey(unknownResultTypeCnt), result);
-					results.add(data);
-				}
-			}
-		} catch ( Exception e ) {
-			
-			// Try without casting to an Object[] list since XML-RPC officially returns
-			// an Object but TestLink API is known to return Object[] list and cast is
-			// tried first and then if that does not work we go with Object.
-			try {
-				Object single = rpcClient.execute(method, params);	
-				if ( single instanceof Map ) {
-					results.add((Map) single);
-				} else {
-					if ( single != null ) {
-						// The api returns a length 0 string for empty list
-						if ( single.toString().length() > 0 ) {
-							unknownResultTypeCnt++;
-							HashMap data = new HashMap();
-							data.put(getUnknownKey(unknownResultTypeCnt), single);
-							results.add(data);
-						}
-					}
-				}
-			} catch ( Exception ee ) {
-				String msg = "The call to the xml-rpc client failed." +
-				              "\nURL: " + SERVER_URL
-				              + "\nMethod: " + method + "\nParameters:";
-				Iterator paramNames = executionData.keySet().iterator();
-				while ( paramNames.hasNext() ) {
-					Object paramName = paramNames.next();
-					msg = msg + "\n    " + paramName + "='" + executionData.get(paramName) + "'";
-				}
-				ee.printStackTrace();
-				throw new TestLinkAPIException(msg, e);
-			}
-		}
-		return results;
-	}
-	
-	private static String getUnknownKey(
-		int cnt)
-	{
-		String key = new Integer(cnt).toString();
-		return "RESULT_" + key;
-	}
-	
-	/*
-	 * Create the rpc client to an xml rpc request can be made.
-	 */
-	private XmlRpcClient getRpcClient() throws TestLinkAPIException
-	{
-		XmlRpcClient rpcClient = null;
-		XmlRpcClientConfigImpl config;
-		
-		try {
-			config = new XmlRpcClientConfigImpl();
-			config.setServerURL(new URL(SERVER_URL));
-			rpcClient = new XmlRpcClient();
-			rpcClient.setConfig(config);
-		} catch ( Exception e ) {
-			throw new TestLinkAPIException("Unable to create a XML-RPC client.", e);
-		}
-		
-		return rpcClient;		
-	}
-	
-	/*
-	 * Assign the parameter
-	 */
-	private void setParam(
-		Hashtable params, 
-		boolean isRequired, 
-		String paramName, 
-		Object value) throws TestLinkAPIException
-	{
-		// If the value is required and it is null return exception
-		if ( isRequired && value == null ) {
-			throw new TestLinkAPIException(
-				"The required parameter " + paramName + " was not provided by the caller.");
-		}
-		
-		// If the value is not required and it is null then return without assignment
-		if ( !isRequired && value == null ) {
-			return;
-		}
-		
-		// Set the parameter for the XML-RPC call
-		try {
-			Integer intTypeValue = new Integer(value.toString());
-			params.put(paramName, intTypeValue);
-		} catch ( Exception e ) {
-			params.put(paramName, value.toString());
-		}
-	}
-	
-	private Integer getCreatedRecordIdentifier(
-		TestLinkAPIResults results,
-		String idKey) throws TestLinkAPIException
-	{
-		Integer newID = null;
-		if ( results.size() == 1 ) {
-			Object id = results.getValueByName(0, idKey);
-			if ( id != null ) {
-				newID = new Integer(id.toString());
-			} else {
-				Map msg = results.getData(0);
-				String failMsg = "Create failed since the identifier for new record was not retrieved.\nAPI Returned Data: ["
-					+ msg.toString() + "]";
-				throw new TestLinkAPIException(failMsg);
-			}
-		}
-		return newID;
-	}
-	
-	/*
-	 * There seems to be no standard message coming from the 
-	 * TestLink API to indicate there is an error. So this is 
-	 * a kludge trying to figure out if the message is an error
-	 * since it contains both a message and code.
-	 * 
-	 * Maybe it is the XML-RPC.
-	 * 
-	 */
-	
-	private boolean hasError(
-		TestLinkAPIResults results)
-	{
-		if ( results == null ) {
-			return true;
-		}
-		if ( results.size() > 0 ) {
-			return hasError(results.getData(0));
-		} else {
-			return false;
-		}
-	}
-	
-	private boolean hasError(
-		Map data)
-	{
-		String message = (String) data.get(API_RESULT_MESSAGE);
-		Object code = data.get(API_RESULT_CODE);
-		if ( message != null && code != null ) {
-			if ( !message.toLowerCase().contains("success") ) {
-				return true;
-			}
-		}
-		return false;
-	}
-}
-
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+
+/**
+ * The TestLinkAPIClient class is the principal interface
+ * to the TestLink API. An instance of the class can be used 
+ * to make calls to most of the TestLink API xml-rpc methods. 
+ * The list of supported methods can be found at
+ * http://code.google.com/p/dbfacade-testlink-rpc-api/wiki/TestLinkMethods.
+ * <p>
+ * In addition methods that make access to the API without the
+ * need to know internal TestLink database identfiers have been
+ * provided to shield the user from the need to access the TestLink
+ * database in order to use the API.
+ * 
+ * @author Daniel Padilla
+ *
+ */
+public class TestLinkAPIClient implements TestLinkAPIConst
+{
+
+	/* Cache Variables 
+	 * 
+	 * The way the client has been written it accesses
+	 * the API many times for the same information so
+	 * the following is a way to cache the information
+	 * if the user of the api chooses to cache.
+	 */
+	public boolean isConnected=false;
+	public String connectErrorMsg="";
+	boolean useCache = false;
+	TestLinkAPICache cache = new TestLinkAPICache();
+	private Hashtable suiteParents = new Hashtable();
+	private TestLinkAPIMissCache lookupMisses = new TestLinkAPIMissCache();
+	
+	// Test case lookup tables per project kept while the cache is on
+	private Hashtable caseIndexes = new Hashtable();
+	
+	// Makes the suite fetches and batch calls that run at the same time
+	private TestLinkAsyncClient fetcher = null;
+	
+	// Calls being executed that other threads can share
+	private ConcurrentHashMap inFlight = new ConcurrentHashMap();
+	
+	// Calls, cache lookups, latencies and bytes per method
+	private TestLinkAPIStatistics statistics = new TestLinkAPIStatistics();
+	
+	// The key of methods without parameters
+	private static final TestLinkAPICacheKey PROJECTS_KEY = new TestLinkAPICacheKey(
+		API_METHOD_GET_PROJECTS);
+	
+	/* Transport Variables
+	 *
+	 * Unless a transport is provided a single XML-RPC transport is
+	 * created on first use and shared by all the calls so HTTP
+	 * connections to the TestLink server can be kept alive between calls.
+	 */
+	private TestLinkTransport transport = null;
+	private boolean isTransportProvided = false;
+	private String transportURL = null;
+	private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+	private int readTimeout = DEFAULT_READ_TIMEOUT;
+	private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+	private volatile boolean isMulticallSupported = true;
+	private boolean isStreamingDecoder = false;
+	
+	/* API Initialization variables */
+	
+	/**
+	 * The value in the TestLink database user record for API access. 
+	 * For TestLink version 1.8.2 this value had to be set manually using a database update statement.
+	 * See the TestLink API documentation for more information.
+	 * <p>
+	 * Example:
+	 * <p>
+	 * update users set script_key = 'AnyStringYouWant' where id=2
+	 * <p>
+	 * DEV_KEY = "AnyStringYouWant"
+	 */
+	public String DEV_KEY; 
+	
+	/**
+	 * The TestLink API URL. See the TestLink API documentation for more information.
+	 * <p>
+	 * Example: http://localhost/testlink/lib/api/xmlrpc.php
+	 */
+	public String SERVER_URL; 
+	
+	/**
+	 * Construct an instance with cache capabilities turned off.
+	 * 
+	 * @param devKey
+	 * @param url
+	 */
+	public TestLinkAPIClient(
+		String devKey,
+		String url)
+	{
+		DEV_KEY = devKey;
+		SERVER_URL = url;
+		check();
+	}
+	
+	/**
+	 * Construct an instance and indicate if cache capabilities should be enabled or disabled. 
+	 * <p>
+	 * If the cache is enabled during instantiation then the instance will
+	 * ignore all external changes made either manually or by other instances
+	 * of this class to the TestLink database. Therefore, results will only 
+	 * be up to date with the first query performed by the instance unless 
+	 * changes are made by the instance. If a change is made to the TestLink
+	 * database by the instance then the cached results affected by the
+	 * change are dropped.
+	 * 
+	 * The cache is very helpful when performing executions of test during which
+	 * test plans are known to not be changing.
+	 * <p>
+	 * The cache is bounded in size and its limits and expiry can be
+	 * changed through getCache().
+	 * 
+	 * @param devKey
+	 * @param url
+	 * @param useCache
+	 */
+	public TestLinkAPIClient(
+		String devKey,
+		String url,
+		boolean useCache)
+	{
+		DEV_KEY = devKey;
+		SERVER_URL = url;
+		this.useCache = useCache;
+		check();
+	}
+	
+	/**
+	 * Construct an instance that sends its calls through the transport
+	 * instead of the default XML-RPC client. The SERVER_URL is taken from
+	 * the transport. The connection settings of this class only apply
+	 * to the default transport.
+	 * 
+	 * @param devKey
+	 * @param transport
+	 * @param useCache
+	 */
+	public TestLinkAPIClient(
+		String devKey,
+		TestLinkTransport transport,
+		boolean useCache)
+	{
+		DEV_KEY = devKey;
+		SERVER_URL = transport.getServerURL();
+		this.transport = transport;
+		this.isTransportProvided = true;
+		this.useCache = useCache;
+		check();
+	}
+	
+	/**
+	 * Set the time in milliseconds to wait for a connection to the
+	 * TestLink API to be established. A value of 0 waits forever.
+	 * 
+	 * @param millis
+	 */
+	public synchronized void setConnectTimeout(
+		int millis)
+	{
+		connectTimeout = millis;
+		if ( transport instanceof TestLinkXmlRpcTransport ) {
+			((TestLinkXmlRpcTransport) transport).setConnectTimeout(millis);
+		}
+	}
+	
+	/**
+	 * Get the connect timeout in milliseconds.
+	 * 
+	 * @return
+	 */
+	public synchronized int getConnectTimeout()
+	{
+		return connectTimeout;
+	}
+	
+	/**
+	 * Set the time in milliseconds to wait for the TestLink API
+	 * to respond to a call. A value of 0 waits forever.
+	 * 
+	 * @param millis
+	 */
+	public synchronized void setReadTimeout(
+		int millis)
+	{
+		readTimeout = millis;
+		if ( transport instanceof TestLinkXmlRpcTransport ) {
+			((TestLinkXmlRpcTransport) transport).setReadTimeout(millis);
+		}
+	}
+	
+	/**
+	 * Get the read timeout in milliseconds.
+	 * 
+	 * @return
+	 */
+	public synchronized int getReadTimeout()
+	{
+		return readTimeout;
+	}
+	
+	/**
+	 * Set the maximum number of HTTP connections the client uses
+	 * at the same time. Calls made while all the connections are
+	 * busy wait for one to become available.
+	 * <p>
+	 * The number of idle connections the JVM keeps alive per server
+	 * is governed by the http.maxConnections system property.
+	 * 
+	 * @param max
+	 */
+	public synchronized void setMaxConnections(
+		int max)
+	{
+		maxConnections = max;
+		if ( transport instanceof TestLinkXmlRpcTransport ) {
+			((TestLinkXmlRpcTransport) transport).setMaxConnections(max);
+		}
+		if ( fetcher != null ) {
+			// Calls already submitted to the old fetcher still run
+			fetcher.shutdown();
+			fetcher = null;
+		}
+	}
+	
+	/**
+	 * Get the maximum number of HTTP connections used at the same time.
+	 * 
+	 * @return
+	 */
+	public synchronized int getMaxConnections()
+	{
+		return maxConnections;
+	}
+	
+	/**
+	 * Enable or disable the streaming decoder. When it is enabled the
+	 * rows of a response are added to the results while the response
+	 * is read instead of first building the whole response as nested
+	 * lists and maps. This lowers the memory used by large results like
+	 * the test cases of a big test plan. It is disabled by default.
+	 * 
+	 * @param enable
+	 */
+	public synchronized void setStreamingDecoder(
+		boolean enable)
+	{
+		isStreamingDecoder = enable;
+		if ( transport instanceof TestLinkXmlRpcTransport ) {
+			((TestLinkXmlRpcTransport) transport).setStreamingDecoder(enable);
+		}
+	}
+	
+	/**
+	 * True if the streaming decoder is enabled.
+	 * 
+	 * @return
+	 */
+	public synchronized boolean isStreamingDecoder()
+	{
+		return isStreamingDecoder;
+	}
+	
+	private void check() {
+		try {
+			about();
+			isConnected = true;
+		} catch (Exception e) {
+			isConnected=false;
+			connectErrorMsg = e.getMessage();
+		}
+	}
+	
+	/**
+	 * The cache used when the instance was constructed with cache
+	 * capabilities enabled. Its limits and time to live can be changed
+	 * at any time.
+	 * 
+	 * @return
+	 */
+	public TestLinkAPICache getCache()
+	{
+		return cache;
+	}
+	
+	/**
+	 * Set the time in milliseconds the TestLinkAPIHelper remembers that
+	 * a project, plan, build or test case name was not found when the
+	 * cache is turned on. Creating an object of the same kind with this
+	 * client forgets the misses at once. A value of 0 turns it off.
+	 * 
+	 * @param millis
+	 */
+	public void setLookupMissTimeToLive(
+		long millis)
+	{
+		lookupMisses.setTimeToLive(millis);
+	}
+	
+	/**
+	 * Get the time in milliseconds names that were not found are remembered.
+	 * 
+	 * @return
+	 */
+	public long getLookupMissTimeToLive()
+	{
+		return lookupMisses.getTimeToLive();
+	}
+	
+	/**
+	 * The numbers of the calls made by this client per TestLink API
+	 * method. Bytes are only counted when the client created its own
+	 * XML-RPC transport.
+	 * 
+	 * @return
+	 */
+	public TestLinkAPIStatistics getStatistics()
+	{
+		return statistics;
+	}
+	
+	/**
+	 * Keep the cached results of this client in a file so later runs
+	 * can use them without calling the TestLink API. Results already
+	 * in the file are used when they are not in memory. Call flush()
+	 * on the returned cache to write the new results to the file.
+	 * 
+	 * @param file
+	 * @return The disk cache used by this client
+	 */
+	public TestLinkAPIDiskCache openDiskCache(
+		File file)
+	{
+		TestLinkAPIDiskCache diskCache = new TestLinkAPIDiskCache(file, SERVER_URL);
+		cache.setDiskCache(diskCache);
+		return diskCache;
+	}
+	
+	/**
+	 * Create a batch that sends several calls to the TestLink API
+	 * in a single request.
+	 * 
+	 * @return An empty batch for this client
+	 */
+	public TestLinkAPIBatch createBatch()
+	{
+		return new TestLinkAPIBatch(this);
+	}
+	
+	/**
+	 * Get information about the TestLink API version.
+	 * 
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults about() throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		return execXmlRpcMethodWithCache(API_METHOD_ABOUT, params, null);
+	}
+	
+	/**
+	 * Allows user to test if the XML-RPC TestLink API is responding.
+	 * 
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults ping() throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		return execXmlRpcMethodWithCache(API_METHOD_PING, params, null);
+	}
+
+	/**
+	 * Report a test execution result for a test case by test
+	 * project name and test plan name for a specific build.
+	 * <p>
+	 * If the build is left as null then the system is allowed 
+	 * to guess on the latest build for the test case.
+	 * 
+	 * @param projectName				Required
+	 * @param testPlanName				Required
+	 * @param testCaseNameOrVisibleID	Required (Test Case Name or ID on web-page tree)
+	 * @param buildName					Optional
+	 * @param testResultStatus			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults reportTestCaseResult(
+		String projectName,
+		String testPlanName,
+		String testCaseNameOrVisibleID,
+		String buildName,
+		String execNotes,
+		String testResultStatus) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found and the test case "
+				+ testCaseNameOrVisibleID + " could not be accessed to report a test result.");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, testPlanName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException(
+				"The plan " + testPlanName + " was not found and the test case "
+				+ testCaseNameOrVisibleID + " could not be accessed to report a test result.");
+		}
+		Integer caseID = TestLinkAPIHelper.getTestCaseID(this, projectID,
+			testCaseNameOrVisibleID);
+		if ( caseID == null ) {
+			throw new TestLinkAPIException(
+				"The test case identifier " + caseID + " was not found and the test case "
+				+ testCaseNameOrVisibleID
+				+ " could not be accessed to report a test result to test plan "
+				+ testPlanName + ".");
+		}
+		
+		Integer buildID = null;
+		if ( buildName != null ) {
+			buildID = TestLinkAPIHelper.getBuildID(this, planID, buildName);
+			if ( buildID == null ) {
+				throw new TestLinkAPIException(
+					"The build name " + buildName + " was not found in test plan "
+					+ testPlanName + " and the test result for test case "
+					+ testCaseNameOrVisibleID + " could not be recorded.");
+			}
+		}
+		
+		TestLinkAPIResults results = reportTestCaseResult(planID, caseID, buildID,
+			execNotes, testResultStatus);
+		return results;
+	}
+	
+	/**
+	 * Report a test execution result for a test case by test
+	 * plan identifier and test case identifier for a specific 
+	 * build identifier.
+	 * 
+	 * If the build identifier is not provided then the system
+	 * is allowed to guess on the latest build for the test case.
+	 * 
+	 * @param testPlanID				Required
+	 * @param testCaseID				Required
+	 * @param buildID					Optional
+	 * @param testResultStatus			Required 
+	 */ 
+	public TestLinkAPIResults reportTestCaseResult(
+		Integer testPlanID,
+		Integer testCaseID,
+		Integer buildID,
+		String execNotes,
+		String  testResultStatus) throws TestLinkAPIException
+	{ 
+		Boolean guess = new Boolean(true);
+		if ( buildID != null ) {
+			guess = new Boolean(false);
+		}
+		TestLinkAPIResults results = reportTestCaseResult(testPlanID, testCaseID, buildID,
+			null, guess, execNotes, testResultStatus);
+		return results;
+	}
+	
+	/**
+	 * This method supports the TestLink API set of parameters
+	 * that can be used to report a test case result. 
+	 * 
+	 * @param testPlanID			Required
+	 * @param testCaseID			Required
+	 * @param buildID				Optional
+	 * @param bugID					Optional
+	 * @param execNotes				Optional
+	 * @param testResultStatus		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults reportTestCaseResult(
+		Integer testPlanID,
+		Integer testCaseID,
+		Integer buildID,
+		Integer bugID,
+		Boolean guess,
+		String  execNotes,
+		String  testResultStatus) throws TestLinkAPIException
+	{ 
+		Hashtable params = reportTestCaseResultParams(testPlanID, testCaseID, buildID, bugID,
+			guess, execNotes, testResultStatus);
+		return reportTestCaseResult(params);
+	}
+	
+	/**
+	 * Resolve the test project, test plan and build once so the results
+	 * of many test cases can be reported with one call each. If the
+	 * build is left as null then the system is allowed to guess on the
+	 * latest build for each test case.
+	 * 
+	 * @param projectName				Required
+	 * @param testPlanName				Required
+	 * @param buildName					Optional
+	 * @return The prepared report
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkPreparedReport prepareReport(
+		String projectName,
+		String testPlanName,
+		String buildName) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found and test results"
+				+ " could not be reported to test plan " + testPlanName + ".");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, testPlanName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException(
+				"The plan " + testPlanName + " was not found and test results"
+				+ " could not be reported to it.");
+		}
+		Integer buildID = null;
+		if ( buildName != null ) {
+			buildID = TestLinkAPIHelper.getBuildID(this, planID, buildName);
+			if ( buildID == null ) {
+				throw new TestLinkAPIException(
+					"The build name " + buildName + " was not found in test plan "
+					+ testPlanName + " and test results could not be reported to it.");
+			}
+		}
+		return new TestLinkPreparedReport(this, projectID, planID, testPlanName, buildID);
+	}
+	
+	/**
+	 * Prepare the report of results to a test plan and build by
+	 * identifier. Test cases can only be bound by name or visible
+	 * identifier when the project is provided.
+	 * 
+	 * @param projectID					Optional
+	 * @param testPlanID				Required
+	 * @param buildID					Optional
+	 * @return The prepared report
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkPreparedReport prepareReport(
+		Integer projectID,
+		Integer testPlanID,
+		Integer buildID) throws TestLinkAPIException
+	{
+		return new TestLinkPreparedReport(this, projectID, testPlanID, null, buildID);
+	}
+	
+	/*
+	 * Report a test case result with the parameters of the
+	 * tl.reportTCResult method.
+	 */
+	TestLinkAPIResults reportTestCaseResult(
+		Hashtable params) throws TestLinkAPIException
+	{
+		try {
+			return execXmlRpcMethodWithCache(API_METHOD_REPORT_TEST_RESULT, params, null);
+		} finally {
+			invalidateExecution(params.get(API_PARAM_TEST_PLAN_ID),
+				params.get(API_PARAM_TEST_CASE_ID));
+		}
+	}
+	
+	/*
+	 * The parameters for the tl.reportTCResult method.
+	 */
+	Hashtable reportTestCaseResultParams(
+		Integer testPlanID,
+		Integer testCaseID,
+		Integer buildID,
+		Integer bugID,
+		Boolean guess,
+		String  execNotes,
+		String  testResultStatus) throws TestLinkAPIException
+	{
+		Hashtable params = reportTestCaseResultParams(testPlanID, buildID, bugID, guess);
+		setParam(params, REQUIRED, API_PARAM_TEST_CASE_ID, testCaseID);
+		setParam(params, OPTIONAL, API_PARAM_NOTES, execNotes);
+		setParam(params, REQUIRED, API_PARAM_STATUS, testResultStatus);
+		return params;
+	}
+	
+	/*
+	 * The parameters for the tl.reportTCResult method that are the
+	 * same for all the test cases reported to a plan and build.
+	 */
+	Hashtable reportTestCaseResultParams(
+		Integer testPlanID,
+		Integer buildID,
+		Integer bugID,
+		Boolean guess) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
+		setParam(params, OPTIONAL, API_PARAM_BUILD_ID, buildID);
+		setParam(params, OPTIONAL, API_PARAM_BUG_ID, bugID);
+		setParam(params, OPTIONAL, API_PARAM_GUESS, guess);
+		return params;
+	}
+	
+	/**
+	 * Create a new project in TestLink database.
+	 * 
+	 * @param projectName		Required
+	 * @param testCasePrefix	Required
+	 * @param description		Required
+	 * @return The identifier for the created test project.
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createTestProject(
+		String projectName,
+		String testCasePrefix,
+		String description) throws TestLinkAPIException
+	{ 
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_NAME, projectName);
+		setParam(params, REQUIRED, API_PARAM_TEST_CASE_PREFIX, testCasePrefix);
+		setParam(params, REQUIRED, API_PARAM_NOTES, description);
+		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_CREATE_PROJECT, params);
+		invalidateMethod(API_METHOD_GET_PROJECTS);
+		lookupMisses.invalidate(TestLinkAPIMissCache.PROJECT, null);
+		return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
+	}
+	
+	/**
+	 * Create top level test suite under a specific project name
+	 * 
+	 * @param projectName		Required
+	 * @param suiteName			Required
+	 * @param description		Required
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createTestSuite(
+		String projectName,
+		String suiteName,
+		String description) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID != null ) {
+			return createTestSuite(projectID, suiteName, description);
+		} else {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found and the test suite "
+				+ suiteName + " could not be created.");
+		}
+	}
+	
+	/**
+	 * Create top level test suite under a specific project identifier
+	 * 
+	 * @param projectID		Required
+	 * @param suiteName		Required
+	 * @param description	Required
+	 * @return The identifier for the created test suite.
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createTestSuite(
+		Integer projectID,
+		String suiteName,
+		String description) throws TestLinkAPIException
+	{
+		return createTestSuite(projectID, suiteName, description, null, null, null);
+	}
+	
+	/**
+	 * 
+	 * Create a test suite at any level using the project identifier and
+	 * the parent suite identifier information.
+	 * 
+	 * @param projectID		Required
+	 * @param suiteName		Required
+	 * @param description	Required
+	 * @param parentID		Optional
+	 * @param order			Optional
+	 * @param check			Optional
+	 * @return The identifier for the created test suite.
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createTestSuite(
+		Integer projectID, 
+		String suiteName,
+		String description,
+		Integer parentID,
+		Integer order,
+		Boolean check) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID.toString());
+		setParam(params, REQUIRED, API_PARAM_TEST_SUITE_NAME, suiteName);
+		setParam(params, REQUIRED, API_PARAM_DETAILS, description);
+		setParam(params, OPTIONAL, API_PARAM_PARENT_ID, parentID);
+		setParam(params, OPTIONAL, API_PARAM_ORDER, order);
+		setParam(params, OPTIONAL, API_PARAM_CHECK_DUP_NAMES, check);
+		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_CREATE_SUITE, params);
+		Integer suiteID = getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
+		if ( parentID == null ) {
+			invalidate(new TestLinkAPICacheKey(API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT,
+				projectID));
+		} else if ( suiteID != null ) {
+			// The new suite is empty so no cached test case list changes
+			// but the lists of its parents will once cases are added.
+			suiteParents.put(suiteID, parentID);
+		}
+		return suiteID;
+	}
+	
+	/**
+	 * Create a test case by project name and suite name. 
+	 * 
+	 * @param projectName		Required
+	 * @param suiteName			Required
+	 * @param testCaseName		Required
+	 * @param summary			Required
+	 * @param steps				Required
+	 * @param expectedResults	Required
+	 * @param importance		Optional
+	 * @return The internal identifier for the created test case.
+	 */
+	public Integer createTestCase(
+		String authorLoginName,
+		String projectName, 
+		String suiteName,
+		String testCaseName,
+		String summary,
+		String steps,
+		String expectedResults,
+		String importance) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		Integer suiteID = TestLinkAPIHelper.getSuiteID(this, projectName, suiteName);
+		return createTestCase(authorLoginName, projectID, suiteID, testCaseName, summary,
+			steps, expectedResults, null, null, null, null, null, importance);
+	}
+	
+	/**
+	 * Create a new test case using all the variables that are provided by
+	 * the TestLink API. For more information on the parameters refer to the 
+	 * TestLink API documentation.
+	 * 
+	 * @param projectID					Required
+	 * @param suiteID					Required
+	 * @param caseName					Required
+	 * @param summary					Required
+	 * @param steps						Required
+	 * @param expectedResults			Required
+	 * @param order						Optional
+	 * @param internalID				Optional
+	 * @param checkDuplicatedName		Optional
+	 * @param actionOnDuplicatedName	Optional
+	 * @param executionType				Optional
+	 * @param importance				Optional
+	 * @return The internal identifier created test case
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createTestCase(
+		String authorLoginName,
+		Integer projectID,
+		Integer suiteID,
+		String caseName,
+		String summary,
+		String steps,
+		String expectedResults,
+		Integer order,
+		Integer internalID,
+		Boolean checkDuplicatedName,                        
+		String actionOnDuplicatedName,
+		String executionType,
+		String importance) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();	
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_AUTHOR_LOGIN, authorLoginName);
+		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);
+		setParam(params, REQUIRED, API_PARAM_TEST_SUITE_ID, suiteID);
+		setParam(params, REQUIRED, API_PARAM_TEST_CASE_NAME, caseName);
+		setParam(params, REQUIRED, API_PARAM_SUMMARY, summary);
+		setParam(params, REQUIRED, API_PARAM_STEPS, steps);
+		setParam(params, REQUIRED, API_PARAM_EXPECTED_RESULTS, expectedResults);
+		setParam(params, OPTIONAL, API_PARAM_ORDER, order);
+		setParam(params, OPTIONAL, API_PARAM_INTERNAL_ID, internalID);
+		setParam(params, OPTIONAL, API_PARAM_CHECK_DUP_NAMES, checkDuplicatedName);
+		setParam(params, OPTIONAL, API_PARAM_ACTION_DUP_NAME, actionOnDuplicatedName);
+		setParam(params, OPTIONAL, API_PARAM_EXEC_TYPE, executionType);
+		setParam(params, OPTIONAL, API_PARAM_IMPORTANCE, importance);
+		executeXmlRpcMethod(API_METHOD_CREATE_TEST_CASE, params);
+		invalidateSuiteCases(suiteID);
+		lookupMisses.invalidate(TestLinkAPIMissCache.TEST_CASE, projectID);
+		// The id returned in results is the id within
+		// the project we want the actual test case id
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(this, projectID, suiteID, caseName);
+		addToTestCaseIndex(projectID, suiteID, caseID);
+		return caseID;
+	}
+	
+	/*
+	 * This method is not supported by the TestLink API. It is
+	 * needed so that JUnit test could be run without human
+	 * intervention but right now manual creation is the only
+	 * way to get to all the other test.
+	 * 
+	 * 
+	 * @param projectName
+	 * @param planName
+	 * @param description
+	 * @throws TestLinkAPIException
+	 *
+	 public Integer createTestPlan(
+	 String projectName,
+	 String planName,
+	 String description) throws TestLinkAPIException
+	 {
+	 Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+	 if ( projectID != null ) {
+	 return createTestPlan(projectID, planName, description);
+	 } else {
+	 throw new TestLinkAPIException("The project " + projectName + " was not found and the test plan " + planName + " could not be created.");
+	 }
+	 }
+	 */
+	
+	/*
+	 * This method is not supported by the TestLink API. It is
+	 * needed so that JUnit test could be run without human
+	 * intervention but right now manual creation is the only
+	 * way to get to all the other test.
+	 * 
+	 * @param projectName
+	 * @param planName
+	 * @param description
+	 * @throws TestLinkAPIException
+	 *
+	 public Integer createTestPlan(
+	 Integer projectID,
+	 String planName,
+	 String description) throws TestLinkAPIException
+	 {
+	 initCache();
+	 Hashtable params = new Hashtable();				
+	 setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+	 setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID.toString());
+	 setParam(params, REQUIRED, "testplanname", planName); // not supported by TestLink
+	 setParam(params, REQUIRED, API_PARAM_NOTES, description);
+	 TestLinkAPIResults results = executeRpcMethod(API_METHOD_CREATE_TEST_PLAN, params);
+	 return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
+	 }
+	 */
+
+
+	/**
+	 * Create a new build under the provided project name and test plan.
+	 * 
+	 * @param projectName		Required
+	 * @param planName			Required
+	 * @param buildName			Required
+	 * @param buildNotes		Required
+	 * @return The identifier for the build that was created.
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createBuild(
+		String projectName,
+		String planName,
+		String buildName,
+		String buildNotes) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found and the build " + buildName
+				+ " could not be created.");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
+		if ( planID != null ) {
+			return createBuild(planID, buildName, buildNotes);
+		} else {
+			throw new TestLinkAPIException(
+				"The plan " + planName + " was not found and the build " + buildName
+				+ " could not be created.");
+		}
+	}
+	
+	/**
+	 * Create a new build under the provided test plan identifier.
+	 * 
+	 * @param planID		Required
+	 * @param buildName		Required
+	 * @param buildNotes	Required
+	 * @return	The identifier for the build that was created.
+	 * @throws TestLinkAPIException
+	 */
+	public Integer createBuild(
+		Integer planID,
+		String buildName,
+		String buildNotes) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();	
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);
+		setParam(params, REQUIRED, API_PARAM_BUILD_NAME, buildName);
+		setParam(params, REQUIRED, API_PARAM_BUILD_NOTES, buildNotes);
+		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_CREATE_BUILD, params);
+		invalidate(new TestLinkAPICacheKey(API_METHOD_GET_BUILDS_FOR_PLAN, planID));
+		invalidate(new TestLinkAPICacheKey(API_METHOD_GET_LATEST_BUILD_FOR_PLAN, planID));
+		lookupMisses.invalidate(TestLinkAPIMissCache.BUILD, planID);
+		return getCreatedRecordIdentifier(results, API_RESULT_IDENTIFIER);
+	}
+	
+	/**
+	 * Appends that latest version of a test case to a test 
+	 * plan with a default level of urgency. Can only handle
+	 * test cases associated with first level suites.
+	 * 
+	 * 
+	 * @param projectName		Required
+	 * @param planName			Required
+	 * @param testCaseName		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults addTestCaseToTestPlan(
+		String projectName,
+		String planName,
+		String testCaseName) throws TestLinkAPIException
+	{
+		int maxNode = 0;
+		TestLinkAPIResults cases = getCasesForTestPlan(projectName, planName);
+		for ( int i = 0; i < cases.size(); i++ ) {
+			Map data = cases.getData(i);
+			Object node = data.get("execution_order");
+			if ( node != null ) {
+				try {
+					Integer cn = new Integer(node.toString());
+					if ( cn.intValue() > maxNode ) {
+						maxNode = cn.intValue();
+					}
+				} catch ( Exception e ) {}
+			}
+		}
+		maxNode++;
+		TestLinkAPIResults results = addTestCaseToTestPlan(projectName, planName,
+			testCaseName, new Integer(maxNode), null);	
+		return results;
+	}
+	
+	/**
+	 * Appends that latest version of a test case to a test plan with
+	 * a medium urgency. Can only handle test in first level suites.
+	 * 
+	 * @param projectName		Required
+	 * @param planName			Required
+	 * @param testCaseName		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults addTestCaseToTestPlan(
+		String projectName,
+		String planName,
+		String testCaseName,
+		Integer execOrder,
+		String urgency) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found and the test case "
+				+ testCaseName + " could not be appended.");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException(
+				"The plan " + planName + " was not found and the test case " + testCaseName
+				+ " could not be appended.");
+		}
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(this, projectID, testCaseName);
+		if ( caseID == null ) {
+			throw new TestLinkAPIException(
+				"The test case " + testCaseName + " was not found and the test case"
+				+ " could not be appended to test plan " + planName + ".");
+		}
+		Map caseInfo = TestLinkAPIHelper.getTestCaseInfo(this, projectID, caseID);
+		if ( caseInfo == null ) {
+			throw new TestLinkAPIException(
+				"The test case identifier " + caseID + " was not found and the test case "
+				+ testCaseName + " could not be appended to test plan " + planName + ".");
+		}
+		Map projectInfo = TestLinkAPIHelper.getProjectInfo(this, projectName);
+		if ( projectInfo == null ) {
+			throw new TestLinkAPIException(
+				"The project information for " + projectName
+				+ " was not found and the test case " + testCaseName
+				+ " could not be appended to test plan " + planName + ".");
+		}
+		Object prefix = projectInfo.get("prefix");
+		Object externalID = caseInfo.get(API_RESULT_TC_EXTERNAL_ID);
+		String visibleTestCaseID = prefix.toString() + '-' + externalID.toString();
+		Object version = caseInfo.get(API_PARAM_VERSION);
+		TestLinkAPIResults results = addTestCaseToTestPlan(projectID, planID,
+				caseID, visibleTestCaseID, new Integer(version.toString()), execOrder, urgency);	
+		return results;
+	}
+	
+	/**
+	 * The method adds a test case from a project to the test plan.
+	 * 
+	 * @param projectID			Required
+	 * @param planID			Required
+	 * @param testCaseVisibleID	Required
+	 * @param version			Required
+	 * @param ExecOrder			Optional
+	 * @param Urgency			Optional
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults addTestCaseToTestPlan(
+		Integer projectID,
+		Integer planID,
+		Integer testCaseID,
+		String testCaseVisibleID,
+		Integer version,
+		Integer execOrder,
+		String urgency) throws TestLinkAPIException
+	{
+		Hashtable params = addTestCaseToTestPlanParams(projectID, planID, testCaseID,
+			testCaseVisibleID, version, execOrder, urgency);
+		TestLinkAPIResults results = executeXmlRpcMethod(API_METHOD_ADD_TEST_CASE_TO_PLAN,
+			params);
+		invalidatePlanMembership(planID);
+		if ( results.size() < 1 ) {
+			throw new TestLinkAPIException(
+				"Could not add test case " + testCaseVisibleID + " to test plan id " + planID);
+		}
+		Map data = results.getData(0);
+		if ( hasError(data) ) {
+			throw new TestLinkAPIException(
+				"Could not add test case " + testCaseVisibleID + " to test plan id " + planID
+				+ ". Results Message: [" + data.toString() + "]");
+		}
+		return results;
+	}
+	
+	/*
+	 * The parameters for the tl.addTestCaseToTestPlan method.
+	 */
+	Hashtable addTestCaseToTestPlanParams(
+		Integer projectID,
+		Integer planID,
+		Integer testCaseID,
+		String testCaseVisibleID,
+		Integer version,
+		Integer execOrder,
+		String urgency) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();	
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);
+		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);
+		
+		if ( testCaseID != null ) {
+			setParam(params, OPTIONAL, API_PARAM_TEST_CASE_ID, testCaseID);
+		}
+		
+		setParam(params, REQUIRED, API_PARAM_TEST_CASE_ID_EXTERNAL, testCaseVisibleID);
+		setParam(params, REQUIRED, API_PARAM_VERSION, version);
+		setParam(params, OPTIONAL, API_PARAM_URGENCY, urgency);
+		setParam(params, OPTIONAL, API_PARAM_EXEC_ORDER, execOrder);
+		return params;
+	}
+				
+	/**
+	 * Get a list of all the existing test projects for the instantiated TestLink URL.
+	 * 
+	 * @return The results from the TestLink API as a list of Map entries
+	 */
+	public TestLinkAPIResults getProjects() throws TestLinkAPIException
+	{
+		TestLinkAPIResults results = getCachedResults(PROJECTS_KEY);
+		if ( results == null ) {
+			Hashtable params = new Hashtable();	
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_PROJECTS, params, PROJECTS_KEY);
+		}
+		return checkResults(API_METHOD_GET_PROJECTS, results);
+	}
+	
+	/**
+	 * Get a list of all the existing test plans for a project by name.
+	 * 
+	 * @param projectName	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getProjectTestPlans(
+		String projectName) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		return getProjectTestPlans(projectID);
+	}
+	
+	/**
+	 * Get the test plans for a project identifier.
+	 * 
+	 * @param projectID		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getProjectTestPlans(
+		Integer projectID) throws TestLinkAPIException
+	{
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_PROJECT_TEST_PLANS,
+			projectID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = new Hashtable();	
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);		
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_PROJECT_TEST_PLANS, params, key);
+		}
+		return checkResults(API_METHOD_GET_PROJECT_TEST_PLANS, results);
+	}
+	
+	/**
+	 * Get the builds by project and plan name.
+	 * 
+	 * @param projectName	Required
+	 * @param planName		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getBuildsForTestPlan(
+		String projectName,
+		String planName) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found.");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException("The plan " + planName + " was not found.");
+		}
+		return getBuildsForTestPlan(planID);
+	}
+		
+	/**
+	 * Get a list of builds for a test plan id
+	 * 
+	 * @param planID	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getBuildsForTestPlan(
+		Integer planID) throws TestLinkAPIException
+	{
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_BUILDS_FOR_PLAN, planID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = new Hashtable();	
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);			
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_BUILDS_FOR_PLAN, params, key);
+		}
+		return checkResults(API_METHOD_GET_BUILDS_FOR_PLAN, results);
+	}
+	
+	/*
+	 * Get the builds of a plan from TestLink without using the cache.
+	 * Used by the plan version probe which is called by the cache.
+	 */
+	TestLinkAPIResults fetchBuildsForTestPlan(
+		Integer planID) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();	
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);
+		return executeXmlRpcMethod(API_METHOD_GET_BUILDS_FOR_PLAN, params);
+	}
+	
+	/**
+	 * Get the latest build by project and plan name.
+	 * 
+	 * @param projectName		Required
+	 * @param planName			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getLatestBuildForTestPlan(
+		String projectName,
+		String planName) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found.");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException("The plan " + planName + " was not found.");
+		}
+		return getLatestBuildForTestPlan(planID);
+	}
+		
+	/**
+	 * Get a latest build for a test plan id
+	 * 
+	 * @param planID	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getLatestBuildForTestPlan(
+		Integer planID) throws TestLinkAPIException
+	{
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_LATEST_BUILD_FOR_PLAN, planID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = new Hashtable();	
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, planID);			
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_LATEST_BUILD_FOR_PLAN, params, key);
+		}
+		return checkResults(API_METHOD_GET_LATEST_BUILD_FOR_PLAN, results);
+	}
+	
+	/**
+	 * Get all the first level project test suites by project name
+	 * 
+	 * @param projectName	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getFirstLevelTestSuitesForTestProject(
+		String projectName) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		return getFirstLevelTestSuitesForTestProject(projectID);
+	}
+	
+	/**
+	 * Get all the first level project test suites by project id
+	 * 
+	 * @param projectID		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getFirstLevelTestSuitesForTestProject(
+		Integer projectID) throws TestLinkAPIException
+	{
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(
+			API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT, projectID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = new Hashtable();	
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, projectID);
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT,
+				params, key);
+		}
+		return checkResults(API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT, results);
+	}
+	
+	/**
+	 * Get a test case id by name
+	 * 
+	 * @param testCaseName		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getTestCaseIDByName(
+		String testCaseName) throws TestLinkAPIException
+	{ 
+		return this.getTestCaseIDByName(testCaseName, null, null);
+	}
+	
+	/**
+	 * Get test case by name. As an option the results can be
+	 * restricted to a project and and test suite name.
+	 * 
+	 * @param testCaseName 		Required
+	 * @param testProjectName	Optional
+	 * @param testSuiteName		Optional
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */ 
+	public TestLinkAPIResults getTestCaseIDByName(
+		String testCaseName,
+		String testProjectName,
+		String testSuiteName) throws TestLinkAPIException
+	{ 
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_CASE_NAME, testCaseName);
+		setParam(params, OPTIONAL, API_PARAM_TEST_PROJECT_NAME, testProjectName);
+		setParam(params, OPTIONAL, API_PARAM_TEST_SUITE_NAME, testSuiteName);
+		return execXmlRpcMethodWithCache(API_METHOD_GET_TEST_CASE_IDS_BY_NAME, params,
+			null);
+	}
+	
+	/**
+	 * Get all the test cases for a project identifier and test suite identifier.
+	 * 
+	 * @param int testProjectID		Required
+	 * @param int testSuiteID		Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 */ 
+	public TestLinkAPIResults getCasesForTestSuite(
+		Integer testProjectID,
+		Integer testSuiteID) throws TestLinkAPIException
+	{ 
+		TestLinkAPICacheKey key = getCasesForTestSuiteKey(testProjectID, testSuiteID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = getCasesForTestSuiteParams(testProjectID, testSuiteID);
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_TEST_CASES_FOR_SUITE, params, key);
+		}
+		return checkResults(API_METHOD_GET_TEST_CASES_FOR_SUITE, results);
+	}
+	
+	/*
+	 * The parameters for the tl.getTestCasesForTestSuite method.
+	 */
+	Hashtable getCasesForTestSuiteParams(
+		Integer testProjectID,
+		Integer testSuiteID) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable();				
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PROJECT_ID, testProjectID);
+		setParam(params, REQUIRED, API_PARAM_TEST_SUITE_ID, testSuiteID);
+		setParam(params, REQUIRED, API_PARAM_DEPTH_FLAG, new Boolean(true));
+		setParam(params, REQUIRED, API_PARAM_DETAILS, "full");
+		return params;
+	}
+	
+	/*
+	 * The cache key for the tl.getTestCasesForTestSuite method.
+	 */
+	TestLinkAPICacheKey getCasesForTestSuiteKey(
+		Integer testProjectID,
+		Integer testSuiteID) throws TestLinkAPIException
+	{
+		if ( testProjectID == null || testSuiteID == null ) {
+			throw new TestLinkAPIException(
+				"The project and suite identifiers are required to get the suite test cases.");
+		}
+		return new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_SUITE, testProjectID,
+			testSuiteID);
+	}
+	
+	/**
+	 * Get test suites for a test plan by project and plan name.
+	 * 
+	 * @param projectName		Required
+	 * @param planName			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getTestSuitesForTestPlan(
+		String projectName,
+		String planName
+		) throws TestLinkAPIException
+	{ 
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"Could not get project identifier for " + projectName);
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException("Could not get plan identifier for " + planName);
+		}
+		return getTestSuitesForTestPlan(planID);
+	}
+	
+	/**
+	 * Get test suites for test test plan by plan identifier.
+	 * 
+	 * @param testPlanID	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getTestSuitesForTestPlan(
+		Integer testPlanID
+		) throws TestLinkAPIException
+	{ 
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_SUITES_FOR_PLAN,
+			testPlanID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = new Hashtable();				
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_SUITES_FOR_PLAN, params, key);
+		}
+		return checkResults(API_METHOD_GET_SUITES_FOR_PLAN, results);
+	}
+	
+	/**
+	 * Get the last execution result by project, plan and test case name/visible id.
+	 * 
+	 * @param projectName				Required
+	 * @param testPlanName				Required
+	 * @param testCaseNameOrVisibleID	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getLastExecutionResult(
+		String projectName,
+		String testPlanName,
+		String testCaseNameOrVisibleID) throws TestLinkAPIException
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project " + projectName + " was not found.");
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, testPlanName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException("The plan " + testPlanName + " was not found.");
+		}
+		Integer caseID = TestLinkAPIHelper.getTestCaseID(this, projectID,
+			testCaseNameOrVisibleID);
+		if ( caseID == null ) {
+			throw new TestLinkAPIException(
+				"The test case " + testCaseNameOrVisibleID
+				+ " was not found and the test case"
+				+ " could not be accessed to report a test result against plan "
+				+ testPlanName + ".");
+		}
+
+		return getLastExecutionResult(planID, caseID);
+	}
+	
+	/**
+	 * Get the last execution result by plan identifier and test case internal identifier.
+	 * 
+	 * @param testPlanID	Required
+	 * @param testCaseID	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getLastExecutionResult(
+		Integer testPlanID,
+		Integer testCaseID) throws TestLinkAPIException
+	{
+		TestLinkAPICacheKey key = getLastExecutionResultKey(testPlanID, testCaseID);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			Hashtable params = getLastExecutionResultParams(testPlanID, testCaseID);
+			results = executeSharedXmlRpcMethod(API_METHOD_LAST_EXECUTION_RESULT, params, key);
+		}
+		return checkResults(API_METHOD_LAST_EXECUTION_RESULT, results);
+	}
+	
+	/*
+	 * The parameters for the tl.getLastExecutionResult method.
+	 */
+	Hashtable getLastExecutionResultParams(
+		Integer testPlanID,
+		Integer testCaseID) throws TestLinkAPIException
+	{
+		Hashtable params = new Hashtable(); 
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
+		setParam(params, REQUIRED, API_PARAM_TEST_CASE_ID, testCaseID);
+		return params;
+	}
+	
+	/*
+	 * The cache key for the tl.getLastExecutionResult method.
+	 */
+	TestLinkAPICacheKey getLastExecutionResultKey(
+		Integer testPlanID,
+		Integer testCaseID) throws TestLinkAPIException
+	{
+		if ( testPlanID == null || testCaseID == null ) {
+			throw new TestLinkAPIException(
+				"The plan and test case identifiers are required to get the last execution.");
+		}
+		return getExecutionKey(testPlanID, testCaseID);
+	}
+	
+	private static TestLinkAPICacheKey getExecutionKey(
+		Object testPlanID,
+		Object testCaseID)
+	{
+		return new TestLinkAPICacheKey(API_METHOD_LAST_EXECUTION_RESULT, testPlanID, testCaseID);
+	}
+	
+	/**
+	 * Gets all the test cases for a test plan by project name and plan name.
+	 * 
+	 * @param projectName		Required
+	 * @param planName			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getCasesForTestPlan(
+		String projectName,
+		String planName
+		) throws TestLinkAPIException
+	{ 
+		Integer projectID = TestLinkAPIHelper.getProjectID(this, projectName);
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"Could not get project identifier for " + projectName);
+		}
+		Integer planID = TestLinkAPIHelper.getPlanID(this, projectID, planName);
+		if ( planID == null ) {
+			throw new TestLinkAPIException("Could not get plan identifier for " + planName);
+		}
+		return getCasesForTestPlan(planID);
+	}
+	
+	/**
+	 * Get all the test cases associated with a test plan identifier.
+	 * 
+	 * @param testPlanID	Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getCasesForTestPlan(
+		Integer testPlanID
+		) throws TestLinkAPIException
+	{ 
+		return getCasesForTestPlan(testPlanID, null, null, null, null, null, null, null);
+	}
+	
+	/**
+	 * Hand all the test cases associated with a test plan to the
+	 * handler one at a time. Rows already cached by
+	 * getCasesForTestPlan(Integer), in memory or in the disk cache,
+	 * are replayed to the handler without calling TestLink, and a call
+	 * for the same plan made by another thread is waited for and its
+	 * rows are replayed.
+	 * <p>
+	 * Otherwise, when the client sends the calls over XML-RPC, the rows
+	 * are handed over while the response is read. Streamed rows are not
+	 * kept, so they are not cached and a later getCasesForTestPlan(Integer)
+	 * calls TestLink again. With other transports the results are
+	 * fetched and cached as usual and then handed over.
+	 * 
+	 * @param testPlanID	Required
+	 * @param handler		Required
+	 * @return The number of rows handed to the handler
+	 * @throws TestLinkAPIException
+	 */
+	public int getCasesForTestPlan(
+		Integer testPlanID,
+		TestLinkAPIRowHandler handler) throws TestLinkAPIException
+	{
+		if ( testPlanID == null ) {
+			throw new TestLinkAPIException(
+				"The plan identifier is required to get the plan test cases.");
+		}
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+			new Object[] { testPlanID, null, null, null, null, null, null, null }, false);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			SharedCall running = (SharedCall) inFlight.get(key);
+			if ( running != null ) {
+				results = checkResults(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+					running.getResults(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+			}
+		}
+		if ( results == null && !(getTransport() instanceof TestLinkXmlRpcTransport) ) {
+			results = getCasesForTestPlan(testPlanID);
+		}
+		if ( results != null ) {
+			for ( int i = 0; i < results.size(); i++ ) {
+				handler.handleRow(results.getData(i));
+			}
+			return results.size();
+		}
+		
+		Hashtable params = new Hashtable();
+		setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+		setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
+		results = executeXmlRpcMethod(API_METHOD_GET_TEST_CASES_FOR_PLAN, params, handler);
+		if ( hasError(results) ) {
+			throw new TestLinkAPIException(
+				"\nThe xml-rpc call to TestLink API method " + API_METHOD_GET_TEST_CASES_FOR_PLAN
+				+ " failed.\n" + results);
+		}
+		return results.getHandledRowCount();
+	}
+	
+	/**
+	 * Get all the test cases associated with a test plan.
+	 * 
+	 * @param testPlanID		Required
+	 * @param testCaseID		Optional
+	 * @param buildID			Optional
+	 * @param keywordID			Optional
+	 * @param executed			Optional
+	 * @param assignedTo		Optional
+	 * @param execStatus		Optional
+	 * @param execType			Optional
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults getCasesForTestPlan(
+		Integer testPlanID,
+		Integer testCaseID,
+		Integer buildID,
+		Integer keywordID,
+		String executed,
+		String assignedTo,
+		String execStatus,
+		String execType
+		) throws TestLinkAPIException
+	{ 
+		
+		if ( testPlanID == null ) {
+			throw new TestLinkAPIException(
+				"The plan identifier is required to get the plan test cases.");
+		}
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+			new Object[] { testPlanID, testCaseID, buildID, keywordID, executed, assignedTo,
+				execStatus, execType }, false);
+		TestLinkAPIResults results = getCachedResults(key);
+		if ( results == null ) {
+			// Setup hash parameters
+			Hashtable params = new Hashtable();				
+			setParam(params, REQUIRED, API_PARAM_DEV_KEY, DEV_KEY);
+			setParam(params, REQUIRED, API_PARAM_TEST_PLAN_ID, testPlanID);
+			setParam(params, OPTIONAL, API_PARAM_TEST_CASE_ID, testCaseID);
+			setParam(params, OPTIONAL, API_PARAM_BUILD_ID, buildID);
+			setParam(params, OPTIONAL, API_PARAM_KEY_WORD_ID, keywordID);
+			setParam(params, OPTIONAL, API_PARAM_EXECUTED, executed);
+			setParam(params, OPTIONAL, API_PARAM_ASSIGNED_TO, assignedTo);
+			setParam(params, OPTIONAL, API_PARAM_EXECUTE_STATUS, execStatus);
+			setParam(params, OPTIONAL, API_PARAM_EXEC_TYPE, execType);
+			results = executeSharedXmlRpcMethod(API_METHOD_GET_TEST_CASES_FOR_PLAN, params, key);
+		}
+		return checkResults(API_METHOD_GET_TEST_CASES_FOR_PLAN, results);
+	}
+	
+	/* =========================================== */
+	
+	/* Private Methods                */
+	
+	/* =========================================== */
+	
+	/*
+	 * True if the helper recently looked up the name without finding it.
+	 * Misses are only remembered when the cache is turned on.
+	 */
+	boolean isLookupMiss(
+		String kind,
+		Object scope,
+		String name)
+	{
+		return useCache && lookupMisses.isMiss(kind, scope, name);
+	}
+	
+	/*
+	 * Remember that the helper did not find the name.
+	 */
+	void putLookupMiss(
+		String kind,
+		Object scope,
+		String name)
+	{
+		if ( useCache ) {
+			lookupMisses.putMiss(kind, scope, name);
+		}
+	}
+	
+	/*
+	 * Get the lookup tables for the test cases of a project. The
+	 * tables are built from one pass over the cases of each first
+	 * level suite and are kept while the cache is on until the cached
+	 * test case lists expire or are all dropped.
+	 */
+	TestCaseIndex getTestCaseIndex(
+		Integer projectID) throws TestLinkAPIException
+	{
+		if ( projectID == null ) {
+			throw new TestLinkAPIException("The test project identifier is required.");
+		}
+		TestCaseIndex index = (TestCaseIndex) caseIndexes.get(projectID);
+		if ( useCache && index != null && isCurrent(index) ) {
+			return index;
+		}
+		
+		int generation = cache.getGeneration();
+		Map projectInfo = TestLinkAPIHelper.getProjectInfo(this, projectID);
+		Object prefix = null;
+		if ( projectInfo != null ) {
+			prefix = projectInfo.get(API_RESULT_PREFIX);
+		}
+		index = new TestCaseIndex(projectID, (prefix == null ? null : prefix.toString()));
+		index.cacheGeneration = generation;
+		TestLinkAPIResults suites = getFirstLevelTestSuitesForTestProject(projectID);
+		ArrayList suiteIDs = new ArrayList();
+		for ( int i = 0; i < suites.size(); i++ ) {
+			int id = suites.getSuiteRecord(i).getID();
+			if ( id != 0 ) {
+				suiteIDs.add(new Integer(id));
+			}
+		}
+		
+		// Added in suite order so the same case wins as when fetched one by one
+		TestLinkAPIResults[] cases = getCasesForTestSuites(projectID,
+			(Integer[]) suiteIDs.toArray(new Integer[suiteIDs.size()]));
+		for ( int i = 0; i < cases.length; i++ ) {
+			index.addAll(cases[i]);
+		}
+		if ( useCache ) {
+			caseIndexes.put(projectID, index);
+		}
+		return index;
+	}
+	
+	/*
+	 * Get the test cases of several suites of a project. The suites
+	 * are fetched at the same time, at most as many as the maximum
+	 * connections, and the results are returned in the order of the
+	 * suites. The first error is thrown once all the calls are done.
+	 */
+	TestLinkAPIResults[] getCasesForTestSuites(
+		Integer projectID,
+		Integer[] suiteIDs) throws TestLinkAPIException
+	{
+		TestLinkAPIResults[] results = new TestLinkAPIResults[suiteIDs.length];
+		if ( suiteIDs.length < 2 ) {
+			for ( int i = 0; i < suiteIDs.length; i++ ) {
+				results[i] = getCasesForTestSuite(projectID, suiteIDs[i]);
+			}
+			return results;
+		}
+		
+		TestLinkAsyncClient async = getFetcher();
+		Future[] calls = new Future[suiteIDs.length];
+		int i = 0;
+		while ( i < suiteIDs.length ) {
+			try {
+				calls[i] = async.getCasesForTestSuite(projectID, suiteIDs[i]);
+				i++;
+			} catch ( RejectedExecutionException e ) {
+				// setMaxConnections shut the fetcher down, the calls already
+				// submitted still run and the others use the new fetcher
+				TestLinkAsyncClient current = getFetcher();
+				if ( current == async ) {
+					throw e;
+				}
+				async = current;
+			}
+		}
+		Throwable error = null;
+		for ( i = 0; i < calls.length; i++ ) {
+			try {
+				results[i] = (TestLinkAPIResults) calls[i].get();
+			} catch ( ExecutionException e ) {
+				if ( error == null ) {
+					error = e.getCause();
+				}
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				throw new TestLinkAPIException("Interrupted while waiting for the test cases "
+					+ "of the suites.");
+			}
+		}
+		if ( error instanceof TestLinkAPIException ) {
+			throw (TestLinkAPIException) error;
+		} else if ( error instanceof RuntimeException ) {
+			throw (RuntimeException) error;
+		} else if ( error != null ) {
+			throw new TestLinkAPIException("Unable to get the test cases of the suites.", error);
+		}
+		return results;
+	}
+	
+	/*
+	 * The asynchronous client that runs calls made at the same time,
+	 * bounded by the maximum connections.
+	 */
+	private synchronized TestLinkAsyncClient getFetcher()
+	{
+		if ( fetcher == null ) {
+			fetcher = new TestLinkAsyncClient(this);
+		}
+		return fetcher;
+	}
+	
+	/*
+	 * True if the index was built from test case lists that are
+	 * still cached.
+	 */
+	private boolean isCurrent(
+		TestCaseIndex index)
+	{
+		if ( index.cacheGeneration != cache.getGeneration() ) {
+			return false;
+		}
+		long millis = cache.getTimeToLive(API_METHOD_GET_TEST_CASES_FOR_SUITE);
+		return millis <= 0 || System.currentTimeMillis() - index.created < millis;
+	}
+	
+	/*
+	 * Add a test case created by this client to the lookup tables
+	 * of its project instead of building them again.
+	 */
+	private void addToTestCaseIndex(
+		Integer projectID,
+		Integer suiteID,
+		Integer caseID) throws TestLinkAPIException
+	{
+		TestCaseIndex index = (TestCaseIndex) caseIndexes.get(projectID);
+		if ( index == null || caseID == null ) {
+			return;
+		}
+		if ( !useCache || !isCurrent(index) ) {
+			caseIndexes.remove(projectID);
+			return;
+		}
+		index.add(getCasesForTestSuite(projectID, suiteID).getDataByValue(
+			API_RESULT_IDENTIFIER, caseID));
+	}
+	
+	/*
+	 * Drop the cached test case lists of a suite and of the suites
+	 * above it since those lists include the cases of sub suites.
+	 */
+	private void invalidateSuiteCases(
+		Integer suiteID)
+	{
+		Object current = suiteID;
+		while ( current != null ) {
+			invalidateTag(getSuiteTag(current));
+			current = suiteParents.get(current);
+		}
+	}
+	
+	/*
+	 * Drop the cached test case lists of a plan for all filters.
+	 */
+	private void invalidatePlanCases(
+		Object planID)
+	{
+		invalidateTag(getPlanTag(planID));
+	}
+	
+	/*
+	 * Drop what is cached about the executions of a test case in a plan.
+	 */
+	private void invalidateExecution(
+		Object planID,
+		Object caseID)
+	{
+		if ( planID != null && caseID != null ) {
+			invalidate(getExecutionKey(planID, caseID));
+			invalidatePlanCases(planID);
+		}
+	}
+	
+	/*
+	 * Drop the cached results that list the cases and suites of a plan.
+	 */
+	private void invalidatePlanMembership(
+		Object planID)
+	{
+		invalidatePlanCases(planID);
+		invalidate(new TestLinkAPICacheKey(API_METHOD_GET_SUITES_FOR_PLAN, planID));
+	}
+	
+	/*
+	 * Drop the cached results for a key. A call for the key that is in
+	 * flight was sent before the write so it is retired: later callers do
+	 * not join it and its results are not cached.
+	 */
+	private void invalidate(
+		TestLinkAPICacheKey key)
+	{
+		synchronized ( inFlight ) {
+			SharedCall call = (SharedCall) inFlight.get(key);
+			if ( call != null ) {
+				retire(call);
+			}
+			cache.invalidate(key);
+		}
+	}
+	
+	/*
+	 * Drop the cached results of a method and retire its calls in flight.
+	 */
+	private void invalidateMethod(
+		String method)
+	{
+		synchronized ( inFlight ) {
+			Iterator calls = inFlight.values().iterator();
+			while ( calls.hasNext() ) {
+				SharedCall call = (SharedCall) calls.next();
+				if ( call.key.getMethod().equals(method) ) {
+					retire(call);
+				}
+			}
+			cache.invalidateMethod(method);
+		}
+	}
+	
+	/*
+	 * Drop the cached results with a tag and retire the calls in flight
+	 * whose results will have the tag.
+	 */
+	private void invalidateTag(
+		Object tag)
+	{
+		synchronized ( inFlight ) {
+			Iterator calls = inFlight.values().iterator();
+			while ( calls.hasNext() ) {
+				SharedCall call = (SharedCall) calls.next();
+				if ( call.tags != null && Arrays.asList(call.tags).contains(tag) ) {
+					retire(call);
+				}
+			}
+			cache.invalidateTag(tag);
+		}
+	}
+	
+	/*
+	 * Take a call in flight out of the shared calls and keep its results
+	 * out of the cache.
+	 */
+	private void retire(
+		SharedCall call)
+	{
+		call.isRetired = true;
+		inFlight.remove(call.key, call);
+	}
+	
+	/*
+	 * Drop the cached results changed by a write made in a batch.
+	 */
+	private void invalidateBatchWrite(
+		String method,
+		Hashtable params)
+	{
+		if ( API_METHOD_REPORT_TEST_RESULT.equals(method) ) {
+			invalidateExecution(params.get(API_PARAM_TEST_PLAN_ID),
+				params.get(API_PARAM_TEST_CASE_ID));
+		} else if ( API_METHOD_ADD_TEST_CASE_TO_PLAN.equals(method) ) {
+			invalidatePlanMembership(params.get(API_PARAM_TEST_PLAN_ID));
+		}
+	}
+	
+	/*
+	 * The tags of cached results that depend on more than the method
+	 * and key. A test case list of a suite includes the cases of its
+	 * sub suites which are known from the parent of each case. Without
+	 * results only the tags known from the parameters are returned.
+	 */
+	private static Object[] getCacheTags(
+		String method,
+		Hashtable params,
+		TestLinkAPIResults results)
+	{
+		if ( API_METHOD_GET_TEST_CASES_FOR_SUITE.equals(method) ) {
+			HashSet tags = new HashSet();
+			tags.add(getSuiteTag(params.get(API_PARAM_TEST_SUITE_ID)));
+			for ( int i = 0; results != null && i < results.size(); i++ ) {
+				Object parentID = results.getData(i).get("parent_id");
+				if ( parentID != null ) {
+					tags.add(getSuiteTag(parentID));
+				}
+			}
+			return tags.toArray();
+		} else if ( API_METHOD_GET_TEST_CASES_FOR_PLAN.equals(method) ) {
+			return new Object[] { getPlanTag(params.get(API_PARAM_TEST_PLAN_ID)) };
+		}
+		return null;
+	}
+	
+	private static String getSuiteTag(
+		Object suiteID)
+	{
+		return "suite:" + suiteID;
+	}
+	
+	private static String getPlanTag(
+		Object planID)
+	{
+		return "plan:" + planID;
+	}
+	
+	/*
+	 * Executes the XML-RPC method but checks for cached results first. Also, if
+	 * an error exists in the results then the method throws an exception.
+	 * 
+	 * @param method		The xml-rpc method name
+	 * @param params		The parameters for the method
+	 * @param cacheKey		If caching is desired this must not be null
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	private TestLinkAPIResults execXmlRpcMethodWithCache(
+		String method,
+		Hashtable params,
+		TestLinkAPICacheKey cacheKey) throws TestLinkAPIException
+	{
+		if ( method == null ) {
+			throw new TestLinkAPIException(
+				"A method must be provided for caching a xml-rpc calls to work.");
+		}
+	
+		TestLinkAPIResults results = getCachedResults(cacheKey);
+		if ( results == null ) {
+			if ( cacheKey == null ) {
+				results = executeXmlRpcMethod(method, params);
+			} else {
+				results = executeSharedXmlRpcMethod(method, params, cacheKey);
+			}
+		}
+		return checkResults(method, results);
+	}
+	
+	/*
+	 * Throws an exception if the results are missing or TestLink
+	 * reported an error.
+	 */
+	private TestLinkAPIResults checkResults(
+		String method,
+		TestLinkAPIResults results) throws TestLinkAPIException
+	{
+		if ( results == null ) {
+			throw new TestLinkAPIException(
+				"\nThe xml-rpc call to TestLink API method " + method
+				+ " failed because the results were null.");
+		}
+		if ( hasError(results) ) {
+			throw new TestLinkAPIException(
+				"\nThe xml-rpc call to TestLink API method " + method + " failed.\n"
+				+ results);
+		}
+		return results;
+	}
+	
+	/*
+	 * Executes the XML-RPC method unless the same method is already being
+	 * executed for the same key by another thread. In that case the results
+	 * of the call in flight are shared instead of sending the same request
+	 * again. This is done even when the cache is turned off.
+	 */
+	private TestLinkAPIResults executeSharedXmlRpcMethod(
+		String method,
+		Hashtable params,
+		TestLinkAPICacheKey cacheKey) throws TestLinkAPIException
+	{
+		SharedCall call = new SharedCall(cacheKey,
+			getCacheTags(method, params, null), cache.getGeneration());
+		SharedCall running = (SharedCall) inFlight.putIfAbsent(cacheKey, call);
+		if ( running != null ) {
+			return running.getResults(method);
+		}
+		
+		try {
+			// The call that just finished may have cached the results
+			TestLinkAPIResults results = lookupCachedResults(cacheKey);
+			if ( results == null ) {
+				results = executeXmlRpcMethod(method, params);
+				
+				// Results of a call sent before a write or a clear are not kept
+				synchronized ( inFlight ) {
+					if ( !call.isRetired && call.generation == cache.getGeneration() ) {
+						putCachedResults(params, cacheKey, results);
+					}
+				}
+			}
+			call.results = results;
+			return results;
+		} catch ( TestLinkAPIException e ) {
+			call.error = e;
+			throw e;
+		} catch ( RuntimeException e ) {
+			call.error = e;
+			throw e;
+		} finally {
+			inFlight.remove(cacheKey, call);
+			call.done.countDown();
+		}
+	}
+	
+	/*
+	 * A call in flight that other threads can wait for. The tags are
+	 * the ones known from the parameters before the results arrive.
+	 */
+	private static class SharedCall
+	{
+		final TestLinkAPICacheKey key;
+		final Object[] tags;
+		final int generation;
+		CountDownLatch done = new CountDownLatch(1);
+		volatile TestLinkAPIResults results = null;
+		volatile Exception error = null;
+		volatile boolean isRetired = false;
+		
+		SharedCall(
+			TestLinkAPICacheKey key,
+			Object[] tags,
+			int generation)
+		{
+			this.key = key;
+			this.tags = tags;
+			this.generation = generation;
+		}
+		
+		TestLinkAPIResults getResults(
+			String method) throws TestLinkAPIException
+		{
+			try {
+				done.await();
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				throw new TestLinkAPIException("Interrupted while waiting for the TestLink API method "
+					+ method + ".");
+			}
+			if ( error instanceof TestLinkAPIException ) {
+				throw (TestLinkAPIException) error;
+			} else if ( error instanceof RuntimeException ) {
+				throw (RuntimeException) error;
+			} else if ( results == null ) {
+				throw new TestLinkAPIException("The shared call to TestLink API method " + method
+					+ " failed.");
+			}
+			return results;
+		}
+	}
+	
+	/*
+	 * Get the results from the cache or null if the results are not cached.
+	 */
+	private TestLinkAPIResults getCachedResults(
+		TestLinkAPICacheKey cacheKey)
+	{
+		if ( useCache == false || cacheKey == null ) {
+			return null;
+		}
+		TestLinkAPIResults results = cache.get(cacheKey);
+		statistics.recordCacheLookup(cacheKey.getMethod(), results != null);
+		return results;
+	}
+	
+	/*
+	 * Get the results from the cache without counting the lookup.
+	 */
+	private TestLinkAPIResults lookupCachedResults(
+		TestLinkAPICacheKey cacheKey)
+	{
+		if ( useCache == false || cacheKey == null ) {
+			return null;
+		}
+		return cache.get(cacheKey);
+	}
+	
+	/*
+	 * Remember the results for the key. Errors reported by TestLink
+	 * are never cached so the call is made again the next time.
+	 */
+	private void putCachedResults(
+		Hashtable params,
+		TestLinkAPICacheKey cacheKey,
+		TestLinkAPIResults results)
+	{
+		if ( useCache == false || cacheKey == null || hasError(results) ) {
+			return;
+		}
+		cache.put(cacheKey, results, getCacheTags(cacheKey.getMethod(), params, results));
+	}
+	
+	/*
+	 * Executes a list of xml-rpc calls using a single system.multicall
+	 * request. Cached results are used for calls that have a cache key.
+	 * If the server does not support multicall the calls are made at
+	 * the same time, at most as many as the maximum connections.
+	 * 
+	 * Errors reported by TestLink for a single call and failures of a
+	 * single call are returned in the results for that call and do not
+	 * stop the other calls.
+	 */
+	TestLinkAPIResults[] executeBatch(
+		String[] methods,
+		Hashtable[] params,
+		TestLinkAPICacheKey[] cacheKeys) throws TestLinkAPIException
+	{
+		TestLinkAPIResults[] results = new TestLinkAPIResults[methods.length];
+		ArrayList pending = new ArrayList();
+		for ( int i = 0; i < methods.length; i++ ) {
+			results[i] = getCachedResults(cacheKeys[i]);
+			if ( results[i] == null ) {
+				pending.add(new Integer(i));
+			}
+		}
+		if ( pending.isEmpty() ) {
+			return results;
+		}
+		
+		Object[] rawResults = null;
+		if ( isMulticallSupported && pending.size() > 1 ) {
+			rawResults = executeMulticall(methods, params, pending);
+		}
+		TestLinkAPIResults[] singleResults = null;
+		if ( rawResults == null && pending.size() > 1 ) {
+			singleResults = executeBatchCalls(methods, params, pending);
+		}
+		
+		for ( int p = 0; p < pending.size(); p++ ) {
+			int i = ((Integer) pending.get(p)).intValue();
+			if ( rawResults != null ) {
+				results[i] = decodeMulticallResult(rawResults[p]);
+			} else if ( singleResults != null ) {
+				results[i] = singleResults[p];
+			} else {
+				results[i] = executeBatchCall(methods[i], params[i]);
+			}
+			invalidateBatchWrite(methods[i], params[i]);
+			putCachedResults(params[i], cacheKeys[i], results[i]);
+		}
+		return results;
+	}
+	
+	/*
+	 * Make the pending calls of a batch at the same time on the
+	 * fetcher. The results are returned in the order of the pending
+	 * calls and a call that failed has an error in its results.
+	 */
+	private TestLinkAPIResults[] executeBatchCalls(
+		String[] methods,
+		Hashtable[] params,
+		ArrayList pending)
+	{
+		TestLinkAPIResults[] results = new TestLinkAPIResults[pending.size()];
+		Future[] calls = new Future[pending.size()];
+		TestLinkAsyncClient async = getFetcher();
+		int p = 0;
+		while ( p < calls.length ) {
+			int i = ((Integer) pending.get(p)).intValue();
+			try {
+				calls[p] = async.executeBatchCall(methods[i], params[i]);
+				p++;
+			} catch ( RejectedExecutionException e ) {
+				// setMaxConnections shut the fetcher down, the calls already
+				// submitted still run and the others use the new fetcher
+				TestLinkAsyncClient current = getFetcher();
+				if ( current == async ) {
+					results[p] = getErrorResults(e);
+					p++;
+				}
+				async = current;
+			}
+		}
+		
+		boolean isInterrupted = false;
+		for ( p = 0; p < calls.length; p++ ) {
+			if ( calls[p] == null ) {
+				continue;
+			}
+			if ( isInterrupted && !calls[p].isDone() ) {
+				results[p] = getErrorResults(new TestLinkAPIException(
+					"Interrupted while waiting for the call."));
+				continue;
+			}
+			try {
+				results[p] = (TestLinkAPIResults) calls[p].get();
+			} catch ( ExecutionException e ) {
+				results[p] = getErrorResults(e.getCause());
+			} catch ( InterruptedException e ) {
+				isInterrupted = true;
+				results[p] = getErrorResults(new TestLinkAPIException(
+					"Interrupted while waiting for the call."));
+			}
+		}
+		if ( isInterrupted ) {
+			Thread.currentThread().interrupt();
+		}
+		return results;
+	}
+	
+	/*
+	 * Make a single call of a batch. A failure of the call is returned
+	 * as an error in the results so the results of the other calls of
+	 * the batch are kept.
+	 */
+	TestLinkAPIResults executeBatchCall(
+		String method,
+		Hashtable params)
+	{
+		try {
+			return executeXmlRpcMethod(method, params);
+		} catch ( TestLinkAPIException e ) {
+			return getErrorResults(e);
+		} catch ( RuntimeException e ) {
+			return getErrorResults(e);
+		}
+	}
+	
+	/*
+	 * The results holding the message and code of a failed call. The
+	 * fault of the transport is used like a multicall fault if the
+	 * call failed in the transport.
+	 */
+	private static TestLinkAPIResults getErrorResults(
+		Throwable error)
+	{
+		int code = 0;
+		String message = error.getMessage();
+		for ( Throwable cause = error; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof TestLinkTransportException ) {
+				code = ((TestLinkTransportException) cause).getCode();
+				message = cause.getMessage();
+				break;
+			}
+		}
+		HashMap data = new HashMap();
+		data.put(API_RESULT_CODE, new Integer(code));
+		data.put(API_RESULT_MESSAGE, String.valueOf(message));
+		TestLinkAPIResults results = new TestLinkAPIResults();
+		results.add(data);
+		return results;
+	}
+	
+	/*
+	 * Send the pending calls as one system.multicall request. Returns
+	 * null if the server does not know the multicall method.
+	 */
+	private Object[] executeMulticall(
+		String[] methods,
+		Hashtable[] params,
+		ArrayList pending) throws TestLinkAPIException
+	{
+		Object[] calls = new Object[pending.size()];
+		for ( int p = 0; p < pending.size(); p++ ) {
+			int i = ((Integer) pending.get(p)).intValue();
+			Hashtable call = new Hashtable();
+			call.put(API_MULTICALL_METHOD_NAME, methods[i]);
+			call.put(API_MULTICALL_PARAMS, new Object[] { params[i] });
+			calls[p] = call;
+		}
+		
+		TestLinkTransport transport = getTransport();
+		Object rawResults = null;
+		long start = System.nanoTime();
+		try {
+			rawResults = transport.execute(API_METHOD_MULTICALL, new Object[] { calls });
+			statistics.recordCall(API_METHOD_MULTICALL, System.nanoTime() - start, false);
+		} catch ( TestLinkTransportException e ) {
+			statistics.recordCall(API_METHOD_MULTICALL, System.nanoTime() - start, true);
+			if ( e.getCode() == API_FAULT_METHOD_NOT_FOUND ) {
+				isMulticallSupported = false;
+				return null;
+			}
+			throw new TestLinkAPIException("The call to the xml-rpc client failed."
+				+ "\nURL: " + SERVER_URL + "\nMethod: " + API_METHOD_MULTICALL, e);
+		}
+		
+		if ( !(rawResults instanceof Object[])
+			|| ((Object[]) rawResults).length != pending.size() ) {
+			throw new TestLinkAPIException("The " + API_METHOD_MULTICALL
+				+ " response did not contain one result for each call.");
+		}
+		return (Object[]) rawResults;
+	}
+	
+	/*
+	 * Each multicall result is either a one element array holding the
+	 * method response or a fault struct. Faults are turned into the
+	 * message and code entries the TestLink API uses for errors.
+	 */
+	private static TestLinkAPIResults decodeMulticallResult(
+		Object rawResult)
+	{
+		if ( rawResult instanceof Object[] && ((Object[]) rawResult).length == 1 ) {
+			return decodeResults(((Object[]) rawResult)[0]);
+		}
+		if ( rawResult instanceof Map ) {
+			Map fault = (Map) rawResult;
+			if ( fault.containsKey(API_FAULT_CODE) ) {
+				HashMap data = new HashMap();
+				data.put(API_RESULT_CODE, fault.get(API_FAULT_CODE));
+				data.put(API_RESULT_MESSAGE, String.valueOf(fault.get(API_FAULT_STRING)));
+				TestLinkAPIResults results = new TestLinkAPIResults();
+				results.add(data);
+				return results;
+			}
+		}
+		return decodeResults(rawResult);
+	}
+	
+	/*
+	 * True if the results contain an error reported by TestLink.
+	 */
+	boolean isError(
+		TestLinkAPIResults results)
+	{
+		return hasError(results);
+	}
+
+	/*
+	 * Private method used to make xml-rpc method calls
+	 * to the TestLink api URL.
+	 */
+	
+	private TestLinkAPIResults executeXmlRpcMethod(
+		String method,
+		Hashtable executionData) throws TestLinkAPIException
+	{
+		return executeXmlRpcMethod(method, executionData, null);
+	}
+	
+	/*
+	 * Make the call and hand the rows to the handler while the
+	 * response is read when the transport supports it.
+	 */
+	private TestLinkAPIResults executeXmlRpcMethod(
+		String method,
+		Hashtable executionData,
+		TestLinkAPIRowHandler handler) throws TestLinkAPIException
+	{
+		TestLinkTransport transport = getTransport();
+		Object rawResults = null;
+		long start = System.nanoTime();
+		
+		try {
+			if ( handler != null ) {
+				rawResults = ((TestLinkXmlRpcTransport) transport).execute(method,
+					new Object[] { executionData }, handler);
+			} else {
+				rawResults = transport.execute(method, new Object[] { executionData });
+			}
+		} catch ( TestLinkAPIResults.RowHandlerException e ) {
+			statistics.recordCall(method, System.nanoTime() - start, true);
+			throw e.getError();
+		} catch ( Exception e ) {
+			statistics.recordCall(method, System.nanoTime() - start, true);
+			String msg = "The call to the xml-rpc client failed." +
+			              "\nURL: " + SERVER_URL
+			              + "\nMethod: " + method + "\nParameters:";
+			Iterator paramNames = executionData.keySet().iterator();
+			while ( paramNames.hasNext() ) {
+				Object paramName = paramNames.next();
+				msg = msg + "\n    " + paramName + "='" + executionData.get(paramName) + "'";
+			}
+			e.printStackTrace();
+			throw new TestLinkAPIException(msg, e);
+		}
+		TestLinkAPIResults results = decodeResults(rawResults);
+		statistics.recordCall(method, System.nanoTime() - start, hasError(results));
+		return results;
+	}
+	
+	/*
+	 * Build the results from the object returned by the xml-rpc client.
+	 * XML-RPC officially returns an Object and the TestLink API is known
+	 * to return an Object[] list for most methods, a single Map for some
+	 * and a length 0 string for an empty list. The returned object is
+	 * inspected once so the call never has to be repeated. Results that
+	 * were already built by the streaming decoder are returned as is.
+	 */
+	static TestLinkAPIResults decodeResults(
+		Object rawResults)
+	{
+		if ( rawResults instanceof TestLinkAPIResults ) {
+			return (TestLinkAPIResults) rawResults;
+		}
+		
+		TestLinkAPIResults results = new TestLinkAPIResults();
+		int unknownResultTypeCnt = 0;
+		
+		if ( rawResults instanceof Object[] ) {
+			Object[] list = (Object[]) rawResults;
+			for ( int i = 0; i < list.length; i++ ) {
+				Object result = list[i];
+				if ( result instanceof Map ) {
+					results.add((Map) result);
+				} else {
+					unknownResultTypeCnt++;
+					HashMap data = new HashMap();
+					data.put(getUnknownKey(unknownResultTypeCnt), result);
+					results.add(data);
+				}
+			}
+		} else if ( rawResults instanceof Map ) {
+			results.add((Map) rawResults);
+		} else if ( rawResults != null ) {
+			// The api returns a length 0 string for empty list
+			if ( rawResults.toString().length() > 0 ) {
+				unknownResultTypeCnt++;
+				HashMap data = new HashMap();
+				data.put(getUnknownKey(unknownResultTypeCnt), rawResults);
+				results.add(data);
+			}
+		}
+		return results;
+	}
+	
+	private static String getUnknownKey(
+		int cnt)
+	{
+		String key = new Integer(cnt).toString();
+		return "RESULT_" + key;
+	}
+	
+	/*
+	 * Get the transport so a xml-rpc request can be made. The default
+	 * transport is created once and rebuilt only if the SERVER_URL is
+	 * changed.
+	 */
+	private synchronized TestLinkTransport getTransport() throws TestLinkAPIException
+	{
+		if ( isTransportProvided ) {
+			return transport;
+		}
+		if ( transport != null && SERVER_URL != null && SERVER_URL.equals(transportURL) ) {
+			return transport;
+		}
+		
+		TestLinkXmlRpcTransport xmlRpcTransport = new TestLinkXmlRpcTransport(SERVER_URL);
+		xmlRpcTransport.setConnectTimeout(connectTimeout);
+		xmlRpcTransport.setReadTimeout(readTimeout);
+		xmlRpcTransport.setMaxConnections(maxConnections);
+		xmlRpcTransport.setStreamingDecoder(isStreamingDecoder);
+		xmlRpcTransport.setStatistics(statistics);
+		transport = xmlRpcTransport;
+		transportURL = SERVER_URL;
+		return transport;
+	}
+	
+	/*
+	 * Assign the parameter
+	 */
+	void setParam(
+		Hashtable params, 
+		boolean isRequired, 
+		String paramName, 
+		Object value) throws TestLinkAPIException
+	{
+		// If the value is required and it is null return exception
+		if ( isRequired && value == null ) {
+			throw new TestLinkAPIException(
+				"The required parameter " + paramName + " was not provided by the caller.");
+		}
+		
+		// If the value is not required and it is null then return without assignment
+		if ( !isRequired && value == null ) {
+			return;
+		}
+		
+		// Set the parameter for the XML-RPC call
+		if ( value instanceof Integer ) {
+			params.put(paramName, value);
+			return;
+		}
+		String text = value.toString();
+		if ( isInteger(text) ) {
+			try {
+				params.put(paramName, new Integer(text));
+				return;
+			} catch ( NumberFormatException e ) {
+				// Too large for an integer
+			}
+		}
+		params.put(paramName, text);
+	}
+	
+	/*
+	 * True if the text is an optional sign followed by digits.
+	 */
+	private static boolean isInteger(
+		String text)
+	{
+		int start = (text.length() > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) ? 1 : 0;
+		if ( start == text.length() ) {
+			return false;
+		}
+		for ( int i = start; i < text.length(); i++ ) {
+			char c = text.charAt(i);
+			if ( c < '0' || c > '9' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private Integer getCreatedRecordIdentifier(
+		TestLinkAPIResults results,
+		String idKey) throws TestLinkAPIException
+	{
+		Integer newID = null;
+		if ( results.size() == 1 ) {
+			Object id = results.getValueByName(0, idKey);
+			if ( id != null ) {
+				newID = new Integer(id.toString());
+			} else {
+				Map msg = results.getData(0);
+				String failMsg = "Create failed since the identifier for new record was not retrieved.\nAPI Returned Data: ["
+					+ msg.toString() + "]";
+				throw new TestLinkAPIException(failMsg);
+			}
+		}
+		return newID;
+	}
+	
+	/*
+	 * There seems to be no standard message coming from the 
+	 * TestLink API to indicate there is an error. So this is 
+	 * a kludge trying to figure out if the message is an error
+	 * since it contains both a message and code.
+	 * 
+	 * Maybe it is the XML-RPC.
+	 * 
+	 */
+	
+	private boolean hasError(
+		TestLinkAPIResults results)
+	{
+		if ( results == null ) {
+			return true;
+		}
+		if ( results.size() > 0 ) {
+			return hasError(results.getData(0));
+		} else {
+			return false;
+		}
+	}
+	
+	private boolean hasError(
+		Map data)
+	{
+		return TestLinkAPIResults.isError(data);
+	}
+}
+
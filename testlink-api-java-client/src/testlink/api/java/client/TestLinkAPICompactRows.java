@@ -0,0 +1,322 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Column by column storage of result rows. The value names are kept
+ * once in a dictionary shared by all the rows, equal string values
+ * are stored as a single instance and columns that only hold whole
+ * numbers are stored as int arrays. The rows are read through
+ * read-only Map views created on demand.
+ */
+class TestLinkAPICompactRows
+{
+	// Marks a value name that is not part of a row
+	private static final Object ABSENT = new Object();
+	
+	private int size;
+	private HashMap columnIndex = new HashMap();
+	private String[] names;
+	private Column[] columns;
+	
+	/**
+	 * Store the rows. Rows that are not Maps keyed by strings are not
+	 * supported and make the method return null.
+	 * 
+	 * @param rows
+	 * @return The compact rows or null
+	 */
+	static TestLinkAPICompactRows build(
+		List rows)
+	{
+		// The dictionary of value names in first seen order
+		ArrayList nameList = new ArrayList();
+		HashMap nameIndex = new HashMap();
+		for ( int i = 0; i < rows.size(); i++ ) {
+			Object row = rows.get(i);
+			if ( !(row instanceof Map) ) {
+				return null;
+			}
+			Iterator keys = ((Map) row).keySet().iterator();
+			while ( keys.hasNext() ) {
+				Object key = keys.next();
+				if ( !(key instanceof String) ) {
+					return null;
+				}
+				if ( !nameIndex.containsKey(key) ) {
+					nameIndex.put(key, new Integer(nameList.size()));
+					nameList.add(((String) key).intern());
+				}
+			}
+		}
+		
+		TestLinkAPICompactRows compact = new TestLinkAPICompactRows();
+		compact.size = rows.size();
+		compact.columnIndex = nameIndex;
+		compact.names = (String[]) nameList.toArray(new String[nameList.size()]);
+		compact.columns = new Column[compact.names.length];
+		HashMap pool = new HashMap();
+		for ( int c = 0; c < compact.names.length; c++ ) {
+			compact.columns[c] = buildColumn(rows, compact.names[c], pool);
+		}
+		return compact;
+	}
+	
+	/**
+	 * The number of rows.
+	 * 
+	 * @return
+	 */
+	int size()
+	{
+		return size;
+	}
+	
+	/**
+	 * A read-only view of a row.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	Map getRow(
+		int index)
+	{
+		if ( index < 0 || index >= size ) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return new Row(index);
+	}
+	
+	/**
+	 * Copy the rows back to modifiable Maps.
+	 * 
+	 * @return
+	 */
+	ArrayList expand()
+	{
+		ArrayList rows = new ArrayList(size);
+		for ( int i = 0; i < size; i++ ) {
+			rows.add(toHashMap(i));
+		}
+		return rows;
+	}
+	
+	/*
+	 * A column is stored as ints when every row has a whole number
+	 * for it, either all as Integers or all as decimal strings.
+	 */
+	private static Column buildColumn(
+		List rows,
+		String name,
+		HashMap pool)
+	{
+		int[] numbers = new int[rows.size()];
+		boolean[] isPresent = new boolean[rows.size()];
+		boolean isNumeric = true;
+		boolean hasStrings = false;
+		boolean hasIntegers = false;
+		for ( int i = 0; i < rows.size() && isNumeric; i++ ) {
+			Map row = (Map) rows.get(i);
+			if ( !row.containsKey(name) ) {
+				continue;
+			}
+			Object value = row.get(name);
+			isPresent[i] = true;
+			if ( value instanceof Integer ) {
+				hasIntegers = true;
+				numbers[i] = ((Integer) value).intValue();
+			} else if ( value instanceof String && isDecimal((String) value) ) {
+				hasStrings = true;
+				numbers[i] = Integer.parseInt((String) value);
+			} else {
+				isNumeric = false;
+			}
+		}
+		if ( isNumeric && !(hasStrings && hasIntegers) ) {
+			return new IntColumn(numbers, isPresent, hasStrings);
+		}
+		
+		Object[] values = new Object[rows.size()];
+		for ( int i = 0; i < rows.size(); i++ ) {
+			Map row = (Map) rows.get(i);
+			if ( !row.containsKey(name) ) {
+				values[i] = ABSENT;
+				continue;
+			}
+			Object value = row.get(name);
+			if ( value instanceof String ) {
+				Object shared = pool.get(value);
+				if ( shared == null ) {
+					pool.put(value, value);
+				} else {
+					value = shared;
+				}
+			}
+			values[i] = value;
+		}
+		return new ObjectColumn(values);
+	}
+	
+	/*
+	 * True if the string is the canonical form of an int so it can
+	 * be rebuilt from the number.
+	 */
+	private static boolean isDecimal(
+		String value)
+	{
+		int length = value.length();
+		if ( length == 0 || length > 11 ) {
+			return false;
+		}
+		int start = (value.charAt(0) == '-' ? 1 : 0);
+		if ( start == length || (value.charAt(start) == '0' && length > start + 1) ) {
+			return false;
+		}
+		for ( int i = start; i < length; i++ ) {
+			char ch = value.charAt(i);
+			if ( ch < '0' || ch > '9' ) {
+				return false;
+			}
+		}
+		try {
+			Integer.parseInt(value);
+			return !"-0".equals(value);
+		} catch ( NumberFormatException e ) {
+			return false;
+		}
+	}
+	
+	private HashMap toHashMap(
+		int index)
+	{
+		HashMap row = new HashMap();
+		for ( int c = 0; c < columns.length; c++ ) {
+			Object value = columns[c].get(index);
+			if ( value != ABSENT ) {
+				row.put(names[c], value);
+			}
+		}
+		return row;
+	}
+	
+	/*
+	 * The values of one name for all the rows.
+	 */
+	private abstract static class Column
+	{
+		abstract Object get(
+			int index);
+	}
+	
+	private static class IntColumn extends Column
+	{
+		int[] numbers;
+		boolean[] isPresent;
+		boolean isString;
+		
+		IntColumn(
+			int[] numbers,
+			boolean[] isPresent,
+			boolean isString)
+		{
+			this.numbers = numbers;
+			this.isPresent = isPresent;
+			this.isString = isString;
+		}
+		
+		Object get(
+			int index)
+		{
+			if ( !isPresent[index] ) {
+				return ABSENT;
+			}
+			if ( isString ) {
+				return String.valueOf(numbers[index]);
+			}
+			return new Integer(numbers[index]);
+		}
+	}
+	
+	private static class ObjectColumn extends Column
+	{
+		Object[] values;
+		
+		ObjectColumn(
+			Object[] values)
+		{
+			this.values = values;
+		}
+		
+		Object get(
+			int index)
+		{
+			return values[index];
+		}
+	}
+	
+	/*
+	 * Read-only view of a row.
+	 */
+	private class Row extends AbstractMap
+	{
+		private int index;
+		
+		Row(
+			int index)
+		{
+			this.index = index;
+		}
+		
+		public Object get(
+			Object key)
+		{
+			Integer column = (Integer) columnIndex.get(key);
+			if ( column == null ) {
+				return null;
+			}
+			Object value = columns[column.intValue()].get(index);
+			return (value == ABSENT ? null : value);
+		}
+		
+		public boolean containsKey(
+			Object key)
+		{
+			Integer column = (Integer) columnIndex.get(key);
+			return column != null && columns[column.intValue()].get(index) != ABSENT;
+		}
+		
+		public Set entrySet()
+		{
+			return Collections.unmodifiableMap(toHashMap(index)).entrySet();
+		}
+	}
+}
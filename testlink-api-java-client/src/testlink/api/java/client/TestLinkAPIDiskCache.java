@@ -0,0 +1,763 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A persistent tier below the TestLinkAPICache that keeps cached
+ * results in a file so a new JVM can start with the project, plan,
+ * build, suite and test case information of the previous run.
+ * <p>
+ * The file is memory mapped when the cache is opened and only the
+ * index of the entries is read. The results of an entry are decoded
+ * from the mapped file the first time they are asked for. Entries are
+ * keyed by server URL, method and parameters so one file can be shared
+ * by clients of several TestLink servers.
+ * <p>
+ * An entry is valid until its time to live has passed and, when a
+ * version probe is set, as long as the probe reports the same version
+ * as when the entry was stored. The results of the
+ * tl.getLastExecutionResult method are not persisted by default since
+ * they change with every run.
+ * <p>
+ * New entries are written to the file by flush().
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkAPIClient apiClient = new TestLinkAPIClient(devKey, url, true);<br>
+ * TestLinkAPIDiskCache disk = apiClient.openDiskCache(new File("testlink.cache"));<br>
+ * ...<br>
+ * disk.flush();
+ */
+public class TestLinkAPIDiskCache implements TestLinkAPIConst
+{
+	private static final int MAGIC = 0x544C4443;
+	private static final int FORMAT_VERSION = 1;
+	
+	/* Value types */
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_STRING = 1;
+	private static final byte TYPE_INTEGER = 2;
+	private static final byte TYPE_BOOLEAN = 3;
+	private static final byte TYPE_DOUBLE = 4;
+	private static final byte TYPE_LONG = 5;
+	private static final byte TYPE_MAP = 6;
+	private static final byte TYPE_ARRAY = 7;
+	private static final byte TYPE_DATE = 8;
+	private static final byte TYPE_BYTES = 9;
+	
+	private File file;
+	private String serverURL;
+	private MappedByteBuffer mapped = null;
+	private Map index = new LinkedHashMap();
+	private boolean isChanged = false;
+	private long timeToLive = DEFAULT_DISK_CACHE_TIME_TO_LIVE;
+	private Map methodTimeToLive = new HashMap();
+	private Set transientMethods = new HashSet();
+	private TestLinkAPIVersionProbe versionProbe = null;
+	
+	/**
+	 * Open the cache file for a TestLink server. The file is created by
+	 * the first flush if it does not exist. A file that can not be read,
+	 * for example because it is damaged, is ignored and replaced by the
+	 * next flush.
+	 * 
+	 * @param file
+	 * @param serverURL
+	 */
+	public TestLinkAPIDiskCache(
+		File file,
+		String serverURL)
+	{
+		this.file = file;
+		this.serverURL = serverURL;
+		transientMethods.add(API_METHOD_LAST_EXECUTION_RESULT);
+		try {
+			load();
+		} catch ( IOException e ) {
+			// The cache starts empty
+		}
+	}
+	
+	/**
+	 * The file the entries are kept in.
+	 * 
+	 * @return
+	 */
+	public File getFile()
+	{
+		return file;
+	}
+	
+	/**
+	 * Set the time in milliseconds entries are valid for methods that
+	 * do not have their own time to live. A value of 0 keeps entries
+	 * until they are dropped.
+	 * 
+	 * @param millis
+	 */
+	public synchronized void setTimeToLive(
+		long millis)
+	{
+		timeToLive = millis;
+	}
+	
+	/**
+	 * Set the time in milliseconds the entries of a method are valid.
+	 * 
+	 * @param method
+	 * @param millis
+	 */
+	public synchronized void setTimeToLive(
+		String method,
+		long millis)
+	{
+		methodTimeToLive.put(method, new Long(millis));
+	}
+	
+	/**
+	 * Indicate if the results of a method are kept in the file.
+	 * 
+	 * @param method
+	 * @param isPersistent
+	 */
+	public synchronized void setPersistent(
+		String method,
+		boolean isPersistent)
+	{
+		if ( isPersistent ) {
+			transientMethods.remove(method);
+		} else {
+			transientMethods.add(method);
+			invalidateMethod(method);
+		}
+	}
+	
+	/**
+	 * Set the probe used to check that entries are current.
+	 * 
+	 * @param probe		Optional
+	 */
+	public synchronized void setVersionProbe(
+		TestLinkAPIVersionProbe probe)
+	{
+		versionProbe = probe;
+	}
+	
+	/**
+	 * The number of entries for all servers.
+	 * 
+	 * @return
+	 */
+	public synchronized int size()
+	{
+		return index.size();
+	}
+	
+	/**
+	 * Drop all the entries of this server.
+	 */
+	public synchronized void clear()
+	{
+		removeAll(getKeyPrefix());
+	}
+	
+	/**
+	 * Write the entries to the file. The file is written to a temporary
+	 * file first which then replaces the cache file. The entries are
+	 * kept in memory afterwards so the old file is no longer mapped.
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void flush() throws IOException
+	{
+		if ( !isChanged && file.exists() ) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		ArrayList keep = new ArrayList();
+		Iterator entries = index.values().iterator();
+		while ( entries.hasNext() ) {
+			DiskEntry entry = (DiskEntry) entries.next();
+			if ( !entry.isExpired(now) ) {
+				keep.add(entry);
+			}
+		}
+		
+		File temp = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(keep.size());
+			for ( int i = 0; i < keep.size(); i++ ) {
+				DiskEntry entry = (DiskEntry) keep.get(i);
+				writeString(out, entry.key);
+				out.writeLong(entry.expires);
+				writeString(out, entry.version);
+				out.writeInt(entry.tags.length);
+				for ( int t = 0; t < entry.tags.length; t++ ) {
+					writeString(out, entry.tags[t].toString());
+				}
+				byte[] data = getData(entry);
+				entry.data = data;
+				out.writeInt(data.length);
+				out.write(data);
+			}
+		} finally {
+			out.close();
+		}
+		mapped = null;
+		index.clear();
+		for ( int i = 0; i < keep.size(); i++ ) {
+			DiskEntry entry = (DiskEntry) keep.get(i);
+			index.put(entry.key, entry);
+		}
+		replaceFile(temp);
+		isChanged = false;
+	}
+	
+	/* =========================================== */
+	
+	/* Package Methods used by TestLinkAPICache    */
+	
+	/* =========================================== */
+	
+	/**
+	 * Get the results and tags of a valid entry or null.
+	 * 
+	 * @param key
+	 * @return
+	 */
+	Object[] get(
+		TestLinkAPICacheKey key)
+	{
+		String fullKey = getKey(key);
+		DiskEntry entry;
+		TestLinkAPIVersionProbe probe;
+		synchronized ( this ) {
+			entry = (DiskEntry) index.get(fullKey);
+			if ( entry == null ) {
+				return null;
+			}
+			if ( entry.isExpired(System.currentTimeMillis()) ) {
+				remove(fullKey);
+				return null;
+			}
+			probe = versionProbe;
+		}
+		
+		// The probe may call TestLink so it is not called under the lock
+		if ( probe != null && entry.version != null
+			&& !entry.version.equals(getVersion(probe, key)) ) {
+			synchronized ( this ) {
+				remove(fullKey, entry);
+			}
+			return null;
+		}
+		synchronized ( this ) {
+			try {
+				return new Object[] { decodeResults(getData(entry)), entry.tags };
+			} catch ( RuntimeException e ) {
+				// A damaged entry is fetched again
+				remove(fullKey, entry);
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * Keep the results for a key.
+	 * 
+	 * @param key
+	 * @param results
+	 * @param tags		Optional
+	 */
+	void put(
+		TestLinkAPICacheKey key,
+		TestLinkAPIResults results,
+		Object[] tags)
+	{
+		TestLinkAPIVersionProbe probe;
+		synchronized ( this ) {
+			if ( transientMethods.contains(key.getMethod()) ) {
+				return;
+			}
+			probe = versionProbe;
+		}
+		DiskEntry entry = new DiskEntry();
+		entry.key = getKey(key);
+		entry.version = getVersion(probe, key);
+		entry.tags = (tags == null) ? new Object[0] : tags;
+		try {
+			entry.data = encodeResults(results);
+		} catch ( IOException e ) {
+			return;
+		}
+		synchronized ( this ) {
+			long millis = getTimeToLive(key.getMethod());
+			entry.expires = (millis > 0) ? System.currentTimeMillis() + millis : 0;
+			index.remove(entry.key);
+			index.put(entry.key, entry);
+			isChanged = true;
+		}
+	}
+	
+	/**
+	 * Drop the entry for a key.
+	 * 
+	 * @param key
+	 */
+	synchronized void invalidate(
+		TestLinkAPICacheKey key)
+	{
+		remove(getKey(key));
+	}
+	
+	/**
+	 * Drop all the entries of a method.
+	 * 
+	 * @param method
+	 */
+	synchronized void invalidateMethod(
+		String method)
+	{
+		removeAll(getKeyPrefix() + TestLinkAPICacheKey.getExternalPrefix(method));
+	}
+	
+	/**
+	 * Drop all the entries that were tagged with the tag.
+	 * 
+	 * @param tag
+	 */
+	synchronized void invalidateTag(
+		Object tag)
+	{
+		String prefix = getKeyPrefix();
+		Iterator entries = index.values().iterator();
+		while ( entries.hasNext() ) {
+			DiskEntry entry = (DiskEntry) entries.next();
+			if ( !entry.key.startsWith(prefix) ) {
+				continue;
+			}
+			for ( int i = 0; i < entry.tags.length; i++ ) {
+				if ( entry.tags[i].toString().equals(tag.toString()) ) {
+					entries.remove();
+					isChanged = true;
+					break;
+				}
+			}
+		}
+	}
+	
+	/* =========================================== */
+	
+	/* Private Methods                */
+	
+	/* =========================================== */
+	
+	/*
+	 * Map the file and read the index of the entries. A damaged file
+	 * leaves the cache empty.
+	 */
+	private void load() throws IOException
+	{
+		try {
+			readIndex();
+		} catch ( IOException e ) {
+			mapped = null;
+			index.clear();
+			throw e;
+		} catch ( RuntimeException e ) {
+			mapped = null;
+			index.clear();
+			IOException damaged = new IOException("The cache file " + file + " is damaged.");
+			damaged.initCause(e);
+			throw damaged;
+		}
+	}
+	
+	private void readIndex() throws IOException
+	{
+		mapped = null;
+		index.clear();
+		
+		// A replacement that did not finish leaves the previous file aside
+		File previous = getPreviousFile();
+		if ( !file.exists() && previous.exists() ) {
+			previous.renameTo(file);
+		}
+		if ( !file.exists() || file.length() == 0 ) {
+			return;
+		}
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			// The mapping stays valid after the file is closed
+			raf.close();
+		}
+		ByteBuffer buffer = mapped.duplicate();
+		if ( buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION ) {
+			throw new IOException("The file " + file + " is not a TestLink cache file.");
+		}
+		int count = readCount(buffer);
+		for ( int i = 0; i < count; i++ ) {
+			DiskEntry entry = new DiskEntry();
+			entry.key = readString(buffer);
+			entry.expires = buffer.getLong();
+			entry.version = readString(buffer);
+			entry.tags = new Object[readCount(buffer)];
+			for ( int t = 0; t < entry.tags.length; t++ ) {
+				entry.tags[t] = readString(buffer);
+			}
+			entry.length = readCount(buffer);
+			entry.offset = buffer.position();
+			buffer.position(entry.offset + entry.length);
+			index.put(entry.key, entry);
+		}
+	}
+	
+	/*
+	 * Replace the cache file with the new one. Renaming over the old
+	 * file replaces it in one step. Where that is not possible the old
+	 * file is moved aside first and is used by the next load if the new
+	 * file is missing.
+	 */
+	private void replaceFile(
+		File temp) throws IOException
+	{
+		if ( temp.renameTo(file) ) {
+			return;
+		}
+		File previous = getPreviousFile();
+		previous.delete();
+		if ( file.exists() && !file.renameTo(previous) ) {
+			// A mapping of the old file is released when it is collected
+			System.gc();
+			if ( !file.renameTo(previous) ) {
+				throw new IOException("Unable to replace the cache file " + file);
+			}
+		}
+		if ( !temp.renameTo(file) ) {
+			previous.renameTo(file);
+			throw new IOException("Unable to replace the cache file " + file);
+		}
+		previous.delete();
+	}
+	
+	private File getPreviousFile()
+	{
+		return new File(file.getPath() + ".old");
+	}
+	
+	private byte[] getData(
+		DiskEntry entry)
+	{
+		if ( entry.data != null ) {
+			return entry.data;
+		}
+		byte[] data = new byte[entry.length];
+		ByteBuffer buffer = mapped.duplicate();
+		buffer.position(entry.offset);
+		buffer.get(data);
+		return data;
+	}
+	
+	private long getTimeToLive(
+		String method)
+	{
+		Long millis = (Long) methodTimeToLive.get(method);
+		if ( millis == null ) {
+			return timeToLive;
+		}
+		return millis.longValue();
+	}
+	
+	private static String getVersion(
+		TestLinkAPIVersionProbe probe,
+		TestLinkAPICacheKey key)
+	{
+		if ( probe == null ) {
+			return null;
+		}
+		try {
+			return probe.getVersion(key);
+		} catch ( TestLinkAPIException e ) {
+			return null;
+		}
+	}
+	
+	private String getKeyPrefix()
+	{
+		return serverURL + '\n';
+	}
+	
+	private String getKey(
+		TestLinkAPICacheKey key)
+	{
+		return getKeyPrefix() + key.toExternalForm();
+	}
+	
+	private void remove(
+		String fullKey)
+	{
+		if ( index.remove(fullKey) != null ) {
+			isChanged = true;
+		}
+	}
+	
+	/*
+	 * Remove the entry unless it was replaced in the meantime.
+	 */
+	private void remove(
+		String fullKey,
+		DiskEntry entry)
+	{
+		if ( index.get(fullKey) == entry ) {
+			remove(fullKey);
+		}
+	}
+	
+	private void removeAll(
+		String prefix)
+	{
+		Iterator keys = index.keySet().iterator();
+		while ( keys.hasNext() ) {
+			if ( ((String) keys.next()).startsWith(prefix) ) {
+				keys.remove();
+				isChanged = true;
+			}
+		}
+	}
+	
+	/*
+	 * Results are written as a row count followed by the rows.
+	 */
+	private static byte[] encodeResults(
+		TestLinkAPIResults results) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(results.size());
+		for ( int i = 0; i < results.size(); i++ ) {
+			writeValue(out, results.getData(i));
+		}
+		out.close();
+		return bytes.toByteArray();
+	}
+	
+	private static TestLinkAPIResults decodeResults(
+		byte[] data)
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		TestLinkAPIResults results = new TestLinkAPIResults();
+		int rows = buffer.getInt();
+		for ( int i = 0; i < rows; i++ ) {
+			results.addRow((Map) readValue(buffer));
+		}
+		return results;
+	}
+	
+	private static void writeValue(
+		DataOutputStream out,
+		Object value) throws IOException
+	{
+		if ( value == null ) {
+			out.writeByte(TYPE_NULL);
+		} else if ( value instanceof String ) {
+			out.writeByte(TYPE_STRING);
+			writeString(out, (String) value);
+		} else if ( value instanceof Integer ) {
+			out.writeByte(TYPE_INTEGER);
+			out.writeInt(((Integer) value).intValue());
+		} else if ( value instanceof Boolean ) {
+			out.writeByte(TYPE_BOOLEAN);
+			out.writeBoolean(((Boolean) value).booleanValue());
+		} else if ( value instanceof Double ) {
+			out.writeByte(TYPE_DOUBLE);
+			out.writeDouble(((Double) value).doubleValue());
+		} else if ( value instanceof Long ) {
+			out.writeByte(TYPE_LONG);
+			out.writeLong(((Long) value).longValue());
+		} else if ( value instanceof Map ) {
+			Map map = (Map) value;
+			out.writeByte(TYPE_MAP);
+			out.writeInt(map.size());
+			Iterator entries = map.entrySet().iterator();
+			while ( entries.hasNext() ) {
+				Map.Entry entry = (Map.Entry) entries.next();
+				writeString(out, String.valueOf(entry.getKey()));
+				writeValue(out, entry.getValue());
+			}
+		} else if ( value instanceof Object[] ) {
+			Object[] array = (Object[]) value;
+			out.writeByte(TYPE_ARRAY);
+			out.writeInt(array.length);
+			for ( int i = 0; i < array.length; i++ ) {
+				writeValue(out, array[i]);
+			}
+		} else if ( value instanceof Date ) {
+			out.writeByte(TYPE_DATE);
+			out.writeLong(((Date) value).getTime());
+		} else if ( value instanceof byte[] ) {
+			byte[] bytes = (byte[]) value;
+			out.writeByte(TYPE_BYTES);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		} else {
+			out.writeByte(TYPE_STRING);
+			writeString(out, value.toString());
+		}
+	}
+	
+	private static Object readValue(
+		ByteBuffer buffer)
+	{
+		byte type = buffer.get();
+		switch ( type ) {
+			case TYPE_NULL:
+				return null;
+			case TYPE_STRING:
+				return readString(buffer);
+			case TYPE_INTEGER:
+				return new Integer(buffer.getInt());
+			case TYPE_BOOLEAN:
+				return Boolean.valueOf(buffer.get() != 0);
+			case TYPE_DOUBLE:
+				return new Double(buffer.getDouble());
+			case TYPE_LONG:
+				return new Long(buffer.getLong());
+			case TYPE_MAP:
+				int size = buffer.getInt();
+				HashMap map = new HashMap();
+				for ( int i = 0; i < size; i++ ) {
+					String name = readString(buffer);
+					map.put(name, readValue(buffer));
+				}
+				return map;
+			case TYPE_ARRAY:
+				Object[] array = new Object[readCount(buffer)];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = readValue(buffer);
+				}
+				return array;
+			case TYPE_DATE:
+				return new Date(buffer.getLong());
+			case TYPE_BYTES:
+				byte[] bytes = new byte[readCount(buffer)];
+				buffer.get(bytes);
+				return bytes;
+		}
+		throw new IllegalStateException("Unknown value type " + type + " in the cache file.");
+	}
+	
+	/*
+	 * Strings are written as the UTF-8 length followed by the bytes.
+	 * A length of -1 is a null string.
+	 */
+	private static void writeString(
+		DataOutputStream out,
+		String value) throws IOException
+	{
+		if ( value == null ) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes("UTF-8");
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/*
+	 * Read a count or length that must fit in the rest of the buffer.
+	 */
+	private static int readCount(
+		ByteBuffer buffer)
+	{
+		int count = buffer.getInt();
+		if ( count < 0 || count > buffer.remaining() ) {
+			throw new IllegalStateException("The cache file is damaged.");
+		}
+		return count;
+	}
+	
+	private static String readString(
+		ByteBuffer buffer)
+	{
+		int length = buffer.getInt();
+		if ( length < 0 ) {
+			return null;
+		}
+		if ( length > buffer.remaining() ) {
+			throw new IllegalStateException("The cache file is damaged.");
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		try {
+			return new String(bytes, "UTF-8");
+		} catch ( UnsupportedEncodingException e ) {
+			throw new IllegalStateException(e.getMessage());
+		}
+	}
+	
+	/*
+	 * An entry of the file or one that was added since the file was read.
+	 */
+	private static class DiskEntry
+	{
+		String key;
+		long expires;
+		String version;
+		Object[] tags;
+		int offset;
+		int length;
+		byte[] data = null;
+		
+		boolean isExpired(
+			long now)
+		{
+			return expires > 0 && expires <= now;
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+/**
+ * The numbers of a single TestLink API method at the time a snapshot
+ * of the TestLinkAPIStatistics was taken. Latencies are in microseconds
+ * and are kept in buckets that are at most 12.5% wide so percentiles
+ * are upper bounds with the same precision.
+ */
+public class TestLinkAPIMethodStatistics
+{
+	private String method;
+	private long calls;
+	private long errors;
+	private long hits;
+	private long misses;
+	private long bytesSent;
+	private long bytesReceived;
+	private long totalLatency;
+	private long maxLatency;
+	private long[] latencyCounts;
+	
+	TestLinkAPIMethodStatistics(
+		String method,
+		long calls,
+		long errors,
+		long hits,
+		long misses,
+		long bytesSent,
+		long bytesReceived,
+		long totalLatency,
+		long maxLatency,
+		long[] latencyCounts)
+	{
+		this.method = method;
+		this.calls = calls;
+		this.errors = errors;
+		this.hits = hits;
+		this.misses = misses;
+		this.bytesSent = bytesSent;
+		this.bytesReceived = bytesReceived;
+		this.totalLatency = totalLatency;
+		this.maxLatency = maxLatency;
+		this.latencyCounts = latencyCounts;
+	}
+	
+	/**
+	 * The TestLink API method.
+	 * 
+	 * @return
+	 */
+	public String getMethod()
+	{
+		return method;
+	}
+	
+	/**
+	 * The number of calls sent to TestLink.
+	 * 
+	 * @return
+	 */
+	public long getCallCount()
+	{
+		return calls;
+	}
+	
+	/**
+	 * The number of calls that failed or returned a TestLink error.
+	 * 
+	 * @return
+	 */
+	public long getErrorCount()
+	{
+		return errors;
+	}
+	
+	/**
+	 * The number of results found in the cache.
+	 * 
+	 * @return
+	 */
+	public long getCacheHitCount()
+	{
+		return hits;
+	}
+	
+	/**
+	 * The number of results that were not in the cache.
+	 * 
+	 * @return
+	 */
+	public long getCacheMissCount()
+	{
+		return misses;
+	}
+	
+	/**
+	 * The number of request bytes sent to TestLink.
+	 * 
+	 * @return
+	 */
+	public long getBytesSent()
+	{
+		return bytesSent;
+	}
+	
+	/**
+	 * The number of response bytes received from TestLink.
+	 * 
+	 * @return
+	 */
+	public long getBytesReceived()
+	{
+		return bytesReceived;
+	}
+	
+	/**
+	 * The longest call in microseconds.
+	 * 
+	 * @return
+	 */
+	public long getMaxLatency()
+	{
+		return maxLatency;
+	}
+	
+	/**
+	 * The average call in microseconds.
+	 * 
+	 * @return
+	 */
+	public long getMeanLatency()
+	{
+		return (calls == 0) ? 0 : totalLatency / calls;
+	}
+	
+	/**
+	 * The latency in microseconds that the percentage of the calls did
+	 * not exceed.
+	 * 
+	 * @param percentile	A value from 0 to 100
+	 * @return
+	 */
+	public long getLatency(
+		double percentile)
+	{
+		long total = 0;
+		for ( int i = 0; i < latencyCounts.length; i++ ) {
+			total += latencyCounts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+		long seen = 0;
+		for ( int i = 0; i < latencyCounts.length; i++ ) {
+			seen += latencyCounts[i];
+			if ( seen >= Math.max(rank, 1) ) {
+				return Math.min(TestLinkAPIStatistics.getBucketUpperBound(i), maxLatency);
+			}
+		}
+		return maxLatency;
+	}
+	
+	/**
+	 * The number of calls per latency bucket. Use getLatencyBucketBound()
+	 * for the highest latency counted by a bucket.
+	 * 
+	 * @return
+	 */
+	public long[] getLatencyCounts()
+	{
+		return (long[]) latencyCounts.clone();
+	}
+	
+	/**
+	 * The highest latency in microseconds counted by a bucket.
+	 * 
+	 * @param bucket
+	 * @return
+	 */
+	public static long getLatencyBucketBound(
+		int bucket)
+	{
+		return TestLinkAPIStatistics.getBucketUpperBound(bucket);
+	}
+	
+	public String toString()
+	{
+		return method + ": calls=" + calls + " errors=" + errors + " hits=" + hits
+			+ " misses=" + misses + " sent=" + bytesSent + " received=" + bytesReceived
+			+ " mean=" + getMeanLatency() + "us p50=" + getLatency(50) + "us p99="
+			+ getLatency(99) + "us max=" + maxLatency + "us";
+	}
+}
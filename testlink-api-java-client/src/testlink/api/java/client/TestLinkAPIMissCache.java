@@ -0,0 +1,157 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Remembers the names the TestLinkAPIHelper looked up without finding
+ * them so repeated lookups of a project, plan, build or test case that
+ * does not exist yet do not search TestLink again. A miss is forgotten
+ * after a short time to live or when the client that recorded it
+ * creates an object of the same kind in the same scope.
+ */
+class TestLinkAPIMissCache implements TestLinkAPIConst
+{
+	/* Kinds of lookups */
+	static final String PROJECT = "project";
+	static final String PLAN = "plan";
+	static final String BUILD = "build";
+	static final String TEST_CASE = "testcase";
+	
+	private static final int MAX_ENTRIES = 1000;
+	
+	private long timeToLive = DEFAULT_LOOKUP_MISS_TIME_TO_LIVE;
+	
+	// Insertion ordered so the eldest miss is dropped first
+	private LinkedHashMap misses = new LinkedHashMap() {
+		protected boolean removeEldestEntry(
+			Map.Entry eldest)
+		{
+			return size() > MAX_ENTRIES;
+		}
+	};
+	
+	/**
+	 * Set the time in milliseconds a miss is remembered. A value of 0
+	 * turns negative caching off.
+	 * 
+	 * @param millis
+	 */
+	synchronized void setTimeToLive(
+		long millis)
+	{
+		timeToLive = Math.max(millis, 0);
+		if ( timeToLive == 0 ) {
+			misses.clear();
+		}
+	}
+	
+	/**
+	 * Get the time in milliseconds a miss is remembered.
+	 * 
+	 * @return
+	 */
+	synchronized long getTimeToLive()
+	{
+		return timeToLive;
+	}
+	
+	/**
+	 * True if the name was recently looked up in the scope without
+	 * being found.
+	 * 
+	 * @param kind
+	 * @param scope		The project or plan identifier or null
+	 * @param name
+	 * @return
+	 */
+	synchronized boolean isMiss(
+		String kind,
+		Object scope,
+		String name)
+	{
+		if ( misses.isEmpty() ) {
+			return false;
+		}
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(kind, scope, name);
+		Long expires = (Long) misses.get(key);
+		if ( expires == null ) {
+			return false;
+		}
+		if ( expires.longValue() <= System.currentTimeMillis() ) {
+			misses.remove(key);
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Remember that the name was not found in the scope.
+	 * 
+	 * @param kind
+	 * @param scope		The project or plan identifier or null
+	 * @param name
+	 */
+	synchronized void putMiss(
+		String kind,
+		Object scope,
+		String name)
+	{
+		if ( timeToLive > 0 && name != null ) {
+			TestLinkAPICacheKey key = new TestLinkAPICacheKey(kind, scope, name);
+			misses.remove(key);
+			misses.put(key, new Long(System.currentTimeMillis() + timeToLive));
+		}
+	}
+	
+	/**
+	 * Forget the misses of a kind in a scope.
+	 * 
+	 * @param kind
+	 * @param scope		The project or plan identifier or null for all scopes
+	 */
+	synchronized void invalidate(
+		String kind,
+		Object scope)
+	{
+		Iterator keys = misses.keySet().iterator();
+		while ( keys.hasNext() ) {
+			TestLinkAPICacheKey key = (TestLinkAPICacheKey) keys.next();
+			if ( key.getMethod().equals(kind)
+				&& (scope == null || scope.equals(key.getPart(0))) ) {
+				keys.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Forget all the misses.
+	 */
+	synchronized void clear()
+	{
+		misses.clear();
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * A typed view of one result returned by the TestLink API. The
+ * identifiers are parsed once when the record is created and kept
+ * as int values. A value that is missing or not a number is 0.
+ * <p>
+ * Records are created by TestLinkAPIResults, for example with
+ * getProjectRecord(index), and are kept with the results so cached
+ * results share them.
+ */
+public class TestLinkAPIRecord implements TestLinkAPIConst
+{
+	private Map data;
+	private int id;
+	private String name;
+	
+	/**
+	 * Create the record for the result data.
+	 * 
+	 * @param data
+	 */
+	public TestLinkAPIRecord(
+		Map data)
+	{
+		this.data = data;
+		this.id = getInt(API_RESULT_IDENTIFIER);
+		this.name = getString(API_RESULT_NAME);
+	}
+	
+	/**
+	 * The internal identifier.
+	 * 
+	 * @return
+	 */
+	public int getID()
+	{
+		return id;
+	}
+	
+	/**
+	 * The name.
+	 * 
+	 * @return
+	 */
+	public String getName()
+	{
+		return name;
+	}
+	
+	/**
+	 * The result data the record was created from.
+	 * 
+	 * @return
+	 */
+	public Map getData()
+	{
+		return data;
+	}
+	
+	/**
+	 * Get a value of the result data by name.
+	 * 
+	 * @param valueName
+	 * @return
+	 */
+	public Object getValue(
+		String valueName)
+	{
+		return TestLinkAPIResults.findValue(data, valueName);
+	}
+	
+	/**
+	 * Get a value of the result data as a string.
+	 * 
+	 * @param valueName
+	 * @return The value or null if it is missing
+	 */
+	public String getString(
+		String valueName)
+	{
+		Object value = getValue(valueName);
+		return (value == null ? null : value.toString());
+	}
+	
+	/**
+	 * Get a value of the result data as an int.
+	 * 
+	 * @param valueName
+	 * @return The value or 0 if it is missing or not a number
+	 */
+	public int getInt(
+		String valueName)
+	{
+		return toInt(getValue(valueName));
+	}
+	
+	/**
+	 * Get a value of the result data as a boolean. TestLink
+	 * returns 1 or 0 for its flags.
+	 * 
+	 * @param valueName
+	 * @return
+	 */
+	public boolean getBoolean(
+		String valueName)
+	{
+		Object value = getValue(valueName);
+		if ( value instanceof Boolean ) {
+			return ((Boolean) value).booleanValue();
+		}
+		return toInt(value) != 0 || "true".equalsIgnoreCase(String.valueOf(value));
+	}
+	
+	public String toString()
+	{
+		return String.valueOf(data);
+	}
+	
+	/**
+	 * Convert a value returned by TestLink to an int.
+	 * 
+	 * @param value
+	 * @return The value or 0 if it is null or not a number
+	 */
+	public static int toInt(
+		Object value)
+	{
+		if ( value instanceof Integer ) {
+			return ((Integer) value).intValue();
+		}
+		if ( value == null ) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(value.toString().trim());
+		} catch ( NumberFormatException e ) {
+			return 0;
+		}
+	}
+}
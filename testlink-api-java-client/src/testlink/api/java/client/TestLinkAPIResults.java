@@ -1,179 +1,551 @@
-/*
- * Daniel R Padilla
- *
- * Copyright (c) 2009, Daniel R Padilla
- *
- * This copyrighted material is made available to anyone wishing to use, modify,
- * copy, or redistribute it subject to the terms and conditions of the GNU
- * Lesser General Public License, as published by the Free Software Foundation.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
- * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
- * for more details.
- *
- * You should have received a copy of the GNU Lesser General Public License
- * along with this distribution; if not, write to:
- * Free Software Foundation, Inc.
- * 51 Franklin Street, Fifth Floor
- * Boston, MA  02110-1301  USA
- */
-package testlink.api.java.client;
-
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
-
-
-/**
- * Returns the results from the TestLINK API methods. It standardizes the results
- * as a list of Maps. This is done since as of version 1.8.2 of the TestLink API 
- * mostly returns a list of Maps. When this is not done then a key of Result_<count>
- * is assigned by the result list and TestLink API result object is returned as a 
- * map value.
- * 
- * @author Daniel Padilla
- *
- */
-public class TestLinkAPIResults implements TestLinkAPIConst
-{
-	ArrayList<Map> results = new ArrayList<Map>();
-
-	/**
-	 * Add a result to the list.
-	 * 
-	 * @param item
-	 */
-	public void add(
-		Map item)
-	{
-		// Inspect the item first. If it is a map of maps
-		// then get the individual hashes.
-		if ( isMapOfMaps(item) ) {
-			Iterator keys = item.keySet().iterator();
-			while ( keys.hasNext() ) {
-				Object key = keys.next();
-				Map innerMap = (Map) item.get(key);
-				if ( innerMap != null ) {
-					results.add(innerMap);
-				}
-			}
-		} else {
-			results.add(item);
-		}
-	}
-	
-	/**
-	 * Remove a result from the list
-	 * 
-	 * @param index
-	 */
-	public void remove(
-		int index)
-	{
-		results.remove(index);
-	}
-	
-	/**
-	 * Get the result data in the list
-	 * 
-	 * @param index
-	 * @return
-	 */
-	public Map getData(
-		int index)
-	{
-		return (Map) results.get(index);
-	}
-	
-	/**
-	 * Get the values within the result data by name
-	 * 
-	 * @param index
-	 * @param name
-	 * @return
-	 */
-	public Object getValueByName(
-		int index,
-		String name)
-	{
-		Map result = getData(index);
-		return getValueByName(result, name);
-	}
-	
-	/**
-	 * Recurse the structure for the results.
-	 * 
-	 * @param result
-	 * @param name
-	 * @return
-	 */
-	public Object getValueByName(
-		Map result,
-		String name)
-	{
-		Object value = result.get(name);
-		if ( value == null ) {
-			Iterator mapKeys = result.keySet().iterator();
-			while ( mapKeys.hasNext() ) {
-				Object internalKey = mapKeys.next();
-				Object internalData = result.get(internalKey);
-				if ( internalData == null ) {
-					continue;
-				}
-				if ( internalData instanceof Map ) {
-					Map internalMap = (Map) internalData;
-					value = internalMap.get(name);
-					if ( value != null ) {
-						return value;
-					} else {
-						getValueByName(internalMap, name);
-					}
-				}
-			}
-		}
-		return value;
-	}
-	
-	private boolean isMapOfMaps(
-		Map map)
-	{
-		Iterator keys = map.keySet().iterator();
-		while ( keys.hasNext() ) {
-			Object key = keys.next();
-			Object data = map.get(key);
-			if ( data == null ) {
-				continue;
-			} else if ( data instanceof Map ) {
-				continue;
-			}
-			return false;
-		}
-		return true;
-	}
-	
-	/**
-	 * Get the size of the results list.
-	 * 
-	 * @return
-	 */
-	public int size()
-	{
-		return results.size();
-	}
-	
-	public String toString() {
-		if ( results.size() == 0 ) {
-			return "The results list is empty.";
-		}
-		StringBuffer value = new StringBuffer();
-		for (int i=0; i < results.size(); i++) {
-			Object m = results.get(i);
-			if ( m != null ) {
-				value.append("Result[" + i + "] = " + m.toString() + "\n");
-			}
-		}
-		return value.toString();
-	}
-}
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Returns the results from the TestLINK API methods. It standardizes the results
+ * as a list of Maps. This is done since as of version 1.8.2 of the TestLink API 
+ * mostly returns a list of Maps. When this is not done then a key of Result_<count>
+ * is assigned by the result list and TestLink API result object is returned as a 
+ * map value.
+ * 
+ * @author Daniel Padilla
+ *
+ */
+public class TestLinkAPIResults implements TestLinkAPIConst, Iterable<Map>
+{
+	ArrayList<Map> results = new ArrayList<Map>();
+	
+	// Receives the rows instead of the list when set
+	private TestLinkAPIRowHandler rowHandler = null;
+	private int handledRowCount = 0;
+	
+	// Lookup tables by value name built on first use
+	private volatile HashMap indexes = null;
+	
+	// Typed views of the results created on first use
+	private TestLinkAPIRecord[] records = null;
+	
+	// Column storage of the results once they are compacted
+	private volatile TestLinkAPICompactRows compactRows = null;
+
+	/**
+	 * Create an empty result list.
+	 */
+	public TestLinkAPIResults()
+	{
+	}
+	
+	/*
+	 * Create results that hand the rows to the handler as they are
+	 * added instead of keeping them. An error returned by TestLink
+	 * is kept so it can be reported.
+	 */
+	TestLinkAPIResults(
+		TestLinkAPIRowHandler rowHandler)
+	{
+		this.rowHandler = rowHandler;
+	}
+	
+	/**
+	 * Add a result to the list.
+	 * 
+	 * @param item
+	 */
+	public void add(
+		Map item)
+	{
+		// Inspect the item first. If it is a map of maps
+		// then get the individual hashes.
+		if ( isMapOfMaps(item) ) {
+			Iterator keys = item.keySet().iterator();
+			while ( keys.hasNext() ) {
+				Object key = keys.next();
+				Map innerMap = (Map) item.get(key);
+				if ( innerMap != null ) {
+					addRow(innerMap);
+				}
+			}
+		} else {
+			addRow(item);
+		}
+		indexes = null;
+		clearRecords();
+	}
+	
+	/**
+	 * Add a result to the end of the list as is. Used by decoders that
+	 * already know the item is a single result.
+	 * 
+	 * @param item
+	 */
+	void addRow(
+		Map item)
+	{
+		if ( rowHandler != null && (handledRowCount > 0 || !isError(item)) ) {
+			handOver(item);
+			return;
+		}
+		expand();
+		results.add(item);
+		indexes = null;
+		clearRecords();
+	}
+	
+	/**
+	 * Remove a result from the list
+	 * 
+	 * @param index
+	 */
+	public void remove(
+		int index)
+	{
+		expand();
+		results.remove(index);
+		indexes = null;
+		clearRecords();
+	}
+	
+	/**
+	 * Get the result data in the list
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public Map getData(
+		int index)
+	{
+		TestLinkAPICompactRows rows = compactRows;
+		if ( rows != null ) {
+			return rows.getRow(index);
+		}
+		return (Map) results.get(index);
+	}
+	
+	/**
+	 * Store the results column by column to use less memory. Value
+	 * names are kept once, equal strings are shared and whole numbers
+	 * are kept as ints. The results are then read through read-only
+	 * Map views that are created on demand. Adding or removing a
+	 * result turns the results back into Maps.
+	 * 
+	 * @return True if the results are compact
+	 */
+	public synchronized boolean compact()
+	{
+		if ( compactRows != null ) {
+			return true;
+		}
+		if ( rowHandler != null || results.isEmpty() ) {
+			return false;
+		}
+		TestLinkAPICompactRows rows = TestLinkAPICompactRows.build(results);
+		if ( rows == null ) {
+			return false;
+		}
+		compactRows = rows;
+		results = new ArrayList<Map>();
+		indexes = null;
+		records = null;
+		return true;
+	}
+	
+	/**
+	 * True if the results are stored column by column.
+	 * 
+	 * @return
+	 */
+	public boolean isCompact()
+	{
+		return compactRows != null;
+	}
+	
+	/*
+	 * Turn compact results back into Maps before they are changed.
+	 */
+	private synchronized void expand()
+	{
+		if ( compactRows != null ) {
+			results = compactRows.expand();
+			compactRows = null;
+		}
+	}
+	
+	/**
+	 * Get the values within the result data by name
+	 * 
+	 * @param index
+	 * @param name
+	 * @return
+	 */
+	public Object getValueByName(
+		int index,
+		String name)
+	{
+		Map result = getData(index);
+		return getValueByName(result, name);
+	}
+	
+	/**
+	 * Recurse the structure for the results.
+	 * 
+	 * @param result
+	 * @param name
+	 * @return
+	 */
+	public Object getValueByName(
+		Map result,
+		String name)
+	{
+		return findValue(result, name);
+	}
+	
+	/*
+	 * Get the value by name from the result or from the first
+	 * nested map, at any depth, that has it.
+	 */
+	static Object findValue(
+		Map result,
+		String name)
+	{
+		if ( result == null ) {
+			return null;
+		}
+		Object value = result.get(name);
+		if ( value != null ) {
+			return value;
+		}
+		Iterator mapKeys = result.keySet().iterator();
+		while ( mapKeys.hasNext() ) {
+			Object internalData = result.get(mapKeys.next());
+			if ( internalData instanceof Map ) {
+				value = findValue((Map) internalData, name);
+				if ( value != null ) {
+					return value;
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Get the result as a test project.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestLinkProjectRecord getProjectRecord(
+		int index)
+	{
+		return (TestLinkProjectRecord) getRecord(index, TestLinkProjectRecord.class);
+	}
+	
+	/**
+	 * Get the result as a test plan.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestLinkPlanRecord getPlanRecord(
+		int index)
+	{
+		return (TestLinkPlanRecord) getRecord(index, TestLinkPlanRecord.class);
+	}
+	
+	/**
+	 * Get the result as a build.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestLinkBuildRecord getBuildRecord(
+		int index)
+	{
+		return (TestLinkBuildRecord) getRecord(index, TestLinkBuildRecord.class);
+	}
+	
+	/**
+	 * Get the result as a test suite.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestLinkSuiteRecord getSuiteRecord(
+		int index)
+	{
+		return (TestLinkSuiteRecord) getRecord(index, TestLinkSuiteRecord.class);
+	}
+	
+	/**
+	 * Get the result as a test case.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestLinkCaseRecord getCaseRecord(
+		int index)
+	{
+		return (TestLinkCaseRecord) getRecord(index, TestLinkCaseRecord.class);
+	}
+	
+	/**
+	 * Get the result as a test case execution.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestLinkExecutionRecord getExecutionRecord(
+		int index)
+	{
+		return (TestLinkExecutionRecord) getRecord(index, TestLinkExecutionRecord.class);
+	}
+	
+	/*
+	 * The record of the result is created once for the type and kept
+	 * until the list changes.
+	 */
+	private synchronized TestLinkAPIRecord getRecord(
+		int index,
+		Class type)
+	{
+		if ( records == null || records.length != size() ) {
+			records = new TestLinkAPIRecord[size()];
+		}
+		TestLinkAPIRecord record = records[index];
+		if ( record == null || record.getClass() != type ) {
+			Map data = getData(index);
+			if ( type == TestLinkProjectRecord.class ) {
+				record = new TestLinkProjectRecord(data);
+			} else if ( type == TestLinkPlanRecord.class ) {
+				record = new TestLinkPlanRecord(data);
+			} else if ( type == TestLinkBuildRecord.class ) {
+				record = new TestLinkBuildRecord(data);
+			} else if ( type == TestLinkSuiteRecord.class ) {
+				record = new TestLinkSuiteRecord(data);
+			} else if ( type == TestLinkCaseRecord.class ) {
+				record = new TestLinkCaseRecord(data);
+			} else {
+				record = new TestLinkExecutionRecord(data);
+			}
+			records[index] = record;
+		}
+		return record;
+	}
+	
+	/**
+	 * Get the first result whose value for the name is equal to the
+	 * value. The results are indexed by the name the first time it is
+	 * used so later lookups do not scan the list. Results returned from
+	 * the cache share their indexes.
+	 * 
+	 * @param name
+	 * @param value
+	 * @return The result data or null if no result has the value
+	 */
+	public Map getDataByValue(
+		String name,
+		Object value)
+	{
+		if ( value == null ) {
+			return null;
+		}
+		return (Map) getIndex(name).get(value.toString());
+	}
+	
+	/*
+	 * The index of the results by the string form of a value. When
+	 * several results have the same value the first one is kept.
+	 */
+	private synchronized Map getIndex(
+		String name)
+	{
+		HashMap current = indexes;
+		if ( current == null ) {
+			current = new HashMap();
+			indexes = current;
+		}
+		HashMap index = (HashMap) current.get(name);
+		if ( index == null ) {
+			index = new HashMap(size() * 2);
+			for ( int i = size() - 1; i >= 0; i-- ) {
+				Map data = getData(i);
+				Object value = findValue(data, name);
+				if ( value != null ) {
+					index.put(value.toString(), data);
+				}
+			}
+			current.put(name, index);
+		}
+		return index;
+	}
+	
+	private synchronized void clearRecords()
+	{
+		records = null;
+	}
+	
+	private boolean isMapOfMaps(
+		Map map)
+	{
+		Iterator keys = map.keySet().iterator();
+		while ( keys.hasNext() ) {
+			Object key = keys.next();
+			Object data = map.get(key);
+			if ( data == null ) {
+				continue;
+			} else if ( data instanceof Map ) {
+				continue;
+			}
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Get the size of the results list.
+	 * 
+	 * @return
+	 */
+	public int size()
+	{
+		TestLinkAPICompactRows rows = compactRows;
+		if ( rows != null ) {
+			return rows.size();
+		}
+		return results.size();
+	}
+	
+	/**
+	 * Iterate over the results in order. The results cannot be
+	 * removed through the iterator.
+	 * 
+	 * @return
+	 */
+	public Iterator<Map> iterator()
+	{
+		if ( compactRows == null ) {
+			return Collections.unmodifiableList(results).iterator();
+		}
+		return new Iterator<Map>() {
+			private int next = 0;
+			
+			public boolean hasNext()
+			{
+				return next < size();
+			}
+			
+			public Map next()
+			{
+				if ( next >= size() ) {
+					throw new NoSuchElementException();
+				}
+				return getData(next++);
+			}
+			
+			public void remove()
+			{
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+	
+	/**
+	 * The number of rows handed to a row handler instead of being
+	 * kept in the list.
+	 * 
+	 * @return
+	 */
+	public int getHandledRowCount()
+	{
+		return handledRowCount;
+	}
+	
+	/*
+	 * True if the result is an error returned by TestLink.
+	 */
+	static boolean isError(
+		Map data)
+	{
+		Object message = data.get(API_RESULT_MESSAGE);
+		Object code = data.get(API_RESULT_CODE);
+		if ( message != null && code != null ) {
+			if ( message.toString().toLowerCase().indexOf("success") < 0 ) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/*
+	 * Give the row to the handler. The error of the handler is
+	 * carried out of the decoder by RowHandlerException.
+	 */
+	private void handOver(
+		Map item)
+	{
+		handledRowCount++;
+		try {
+			rowHandler.handleRow(item);
+		} catch ( TestLinkAPIException e ) {
+			throw new RowHandlerException(e);
+		}
+	}
+	
+	/*
+	 * Thrown when a row handler fails while the rows are added.
+	 */
+	static class RowHandlerException extends RuntimeException
+	{
+		RowHandlerException(
+			TestLinkAPIException cause)
+		{
+			super(cause);
+		}
+		
+		TestLinkAPIException getError()
+		{
+			return (TestLinkAPIException) getCause();
+		}
+	}
+	
+	public String toString() {
+		if ( size() == 0 ) {
+			return "The results list is empty.";
+		}
+		StringBuffer value = new StringBuffer();
+		for (int i=0; i < size(); i++) {
+			Object m = getData(i);
+			if ( m != null ) {
+				value.append("Result[" + i + "] = " + m.toString() + "\n");
+			}
+		}
+		return value.toString();
+	}
+}
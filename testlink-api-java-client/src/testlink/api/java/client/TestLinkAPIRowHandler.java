@@ -0,0 +1,48 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * Receives the rows of a TestLink API response one at a time. When the
+ * client decodes the response itself the rows are handed over while
+ * the response is read and are not kept, so large results like the
+ * test cases of a plan never have to be held in memory at once.
+ * <p>
+ * The response is still being read while a row is handled so the
+ * handler should not call the TestLink API with the same client.
+ * 
+ * @see TestLinkAPIClient#getCasesForTestPlan(Integer, TestLinkAPIRowHandler)
+ */
+public interface TestLinkAPIRowHandler
+{
+	/**
+	 * Handle the next row of the results.
+	 * 
+	 * @param row
+	 * @throws TestLinkAPIException		Stops reading the response
+	 */
+	public void handleRow(
+		Map row) throws TestLinkAPIException;
+}
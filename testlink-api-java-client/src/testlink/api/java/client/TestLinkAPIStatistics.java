@@ -0,0 +1,394 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+/**
+ * The numbers of a TestLinkAPIClient per TestLink API method: the calls
+ * sent to TestLink, the calls that failed, the cache hits and misses,
+ * the bytes sent and received and the call latencies.
+ * <p>
+ * Latencies are counted in buckets the way HDR histograms do: values
+ * below 16 microseconds have a bucket each and every power of two above
+ * is split in 8 buckets, so a percentile is never more than 12.5% above
+ * the real value whatever the range of the latencies.
+ * <p>
+ * The numbers can be read with getSnapshot() or over JMX once the
+ * statistics were registered with registerMBean().
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkAPIStatistics stats = apiClient.getStatistics();<br>
+ * stats.registerMBean("TestLinkAPIClient");<br>
+ * ...<br>
+ * System.out.println(stats.getSnapshot(TestLinkAPIConst.API_METHOD_GET_PROJECTS));
+ */
+public class TestLinkAPIStatistics implements TestLinkAPIStatisticsMBean
+{
+	private static final String DOMAIN = "testlink.api.java.client";
+	
+	/* Latency bucket layout */
+	private static final int LINEAR_BUCKETS = 16;
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int FIRST_EXPONENT = 4;
+	private static final int LAST_EXPONENT = 40;
+	static final int BUCKET_COUNT = LINEAR_BUCKETS
+		+ (LAST_EXPONENT - FIRST_EXPONENT + 1) * SUB_BUCKETS;
+	
+	private ConcurrentHashMap methods = new ConcurrentHashMap();
+	private ObjectName objectName = null;
+	
+	/**
+	 * A snapshot of the numbers of every method that was called or
+	 * looked up in the cache.
+	 * 
+	 * @return TestLinkAPIMethodStatistics by method name
+	 */
+	public Map getSnapshot()
+	{
+		TreeMap snapshot = new TreeMap();
+		Iterator entries = methods.entrySet().iterator();
+		while ( entries.hasNext() ) {
+			Map.Entry entry = (Map.Entry) entries.next();
+			snapshot.put(entry.getKey(), ((Counters) entry.getValue()).snapshot(
+				(String) entry.getKey()));
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * A snapshot of the numbers of a method.
+	 * 
+	 * @param method
+	 * @return
+	 */
+	public TestLinkAPIMethodStatistics getSnapshot(
+		String method)
+	{
+		Counters counters = (Counters) methods.get(method);
+		if ( counters == null ) {
+			counters = new Counters();
+		}
+		return counters.snapshot(method);
+	}
+	
+	/**
+	 * Register the statistics with the platform MBean server under
+	 * testlink.api.java.client:type=TestLinkAPIStatistics,name=[name].
+	 * 
+	 * @param name
+	 * @return The name the statistics were registered under
+	 * @throws TestLinkAPIException
+	 */
+	public synchronized ObjectName registerMBean(
+		String name) throws TestLinkAPIException
+	{
+		unregisterMBean();
+		try {
+			ObjectName mbeanName = new ObjectName(DOMAIN + ":type=TestLinkAPIStatistics,name="
+				+ ObjectName.quote(name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, mbeanName);
+			objectName = mbeanName;
+			return objectName;
+		} catch ( Exception e ) {
+			throw new TestLinkAPIException("Unable to register the statistics MBean " + name, e);
+		}
+	}
+	
+	/**
+	 * Remove the statistics from the platform MBean server.
+	 */
+	public synchronized void unregisterMBean()
+	{
+		if ( objectName == null ) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if ( server.isRegistered(objectName) ) {
+				server.unregisterMBean(objectName);
+			}
+		} catch ( Exception e ) {
+			// Nothing left to clean up
+		}
+		objectName = null;
+	}
+	
+	public String[] getMethods()
+	{
+		return (String[]) getSnapshot().keySet().toArray(new String[0]);
+	}
+	
+	public long getCallCount()
+	{
+		long total = 0;
+		Iterator counters = methods.values().iterator();
+		while ( counters.hasNext() ) {
+			total += ((Counters) counters.next()).calls.get();
+		}
+		return total;
+	}
+	
+	public long getErrorCount()
+	{
+		long total = 0;
+		Iterator counters = methods.values().iterator();
+		while ( counters.hasNext() ) {
+			total += ((Counters) counters.next()).errors.get();
+		}
+		return total;
+	}
+	
+	public long getCacheHitCount()
+	{
+		long total = 0;
+		Iterator counters = methods.values().iterator();
+		while ( counters.hasNext() ) {
+			total += ((Counters) counters.next()).hits.get();
+		}
+		return total;
+	}
+	
+	public long getCacheMissCount()
+	{
+		long total = 0;
+		Iterator counters = methods.values().iterator();
+		while ( counters.hasNext() ) {
+			total += ((Counters) counters.next()).misses.get();
+		}
+		return total;
+	}
+	
+	public long getBytesSent()
+	{
+		long total = 0;
+		Iterator counters = methods.values().iterator();
+		while ( counters.hasNext() ) {
+			total += ((Counters) counters.next()).bytesSent.get();
+		}
+		return total;
+	}
+	
+	public long getBytesReceived()
+	{
+		long total = 0;
+		Iterator counters = methods.values().iterator();
+		while ( counters.hasNext() ) {
+			total += ((Counters) counters.next()).bytesReceived.get();
+		}
+		return total;
+	}
+	
+	public long getMethodCallCount(
+		String method)
+	{
+		return getSnapshot(method).getCallCount();
+	}
+	
+	public long getMethodLatency(
+		String method,
+		double percentile)
+	{
+		return getSnapshot(method).getLatency(percentile);
+	}
+	
+	public String getMethodSummary(
+		String method)
+	{
+		return getSnapshot(method).toString();
+	}
+	
+	public void reset()
+	{
+		methods.clear();
+	}
+	
+	/* =========================================== */
+	
+	/* Package Methods used by the client         */
+	
+	/* =========================================== */
+	
+	/**
+	 * Count a call sent to TestLink.
+	 * 
+	 * @param method
+	 * @param nanos		The time the call took
+	 * @param isError	True if the call failed or returned an error
+	 */
+	void recordCall(
+		String method,
+		long nanos,
+		boolean isError)
+	{
+		getCounters(method).recordCall(Math.max(nanos, 0) / 1000, isError);
+	}
+	
+	/**
+	 * Count a cache lookup.
+	 * 
+	 * @param method
+	 * @param isHit
+	 */
+	void recordCacheLookup(
+		String method,
+		boolean isHit)
+	{
+		Counters counters = getCounters(method);
+		if ( isHit ) {
+			counters.hits.incrementAndGet();
+		} else {
+			counters.misses.incrementAndGet();
+		}
+	}
+	
+	/**
+	 * Count the bytes of a request and its response.
+	 * 
+	 * @param method
+	 * @param sent
+	 * @param received
+	 */
+	void recordBytes(
+		String method,
+		long sent,
+		long received)
+	{
+		Counters counters = getCounters(method);
+		counters.bytesSent.addAndGet(sent);
+		counters.bytesReceived.addAndGet(received);
+	}
+	
+	/**
+	 * The latency bucket of a value in microseconds.
+	 * 
+	 * @param micros
+	 * @return
+	 */
+	static int getBucket(
+		long micros)
+	{
+		if ( micros < LINEAR_BUCKETS ) {
+			return (int) Math.max(micros, 0);
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if ( exponent > LAST_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		int subBucket = (int) (micros >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return LINEAR_BUCKETS + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+	}
+	
+	/**
+	 * The highest value in microseconds counted by a bucket.
+	 * 
+	 * @param bucket
+	 * @return
+	 */
+	static long getBucketUpperBound(
+		int bucket)
+	{
+		if ( bucket < LINEAR_BUCKETS ) {
+			return bucket;
+		}
+		int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + FIRST_EXPONENT;
+		int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+	
+	/* =========================================== */
+	
+	/* Private Methods                */
+	
+	/* =========================================== */
+	
+	private Counters getCounters(
+		String method)
+	{
+		Counters counters = (Counters) methods.get(method);
+		if ( counters == null ) {
+			Counters created = new Counters();
+			counters = (Counters) methods.putIfAbsent(method, created);
+			if ( counters == null ) {
+				counters = created;
+			}
+		}
+		return counters;
+	}
+	
+	/*
+	 * The numbers of a method. Each number is updated atomically
+	 * without a lock so recording never blocks a call.
+	 */
+	private static class Counters
+	{
+		AtomicLong calls = new AtomicLong();
+		AtomicLong errors = new AtomicLong();
+		AtomicLong hits = new AtomicLong();
+		AtomicLong misses = new AtomicLong();
+		AtomicLong bytesSent = new AtomicLong();
+		AtomicLong bytesReceived = new AtomicLong();
+		AtomicLong totalLatency = new AtomicLong();
+		AtomicLong maxLatency = new AtomicLong();
+		AtomicLongArray latencyCounts = new AtomicLongArray(BUCKET_COUNT);
+		
+		void recordCall(
+			long micros,
+			boolean isError)
+		{
+			calls.incrementAndGet();
+			if ( isError ) {
+				errors.incrementAndGet();
+			}
+			totalLatency.addAndGet(micros);
+			latencyCounts.incrementAndGet(getBucket(micros));
+			long max = maxLatency.get();
+			while ( micros > max && !maxLatency.compareAndSet(max, micros) ) {
+				max = maxLatency.get();
+			}
+		}
+		
+		TestLinkAPIMethodStatistics snapshot(
+			String method)
+		{
+			long[] counts = new long[BUCKET_COUNT];
+			for ( int i = 0; i < counts.length; i++ ) {
+				counts[i] = latencyCounts.get(i);
+			}
+			return new TestLinkAPIMethodStatistics(method, calls.get(), errors.get(),
+				hits.get(), misses.get(), bytesSent.get(), bytesReceived.get(),
+				totalLatency.get(), maxLatency.get(), counts);
+		}
+	}
+}
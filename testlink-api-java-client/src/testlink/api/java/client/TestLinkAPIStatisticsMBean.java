@@ -0,0 +1,115 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+/**
+ * The JMX management interface of the TestLinkAPIStatistics of a client.
+ * The attributes are totals for all the TestLink API methods and the
+ * operations give the numbers of a single method. Latencies are in
+ * microseconds.
+ */
+public interface TestLinkAPIStatisticsMBean
+{
+	/**
+	 * The TestLink API methods that were called or looked up in the cache.
+	 * 
+	 * @return
+	 */
+	public String[] getMethods();
+	
+	/**
+	 * The number of calls sent to TestLink.
+	 * 
+	 * @return
+	 */
+	public long getCallCount();
+	
+	/**
+	 * The number of calls that failed or returned a TestLink error.
+	 * 
+	 * @return
+	 */
+	public long getErrorCount();
+	
+	/**
+	 * The number of results found in the cache.
+	 * 
+	 * @return
+	 */
+	public long getCacheHitCount();
+	
+	/**
+	 * The number of results that were not in the cache.
+	 * 
+	 * @return
+	 */
+	public long getCacheMissCount();
+	
+	/**
+	 * The number of request bytes sent to TestLink.
+	 * 
+	 * @return
+	 */
+	public long getBytesSent();
+	
+	/**
+	 * The number of response bytes received from TestLink.
+	 * 
+	 * @return
+	 */
+	public long getBytesReceived();
+	
+	/**
+	 * The number of calls of a method sent to TestLink.
+	 * 
+	 * @param method
+	 * @return
+	 */
+	public long getMethodCallCount(
+		String method);
+	
+	/**
+	 * The latency in microseconds that the percentage of the calls of a
+	 * method did not exceed.
+	 * 
+	 * @param method
+	 * @param percentile	A value from 0 to 100
+	 * @return
+	 */
+	public long getMethodLatency(
+		String method,
+		double percentile);
+	
+	/**
+	 * A one line summary of the numbers of a method.
+	 * 
+	 * @param method
+	 * @return
+	 */
+	public String getMethodSummary(
+		String method);
+	
+	/**
+	 * Set all the numbers back to 0.
+	 */
+	public void reset();
+}
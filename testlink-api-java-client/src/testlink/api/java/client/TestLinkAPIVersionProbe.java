@@ -0,0 +1,46 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+/**
+ * A cheap check that tells if results kept in a persistent cache are
+ * still current. The version returned when the results are stored is
+ * kept with them and compared to the version returned when they are
+ * read back. When the versions differ the results are fetched again.
+ * <p>
+ * For example the version of the test cases of a plan could be the
+ * number of test cases in the plan reported by a report query.
+ * 
+ * @see TestLinkAPIDiskCache
+ */
+public interface TestLinkAPIVersionProbe
+{
+	/**
+	 * Get the current version of the results for a key.
+	 * 
+	 * @param key		The method and parameters of the results
+	 * @return The version or null if the results are not versioned
+	 * @throws TestLinkAPIException
+	 */
+	public String getVersion(
+		TestLinkAPICacheKey key) throws TestLinkAPIException;
+}
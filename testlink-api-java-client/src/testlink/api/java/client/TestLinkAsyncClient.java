@@ -0,0 +1,854 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Hashtable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Asynchronous mirror of the TestLinkAPIClient methods. Each method
+ * submits the call to an executor and returns a Future for the
+ * results so independent calls, like fetching the builds of many
+ * plans, can be made at the same time.
+ * <p>
+ * Every TestLinkAPIClient method that calls the TestLink API has a
+ * method here with the same parameters. The create methods return a
+ * Future for the created identifier and a Future for the number of
+ * handled rows is returned when the plan test cases are streamed to
+ * a row handler. Methods that only configure the client, like the
+ * cache and statistics settings, are used on getClient().
+ * <p>
+ * The number of calls that are sent to the server at the same time
+ * is bounded by the in-flight limit. By default the limit is the
+ * maximum connections setting of the client and the calls run on a
+ * pool of daemon threads of the same size. Any executor can be
+ * provided instead, for example one that starts a new thread per task.
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkAsyncClient async = new TestLinkAsyncClient(apiClient);<br>
+ * Future&lt;TestLinkAPIResults&gt; first = async.getBuildsForTestPlan(planID1);<br>
+ * Future&lt;TestLinkAPIResults&gt; second = async.getBuildsForTestPlan(planID2);<br>
+ * TestLinkAPIResults builds = first.get();
+ */
+public class TestLinkAsyncClient
+{
+	private TestLinkAPIClient apiClient;
+	private ExecutorService executor;
+	private boolean isExecutorOwned;
+	private Semaphore inFlight;
+
+	/**
+	 * Create an asynchronous client that runs the calls on its own pool
+	 * of daemon threads bounded by the client's maximum connections.
+	 *
+	 * @param apiClient
+	 */
+	public TestLinkAsyncClient(
+		TestLinkAPIClient apiClient)
+	{
+		this(apiClient, null, apiClient.getMaxConnections());
+	}
+
+	/**
+	 * Create an asynchronous client that runs the calls on the executor
+	 * with at most maxInFlight calls sent to the server at the same time.
+	 * If the executor is null a pool of maxInFlight daemon threads is used.
+	 *
+	 * @param apiClient
+	 * @param executor
+	 * @param maxInFlight
+	 */
+	public TestLinkAsyncClient(
+		TestLinkAPIClient apiClient,
+		ExecutorService executor,
+		int maxInFlight)
+	{
+		if ( maxInFlight < 1 ) {
+			maxInFlight = 1;
+		}
+		this.apiClient = apiClient;
+		this.inFlight = new Semaphore(maxInFlight, true);
+		if ( executor == null ) {
+			this.executor = Executors.newFixedThreadPool(maxInFlight, new DaemonThreadFactory());
+			this.isExecutorOwned = true;
+		} else {
+			this.executor = executor;
+			this.isExecutorOwned = false;
+		}
+	}
+
+	/**
+	 * The synchronous client used to make the calls.
+	 *
+	 * @return
+	 */
+	public TestLinkAPIClient getClient()
+	{
+		return apiClient;
+	}
+
+	/**
+	 * Stop the thread pool if it was created by this instance. Calls
+	 * that were already submitted are completed.
+	 */
+	public void shutdown()
+	{
+		if ( isExecutorOwned ) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * See TestLinkAPIClient.about()
+	 */
+	public Future<TestLinkAPIResults> about()
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.about();
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.ping()
+	 */
+	public Future<TestLinkAPIResults> ping()
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.ping();
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.reportTestCaseResult(String, String, String, String, String, String)
+	 */
+	public Future<TestLinkAPIResults> reportTestCaseResult(
+		final String projectName,
+		final String testPlanName,
+		final String testCaseNameOrVisibleID,
+		final String buildName,
+		final String execNotes,
+		final String testResultStatus)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.reportTestCaseResult(projectName, testPlanName,
+					testCaseNameOrVisibleID, buildName, execNotes, testResultStatus);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.reportTestCaseResult(Integer, Integer, Integer, String, String)
+	 */
+	public Future<TestLinkAPIResults> reportTestCaseResult(
+		final Integer testPlanID,
+		final Integer testCaseID,
+		final Integer buildID,
+		final String execNotes,
+		final String testResultStatus)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.reportTestCaseResult(testPlanID, testCaseID, buildID,
+					execNotes, testResultStatus);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.reportTestCaseResult(Integer, Integer, Integer, Integer, Boolean, String, String)
+	 */
+	public Future<TestLinkAPIResults> reportTestCaseResult(
+		final Integer testPlanID,
+		final Integer testCaseID,
+		final Integer buildID,
+		final Integer bugID,
+		final Boolean guess,
+		final String execNotes,
+		final String testResultStatus)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.reportTestCaseResult(testPlanID, testCaseID, buildID, bugID,
+					guess, execNotes, testResultStatus);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.prepareReport(String, String, String)
+	 */
+	public Future<TestLinkPreparedReport> prepareReport(
+		final String projectName,
+		final String testPlanName,
+		final String buildName)
+	{
+		return submit(new Call<TestLinkPreparedReport>() {
+			TestLinkPreparedReport call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.prepareReport(projectName, testPlanName, buildName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.prepareReport(Integer, Integer, Integer)
+	 */
+	public Future<TestLinkPreparedReport> prepareReport(
+		final Integer projectID,
+		final Integer testPlanID,
+		final Integer buildID)
+	{
+		return submit(new Call<TestLinkPreparedReport>() {
+			TestLinkPreparedReport call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.prepareReport(projectID, testPlanID, buildID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createTestProject(String, String, String)
+	 */
+	public Future<Integer> createTestProject(
+		final String projectName,
+		final String testCasePrefix,
+		final String description)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createTestProject(projectName, testCasePrefix, description);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createTestSuite(String, String, String)
+	 */
+	public Future<Integer> createTestSuite(
+		final String projectName,
+		final String suiteName,
+		final String description)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createTestSuite(projectName, suiteName, description);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createTestSuite(Integer, String, String)
+	 */
+	public Future<Integer> createTestSuite(
+		final Integer projectID,
+		final String suiteName,
+		final String description)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createTestSuite(projectID, suiteName, description);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createTestSuite(Integer, String, String, Integer, Integer, Boolean)
+	 */
+	public Future<Integer> createTestSuite(
+		final Integer projectID,
+		final String suiteName,
+		final String description,
+		final Integer parentID,
+		final Integer order,
+		final Boolean check)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createTestSuite(projectID, suiteName, description, parentID,
+					order, check);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createTestCase(String, String, String, String, String, String, String, String)
+	 */
+	public Future<Integer> createTestCase(
+		final String authorLoginName,
+		final String projectName,
+		final String suiteName,
+		final String testCaseName,
+		final String summary,
+		final String steps,
+		final String expectedResults,
+		final String importance)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createTestCase(authorLoginName, projectName, suiteName,
+					testCaseName, summary, steps, expectedResults, importance);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createTestCase(String, Integer, Integer, String, String, String, String, Integer, Integer, Boolean, String, String, String)
+	 */
+	public Future<Integer> createTestCase(
+		final String authorLoginName,
+		final Integer projectID,
+		final Integer suiteID,
+		final String caseName,
+		final String summary,
+		final String steps,
+		final String expectedResults,
+		final Integer order,
+		final Integer internalID,
+		final Boolean checkDuplicatedName,
+		final String actionOnDuplicatedName,
+		final String executionType,
+		final String importance)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createTestCase(authorLoginName, projectID, suiteID, caseName,
+					summary, steps, expectedResults, order, internalID,
+					checkDuplicatedName, actionOnDuplicatedName, executionType,
+					importance);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createBuild(String, String, String, String)
+	 */
+	public Future<Integer> createBuild(
+		final String projectName,
+		final String planName,
+		final String buildName,
+		final String buildNotes)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createBuild(projectName, planName, buildName, buildNotes);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.createBuild(Integer, String, String)
+	 */
+	public Future<Integer> createBuild(
+		final Integer planID,
+		final String buildName,
+		final String buildNotes)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.createBuild(planID, buildName, buildNotes);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.addTestCaseToTestPlan(String, String, String)
+	 */
+	public Future<TestLinkAPIResults> addTestCaseToTestPlan(
+		final String projectName,
+		final String planName,
+		final String testCaseName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.addTestCaseToTestPlan(projectName, planName, testCaseName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.addTestCaseToTestPlan(String, String, String, Integer, String)
+	 */
+	public Future<TestLinkAPIResults> addTestCaseToTestPlan(
+		final String projectName,
+		final String planName,
+		final String testCaseName,
+		final Integer execOrder,
+		final String urgency)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.addTestCaseToTestPlan(projectName, planName, testCaseName,
+					execOrder, urgency);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.addTestCaseToTestPlan(Integer, Integer, Integer, String, Integer, Integer, String)
+	 */
+	public Future<TestLinkAPIResults> addTestCaseToTestPlan(
+		final Integer projectID,
+		final Integer planID,
+		final Integer testCaseID,
+		final String testCaseVisibleID,
+		final Integer version,
+		final Integer execOrder,
+		final String urgency)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.addTestCaseToTestPlan(projectID, planID, testCaseID,
+					testCaseVisibleID, version, execOrder, urgency);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getProjects()
+	 */
+	public Future<TestLinkAPIResults> getProjects()
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getProjects();
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getProjectTestPlans(String)
+	 */
+	public Future<TestLinkAPIResults> getProjectTestPlans(
+		final String projectName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getProjectTestPlans(projectName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getProjectTestPlans(Integer)
+	 */
+	public Future<TestLinkAPIResults> getProjectTestPlans(
+		final Integer projectID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getProjectTestPlans(projectID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getBuildsForTestPlan(String, String)
+	 */
+	public Future<TestLinkAPIResults> getBuildsForTestPlan(
+		final String projectName,
+		final String planName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getBuildsForTestPlan(projectName, planName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getBuildsForTestPlan(Integer)
+	 */
+	public Future<TestLinkAPIResults> getBuildsForTestPlan(
+		final Integer planID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getBuildsForTestPlan(planID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getLatestBuildForTestPlan(String, String)
+	 */
+	public Future<TestLinkAPIResults> getLatestBuildForTestPlan(
+		final String projectName,
+		final String planName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getLatestBuildForTestPlan(projectName, planName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getLatestBuildForTestPlan(Integer)
+	 */
+	public Future<TestLinkAPIResults> getLatestBuildForTestPlan(
+		final Integer planID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getLatestBuildForTestPlan(planID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getFirstLevelTestSuitesForTestProject(String)
+	 */
+	public Future<TestLinkAPIResults> getFirstLevelTestSuitesForTestProject(
+		final String projectName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getFirstLevelTestSuitesForTestProject(projectName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getFirstLevelTestSuitesForTestProject(Integer)
+	 */
+	public Future<TestLinkAPIResults> getFirstLevelTestSuitesForTestProject(
+		final Integer projectID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getFirstLevelTestSuitesForTestProject(projectID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getTestCaseIDByName(String)
+	 */
+	public Future<TestLinkAPIResults> getTestCaseIDByName(
+		final String testCaseName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getTestCaseIDByName(testCaseName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getTestCaseIDByName(String, String, String)
+	 */
+	public Future<TestLinkAPIResults> getTestCaseIDByName(
+		final String testCaseName,
+		final String testProjectName,
+		final String testSuiteName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getTestCaseIDByName(testCaseName, testProjectName,
+					testSuiteName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getCasesForTestSuite(Integer, Integer)
+	 */
+	public Future<TestLinkAPIResults> getCasesForTestSuite(
+		final Integer testProjectID,
+		final Integer testSuiteID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getCasesForTestSuite(testProjectID, testSuiteID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getTestSuitesForTestPlan(String, String)
+	 */
+	public Future<TestLinkAPIResults> getTestSuitesForTestPlan(
+		final String projectName,
+		final String planName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getTestSuitesForTestPlan(projectName, planName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getTestSuitesForTestPlan(Integer)
+	 */
+	public Future<TestLinkAPIResults> getTestSuitesForTestPlan(
+		final Integer testPlanID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getTestSuitesForTestPlan(testPlanID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getLastExecutionResult(String, String, String)
+	 */
+	public Future<TestLinkAPIResults> getLastExecutionResult(
+		final String projectName,
+		final String testPlanName,
+		final String testCaseNameOrVisibleID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getLastExecutionResult(projectName, testPlanName,
+					testCaseNameOrVisibleID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getLastExecutionResult(Integer, Integer)
+	 */
+	public Future<TestLinkAPIResults> getLastExecutionResult(
+		final Integer testPlanID,
+		final Integer testCaseID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getLastExecutionResult(testPlanID, testCaseID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getCasesForTestPlan(String, String)
+	 */
+	public Future<TestLinkAPIResults> getCasesForTestPlan(
+		final String projectName,
+		final String planName)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getCasesForTestPlan(projectName, planName);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getCasesForTestPlan(Integer)
+	 */
+	public Future<TestLinkAPIResults> getCasesForTestPlan(
+		final Integer testPlanID)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getCasesForTestPlan(testPlanID);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getCasesForTestPlan(Integer, TestLinkAPIRowHandler)
+	 * <p>
+	 * The handler is called on the thread that runs the call.
+	 */
+	public Future<Integer> getCasesForTestPlan(
+		final Integer testPlanID,
+		final TestLinkAPIRowHandler handler)
+	{
+		return submit(new Call<Integer>() {
+			Integer call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getCasesForTestPlan(testPlanID, handler);
+			}
+		});
+	}
+
+	/**
+	 * See TestLinkAPIClient.getCasesForTestPlan(Integer, Integer, Integer, Integer, String, String, String, String)
+	 */
+	public Future<TestLinkAPIResults> getCasesForTestPlan(
+		final Integer testPlanID,
+		final Integer testCaseID,
+		final Integer buildID,
+		final Integer keywordID,
+		final String executed,
+		final String assignedTo,
+		final String execStatus,
+		final String execType)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api) throws TestLinkAPIException
+			{
+				return api.getCasesForTestPlan(testPlanID, testCaseID, buildID, keywordID,
+					executed, assignedTo, execStatus, execType);
+			}
+		});
+	}
+
+	/*
+	 * Make a single call of a batch. A failure of the call is returned
+	 * as an error in the results.
+	 */
+	Future<TestLinkAPIResults> executeBatchCall(
+		final String method,
+		final Hashtable params)
+	{
+		return submit(new Call<TestLinkAPIResults>() {
+			TestLinkAPIResults call(
+				TestLinkAPIClient api)
+			{
+				return api.executeBatchCall(method, params);
+			}
+		});
+	}
+
+	/*
+	 * A call to the synchronous client.
+	 */
+	private abstract static class Call<T>
+	{
+		abstract T call(
+			TestLinkAPIClient api) throws TestLinkAPIException;
+	}
+
+	/*
+	 * Run the call on the executor once an in-flight slot is available.
+	 */
+	private <T> Future<T> submit(
+		final Call<T> call)
+	{
+		return executor.submit(new Callable<T>() {
+			public T call() throws Exception
+			{
+				inFlight.acquire();
+				try {
+					return call.call(apiClient);
+				} finally {
+					inFlight.release();
+				}
+			}
+		});
+	}
+
+	/*
+	 * Threads of the default pool do not keep the JVM alive.
+	 */
+	private static class DaemonThreadFactory implements ThreadFactory
+	{
+		private int count = 0;
+
+		public synchronized Thread newThread(
+			Runnable r)
+		{
+			count++;
+			Thread thread = new Thread(r, "TestLinkAsyncClient-" + count);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * A build returned by tl.getBuildsForTestPlan or tl.getLatestBuildForTestPlan.
+ */
+public class TestLinkBuildRecord extends TestLinkAPIRecord
+{
+	private int planID;
+	private boolean isActive;
+	private boolean isOpen;
+	
+	public TestLinkBuildRecord(
+		Map data)
+	{
+		super(data);
+		Object value = getValue("testplan_id");
+		if ( value == null ) {
+			value = getValue(API_PARAM_TEST_PLAN_ID);
+		}
+		this.planID = toInt(value);
+		this.isActive = getBoolean(API_RESULT_ACTIVE);
+		this.isOpen = getBoolean(API_RESULT_IS_OPEN);
+	}
+	
+	/**
+	 * The plan of the build.
+	 * 
+	 * @return
+	 */
+	public int getPlanID()
+	{
+		return planID;
+	}
+	
+	/**
+	 * The build notes.
+	 * 
+	 * @return
+	 */
+	public String getNotes()
+	{
+		return getString(API_RESULT_NOTES);
+	}
+	
+	/**
+	 * True if the build is active.
+	 * 
+	 * @return
+	 */
+	public boolean isActive()
+	{
+		return isActive;
+	}
+	
+	/**
+	 * True if results can still be reported for the build.
+	 * 
+	 * @return
+	 */
+	public boolean isOpen()
+	{
+		return isOpen;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * A test case returned by tl.getTestCasesForTestSuite,
+ * tl.getTestCasesForTestPlan or tl.getTestCaseIDByName. The
+ * identifier is the internal test case identifier for all of them.
+ */
+public class TestLinkCaseRecord extends TestLinkAPIRecord
+{
+	private int testCaseID;
+	private int externalID;
+	private int versionID;
+	private int parentID;
+	private int execOrder;
+	
+	public TestLinkCaseRecord(
+		Map data)
+	{
+		super(data);
+		
+		// Plan results use tc_id for the case and id for the plan entry
+		Object value = getValue(API_RESULT_TC_INTERNAL_ID);
+		this.testCaseID = (value == null ? super.getID() : toInt(value));
+		value = getValue(API_RESULT_TC_EXTERNAL_ID);
+		if ( value == null ) {
+			value = getValue(API_RESULT_TC_ALT_EXTERNAL_ID);
+		}
+		this.externalID = toInt(value);
+		this.versionID = getInt("tcversion_id");
+		this.parentID = getInt("parent_id");
+		value = getValue(API_RESULT_EXEC_ORDER);
+		if ( value == null ) {
+			value = getValue(API_RESULT_NODE_ORDER);
+		}
+		this.execOrder = toInt(value);
+	}
+	
+	/**
+	 * The internal test case identifier.
+	 * 
+	 * @return
+	 */
+	public int getID()
+	{
+		return testCaseID;
+	}
+	
+	/**
+	 * The number of the visible test case identifier.
+	 * 
+	 * @return
+	 */
+	public int getExternalID()
+	{
+		return externalID;
+	}
+	
+	/**
+	 * The visible test case identifier, for example PRJ-12.
+	 * 
+	 * @param prefix	The prefix of the project
+	 * @return
+	 */
+	public String getVisibleID(
+		String prefix)
+	{
+		return prefix + '-' + externalID;
+	}
+	
+	/**
+	 * The identifier of the test case version.
+	 * 
+	 * @return
+	 */
+	public int getVersionID()
+	{
+		return versionID;
+	}
+	
+	/**
+	 * The suite of the test case.
+	 * 
+	 * @return
+	 */
+	public int getParentID()
+	{
+		return parentID;
+	}
+	
+	/**
+	 * The execution order or the position of the case in its suite.
+	 * 
+	 * @return
+	 */
+	public int getExecOrder()
+	{
+		return execOrder;
+	}
+	
+	/**
+	 * The name of the suite of the test case when it is returned.
+	 * 
+	 * @return
+	 */
+	public String getSuiteName()
+	{
+		return getString(API_RESULT_TC_SUITE);
+	}
+	
+	/**
+	 * The test case summary.
+	 * 
+	 * @return
+	 */
+	public String getSummary()
+	{
+		return getString(API_RESULT_SUMMARY);
+	}
+	
+	/**
+	 * The execution type of the test case.
+	 * 
+	 * @return
+	 */
+	public int getExecType()
+	{
+		return getInt(API_RESULT_EXEC_TYPE);
+	}
+	
+	/**
+	 * True unless the test case is returned as inactive.
+	 * 
+	 * @return
+	 */
+	public boolean isActive()
+	{
+		return getValue(API_RESULT_ACTIVE) == null || getInt(API_RESULT_ACTIVE) > 0;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.ref.SoftReference;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+
+/**
+ * Holds a large text, like the steps of a test case, compressed until
+ * it is read. The text is decompressed on first access and the result
+ * is kept as long as memory allows. Short texts are kept as they are.
+ * <p>
+ * Instances are immutable so copies of a test case can share them.
+ */
+final class TestLinkCompactText
+{
+	// Texts shorter than this are not worth compressing
+	private static final int MIN_COMPRESS_LENGTH = 256;
+	private static final String ENCODING = "UTF-8";
+	
+	private String text;
+	private byte[] compressed;
+	private int length;
+	private volatile SoftReference decoded = null;
+	
+	private TestLinkCompactText(
+		String text)
+	{
+		this.text = text;
+	}
+	
+	private TestLinkCompactText(
+		byte[] compressed,
+		int length)
+	{
+		this.compressed = compressed;
+		this.length = length;
+	}
+	
+	/**
+	 * Store the text compressed if that uses less memory.
+	 * 
+	 * @param text
+	 * @return The compact text or null if the text is null
+	 */
+	static TestLinkCompactText valueOf(
+		String text)
+	{
+		if ( text == null ) {
+			return null;
+		}
+		if ( text.length() < MIN_COMPRESS_LENGTH ) {
+			return new TestLinkCompactText(text);
+		}
+		try {
+			byte[] bytes = text.getBytes(ENCODING);
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			try {
+				deflater.setInput(bytes);
+				deflater.finish();
+				ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+				byte[] buffer = new byte[4096];
+				while ( !deflater.finished() ) {
+					int count = deflater.deflate(buffer);
+					out.write(buffer, 0, count);
+				}
+				
+				// A Java string uses two bytes per character
+				if ( out.size() >= text.length() * 2 ) {
+					return new TestLinkCompactText(text);
+				}
+				return new TestLinkCompactText(out.toByteArray(), bytes.length);
+			} finally {
+				deflater.end();
+			}
+		} catch ( UnsupportedEncodingException e ) {
+			return new TestLinkCompactText(text);
+		}
+	}
+	
+	/**
+	 * The text.
+	 * 
+	 * @return
+	 */
+	public String toString()
+	{
+		if ( text != null ) {
+			return text;
+		}
+		SoftReference reference = decoded;
+		String value = (reference == null) ? null : (String) reference.get();
+		if ( value == null ) {
+			value = decompress();
+			decoded = new SoftReference(value);
+		}
+		return value;
+	}
+	
+	/*
+	 * Decompress the text.
+	 */
+	private String decompress()
+	{
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] bytes = new byte[length];
+			int offset = 0;
+			while ( offset < length && !inflater.finished() ) {
+				offset += inflater.inflate(bytes, offset, length - offset);
+			}
+			return new String(bytes, 0, offset, ENCODING);
+		} catch ( DataFormatException e ) {
+			throw new IllegalStateException("The compressed text is not valid.");
+		} catch ( UnsupportedEncodingException e ) {
+			throw new IllegalStateException("The text encoding is not supported.");
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * An execution returned by tl.getLastExecutionResult.
+ */
+public class TestLinkExecutionRecord extends TestLinkAPIRecord
+{
+	private int testCaseID;
+	private int planID;
+	private int buildID;
+	private int versionID;
+	private String status;
+	
+	public TestLinkExecutionRecord(
+		Map data)
+	{
+		super(data);
+		this.testCaseID = getInt(API_RESULT_TC_INTERNAL_ID);
+		this.planID = getInt("testplan_id");
+		this.buildID = getInt("build_id");
+		this.versionID = getInt("tcversion_id");
+		this.status = getString(API_PARAM_STATUS);
+	}
+	
+	/**
+	 * The executed test case.
+	 * 
+	 * @return
+	 */
+	public int getTestCaseID()
+	{
+		return testCaseID;
+	}
+	
+	/**
+	 * The plan the result was reported to.
+	 * 
+	 * @return
+	 */
+	public int getPlanID()
+	{
+		return planID;
+	}
+	
+	/**
+	 * The build the result was reported to.
+	 * 
+	 * @return
+	 */
+	public int getBuildID()
+	{
+		return buildID;
+	}
+	
+	/**
+	 * The executed version of the test case.
+	 * 
+	 * @return
+	 */
+	public int getVersionID()
+	{
+		return versionID;
+	}
+	
+	/**
+	 * The result status, for example TestLinkAPIConst.TEST_PASSED.
+	 * 
+	 * @return
+	 */
+	public String getStatus()
+	{
+		return status;
+	}
+	
+	/**
+	 * The execution notes.
+	 * 
+	 * @return
+	 */
+	public String getNotes()
+	{
+		return getString(API_RESULT_NOTES);
+	}
+}
@@ -0,0 +1,877 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A TestLink API that runs inside the JVM. The projects, plans, builds,
+ * test suites, test cases and executions are kept in memory and the
+ * results have the same form as the ones returned by a TestLink 1.8
+ * server, including the errors reported as a message and code.
+ * <p>
+ * The transport makes it possible to exercise a TestLinkAPIClient and
+ * everything built on top of it, and to measure the cost on the client
+ * side, without a TestLink installation. Every request is counted by
+ * method name.
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();<br>
+ * TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, false);<br>
+ * Integer projectID = api.createTestProject("Project", "PRJ", "Notes");<br>
+ * Integer planID = server.createTestPlan(projectID, "Plan", "Notes");
+ */
+public class TestLinkInMemoryTransport implements TestLinkTransport, TestLinkAPIConst
+{
+	public static final String SERVER_URL = "memory:testlink";
+	
+	/* Error codes used by TestLink 1.8 */
+	private static final int ERROR_INVALID_PROJECT = 7000;
+	private static final int ERROR_DUPLICATE_NAME = 7001;
+	private static final int ERROR_INVALID_PLAN = 3000;
+	private static final int ERROR_INVALID_BUILD = 4000;
+	private static final int ERROR_NO_BUILD = 4001;
+	private static final int ERROR_INVALID_SUITE = 8000;
+	private static final int ERROR_INVALID_CASE = 5000;
+	private static final int ERROR_CASE_NOT_FOUND = 5030;
+	private static final int ERROR_CASE_NOT_IN_PLAN = 3030;
+	private static final int ERROR_INVALID_STATUS = 6000;
+	private static final int ERROR_MISSING_PARAM = 200;
+	
+	private static final String SUCCESS = "Success!";
+	
+	/* The data model. Every node shares one sequence like in TestLink. */
+	private int nodeSequence = 0;
+	private int buildSequence = 0;
+	private int executionSequence = 0;
+	private Map projects = new LinkedHashMap();
+	private Map plans = new LinkedHashMap();
+	private Map suites = new LinkedHashMap();
+	private Map cases = new LinkedHashMap();
+	private Map builds = new LinkedHashMap();
+	private Map planCases = new HashMap();
+	private List executions = new ArrayList();
+	
+	private Map callCounts = new HashMap();
+	
+	/**
+	 * @see TestLinkTransport#getServerURL()
+	 */
+	public String getServerURL()
+	{
+		return SERVER_URL;
+	}
+	
+	/**
+	 * @see TestLinkTransport#execute(String, Object[])
+	 */
+	public synchronized Object execute(
+		String method,
+		Object[] params) throws TestLinkTransportException
+	{
+		count(method);
+		if ( API_METHOD_MULTICALL.equals(method) ) {
+			return multicall((Object[]) params[0]);
+		}
+		Map args = new HashMap();
+		if ( params != null && params.length > 0 && params[0] instanceof Map ) {
+			args = (Map) params[0];
+		}
+		return call(method, args);
+	}
+	
+	/**
+	 * Create a test plan. The TestLink 1.8 API has no method for this
+	 * so the plans are set up here.
+	 * 
+	 * @param projectID
+	 * @param planName
+	 * @param notes
+	 * @return The identifier of the plan
+	 * @throws TestLinkAPIException
+	 */
+	public synchronized Integer createTestPlan(
+		Integer projectID,
+		String planName,
+		String notes) throws TestLinkAPIException
+	{
+		Hashtable args = new Hashtable();
+		args.put(API_PARAM_TEST_PROJECT_ID, projectID);
+		args.put("testplanname", planName);
+		args.put(API_PARAM_NOTES, notes);
+		Object result = createTestPlan(args);
+		Map data = (Map) ((Object[]) result)[0];
+		if ( data.get(API_RESULT_CODE) != null ) {
+			throw new TestLinkAPIException(data.get(API_RESULT_MESSAGE).toString());
+		}
+		return new Integer(data.get(API_RESULT_IDENTIFIER).toString());
+	}
+	
+	/**
+	 * Number of requests made for a method. A system.multicall request
+	 * is counted once under its own name.
+	 * 
+	 * @param method
+	 * @return
+	 */
+	public synchronized int getCallCount(
+		String method)
+	{
+		Integer count = (Integer) callCounts.get(method);
+		return (count == null) ? 0 : count.intValue();
+	}
+	
+	/**
+	 * Number of requests made for all methods.
+	 * 
+	 * @return
+	 */
+	public synchronized int getCallCount()
+	{
+		int total = 0;
+		Iterator counts = callCounts.values().iterator();
+		while ( counts.hasNext() ) {
+			total += ((Integer) counts.next()).intValue();
+		}
+		return total;
+	}
+	
+	/**
+	 * Forget the requests made so far.
+	 */
+	public synchronized void resetCallCount()
+	{
+		callCounts.clear();
+	}
+	
+	/* =========================================== */
+	
+	/* Private Methods                */
+	
+	/* =========================================== */
+	
+	private void count(
+		String method)
+	{
+		callCounts.put(method, new Integer(getCallCount(method) + 1));
+	}
+	
+	/*
+	 * Run one API method. Unknown methods are reported as a fault.
+	 */
+	private Object call(
+		String method,
+		Map args) throws TestLinkTransportException
+	{
+		if ( API_METHOD_ABOUT.equals(method) ) {
+			return "Testlink API Version: 1.0 (in-memory)";
+		} else if ( API_METHOD_PING.equals(method) ) {
+			return "Hello!";
+		} else if ( API_METHOD_CREATE_PROJECT.equals(method) ) {
+			return createTestProject(args);
+		} else if ( API_METHOD_CREATE_TEST_PLAN.equals(method) ) {
+			return createTestPlan(args);
+		} else if ( API_METHOD_CREATE_SUITE.equals(method) ) {
+			return createTestSuite(args);
+		} else if ( API_METHOD_CREATE_TEST_CASE.equals(method) ) {
+			return createTestCase(args);
+		} else if ( API_METHOD_CREATE_BUILD.equals(method) ) {
+			return createBuild(args);
+		} else if ( API_METHOD_ADD_TEST_CASE_TO_PLAN.equals(method) ) {
+			return addTestCaseToTestPlan(args);
+		} else if ( API_METHOD_REPORT_TEST_RESULT.equals(method) ) {
+			return reportTCResult(args);
+		} else if ( API_METHOD_GET_PROJECTS.equals(method) ) {
+			return copyRows(projects.values());
+		} else if ( API_METHOD_GET_PROJECT_TEST_PLANS.equals(method) ) {
+			return getProjectTestPlans(args);
+		} else if ( API_METHOD_GET_BUILDS_FOR_PLAN.equals(method) ) {
+			return getBuildsForTestPlan(args);
+		} else if ( API_METHOD_GET_LATEST_BUILD_FOR_PLAN.equals(method) ) {
+			return getLatestBuildForTestPlan(args);
+		} else if ( API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT.equals(method) ) {
+			return getFirstLevelTestSuitesForTestProject(args);
+		} else if ( API_METHOD_GET_SUITES_FOR_PLAN.equals(method) ) {
+			return getTestSuitesForTestPlan(args);
+		} else if ( API_METHOD_GET_TEST_CASES_FOR_SUITE.equals(method) ) {
+			return getTestCasesForTestSuite(args);
+		} else if ( API_METHOD_GET_TEST_CASE_IDS_BY_NAME.equals(method) ) {
+			return getTestCaseIDByName(args);
+		} else if ( API_METHOD_GET_TEST_CASES_FOR_PLAN.equals(method) ) {
+			return getTestCasesForTestPlan(args);
+		} else if ( API_METHOD_LAST_EXECUTION_RESULT.equals(method) ) {
+			return getLastExecutionResult(args);
+		}
+		throw new TestLinkTransportException(API_FAULT_METHOD_NOT_FOUND, "server error. requested method "
+			+ method + " does not exist.");
+	}
+	
+	/*
+	 * Each call of a multicall returns a one element array with its
+	 * result or a fault struct.
+	 */
+	private Object[] multicall(
+		Object[] calls)
+	{
+		Object[] results = new Object[calls.length];
+		for ( int i = 0; i < calls.length; i++ ) {
+			Map call = (Map) calls[i];
+			String method = (String) call.get(API_MULTICALL_METHOD_NAME);
+			Object[] params = (Object[]) call.get(API_MULTICALL_PARAMS);
+			Map args = new HashMap();
+			if ( params != null && params.length > 0 && params[0] instanceof Map ) {
+				args = (Map) params[0];
+			}
+			try {
+				results[i] = new Object[] { call(method, args) };
+			} catch ( TestLinkTransportException e ) {
+				HashMap fault = new HashMap();
+				fault.put(API_FAULT_CODE, new Integer(e.getCode()));
+				fault.put(API_FAULT_STRING, e.getMessage());
+				results[i] = fault;
+			}
+		}
+		return results;
+	}
+	
+	private Object createTestProject(
+		Map args)
+	{
+		String name = getString(args, API_PARAM_TEST_PROJECT_NAME);
+		String prefix = getString(args, API_PARAM_TEST_CASE_PREFIX);
+		if ( name == null || prefix == null ) {
+			return missing(API_PARAM_TEST_PROJECT_NAME + ", " + API_PARAM_TEST_CASE_PREFIX);
+		}
+		Iterator rows = projects.values().iterator();
+		while ( rows.hasNext() ) {
+			Map project = (Map) rows.next();
+			if ( name.equals(project.get(API_RESULT_NAME))
+				|| prefix.equals(project.get(API_RESULT_PREFIX)) ) {
+				return error(ERROR_DUPLICATE_NAME, "(createTestProject) - The test project "
+					+ name + " or prefix " + prefix + " is already in use.");
+			}
+		}
+		String id = nextNode();
+		HashMap project = new HashMap();
+		project.put(API_RESULT_IDENTIFIER, id);
+		project.put(API_RESULT_NAME, name);
+		project.put(API_RESULT_PREFIX, prefix);
+		project.put(API_RESULT_NOTES, getString(args, API_PARAM_NOTES));
+		project.put(API_RESULT_ACTIVE, "1");
+		project.put(API_RESULT_AUTO_OPTION, "1");
+		project.put(API_RESULT_PRIORITY, "1");
+		project.put(API_RESULT_REQUIREMENTS, "0");
+		project.put("tc_counter", "0");
+		projects.put(id, project);
+		return created(id, "createTestProject");
+	}
+	
+	private Object createTestPlan(
+		Map args)
+	{
+		Map project = (Map) projects.get(getString(args, API_PARAM_TEST_PROJECT_ID));
+		if ( project == null ) {
+			return invalidProject(args, "createTestPlan");
+		}
+		String name = getString(args, "testplanname");
+		if ( findByName(plans.values(), API_PARAM_TEST_PROJECT_ID,
+			project.get(API_RESULT_IDENTIFIER), name) != null ) {
+			return error(ERROR_DUPLICATE_NAME, "(createTestPlan) - The test plan " + name
+				+ " already exists.");
+		}
+		String id = nextNode();
+		HashMap plan = new HashMap();
+		plan.put(API_RESULT_IDENTIFIER, id);
+		plan.put(API_RESULT_NAME, name);
+		plan.put(API_RESULT_NOTES, getString(args, API_PARAM_NOTES));
+		plan.put(API_RESULT_ACTIVE, "1");
+		plan.put(API_PARAM_TEST_PROJECT_ID, project.get(API_RESULT_IDENTIFIER));
+		plans.put(id, plan);
+		planCases.put(id, new LinkedHashMap());
+		return created(id, "createTestPlan");
+	}
+	
+	private Object createTestSuite(
+		Map args)
+	{
+		Map project = (Map) projects.get(getString(args, API_PARAM_TEST_PROJECT_ID));
+		if ( project == null ) {
+			return invalidProject(args, "createTestSuite");
+		}
+		String name = getString(args, API_PARAM_TEST_SUITE_NAME);
+		if ( name == null ) {
+			return missing(API_PARAM_TEST_SUITE_NAME);
+		}
+		Object parentID = project.get(API_RESULT_IDENTIFIER);
+		String parent = getString(args, API_PARAM_PARENT_ID);
+		if ( parent != null ) {
+			if ( !suites.containsKey(parent) ) {
+				return error(ERROR_INVALID_SUITE, "(createTestSuite) - The parent test suite ("
+					+ parent + ") does not exist.");
+			}
+			parentID = parent;
+		}
+		if ( findByName(suites.values(), "parent_id", parentID, name) != null ) {
+			return error(ERROR_DUPLICATE_NAME, "(createTestSuite) - The test suite " + name
+				+ " already exists.");
+		}
+		String id = nextNode();
+		HashMap suite = new HashMap();
+		suite.put(API_RESULT_IDENTIFIER, id);
+		suite.put(API_RESULT_NAME, name);
+		suite.put("parent_id", parentID);
+		suite.put("node_type_id", "2");
+		suite.put(API_RESULT_NODE_ORDER, orderOf(args, suites.size()));
+		suite.put(API_PARAM_DETAILS, getString(args, API_PARAM_DETAILS));
+		suite.put(API_PARAM_TEST_PROJECT_ID, project.get(API_RESULT_IDENTIFIER));
+		suites.put(id, suite);
+		return created(id, "createTestSuite");
+	}
+	
+	private Object createTestCase(
+		Map args)
+	{
+		Map project = (Map) projects.get(getString(args, API_PARAM_TEST_PROJECT_ID));
+		if ( project == null ) {
+			return invalidProject(args, "createTestCase");
+		}
+		Map suite = (Map) suites.get(getString(args, API_PARAM_TEST_SUITE_ID));
+		if ( suite == null ) {
+			return error(ERROR_INVALID_SUITE, "(createTestCase) - The test suite ("
+				+ getString(args, API_PARAM_TEST_SUITE_ID) + ") does not exist.");
+		}
+		String name = getString(args, API_PARAM_TEST_CASE_NAME);
+		if ( name == null ) {
+			return missing(API_PARAM_TEST_CASE_NAME);
+		}
+		int externalID = Integer.parseInt(project.get("tc_counter").toString()) + 1;
+		project.put("tc_counter", String.valueOf(externalID));
+		String id = nextNode();
+		HashMap testCase = new HashMap();
+		testCase.put(API_RESULT_IDENTIFIER, id);
+		testCase.put(API_RESULT_NAME, name);
+		testCase.put("parent_id", suite.get(API_RESULT_IDENTIFIER));
+		testCase.put("node_type_id", "3");
+		testCase.put(API_RESULT_NODE_ORDER, orderOf(args, cases.size()));
+		testCase.put("tcversion_id", nextNode());
+		testCase.put(API_RESULT_VERSION, "1");
+		testCase.put(API_RESULT_TC_EXTERNAL_ID, String.valueOf(externalID));
+		testCase.put(API_RESULT_SUMMARY, getString(args, API_PARAM_SUMMARY));
+		testCase.put(API_RESULT_STEPS, getString(args, API_PARAM_STEPS));
+		testCase.put(API_RESULT_EXPECTED_RESULTS, getString(args, API_PARAM_EXPECTED_RESULTS));
+		testCase.put(API_RESULT_IMPORTANCE, valueOf(getString(args, API_PARAM_IMPORTANCE),
+			MEDIUM));
+		testCase.put(API_RESULT_EXEC_TYPE, valueOf(getString(args, API_PARAM_EXEC_TYPE),
+			TESTCASE_EXECUTION_TYPE_MANUAL));
+		testCase.put(API_RESULT_ACTIVE, "1");
+		testCase.put(API_PARAM_TEST_PROJECT_ID, project.get(API_RESULT_IDENTIFIER));
+		cases.put(id, testCase);
+		Object[] result = created(id, "createTestCase");
+		((Map) result[0]).put(API_RESULT_TC_ALT_EXTERNAL_ID, String.valueOf(externalID));
+		return result;
+	}
+	
+	private Object createBuild(
+		Map args)
+	{
+		Map plan = (Map) plans.get(getString(args, API_PARAM_TEST_PLAN_ID));
+		if ( plan == null ) {
+			return invalidPlan(args, "createBuild");
+		}
+		String name = getString(args, API_PARAM_BUILD_NAME);
+		if ( findByName(builds.values(), API_PARAM_TEST_PLAN_ID, plan.get(API_RESULT_IDENTIFIER),
+			name) != null ) {
+			return error(ERROR_DUPLICATE_NAME, "(createBuild) - The build " + name
+				+ " already exists.");
+		}
+		buildSequence++;
+		String id = String.valueOf(buildSequence);
+		HashMap build = new HashMap();
+		build.put(API_RESULT_IDENTIFIER, id);
+		build.put(API_RESULT_NAME, name);
+		build.put(API_RESULT_NOTES, getString(args, API_PARAM_BUILD_NOTES));
+		build.put(API_RESULT_ACTIVE, "1");
+		build.put(API_RESULT_IS_OPEN, "1");
+		build.put(API_PARAM_TEST_PLAN_ID, plan.get(API_RESULT_IDENTIFIER));
+		builds.put(id, build);
+		return created(id, "createBuild");
+	}
+	
+	private Object addTestCaseToTestPlan(
+		Map args)
+	{
+		Map plan = (Map) plans.get(getString(args, API_PARAM_TEST_PLAN_ID));
+		if ( plan == null ) {
+			return invalidPlan(args, "addTestCaseToTestPlan");
+		}
+		Map project = (Map) projects.get(plan.get(API_PARAM_TEST_PROJECT_ID));
+		Map testCase = findCaseByVisibleID(project,
+			getString(args, API_PARAM_TEST_CASE_ID_EXTERNAL));
+		if ( testCase == null ) {
+			return error(ERROR_INVALID_CASE, "(addTestCaseToTestPlan) - The test case "
+				+ getString(args, API_PARAM_TEST_CASE_ID_EXTERNAL) + " does not exist.");
+		}
+		Map planEntries = (Map) planCases.get(plan.get(API_RESULT_IDENTIFIER));
+		HashMap entry = new HashMap();
+		entry.put("feature_id", nextNode());
+		entry.put(API_RESULT_EXEC_ORDER, valueOf(getString(args, API_PARAM_EXEC_ORDER),
+			String.valueOf(planEntries.size() + 1)));
+		entry.put(API_PARAM_URGENCY, valueOf(getString(args, API_PARAM_URGENCY), MEDIUM));
+		planEntries.put(testCase.get(API_RESULT_IDENTIFIER), entry);
+		
+		HashMap result = new HashMap();
+		result.put("feature_id", entry.get("feature_id"));
+		result.put("operation", "addTestCaseToTestPlan");
+		result.put(API_PARAM_STATUS, Boolean.TRUE);
+		result.put(API_RESULT_MESSAGE, SUCCESS);
+		return result;
+	}
+	
+	private Object reportTCResult(
+		Map args)
+	{
+		String planID = getString(args, API_PARAM_TEST_PLAN_ID);
+		if ( !plans.containsKey(planID) ) {
+			return invalidPlan(args, "reportTCResult");
+		}
+		String caseID = getString(args, API_PARAM_TEST_CASE_ID);
+		Map testCase = (Map) cases.get(caseID);
+		if ( testCase == null ) {
+			return error(ERROR_INVALID_CASE, "(reportTCResult) - The test case (" + caseID
+				+ ") does not exist.");
+		}
+		if ( !((Map) planCases.get(planID)).containsKey(caseID) ) {
+			return error(ERROR_CASE_NOT_IN_PLAN, "(reportTCResult) - The test case (" + caseID
+				+ ") is not part of test plan (" + planID + ").");
+		}
+		String status = getString(args, API_PARAM_STATUS);
+		if ( !TEST_PASSED.equals(status) && !TEST_FAILED.equals(status)
+			&& !TEST_BLOCKED.equals(status) ) {
+			return error(ERROR_INVALID_STATUS, "(reportTCResult) - The status (" + status
+				+ ") is not valid.");
+		}
+		String buildID = getString(args, API_PARAM_BUILD_ID);
+		if ( buildID == null && "true".equalsIgnoreCase(getString(args, API_PARAM_GUESS)) ) {
+			Map build = getLatestBuild(planID);
+			if ( build != null ) {
+				buildID = (String) build.get(API_RESULT_IDENTIFIER);
+			}
+		}
+		if ( buildID == null ) {
+			return error(ERROR_NO_BUILD, "(reportTCResult) - The test plan (" + planID
+				+ ") has no build to report the result against.");
+		}
+		Map build = (Map) builds.get(buildID);
+		if ( build == null || !planID.equals(build.get(API_PARAM_TEST_PLAN_ID)) ) {
+			return error(ERROR_INVALID_BUILD, "(reportTCResult) - The build (" + buildID
+				+ ") does not exist in test plan (" + planID + ").");
+		}
+		executionSequence++;
+		String id = String.valueOf(executionSequence);
+		HashMap execution = new HashMap();
+		execution.put(API_RESULT_IDENTIFIER, id);
+		execution.put("build_id", buildID);
+		execution.put("testplan_id", planID);
+		execution.put("tcversion_id", testCase.get("tcversion_id"));
+		execution.put("tc_id", caseID);
+		execution.put(API_PARAM_STATUS, status);
+		execution.put(API_RESULT_NOTES, getString(args, API_PARAM_NOTES));
+		execution.put("execution_type", TESTCASE_EXECUTION_TYPE_AUTO);
+		executions.add(execution);
+		
+		HashMap result = new HashMap();
+		result.put(API_RESULT_IDENTIFIER, id);
+		result.put("operation", "reportTCResult");
+		result.put(API_PARAM_STATUS, Boolean.TRUE);
+		result.put(API_RESULT_MESSAGE, SUCCESS);
+		return new Object[] { result };
+	}
+	
+	private Object getProjectTestPlans(
+		Map args)
+	{
+		String projectID = getString(args, API_PARAM_TEST_PROJECT_ID);
+		if ( !projects.containsKey(projectID) ) {
+			return invalidProject(args, "getProjectTestPlans");
+		}
+		return copyRows(select(plans.values(), API_PARAM_TEST_PROJECT_ID, projectID));
+	}
+	
+	private Object getBuildsForTestPlan(
+		Map args)
+	{
+		String planID = getString(args, API_PARAM_TEST_PLAN_ID);
+		if ( !plans.containsKey(planID) ) {
+			return invalidPlan(args, "getBuildsForTestPlan");
+		}
+		return copyRows(select(builds.values(), API_PARAM_TEST_PLAN_ID, planID));
+	}
+	
+	private Object getLatestBuildForTestPlan(
+		Map args)
+	{
+		String planID = getString(args, API_PARAM_TEST_PLAN_ID);
+		if ( !plans.containsKey(planID) ) {
+			return invalidPlan(args, "getLatestBuildForTestPlan");
+		}
+		Map build = getLatestBuild(planID);
+		if ( build == null ) {
+			return error(ERROR_NO_BUILD, "(getLatestBuildForTestPlan) - The test plan ("
+				+ planID + ") has no builds.");
+		}
+		return new HashMap(build);
+	}
+	
+	private Object getFirstLevelTestSuitesForTestProject(
+		Map args)
+	{
+		String projectID = getString(args, API_PARAM_TEST_PROJECT_ID);
+		if ( !projects.containsKey(projectID) ) {
+			return invalidProject(args, "getFirstLevelTestSuitesForTestProject");
+		}
+		return copyRows(select(suites.values(), "parent_id", projectID));
+	}
+	
+	private Object getTestSuitesForTestPlan(
+		Map args)
+	{
+		String planID = getString(args, API_PARAM_TEST_PLAN_ID);
+		if ( !plans.containsKey(planID) ) {
+			return invalidPlan(args, "getTestSuitesForTestPlan");
+		}
+		Map planSuites = new LinkedHashMap();
+		Iterator caseIDs = ((Map) planCases.get(planID)).keySet().iterator();
+		while ( caseIDs.hasNext() ) {
+			Map testCase = (Map) cases.get(caseIDs.next());
+			Object suiteID = testCase.get("parent_id");
+			planSuites.put(suiteID, suites.get(suiteID));
+		}
+		return copyRows(planSuites.values());
+	}
+	
+	private Object getTestCasesForTestSuite(
+		Map args)
+	{
+		String suiteID = getString(args, API_PARAM_TEST_SUITE_ID);
+		if ( !suites.containsKey(suiteID) ) {
+			return error(ERROR_INVALID_SUITE, "(getTestCasesForTestSuite) - The test suite ("
+				+ suiteID + ") does not exist.");
+		}
+		boolean deep = !"false".equalsIgnoreCase(getString(args, API_PARAM_DEPTH_FLAG));
+		ArrayList rows = new ArrayList();
+		addSuiteCases(rows, suiteID, deep);
+		return copyRows(rows);
+	}
+	
+	private void addSuiteCases(
+		List rows,
+		Object suiteID,
+		boolean deep)
+	{
+		rows.addAll(select(cases.values(), "parent_id", suiteID));
+		if ( deep ) {
+			List children = select(suites.values(), "parent_id", suiteID);
+			for ( int i = 0; i < children.size(); i++ ) {
+				addSuiteCases(rows, ((Map) children.get(i)).get(API_RESULT_IDENTIFIER), deep);
+			}
+		}
+	}
+	
+	private Object getTestCaseIDByName(
+		Map args)
+	{
+		String name = getString(args, API_PARAM_TEST_CASE_NAME);
+		String projectName = getString(args, API_PARAM_TEST_PROJECT_NAME);
+		String suiteName = getString(args, API_PARAM_TEST_SUITE_NAME);
+		ArrayList rows = new ArrayList();
+		Iterator all = cases.values().iterator();
+		while ( all.hasNext() ) {
+			Map testCase = (Map) all.next();
+			if ( !testCase.get(API_RESULT_NAME).equals(name) ) {
+				continue;
+			}
+			Map suite = (Map) suites.get(testCase.get("parent_id"));
+			Map project = (Map) projects.get(testCase.get(API_PARAM_TEST_PROJECT_ID));
+			if ( projectName != null && !projectName.equals(project.get(API_RESULT_NAME)) ) {
+				continue;
+			}
+			if ( suiteName != null && !suiteName.equals(suite.get(API_RESULT_NAME)) ) {
+				continue;
+			}
+			HashMap row = new HashMap();
+			row.put(API_RESULT_IDENTIFIER, testCase.get(API_RESULT_IDENTIFIER));
+			row.put(API_RESULT_NAME, name);
+			row.put("parent_id", suite.get(API_RESULT_IDENTIFIER));
+			row.put(API_RESULT_TC_SUITE, suite.get(API_RESULT_NAME));
+			row.put(API_RESULT_TC_EXTERNAL_ID, testCase.get(API_RESULT_TC_EXTERNAL_ID));
+			rows.add(row);
+		}
+		if ( rows.isEmpty() ) {
+			return error(ERROR_CASE_NOT_FOUND, "(getTestCaseIDByName) - Cannot find matching"
+				+ " test case. No testcase name matches (" + name + ").");
+		}
+		return rows.toArray();
+	}
+	
+	/*
+	 * Like TestLink 1.8 the rows are returned in a struct keyed by the
+	 * test case identifier.
+	 */
+	private Object getTestCasesForTestPlan(
+		Map args)
+	{
+		String planID = getString(args, API_PARAM_TEST_PLAN_ID);
+		if ( !plans.containsKey(planID) ) {
+			return invalidPlan(args, "getTestCasesForTestPlan");
+		}
+		String caseFilter = getString(args, API_PARAM_TEST_CASE_ID);
+		String statusFilter = getString(args, API_PARAM_EXECUTE_STATUS);
+		String execTypeFilter = getString(args, API_PARAM_EXEC_TYPE);
+		Map project = (Map) projects.get(((Map) plans.get(planID)).get(API_PARAM_TEST_PROJECT_ID));
+		LinkedHashMap result = new LinkedHashMap();
+		Iterator entries = ((Map) planCases.get(planID)).entrySet().iterator();
+		while ( entries.hasNext() ) {
+			Map.Entry entry = (Map.Entry) entries.next();
+			Object caseID = entry.getKey();
+			Map testCase = (Map) cases.get(caseID);
+			if ( caseFilter != null && !caseFilter.equals(caseID) ) {
+				continue;
+			}
+			if ( execTypeFilter != null && !execTypeFilter.equals(testCase.get(API_RESULT_EXEC_TYPE)) ) {
+				continue;
+			}
+			Map execution = getLastExecution(planID, caseID);
+			String status = (execution == null) ? "n" : (String) execution.get(API_PARAM_STATUS);
+			if ( statusFilter != null && !statusFilter.equals(status) ) {
+				continue;
+			}
+			HashMap row = new HashMap(testCase);
+			row.remove(API_RESULT_IDENTIFIER);
+			row.putAll((Map) entry.getValue());
+			row.put(API_RESULT_TC_INTERNAL_ID, caseID);
+			row.put(API_RESULT_TC_ALT_EXTERNAL_ID, testCase.get(API_RESULT_TC_EXTERNAL_ID));
+			row.put(API_RESULT_PREFIX, project.get(API_RESULT_PREFIX));
+			row.put(API_RESULT_TC_SUITE, ((Map) suites.get(testCase.get("parent_id"))).get(
+				API_RESULT_NAME));
+			row.put("exec_status", status);
+			row.put(API_PARAM_EXECUTED, (execution == null) ? "" : testCase.get("tcversion_id"));
+			result.put(caseID, row);
+		}
+		if ( result.isEmpty() ) {
+			// The api returns a length 0 string for empty list
+			return "";
+		}
+		return result;
+	}
+	
+	private Object getLastExecutionResult(
+		Map args)
+	{
+		String planID = getString(args, API_PARAM_TEST_PLAN_ID);
+		if ( !plans.containsKey(planID) ) {
+			return invalidPlan(args, "getLastExecutionResult");
+		}
+		Map execution = getLastExecution(planID, getString(args, API_PARAM_TEST_CASE_ID));
+		if ( execution == null ) {
+			HashMap none = new HashMap();
+			none.put(API_RESULT_IDENTIFIER, "-1");
+			return new Object[] { none };
+		}
+		return new Object[] { new HashMap(execution) };
+	}
+	
+	private Map getLastExecution(
+		Object planID,
+		Object caseID)
+	{
+		for ( int i = executions.size() - 1; i >= 0; i-- ) {
+			Map execution = (Map) executions.get(i);
+			if ( planID.equals(execution.get("testplan_id"))
+				&& caseID != null && caseID.equals(execution.get("tc_id")) ) {
+				return execution;
+			}
+		}
+		return null;
+	}
+	
+	private Map getLatestBuild(
+		Object planID)
+	{
+		Map latest = null;
+		Iterator rows = builds.values().iterator();
+		while ( rows.hasNext() ) {
+			Map build = (Map) rows.next();
+			if ( planID.equals(build.get(API_PARAM_TEST_PLAN_ID)) ) {
+				latest = build;
+			}
+		}
+		return latest;
+	}
+	
+	private Map findCaseByVisibleID(
+		Map project,
+		String visibleID)
+	{
+		if ( project == null || visibleID == null ) {
+			return null;
+		}
+		Iterator rows = cases.values().iterator();
+		while ( rows.hasNext() ) {
+			Map testCase = (Map) rows.next();
+			String caseVisibleID = project.get(API_RESULT_PREFIX) + "-"
+				+ testCase.get(API_RESULT_TC_EXTERNAL_ID);
+			if ( project.get(API_RESULT_IDENTIFIER).equals(testCase.get(API_PARAM_TEST_PROJECT_ID))
+				&& visibleID.equalsIgnoreCase(caseVisibleID) ) {
+				return testCase;
+			}
+		}
+		return null;
+	}
+	
+	private static Map findByName(
+		Collection rows,
+		String parentColumn,
+		Object parentID,
+		String name)
+	{
+		List children = select(rows, parentColumn, parentID);
+		for ( int i = 0; i < children.size(); i++ ) {
+			Map row = (Map) children.get(i);
+			if ( row.get(API_RESULT_NAME).equals(name) ) {
+				return row;
+			}
+		}
+		return null;
+	}
+	
+	private static List select(
+		Collection rows,
+		String column,
+		Object value)
+	{
+		ArrayList selected = new ArrayList();
+		Iterator all = rows.iterator();
+		while ( all.hasNext() ) {
+			Map row = (Map) all.next();
+			if ( value != null && value.toString().equals(row.get(column)) ) {
+				selected.add(row);
+			}
+		}
+		return selected;
+	}
+	
+	/*
+	 * The rows of the model are copied so callers can not change it.
+	 */
+	private static Object[] copyRows(
+		Collection rows)
+	{
+		Object[] copies = new Object[rows.size()];
+		Iterator all = rows.iterator();
+		for ( int i = 0; all.hasNext(); i++ ) {
+			copies[i] = new HashMap((Map) all.next());
+		}
+		return copies;
+	}
+	
+	private String nextNode()
+	{
+		nodeSequence++;
+		return String.valueOf(nodeSequence);
+	}
+	
+	private static String orderOf(
+		Map args,
+		int count)
+	{
+		return valueOf(getString(args, API_PARAM_ORDER), String.valueOf(count + 1));
+	}
+	
+	private static String valueOf(
+		String value,
+		String defaultValue)
+	{
+		return (value == null) ? defaultValue : value;
+	}
+	
+	private static String getString(
+		Map args,
+		String name)
+	{
+		Object value = args.get(name);
+		return (value == null) ? null : value.toString();
+	}
+	
+	private static Object[] created(
+		String id,
+		String operation)
+	{
+		HashMap result = new HashMap();
+		result.put(API_RESULT_IDENTIFIER, id);
+		result.put("operation", operation);
+		result.put(API_PARAM_STATUS, Boolean.TRUE);
+		result.put(API_RESULT_MESSAGE, SUCCESS);
+		result.put("additionalInfo", "");
+		return new Object[] { result };
+	}
+	
+	private static Object[] error(
+		int code,
+		String message)
+	{
+		HashMap result = new HashMap();
+		result.put(API_RESULT_CODE, new Integer(code));
+		result.put(API_RESULT_MESSAGE, message);
+		return new Object[] { result };
+	}
+	
+	private static Object[] missing(
+		String names)
+	{
+		return error(ERROR_MISSING_PARAM, "Missing parameter(s): " + names);
+	}
+	
+	private static Object[] invalidProject(
+		Map args,
+		String operation)
+	{
+		return error(ERROR_INVALID_PROJECT, "(" + operation + ") - The test project ("
+			+ getString(args, API_PARAM_TEST_PROJECT_ID) + ") does not exist.");
+	}
+	
+	private static Object[] invalidPlan(
+		Map args,
+		String operation)
+	{
+		return error(ERROR_INVALID_PLAN, "(" + operation + ") - The test plan ("
+			+ getString(args, API_PARAM_TEST_PLAN_ID) + ") does not exist.");
+	}
+}
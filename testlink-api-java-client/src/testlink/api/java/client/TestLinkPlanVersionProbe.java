@@ -0,0 +1,125 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * A version probe for the results of a test plan: its builds, latest
+ * build, test suites and test cases. The version is the number of
+ * builds of the plan and the highest build identifier so the results
+ * of a plan are fetched again once a build was added to it. Results
+ * that do not belong to a plan are not versioned.
+ * <p>
+ * The builds are read from TestLink without the cache and the version
+ * of a plan is remembered for a short time so a warm start checks each
+ * plan once.
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkAPIDiskCache disk = apiClient.openDiskCache(file);<br>
+ * disk.setVersionProbe(new TestLinkPlanVersionProbe(apiClient));
+ */
+public class TestLinkPlanVersionProbe implements TestLinkAPIVersionProbe, TestLinkAPIConst
+{
+	private static final long DEFAULT_MAX_AGE = 10000;
+	
+	private TestLinkAPIClient apiClient;
+	private long maxAge = DEFAULT_MAX_AGE;
+	private Map versions = new HashMap();
+	
+	/**
+	 * Create a probe that reads the plan builds with the client.
+	 * 
+	 * @param apiClient
+	 */
+	public TestLinkPlanVersionProbe(
+		TestLinkAPIClient apiClient)
+	{
+		this.apiClient = apiClient;
+	}
+	
+	/**
+	 * Set the time in milliseconds the version of a plan is remembered.
+	 * 
+	 * @param millis
+	 */
+	public synchronized void setMaxAge(
+		long millis)
+	{
+		maxAge = millis;
+		versions.clear();
+	}
+	
+	/**
+	 * @see TestLinkAPIVersionProbe#getVersion(TestLinkAPICacheKey)
+	 */
+	public String getVersion(
+		TestLinkAPICacheKey key) throws TestLinkAPIException
+	{
+		String method = key.getMethod();
+		if ( key.getPartCount() == 0 || !(API_METHOD_GET_BUILDS_FOR_PLAN.equals(method)
+			|| API_METHOD_GET_LATEST_BUILD_FOR_PLAN.equals(method)
+			|| API_METHOD_GET_SUITES_FOR_PLAN.equals(method)
+			|| API_METHOD_GET_TEST_CASES_FOR_PLAN.equals(method)) ) {
+			return null;
+		}
+		Object planID = key.getPart(0);
+		if ( planID == null ) {
+			return null;
+		}
+		
+		long now = System.currentTimeMillis();
+		synchronized ( this ) {
+			Object[] known = (Object[]) versions.get(planID);
+			if ( known != null && now - ((Long) known[1]).longValue() < maxAge ) {
+				return (String) known[0];
+			}
+		}
+		String version = getPlanVersion(new Integer(planID.toString()));
+		synchronized ( this ) {
+			versions.put(planID, new Object[] { version, new Long(now) });
+		}
+		return version;
+	}
+	
+	/*
+	 * The number of builds and the highest build identifier of the plan.
+	 */
+	private String getPlanVersion(
+		Integer planID) throws TestLinkAPIException
+	{
+		TestLinkAPIResults builds = apiClient.fetchBuildsForTestPlan(planID);
+		int count = 0;
+		int highest = 0;
+		for ( int i = 0; i < builds.size(); i++ ) {
+			TestLinkBuildRecord build = builds.getBuildRecord(i);
+			if ( build.getID() > 0 ) {
+				count++;
+				highest = Math.max(highest, build.getID());
+			}
+		}
+		return count + ":" + highest;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Hashtable;
+
+
+/**
+ * Reports test case results to a test plan and build that were
+ * resolved once. The test cases can be bound ahead of time so each
+ * report is a single tl.reportTCResult call.
+ * <p>
+ * Example:
+ * <p>
+ * TestLinkPreparedReport report = apiClient.prepareReport("Project", "Plan", "Build");<br>
+ * report.bindTestCases(testPlan.getTestCases());<br>
+ * report.reportTestCaseResult("PRJ-12", "Notes", TestLinkAPIConst.TEST_PASSED);
+ */
+public class TestLinkPreparedReport implements TestLinkAPIConst
+{
+	private TestLinkAPIClient apiClient;
+	private Integer projectID;
+	private Integer planID;
+	private Integer buildID;
+	private String planName;
+	private Hashtable params;
+	
+	// Test case names and visible identifiers already resolved
+	private Hashtable caseIDs = new Hashtable();
+	
+	/*
+	 * Created by TestLinkAPIClient.prepareReport().
+	 */
+	TestLinkPreparedReport(
+		TestLinkAPIClient apiClient,
+		Integer projectID,
+		Integer planID,
+		String planName,
+		Integer buildID) throws TestLinkAPIException
+	{
+		this.apiClient = apiClient;
+		this.projectID = projectID;
+		this.planID = planID;
+		this.planName = (planName == null ? String.valueOf(planID) : planName);
+		this.buildID = buildID;
+		this.params = apiClient.reportTestCaseResultParams(planID, buildID, null,
+			new Boolean(buildID == null));
+	}
+	
+	/**
+	 * The project of the test plan or null if it is not known.
+	 * 
+	 * @return
+	 */
+	public Integer getProjectID()
+	{
+		return projectID;
+	}
+	
+	/**
+	 * The test plan the results are reported to.
+	 * 
+	 * @return
+	 */
+	public Integer getTestPlanID()
+	{
+		return planID;
+	}
+	
+	/**
+	 * The build the results are reported to or null if
+	 * TestLink guesses the latest build.
+	 * 
+	 * @return
+	 */
+	public Integer getBuildID()
+	{
+		return buildID;
+	}
+	
+	/**
+	 * Resolve the identifier of a test case by name or visible
+	 * identifier and keep it for later reports.
+	 * 
+	 * @param testCaseNameOrVisibleID
+	 * @return The test case identifier
+	 * @throws TestLinkAPIException
+	 */
+	public Integer bindTestCase(
+		String testCaseNameOrVisibleID) throws TestLinkAPIException
+	{
+		Integer caseID = (Integer) caseIDs.get(testCaseNameOrVisibleID);
+		if ( caseID != null ) {
+			return caseID;
+		}
+		if ( projectID == null ) {
+			throw new TestLinkAPIException(
+				"The project of test plan " + planName + " is not known and the test case "
+				+ testCaseNameOrVisibleID + " could not be accessed to report a test result.");
+		}
+		caseID = TestLinkAPIHelper.getTestCaseID(apiClient, projectID, testCaseNameOrVisibleID);
+		if ( caseID == null ) {
+			throw new TestLinkAPIException(
+				"The test case " + testCaseNameOrVisibleID
+				+ " was not found and could not be accessed to report a test result to test plan "
+				+ planName + ".");
+		}
+		caseIDs.put(testCaseNameOrVisibleID, caseID);
+		return caseID;
+	}
+	
+	/**
+	 * Resolve the identifiers of the test cases that do not have an
+	 * internal identifier. Test cases that are not found are skipped
+	 * and fail when their result is reported.
+	 * 
+	 * @param cases
+	 * @throws TestLinkAPIException
+	 */
+	public void bindTestCases(
+		TestCase[] cases) throws TestLinkAPIException
+	{
+		for ( int i = 0; i < cases.length; i++ ) {
+			TestCase tc = cases[i];
+			if ( tc == null || tc.getTestCaseInternalID() != null
+				|| tc.getTestCaseName() == null ) {
+				continue;
+			}
+			try {
+				bindTestCase(tc.getTestCaseName());
+			} catch ( TestLinkAPIException e ) {
+				if ( projectID == null ) {
+					throw e;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Report a test execution result for a test case by name or
+	 * visible identifier.
+	 * 
+	 * @param testCaseNameOrVisibleID	Required
+	 * @param execNotes					Optional
+	 * @param testResultStatus			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults reportTestCaseResult(
+		String testCaseNameOrVisibleID,
+		String execNotes,
+		String testResultStatus) throws TestLinkAPIException
+	{
+		Integer caseID = bindTestCase(testCaseNameOrVisibleID);
+		return reportTestCaseResult(caseID, execNotes, testResultStatus);
+	}
+	
+	/**
+	 * Report a test execution result for a test case. The internal
+	 * identifier of the test case is used when it is known.
+	 * 
+	 * @param tc						Required
+	 * @param execNotes					Optional
+	 * @param testResultStatus			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults reportTestCaseResult(
+		TestCase tc,
+		String execNotes,
+		String testResultStatus) throws TestLinkAPIException
+	{
+		Integer caseID = tc.getTestCaseInternalID();
+		if ( caseID == null ) {
+			caseID = bindTestCase(tc.getTestCaseName());
+		}
+		return reportTestCaseResult(caseID, execNotes, testResultStatus);
+	}
+	
+	/**
+	 * Report a test execution result for a test case by internal identifier.
+	 * 
+	 * @param testCaseID				Required
+	 * @param execNotes					Optional
+	 * @param testResultStatus			Required
+	 * @return The results from the TestLink API as a list of Map entries
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkAPIResults reportTestCaseResult(
+		Integer testCaseID,
+		String execNotes,
+		String testResultStatus) throws TestLinkAPIException
+	{
+		Hashtable callParams = (Hashtable) params.clone();
+		apiClient.setParam(callParams, REQUIRED, API_PARAM_TEST_CASE_ID, testCaseID);
+		apiClient.setParam(callParams, OPTIONAL, API_PARAM_NOTES, execNotes);
+		apiClient.setParam(callParams, REQUIRED, API_PARAM_STATUS, testResultStatus);
+		return apiClient.reportTestCaseResult(callParams);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * A test project returned by tl.getProjects.
+ */
+public class TestLinkProjectRecord extends TestLinkAPIRecord
+{
+	private String prefix;
+	private boolean isActive;
+	
+	public TestLinkProjectRecord(
+		Map data)
+	{
+		super(data);
+		this.prefix = getString(API_RESULT_PREFIX);
+		this.isActive = getBoolean(API_RESULT_ACTIVE);
+	}
+	
+	/**
+	 * The prefix of the visible test case identifiers.
+	 * 
+	 * @return
+	 */
+	public String getPrefix()
+	{
+		return prefix;
+	}
+	
+	/**
+	 * The project notes.
+	 * 
+	 * @return
+	 */
+	public String getNotes()
+	{
+		return getString(API_RESULT_NOTES);
+	}
+	
+	/**
+	 * True if the project is active.
+	 * 
+	 * @return
+	 */
+	public boolean isActive()
+	{
+		return isActive;
+	}
+	
+	/**
+	 * True if test automation is enabled for the project.
+	 * 
+	 * @return
+	 */
+	public boolean isAutomationEnabled()
+	{
+		return getBoolean(API_RESULT_AUTO_OPTION);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.Map;
+
+
+/**
+ * A test suite returned by tl.getFirstLevelTestSuitesForTestProject
+ * or tl.getTestSuitesForTestPlan.
+ */
+public class TestLinkSuiteRecord extends TestLinkAPIRecord
+{
+	private int parentID;
+	private int nodeOrder;
+	
+	public TestLinkSuiteRecord(
+		Map data)
+	{
+		super(data);
+		this.parentID = getInt("parent_id");
+		this.nodeOrder = getInt(API_RESULT_NODE_ORDER);
+	}
+	
+	/**
+	 * The project or suite that contains the suite.
+	 * 
+	 * @return
+	 */
+	public int getParentID()
+	{
+		return parentID;
+	}
+	
+	/**
+	 * The position of the suite within its parent.
+	 * 
+	 * @return
+	 */
+	public int getNodeOrder()
+	{
+		return nodeOrder;
+	}
+}
@@ -1,476 +1,740 @@
-/*
- * Daniel R Padilla
- *
- * Copyright (c) 2009, Daniel R Padilla
- *
- * This copyrighted material is made available to anyone wishing to use, modify,
- * copy, or redistribute it subject to the terms and conditions of the GNU
- * Lesser General Public License, as published by the Free Software Foundation.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
- * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
- * for more details.
- *
- * You should have received a copy of the GNU Lesser General Public License
- * along with this distribution; if not, write to:
- * Free Software Foundation, Inc.
- * 51 Franklin Street, Fifth Floor
- * Boston, MA  02110-1301  USA
- */
-package testlink.api.java.client;
-
-
-import java.util.Map;
-
-import testlink.api.java.client.tc.autoexec.TestCaseExecutor;
-import testlink.api.java.client.tc.autoexec.TestCaseRegistry;
-
-
-/**
- * The class is used to manage the execution of test cases
- * associated with a test plan.
- * <p>
- * The test plan manager has two modes of opertaion. There is the online mode 
- * and the offline mode. In order to enter online mode a valid DEV KEY and 
- * TestLink API url must be provided. See the TestLink documentation for more 
- * information about the dev key.
- * <p>
- * If the api is deemed to be unreachable no error is thrown. The test plan
- * manager just defaults into offline mode. The offline or online state
- * of a TestPlanManager instance is found by using isOffline() method.
- * 
- * @author Daniel Padilla
- *
- */
-public class TestLinkTestPlan
-{
-	private boolean isAPIReachable = false;
-	private boolean isReportResultsOn = false;
-	private TestLinkTestProject testProject;
-	private String testPlanName = null;
-	private Integer testPlanID = null;
-	private TestLinkAPIClient apiClient;
-	private TestCaseRegistry testCaseRegistry = new TestCaseRegistry();
-	private String testCaseClass = "testlink.api.java.client.tc.autoexec.ExecutableTestCase";
-	private boolean testCasesInitialized = false;
-	private boolean isActive=true;
-	private String description="";
-	
-	/**
-	 * Creates an offline version of the project manager for
-	 * running test offline.
-	 */
-	public TestLinkTestPlan()
-	{
-		isAPIReachable = false;
-		isReportResultsOn = false;
-		this.testProject = TestLinkTestProject.getOffLineProject();
-		testPlanName = "Offline plan";
-	}
-	
-	/**
-	 * Creates an offline version of the project manager for
-	 * running test offline.
-	 */
-	public TestLinkTestPlan(
-		String projectName,
-		String planName)
-	{
-		isAPIReachable = false;
-		isReportResultsOn = false;
-		this.testProject = TestLinkTestProject.getOffLineProject(projectName);
-		testPlanName = planName;
-	}
-	
-	/**
-	 * When the TestPlanManager is instantiated then it retrieves all the
-	 * test cases that are defined as automated test cases in the test plan.
-	 * <p>
-	 * Reporting of test results is turned on if the API is reachable. If the
-	 * API is not reachable the system defaults to offline mode.
-	 * 
-	 * @param projectName
-	 * @param planName
-	 */
-	public TestLinkTestPlan(
-		TestLinkAPIClient apiClient,
-		String projectName,
-		String planName)
-	{
-		this.apiClient = apiClient;
-		initTestPlan(this.apiClient, projectName, planName);
-	}
-	
-	/**
-	 * When the TestPlanManager is instantiated then it retrieves all the
-	 * test cases that are defined as automated test cases in the test plan.
-	 * <p>
-	 * Reporting of test results is turned on if the API is reachable. If the
-	 * API is not reachable the system defaults to offline mode.
-	 * 
-	 * @param projectName
-	 * @param planName
-	 */
-	public TestLinkTestPlan(
-		String projectName,
-		String planName,
-		String devKey,
-		String urlToAPI)
-	{
-		initTestPlan(devKey, urlToAPI, projectName, planName);
-	}
-	
-	/**
-	 * When the TestPlanManager is instantiated then it retrieves all the
-	 * test cases that are defined as automated test cases in the test plan.
-	 * <p>
-	 * The cases are instantiated using the class that is passed to the constructor.
-	 * <p>
-	 * Reporting of test results is turned on if the API is reachable. If the
-	 * API is not reachable the system defaults to offline mode.
-	 *
-	 * @param projectName
-	 * @param planName
-	 * @param testCaseImplementionClass
-	 */
-	public TestLinkTestPlan(
-		String projectName,
-		String planName,
-		String testCaseClass,
-		String devKey,
-		String urlToAPI)
-	{
-		initTestPlan(devKey, urlToAPI, projectName, planName);
-		this.testCaseClass = testCaseClass;
-	}
-	
-	/**
-	 * Return the project for thsi plan.
-	 * @return
-	 */
-	public TestLinkTestProject getProject() {
-		return testProject;
-	}
-	
-	/**
-	 * Return the name of the test plan for this test plan manager.
-	 * 
-	 * @return
-	 */
-	public String getTestPlanName()
-	{
-		return testPlanName;
-	}
-	
-	/**
-	 * Can the project manager access the API
-	 * 
-	 * @return
-	 */
-	public boolean isOffline()
-	{
-		return !(isAPIReachable);
-	}
-	
-	/**
-	 * True if reporting of test result to the TestLink API is turned on. 
-	 * 
-	 * @return
-	 */
-	public boolean isReportResultsOn()
-	{
-		return isReportResultsOn;
-	}
-	
-	/**
-	 * Turn on report of test result to the TestLink API. 
-	 */
-	public void trunOnResultReporting()
-	{
-		isReportResultsOn = true;
-	}
-	
-	/**
-	 * Turn off report of test result to the TestLink API. 
-	 */
-	public void trunOffResultReporting()
-	{
-		isReportResultsOn = false;
-	}
-
-	/**
-	 * Adds a test case to the a project test suite if the test case does
-	 * not exist and then it it adds it to the test plan.
-	 * 
-	 * If the test case exists it replaces the test case class obejct instance
-	 * with the new instance.
-	 * 
-	 * @param testCase
-	 * @throws TestLinkAPIException
-	 */
-	public void putTestCase(
-		TestCase testCase,
-		String loginUserName) throws TestLinkAPIException
-	{
-		if ( !isOffline() ) {
-			if ( isAPIReachable ) {
-				initTestCases(testProject.getProjectName(), testPlanName);
-			}
-			testCase.addToTestLink(apiClient, loginUserName);
-			if ( !isCasePartOfPlan(testCase) ) {
-				addTestCaseToPlan(testCase);
-			}
-		}
-		testCaseRegistry.put(testCase);
-	}
-	
-	/**
-	 * 
-	 * @param caseNameOrVisibleID
-	 * @param executor
-	 * @throws TestLinkAPIException
-	 */
-	public void setTestCaseExecutor(
-		String caseNameOrVisibleID,
-		TestCaseExecutor executor) 
-	{
-		if ( isAPIReachable ) {
-			initTestCases(testProject.getProjectName(), testPlanName);
-		}
-		TestCase testCase = testCaseRegistry.get(caseNameOrVisibleID);
-		testCase.setExecutor(executor);
-	}
-	
-	/**
-	 * 
-	 * @param caseID
-	 * @param executor
-	 * @throws TestLinkAPIException
-	 */
-	public void setTestCaseExecutor(
-		Integer caseID,
-		TestCaseExecutor executor) 
-	{
-		if ( isAPIReachable ) {
-			initTestCases(testProject.getProjectName(), testPlanName);
-		}
-		TestCase testCase = testCaseRegistry.get(caseID);
-		testCase.setExecutor(executor);
-	}
-	
-	public TestCase[] getTestCases()
-	{
-		if ( isAPIReachable ) {
-			initTestCases(testProject.getProjectName(), testPlanName);
-		}
-		return testCaseRegistry.toArray();
-	}
-	
-	/**
-	 * True if the test plan is active
-	 */
-	public boolean isActive() {
-		return isActive;
-	}
-	
-	/**
-	 * The test plan description/notes
-	 * 
-	 * @return
-	 */
-	public String getPlanDescription() {
-		return description;
-	}
-
-	/*
-	 * Private methods section
-	 */
-	
-	/*
-	 * Check to see if the TestLINK API can be accessed and the project exists
-	 */
-	private void initTestPlan(
-		String devKey,
-		String url,
-		String projectName,
-		String planName) 
-	{
-		apiClient = new TestLinkAPIClient(devKey, url);
-		initTestPlan(apiClient, projectName, planName);
-	}
-	
-	private void initTestPlan(
-		TestLinkAPIClient apiClient,
-		String projectName,
-		String planName)
-	{
-		
-		// First ping
-		try {
-			apiClient.ping();
-			isAPIReachable = true;
-		} catch ( Exception e ) {
-			isAPIReachable = false;
-		}
-		
-		// Check if the test project exist
-		Integer projectID = null;
-		if ( isAPIReachable ) {
-			try {
-				projectID = TestLinkAPIHelper.getProjectID(apiClient, projectName);
-				if ( projectID == null ) {
-					throw new Exception("Could not find the project.");
-				} 
-				Map projectInfo = TestLinkAPIHelper.getProjectInfo(apiClient, projectID);
-				testProject = new TestLinkTestProject(projectInfo);
-			} catch ( Exception e ) {
-				isAPIReachable = false;
-				createDummyOfflineInfo(projectName, planName);
-			}
-		}
-		
-		// Check if the test plan exists
-		if ( isAPIReachable ) {
-			try {
-				testPlanID = TestLinkAPIHelper.getPlanID(apiClient, projectID, planName);
-				if ( testPlanID == null ) {
-					throw new Exception("Could not find the project.");
-				} 
-			} catch ( Exception e ) {
-				isAPIReachable = false;
-				createDummyOfflineInfo(projectName, planName);
-			}
-		}
-		
-		if ( isAPIReachable ) {
-			try {
-				Map planInfo = TestLinkAPIHelper.getPlanInfo(apiClient, projectID, planName);
-				if ( planInfo != null ) {
-					Object value = planInfo.get(TestLinkAPIConst.API_RESULT_ACTIVE);
-					if ( value != null ) {
-						Integer active = new Integer(value.toString());
-						if ( active.intValue() > 0 ) {
-							isActive = true;
-						} else {
-							isActive = false;
-						}
-					}
-					value = planInfo.get(TestLinkAPIConst.API_RESULT_NOTES);
-					if ( value != null ) {
-						description = value.toString();
-					}
-				} 
-			} catch ( Exception e ) {} // Info not all that critical
-		}
-		
-		if ( isAPIReachable ) {
-			isReportResultsOn = true;
-		}
-		
-		testPlanName = planName;
-	}
-	
-	/*
-	 * Method is called by the constructor and it finds all the test cases in a 
-	 * test plan and then instantiates the classes using the initExistingCase()
-	 * method. Once the case is instantiated it is stored in a list.
-	 */
-	private void initTestCases(
-		String projectName,
-		String planName)
-	{
-		if ( testCasesInitialized == false && isAPIReachable ) {
-			try {
-				TestLinkAPIResults caseList = apiClient.getCasesForTestPlan(testPlanID);
-				for ( int i = 0; i < caseList.size(); i++ ) {
-					Map caseInfo = caseList.getData(i);
-					TestCase tc = getTestCaseInstance(caseInfo);
-					testCaseRegistry.put(tc);
-				}
-			} catch ( Exception e ) {
-				isAPIReachable = false;
-				createDummyOfflineInfo(projectName, planName);
-			}
-			testCasesInitialized = true;
-		}
-	}
-	
-	/*
-	 * Create an instance of the requested test case class
-	 */
-	private TestCase getTestCaseInstance(
-		Map testCaseInfo) throws Exception
-	{
-		boolean isCreated = false;
-		String tcSuiteName = (String) testCaseInfo.get(
-			TestLinkAPIConst.API_RESULT_TC_SUITE);
-		TestCase tc = (TestCase) Class.forName(testCaseClass).newInstance();
-		TestLinkAPIResults suites = apiClient.getTestSuitesForTestPlan(testPlanID);
-		for ( int i = 0; i < suites.size(); i++ ) {
-			Map suiteInfo = suites.getData(i);
-			String pSuiteName = (String) suiteInfo.get(TestLinkAPIConst.API_RESULT_NAME);
-			if ( tcSuiteName.equals(pSuiteName) ) {
-				TestLinkTestSuite testSuite = new TestLinkTestSuite(suiteInfo);
-				tc.initExistingCase(testProject, testSuite, testCaseInfo);
-				isCreated = true;
-			}
-		}
-		
-		if ( isCreated ) {
-			return tc;
-		} else {
-			throw new TestLinkAPIException(
-				"Unable to find test suite name in the test plan " + tcSuiteName);
-		}
-	}
-	
-	/*
-	 * Make sure we are offline with an offline project
-	 */
-	private void createDummyOfflineInfo(
-		String projectName,
-		String planName)
-	{
-		isAPIReachable = false;
-		this.testProject = TestLinkTestProject.getOffLineProject(projectName);
-		testPlanName = planName;
-	}
-	
-	/*
-	 * Check to see if the test plan is part of the test case
-	 */
-	private boolean isCasePartOfPlan(
-		TestCase tc)
-	{
-		try {
-			TestLinkAPIResults results = apiClient.getCasesForTestPlan(testPlanID);
-			for ( int i = 0; i < results.size(); i++ ) {
-				Map caseInfo = results.getData(i);
-				Object id = caseInfo.get(TestLinkAPIConst.API_RESULT_IDENTIFIER);
-				if ( id != null ) {
-					Integer caseID = new Integer(id.toString());
-					if ( caseID.equals(tc.getTestCaseInternalID()) ) {
-						return true;
-					}
-				}
-			}
-			return false;
-		} catch ( Exception e ) {
-			return false;
-		}
-		
-	}
-	
-	/*
-	 * Add test case to test plan
-	 */
-	private void addTestCaseToPlan(
-		TestCase tc)
-	{
-		try {
-			apiClient.addTestCaseToTestPlan(testProject.getProjectID(), testPlanID, null,
-				tc.getTestCaseVisibleID(), null, null, null);
-		} catch ( Exception e ) {}
-	}
-}
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import testlink.api.java.client.tc.autoexec.ConcurrentTestCaseRegistry;
+import testlink.api.java.client.tc.autoexec.TestCaseExecutor;
+import testlink.api.java.client.tc.autoexec.TestCaseRegistry;
+
+
+/**
+ * The class is used to manage the execution of test cases
+ * associated with a test plan.
+ * <p>
+ * The test plan manager has two modes of opertaion. There is the online mode 
+ * and the offline mode. In order to enter online mode a valid DEV KEY and 
+ * TestLink API url must be provided. See the TestLink documentation for more 
+ * information about the dev key.
+ * <p>
+ * If the api is deemed to be unreachable no error is thrown. The test plan
+ * manager just defaults into offline mode. The offline or online state
+ * of a TestPlanManager instance is found by using isOffline() method.
+ * 
+ * @author Daniel Padilla
+ *
+ */
+public class TestLinkTestPlan
+{
+	private boolean isAPIReachable = false;
+	private boolean isReportResultsOn = false;
+	private TestLinkTestProject testProject;
+	private String testPlanName = null;
+	private Integer testPlanID = null;
+	private TestLinkAPIClient apiClient;
+	private TestCaseRegistry testCaseRegistry = new ConcurrentTestCaseRegistry();
+	private String testCaseClass = "testlink.api.java.client.tc.autoexec.ExecutableTestCase";
+	private boolean testCasesInitialized = false;
+	private volatile Set planCaseKeys = null;
+	private boolean isActive=true;
+	private String description="";
+	
+	/**
+	 * Creates an offline version of the project manager for
+	 * running test offline.
+	 */
+	public TestLinkTestPlan()
+	{
+		isAPIReachable = false;
+		isReportResultsOn = false;
+		this.testProject = TestLinkTestProject.getOffLineProject();
+		testPlanName = "Offline plan";
+	}
+	
+	/**
+	 * Creates an offline version of the project manager for
+	 * running test offline.
+	 */
+	public TestLinkTestPlan(
+		String projectName,
+		String planName)
+	{
+		isAPIReachable = false;
+		isReportResultsOn = false;
+		this.testProject = TestLinkTestProject.getOffLineProject(projectName);
+		testPlanName = planName;
+	}
+	
+	/**
+	 * When the TestPlanManager is instantiated then it retrieves all the
+	 * test cases that are defined as automated test cases in the test plan.
+	 * <p>
+	 * Reporting of test results is turned on if the API is reachable. If the
+	 * API is not reachable the system defaults to offline mode.
+	 * 
+	 * @param projectName
+	 * @param planName
+	 */
+	public TestLinkTestPlan(
+		TestLinkAPIClient apiClient,
+		String projectName,
+		String planName)
+	{
+		this.apiClient = apiClient;
+		initTestPlan(this.apiClient, projectName, planName);
+	}
+	
+	/**
+	 * When the TestPlanManager is instantiated then it retrieves all the
+	 * test cases that are defined as automated test cases in the test plan.
+	 * <p>
+	 * The cases are instantiated using the class that is passed to the constructor.
+	 * <p>
+	 * Reporting of test results is turned on if the API is reachable. If the
+	 * API is not reachable the system defaults to offline mode.
+	 * 
+	 * @param apiClient
+	 * @param projectName
+	 * @param planName
+	 * @param testCaseClass
+	 */
+	public TestLinkTestPlan(
+		TestLinkAPIClient apiClient,
+		String projectName,
+		String planName,
+		String testCaseClass)
+	{
+		this(apiClient, projectName, planName);
+		this.testCaseClass = testCaseClass;
+	}
+	
+	/**
+	 * When the TestPlanManager is instantiated then it retrieves all the
+	 * test cases that are defined as automated test cases in the test plan.
+	 * <p>
+	 * Reporting of test results is turned on if the API is reachable. If the
+	 * API is not reachable the system defaults to offline mode.
+	 * 
+	 * @param projectName
+	 * @param planName
+	 */
+	public TestLinkTestPlan(
+		String projectName,
+		String planName,
+		String devKey,
+		String urlToAPI)
+	{
+		initTestPlan(devKey, urlToAPI, projectName, planName);
+	}
+	
+	/**
+	 * When the TestPlanManager is instantiated then it retrieves all the
+	 * test cases that are defined as automated test cases in the test plan.
+	 * <p>
+	 * The cases are instantiated using the class that is passed to the constructor.
+	 * <p>
+	 * Reporting of test results is turned on if the API is reachable. If the
+	 * API is not reachable the system defaults to offline mode.
+	 *
+	 * @param projectName
+	 * @param planName
+	 * @param testCaseImplementionClass
+	 */
+	public TestLinkTestPlan(
+		String projectName,
+		String planName,
+		String testCaseClass,
+		String devKey,
+		String urlToAPI)
+	{
+		initTestPlan(devKey, urlToAPI, projectName, planName);
+		this.testCaseClass = testCaseClass;
+	}
+	
+	/**
+	 * Return the project for thsi plan.
+	 * @return
+	 */
+	public TestLinkTestProject getProject() {
+		return testProject;
+	}
+	
+	/**
+	 * Return the name of the test plan for this test plan manager.
+	 * 
+	 * @return
+	 */
+	public String getTestPlanName()
+	{
+		return testPlanName;
+	}
+	
+	/**
+	 * Can the project manager access the API
+	 * 
+	 * @return
+	 */
+	public boolean isOffline()
+	{
+		return !(isAPIReachable);
+	}
+	
+	/**
+	 * True if reporting of test result to the TestLink API is turned on. 
+	 * 
+	 * @return
+	 */
+	public boolean isReportResultsOn()
+	{
+		return isReportResultsOn;
+	}
+	
+	/**
+	 * Turn on report of test result to the TestLink API. 
+	 */
+	public void trunOnResultReporting()
+	{
+		isReportResultsOn = true;
+	}
+	
+	/**
+	 * Turn off report of test result to the TestLink API. 
+	 */
+	public void trunOffResultReporting()
+	{
+		isReportResultsOn = false;
+	}
+
+	/**
+	 * Adds a test case to the a project test suite if the test case does
+	 * not exist and then it it adds it to the test plan.
+	 * 
+	 * If the test case exists it replaces the test case class obejct instance
+	 * with the new instance.
+	 * 
+	 * A test case whose version is not known by the test case or by
+	 * TestLink is not added to the plan and is reported by the exception.
+	 * 
+	 * @param testCase
+	 * @throws TestLinkAPIException
+	 */
+	public void putTestCase(
+		TestCase testCase,
+		String loginUserName) throws TestLinkAPIException
+	{
+		ArrayList skipped = new ArrayList();
+		if ( !isOffline() ) {
+			if ( isAPIReachable ) {
+				initTestCases(testProject.getProjectName(), testPlanName);
+			}
+			testCase.addToTestLink(apiClient, loginUserName);
+			if ( !isCasePartOfPlan(testCase) ) {
+				addTestCaseToPlan(testCase, skipped);
+			}
+		}
+		testCaseRegistry.put(testCase);
+		reportSkippedCases(skipped);
+	}
+	
+	/**
+	 * Add many test cases to the plan at once. Each test case is added to
+	 * TestLink if it does not exist and the cases that are not part of the
+	 * test plan yet are added to it in a single batch of calls.
+	 * 
+	 * The test cases whose version is not known by the test case or by
+	 * TestLink are not added to the plan and are reported by the exception
+	 * once the other cases were added.
+	 * 
+	 * @param testCases
+	 * @param loginUserName
+	 * @throws TestLinkAPIException
+	 */
+	public void putTestCases(
+		Collection<TestCase> testCases,
+		String loginUserName) throws TestLinkAPIException
+	{
+		ArrayList skipped = new ArrayList();
+		if ( !isOffline() ) {
+			if ( isAPIReachable ) {
+				initTestCases(testProject.getProjectName(), testPlanName);
+			}
+			ArrayList missing = new ArrayList();
+			HashSet missingKeys = new HashSet();
+			Iterator cases = testCases.iterator();
+			while ( cases.hasNext() ) {
+				TestCase testCase = (TestCase) cases.next();
+				testCase.addToTestLink(apiClient, loginUserName);
+				Object key = getPlanKey(testCase);
+				if ( key != null && !isCasePartOfPlan(testCase) && missingKeys.add(key) ) {
+					missing.add(testCase);
+				}
+			}
+			addTestCasesToPlan(missing, skipped);
+		}
+		Iterator cases = testCases.iterator();
+		while ( cases.hasNext() ) {
+			testCaseRegistry.put((TestCase) cases.next());
+		}
+		reportSkippedCases(skipped);
+	}
+	
+	/**
+	 * 
+	 * @param caseNameOrVisibleID
+	 * @param executor
+	 * @throws TestLinkAPIException
+	 */
+	public void setTestCaseExecutor(
+		String caseNameOrVisibleID,
+		TestCaseExecutor executor) 
+	{
+		if ( isAPIReachable ) {
+			initTestCases(testProject.getProjectName(), testPlanName);
+		}
+		TestCase testCase = testCaseRegistry.get(caseNameOrVisibleID);
+		testCase.setExecutor(executor);
+	}
+	
+	/**
+	 * 
+	 * @param caseID
+	 * @param executor
+	 * @throws TestLinkAPIException
+	 */
+	public void setTestCaseExecutor(
+		Integer caseID,
+		TestCaseExecutor executor) 
+	{
+		if ( isAPIReachable ) {
+			initTestCases(testProject.getProjectName(), testPlanName);
+		}
+		TestCase testCase = testCaseRegistry.get(caseID);
+		testCase.setExecutor(executor);
+	}
+	
+	public TestCase[] getTestCases()
+	{
+		if ( isAPIReachable ) {
+			initTestCases(testProject.getProjectName(), testPlanName);
+		}
+		return testCaseRegistry.toArray();
+	}
+	
+	/**
+	 * True if the test plan is active
+	 */
+	public boolean isActive() {
+		return isActive;
+	}
+	
+	/**
+	 * The test plan description/notes
+	 * 
+	 * @return
+	 */
+	public String getPlanDescription() {
+		return description;
+	}
+
+	/*
+	 * Private methods section
+	 */
+	
+	/*
+	 * Check to see if the TestLINK API can be accessed and the project exists
+	 */
+	private void initTestPlan(
+		String devKey,
+		String url,
+		String projectName,
+		String planName) 
+	{
+		apiClient = new TestLinkAPIClient(devKey, url);
+		initTestPlan(apiClient, projectName, planName);
+	}
+	
+	private void initTestPlan(
+		TestLinkAPIClient apiClient,
+		String projectName,
+		String planName)
+	{
+		
+		// First ping
+		try {
+			apiClient.ping();
+			isAPIReachable = true;
+		} catch ( Exception e ) {
+			isAPIReachable = false;
+		}
+		
+		// Check if the test project exist
+		Integer projectID = null;
+		if ( isAPIReachable ) {
+			try {
+				projectID = TestLinkAPIHelper.getProjectID(apiClient, projectName);
+				if ( projectID == null ) {
+					throw new Exception("Could not find the project.");
+				} 
+				Map projectInfo = TestLinkAPIHelper.getProjectInfo(apiClient, projectID);
+				testProject = new TestLinkTestProject(projectInfo);
+			} catch ( Exception e ) {
+				isAPIReachable = false;
+				createDummyOfflineInfo(projectName, planName);
+			}
+		}
+		
+		// Check if the test plan exists
+		if ( isAPIReachable ) {
+			try {
+				testPlanID = TestLinkAPIHelper.getPlanID(apiClient, projectID, planName);
+				if ( testPlanID == null ) {
+					throw new Exception("Could not find the project.");
+				} 
+			} catch ( Exception e ) {
+				isAPIReachable = false;
+				createDummyOfflineInfo(projectName, planName);
+			}
+		}
+		
+		if ( isAPIReachable ) {
+			try {
+				Map planInfo = TestLinkAPIHelper.getPlanInfo(apiClient, projectID, planName);
+				if ( planInfo != null ) {
+					Object value = planInfo.get(TestLinkAPIConst.API_RESULT_ACTIVE);
+					if ( value != null ) {
+						Integer active = new Integer(value.toString());
+						if ( active.intValue() > 0 ) {
+							isActive = true;
+						} else {
+							isActive = false;
+						}
+					}
+					value = planInfo.get(TestLinkAPIConst.API_RESULT_NOTES);
+					if ( value != null ) {
+						description = value.toString();
+					}
+				} 
+			} catch ( Exception e ) {} // Info not all that critical
+		}
+		
+		if ( isAPIReachable ) {
+			isReportResultsOn = true;
+		}
+		
+		testPlanName = planName;
+	}
+	
+	/*
+	 * Method is called by the constructor and it finds all the test cases in a 
+	 * test plan and then instantiates the classes using the initExistingCase()
+	 * method. Once the case is instantiated it is stored in a list.
+	 */
+	private void initTestCases(
+		String projectName,
+		String planName)
+	{
+		if ( testCasesInitialized == false && isAPIReachable ) {
+			try {
+				// The suites are read and indexed once before the cases are streamed
+				final Class caseClass = Class.forName(testCaseClass);
+				final Map suitesByName = new HashMap();
+				final Map suitesByID = new HashMap();
+				final Set caseKeys = Collections.synchronizedSet(new HashSet());
+				TestLinkAPIResults suites = apiClient.getTestSuitesForTestPlan(testPlanID);
+				for ( int i = 0; i < suites.size(); i++ ) {
+					Map suiteInfo = suites.getData(i);
+					TestLinkTestSuite testSuite = new TestLinkTestSuite(suiteInfo);
+					suitesByName.put(testSuite.getSuiteName(), testSuite);
+					if ( testSuite.getSuiteID() != null ) {
+						suitesByID.put(testSuite.getSuiteID().toString(), testSuite);
+					}
+				}
+				apiClient.getCasesForTestPlan(testPlanID, new TestLinkAPIRowHandler() {
+					public void handleRow(
+						Map caseInfo) throws TestLinkAPIException
+					{
+						addPlanCaseKeys(caseKeys, caseInfo);
+						testCaseRegistry.put(getTestCaseInstance(caseClass, caseInfo,
+							suitesByName, suitesByID));
+					}
+				});
+				planCaseKeys = caseKeys;
+			} catch ( Exception e ) {
+				isAPIReachable = false;
+				createDummyOfflineInfo(projectName, planName);
+			}
+			testCasesInitialized = true;
+		}
+	}
+	
+	/*
+	 * Create an instance of the requested test case class for a case
+	 * of the plan. The suite of the case is found by its identifier
+	 * when TestLink provides it and by its name otherwise.
+	 */
+	private TestCase getTestCaseInstance(
+		Class caseClass,
+		Map testCaseInfo,
+		Map suitesByName,
+		Map suitesByID) throws TestLinkAPIException
+	{
+		TestLinkTestSuite testSuite = null;
+		Object tcSuiteID = testCaseInfo.get(TestLinkAPIConst.API_RESULT_TC_SUITE_ID);
+		if ( tcSuiteID != null ) {
+			testSuite = (TestLinkTestSuite) suitesByID.get(tcSuiteID.toString());
+		}
+		String tcSuiteName = (String) testCaseInfo.get(
+			TestLinkAPIConst.API_RESULT_TC_SUITE);
+		if ( testSuite == null && tcSuiteName != null ) {
+			testSuite = (TestLinkTestSuite) suitesByName.get(tcSuiteName);
+		}
+		if ( testSuite == null ) {
+			throw new TestLinkAPIException(
+				"Unable to find test suite name in the test plan " + tcSuiteName);
+		}
+		
+		TestCase tc;
+		try {
+			tc = (TestCase) caseClass.newInstance();
+		} catch ( Exception e ) {
+			throw new TestLinkAPIException("Unable to create an instance of the test case class "
+				+ testCaseClass + ".", e);
+		}
+		tc.initExistingCase(testProject, testSuite, testCaseInfo);
+		return tc;
+	}
+	
+	/*
+	 * Make sure we are offline with an offline project
+	 */
+	private void createDummyOfflineInfo(
+		String projectName,
+		String planName)
+	{
+		isAPIReachable = false;
+		this.testProject = TestLinkTestProject.getOffLineProject(projectName);
+		testPlanName = planName;
+	}
+	
+	/*
+	 * Check to see if the test plan is part of the test case
+	 */
+	private boolean isCasePartOfPlan(
+		TestCase tc)
+	{
+		Set caseKeys = getPlanCaseKeys();
+		if ( tc.getTestCaseInternalID() != null
+			&& caseKeys.contains(tc.getTestCaseInternalID()) ) {
+			return true;
+		}
+		return tc.getTestCaseVisibleID() != null
+			&& caseKeys.contains(tc.getTestCaseVisibleID());
+	}
+	
+	/*
+	 * The internal and visible identifiers of the test cases in the plan.
+	 * They are read once and kept up to date as cases are added to the
+	 * plan. If the cases cannot be read the plan is taken as empty from
+	 * then on so the cases are not read again for every test case.
+	 */
+	private synchronized Set getPlanCaseKeys()
+	{
+		if ( planCaseKeys == null ) {
+			final Set caseKeys = Collections.synchronizedSet(new HashSet());
+			try {
+				apiClient.getCasesForTestPlan(testPlanID, new TestLinkAPIRowHandler() {
+					public void handleRow(
+						Map caseInfo)
+					{
+						addPlanCaseKeys(caseKeys, caseInfo);
+					}
+				});
+				planCaseKeys = caseKeys;
+			} catch ( Exception e ) {
+				planCaseKeys = Collections.synchronizedSet(new HashSet());
+			}
+		}
+		return planCaseKeys;
+	}
+	
+	/*
+	 * Add the internal identifier and, when the project prefix is known,
+	 * the visible identifier of a case of the plan to the keys.
+	 */
+	private void addPlanCaseKeys(
+		Set caseKeys,
+		Map caseInfo)
+	{
+		TestLinkCaseRecord record = new TestLinkCaseRecord(caseInfo);
+		caseKeys.add(new Integer(record.getID()));
+		String prefix = testProject.getTestCasePrefix();
+		if ( prefix != null && record.getExternalID() > 0 ) {
+			caseKeys.add(record.getVisibleID(prefix));
+		}
+	}
+	
+	/*
+	 * Add test case to test plan. A case without a known version is
+	 * added to the skipped cases instead.
+	 */
+	private void addTestCaseToPlan(
+		TestCase tc,
+		List skipped)
+	{
+		Integer version = getVersionNumber(tc);
+		if ( version == null ) {
+			skipped.add(tc);
+			return;
+		}
+		try {
+			apiClient.addTestCaseToTestPlan(testProject.getProjectID(), testPlanID, null,
+				tc.getTestCaseVisibleID(), version, null, null);
+			addPlanCaseKeys(tc);
+		} catch ( Exception e ) {}
+	}
+	
+	/*
+	 * Add the test cases to test plan in one batch. The cases without
+	 * a known version are added to the skipped cases instead.
+	 */
+	private void addTestCasesToPlan(
+		List testCases,
+		List skipped)
+	{
+		ArrayList added = new ArrayList();
+		try {
+			TestLinkAPIBatch batch = apiClient.createBatch();
+			for ( int i = 0; i < testCases.size(); i++ ) {
+				TestCase tc = (TestCase) testCases.get(i);
+				Integer version = getVersionNumber(tc);
+				if ( version == null ) {
+					skipped.add(tc);
+				} else {
+					batch.addTestCaseToTestPlan(testProject.getProjectID(), testPlanID, null,
+						tc.getTestCaseVisibleID(), version, null, null);
+					added.add(tc);
+				}
+			}
+			if ( added.isEmpty() ) {
+				return;
+			}
+			batch.execute();
+			for ( int i = 0; i < added.size(); i++ ) {
+				if ( !batch.hasError(i) ) {
+					addPlanCaseKeys((TestCase) added.get(i));
+				}
+			}
+		} catch ( Exception e ) {}
+	}
+	
+	/*
+	 * Report the test cases that were not added to the plan because
+	 * their version is not known.
+	 */
+	private void reportSkippedCases(
+		List skipped) throws TestLinkAPIException
+	{
+		if ( skipped.isEmpty() ) {
+			return;
+		}
+		String names = "";
+		for ( int i = 0; i < skipped.size(); i++ ) {
+			TestCase tc = (TestCase) skipped.get(i);
+			if ( i > 0 ) {
+				names = names + ", ";
+			}
+			names = names + tc.getTestCaseName();
+		}
+		throw new TestLinkAPIException("The version of the test cases [" + names
+			+ "] is not known and they were not added to test plan " + testPlanName + ".");
+	}
+	
+	/*
+	 * The key used to add a test case to the plan only once. It is the
+	 * internal identifier or the visible identifier when the internal one
+	 * is not known. A case without either cannot be added to the plan.
+	 */
+	private static Object getPlanKey(
+		TestCase tc)
+	{
+		if ( tc.getTestCaseInternalID() != null ) {
+			return tc.getTestCaseInternalID();
+		}
+		return tc.getTestCaseVisibleID();
+	}
+	
+	/*
+	 * Remember that the test case is part of the plan by its internal
+	 * and its visible identifier.
+	 */
+	private void addPlanCaseKeys(
+		TestCase tc)
+	{
+		Set caseKeys = getPlanCaseKeys();
+		if ( tc.getTestCaseInternalID() != null ) {
+			caseKeys.add(tc.getTestCaseInternalID());
+		}
+		if ( tc.getTestCaseVisibleID() != null ) {
+			caseKeys.add(tc.getTestCaseVisibleID());
+		}
+	}
+	
+	/*
+	 * The version of the test case to add to a plan. When the test case
+	 * does not know its version the latest version is looked up the way
+	 * TestLinkAPIClient.addTestCaseToTestPlan() does for a case added by
+	 * name. Null if the version is not known.
+	 */
+	private Integer getVersionNumber(
+		TestCase tc)
+	{
+		try {
+			return new Integer(tc.getVersion());
+		} catch ( NumberFormatException e ) {
+			// Look it up
+		}
+		try {
+			Integer projectID = testProject.getProjectID();
+			Integer caseID = tc.getTestCaseInternalID();
+			if ( caseID == null && tc.getTestCaseVisibleID() != null ) {
+				caseID = TestLinkAPIHelper.getCaseIDByVisibleID(apiClient, projectID,
+					tc.getTestCaseVisibleID());
+			}
+			Map caseInfo = TestLinkAPIHelper.getTestCaseInfo(apiClient, projectID, caseID);
+			if ( caseInfo != null && caseInfo.get(TestLinkAPIConst.API_RESULT_VERSION) != null ) {
+				return new Integer(caseInfo.get(TestLinkAPIConst.API_RESULT_VERSION).toString());
+			}
+		} catch ( Exception e ) {
+			// Not known
+		}
+		return null;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+/**
+ * The means by which a TestLinkAPIClient sends its calls to the
+ * TestLink API. The client builds the parameters for each call and
+ * turns the raw result into TestLinkAPIResults so an implementation
+ * only has to deliver the call.
+ * <p>
+ * The raw result has the same form as the value of a XML-RPC response:
+ * an Object[] for a list, a Map for a struct, a String, Integer or
+ * Boolean for a scalar or a TestLinkAPIResults that was already built.
+ * Faults and failed calls are reported as a TestLinkTransportException
+ * carrying the fault code.
+ * <p>
+ * Implementations must allow calls from several threads at once.
+ * 
+ * @see TestLinkXmlRpcTransport
+ * @see TestLinkInMemoryTransport
+ */
+public interface TestLinkTransport
+{
+	/**
+	 * Call a TestLink API method.
+	 * 
+	 * @param method	The API method name like tl.getProjects
+	 * @param params	The method parameters, usually a single Hashtable
+	 * @return The raw result of the call
+	 * @throws TestLinkTransportException
+	 */
+	public Object execute(
+		String method,
+		Object[] params) throws TestLinkTransportException;
+	
+	/**
+	 * The location of the TestLink API. Used in messages.
+	 * 
+	 * @return
+	 */
+	public String getServerURL();
+}
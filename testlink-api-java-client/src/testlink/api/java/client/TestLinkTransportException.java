@@ -0,0 +1,75 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+/**
+ * The exception a TestLinkTransport throws when a call could not be
+ * delivered or the server answered with a fault. The code is the
+ * fault code sent by the server or 0 when the call failed before
+ * the server could answer.
+ * 
+ * @see TestLinkTransport
+ */
+public class TestLinkTransportException extends Exception
+{
+	private int code;
+
+	/**
+	 * Create exception with a fault code and message.
+	 * 
+	 * @param code
+	 * @param msg
+	 */
+	public TestLinkTransportException(
+		int code,
+		String msg)
+	{
+		super(msg);
+		this.code = code;
+	}
+
+	/**
+	 * Create a nested exception with a fault code and message.
+	 * 
+	 * @param code
+	 * @param msg
+	 * @param e
+	 */
+	public TestLinkTransportException(
+		int code,
+		String msg,
+		Throwable e)
+	{
+		super(msg, e);
+		this.code = code;
+	}
+
+	/**
+	 * The fault code sent by the server or 0 if there was none.
+	 * 
+	 * @return
+	 */
+	public int getCode()
+	{
+		return code;
+	}
+}
@@ -0,0 +1,392 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ws.commons.util.Base64;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+
+/**
+ * SAX handler that decodes a XML-RPC method response straight into
+ * TestLinkAPIResults. Each row of the response is added to the results
+ * as soon as its closing tag is read so the nested Object[] and Map
+ * tree of the whole response is never built.
+ * <p>
+ * The rows are the same as the ones produced by the TestLinkAPIClient
+ * from the objects returned by the Apache XML-RPC client:
+ * <ul>
+ * <li>Every struct of a top level array is a row and every other value
+ * of the array is a row with a RESULT_n key.</li>
+ * <li>Every struct member of a top level struct is a row when all the
+ * members are structs, otherwise the top level struct is the only row.</li>
+ * <li>A top level value other than a zero length string is a row with
+ * the RESULT_1 key.</li>
+ * </ul>
+ */
+class TestLinkXmlRpcResponseParser extends DefaultHandler
+{
+	/* Value and container element names */
+	private static final String VALUE = "value";
+	private static final String STRUCT = "struct";
+	private static final String ARRAY = "array";
+	private static final String NAME = "name";
+	private static final String FAULT = "fault";
+
+	private TestLinkAPIResults results;
+	private ArrayList frames = new ArrayList();
+	private StringBuffer text = new StringBuffer();
+	private boolean isCollecting = false;
+	private boolean isFault = false;
+	private String valueType = null;
+	private Object faultValue = null;
+	private int unknownResultTypeCnt = 0;
+
+	/**
+	 * Create a parser that adds the rows to the results.
+	 *
+	 * @param results
+	 */
+	TestLinkXmlRpcResponseParser(
+		TestLinkAPIResults results)
+	{
+		this.results = results;
+	}
+
+	/**
+	 * The results the rows were added to.
+	 *
+	 * @return
+	 */
+	TestLinkAPIResults getResults()
+	{
+		return results;
+	}
+
+	/**
+	 * True if the server returned a fault instead of results.
+	 *
+	 * @return
+	 */
+	boolean isFault()
+	{
+		return isFault;
+	}
+
+	/**
+	 * The fault code when the server returned a fault.
+	 *
+	 * @return
+	 */
+	int getFaultCode()
+	{
+		Object code = getFaultMember(TestLinkAPIConst.API_FAULT_CODE);
+		if ( code instanceof Integer ) {
+			return ((Integer) code).intValue();
+		}
+		try {
+			return Integer.parseInt(String.valueOf(code).trim());
+		} catch ( NumberFormatException e ) {
+			return 0;
+		}
+	}
+
+	/**
+	 * The fault message when the server returned a fault.
+	 *
+	 * @return
+	 */
+	String getFaultString()
+	{
+		Object message = getFaultMember(TestLinkAPIConst.API_FAULT_STRING);
+		return (message == null) ? null : message.toString();
+	}
+
+	public void startElement(
+		String uri,
+		String localName,
+		String qName,
+		Attributes attributes) throws SAXException
+	{
+		String element = getElementName(localName, qName);
+		if ( VALUE.equals(element) ) {
+			valueType = null;
+			startText();
+		} else if ( STRUCT.equals(element) || ARRAY.equals(element) ) {
+			isCollecting = false;
+			valueType = element;
+			frames.add(new Frame(element, frames.isEmpty() && !isFault));
+		} else if ( NAME.equals(element) ) {
+			startText();
+		} else if ( FAULT.equals(element) ) {
+			isFault = true;
+		} else if ( isCollecting ) {
+			// A scalar type element like <string> or <int>
+			valueType = element;
+			startText();
+		}
+	}
+
+	public void endElement(
+		String uri,
+		String localName,
+		String qName) throws SAXException
+	{
+		String element = getElementName(localName, qName);
+		if ( VALUE.equals(element) ) {
+			if ( STRUCT.equals(valueType) || ARRAY.equals(valueType) ) {
+				// The container was delivered when it was closed
+				valueType = null;
+			} else {
+				isCollecting = false;
+				try {
+					deliver(toObject(valueType, text.toString()));
+				} catch ( IllegalArgumentException e ) {
+					throw new SAXException("Invalid " + valueType + " value: " + e.getMessage(), e);
+				}
+			}
+		} else if ( STRUCT.equals(element) || ARRAY.equals(element) ) {
+			Frame frame = (Frame) frames.remove(frames.size() - 1);
+			frame.finish();
+			if ( !frame.isTopLevel ) {
+				deliver(frame.getValue());
+			}
+			valueType = element;
+		} else if ( NAME.equals(element) ) {
+			isCollecting = false;
+			if ( !frames.isEmpty() ) {
+				((Frame) frames.get(frames.size() - 1)).memberName = text.toString();
+			}
+		} else if ( element.equals(valueType) ) {
+			// Ignore the white space between the type and value end tags
+			isCollecting = false;
+		}
+	}
+
+	public void characters(
+		char[] ch,
+		int start,
+		int length) throws SAXException
+	{
+		if ( isCollecting ) {
+			text.append(ch, start, length);
+		}
+	}
+
+	/*
+	 * Namespace aware parsers only report the local name.
+	 */
+	private String getElementName(
+		String localName,
+		String qName)
+	{
+		if ( localName != null && localName.length() > 0 ) {
+			return localName;
+		}
+		return qName;
+	}
+
+	private void startText()
+	{
+		text.setLength(0);
+		isCollecting = true;
+	}
+
+	/*
+	 * Hand a complete value to its container or to the results when it
+	 * is the top level value.
+	 */
+	private void deliver(
+		Object value)
+	{
+		if ( !frames.isEmpty() ) {
+			((Frame) frames.get(frames.size() - 1)).accept(value);
+		} else if ( isFault ) {
+			faultValue = value;
+		} else if ( value != null && value.toString().length() > 0 ) {
+			// The api returns a length 0 string for empty list
+			addUnknown(value);
+		}
+	}
+
+	private void addUnknown(
+		Object value)
+	{
+		unknownResultTypeCnt++;
+		HashMap data = new HashMap();
+		data.put("RESULT_" + unknownResultTypeCnt, value);
+		results.addRow(data);
+	}
+
+	private Object getFaultMember(
+		String name)
+	{
+		if ( faultValue instanceof Map ) {
+			return ((Map) faultValue).get(name);
+		}
+		return null;
+	}
+
+	/*
+	 * Convert the text of a scalar value to the Java type used by the
+	 * Apache XML-RPC client. A value without a type is a string.
+	 */
+	private static Object toObject(
+		String type,
+		String value)
+	{
+		if ( type == null || "string".equals(type) ) {
+			return value;
+		}
+		String trimmed = value.trim();
+		if ( "int".equals(type) || "i4".equals(type) ) {
+			return new Integer(trimmed);
+		} else if ( "i8".equals(type) ) {
+			return new Long(trimmed);
+		} else if ( "boolean".equals(type) ) {
+			return Boolean.valueOf("1".equals(trimmed) || "true".equalsIgnoreCase(trimmed));
+		} else if ( "double".equals(type) ) {
+			return new Double(trimmed);
+		} else if ( "nil".equals(type) ) {
+			return null;
+		} else if ( "base64".equals(type) ) {
+			try {
+				return Base64.decode(trimmed);
+			} catch ( Base64.DecodingException e ) {
+				throw new IllegalArgumentException(e.getMessage());
+			}
+		} else if ( "dateTime.iso8601".equals(type) ) {
+			try {
+				return new SimpleDateFormat("yyyyMMdd'T'HH:mm:ss").parse(trimmed);
+			} catch ( ParseException e ) {
+				throw new IllegalArgumentException(trimmed);
+			}
+		}
+		return value;
+	}
+
+	/*
+	 * An open struct or array. The frames of a top level container add
+	 * their entries to the results instead of keeping them.
+	 */
+	private class Frame
+	{
+		String type;
+		boolean isTopLevel;
+		String memberName = null;
+		HashMap struct = null;
+		ArrayList array = null;
+
+		/* Top level struct state */
+		boolean isSplit = false;
+		int firstRow = -1;
+		ArrayList splitNames = null;
+
+		Frame(
+			String type,
+			boolean isTopLevel)
+		{
+			this.type = type;
+			this.isTopLevel = isTopLevel;
+			if ( STRUCT.equals(type) ) {
+				struct = new HashMap();
+			} else if ( !isTopLevel ) {
+				array = new ArrayList();
+			}
+		}
+
+		void accept(
+			Object value)
+		{
+			if ( ARRAY.equals(type) ) {
+				if ( !isTopLevel ) {
+					array.add(value);
+				} else if ( value instanceof Map ) {
+					results.add((Map) value);
+				} else {
+					addUnknown(value);
+				}
+			} else if ( !isTopLevel ) {
+				struct.put(memberName, value);
+			} else {
+				acceptTopLevelMember(value);
+			}
+		}
+
+		/*
+		 * A top level struct of structs is split into one row per member.
+		 * The member rows are added as they arrive and are taken back if
+		 * a member that is not a struct shows up later.
+		 */
+		void acceptTopLevelMember(
+			Object value)
+		{
+			if ( value instanceof Map && (isSplit || struct.isEmpty()) ) {
+				if ( !isSplit ) {
+					isSplit = true;
+					firstRow = results.size();
+					splitNames = new ArrayList();
+				}
+				splitNames.add(memberName);
+				results.addRow((Map) value);
+			} else if ( value == null && isSplit ) {
+				struct.put(memberName, null);
+			} else {
+				if ( isSplit && results.getHandledRowCount() > 0 ) {
+					throw new IllegalStateException(
+						"The rows of the response were already handed to the row handler.");
+				}
+				if ( isSplit ) {
+					for ( int i = 0; i < splitNames.size(); i++ ) {
+						struct.put(splitNames.get(i), results.getData(firstRow));
+						results.remove(firstRow);
+					}
+					isSplit = false;
+					splitNames = null;
+				}
+				struct.put(memberName, value);
+			}
+		}
+
+		void finish()
+		{
+			if ( isTopLevel && STRUCT.equals(type) && !isSplit && !struct.isEmpty() ) {
+				results.add(struct);
+			}
+		}
+
+		Object getValue()
+		{
+			if ( STRUCT.equals(type) ) {
+				return struct;
+			}
+			return array.toArray();
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+
+
+/**
+ * Sends the TestLink API calls to a TestLink server over HTTP using
+ * the Apache XML-RPC client. This is the transport a TestLinkAPIClient
+ * uses unless another one is provided.
+ * <p>
+ * A single XML-RPC client is shared by all the calls so HTTP
+ * connections to the TestLink server can be kept alive between calls.
+ */
+public class TestLinkXmlRpcTransport implements TestLinkTransport, TestLinkAPIConst
+{
+	private String serverURL;
+	private XmlRpcClient rpcClient;
+	private XmlRpcClientConfigImpl rpcConfig;
+	private TestLinkXmlRpcTransportFactory rpcTransportFactory;
+	
+	/**
+	 * Create a transport for the TestLink API URL with the default
+	 * timeouts and maximum connections.
+	 * 
+	 * @param serverURL		Example: http://localhost/testlink/lib/api/xmlrpc.php
+	 * @throws TestLinkAPIException
+	 */
+	public TestLinkXmlRpcTransport(
+		String serverURL) throws TestLinkAPIException
+	{
+		this.serverURL = serverURL;
+		rpcConfig = new XmlRpcClientConfigImpl();
+		try {
+			rpcConfig.setServerURL(new URL(serverURL));
+		} catch ( MalformedURLException e ) {
+			throw new TestLinkAPIException("Unable to create a XML-RPC client.", e);
+		}
+		rpcConfig.setConnectionTimeout(DEFAULT_CONNECT_TIMEOUT);
+		rpcConfig.setReplyTimeout(DEFAULT_READ_TIMEOUT);
+		rpcClient = new XmlRpcClient();
+		rpcClient.setConfig(rpcConfig);
+		rpcTransportFactory = new TestLinkXmlRpcTransportFactory(rpcClient,
+			DEFAULT_MAX_CONNECTIONS);
+		rpcClient.setTransportFactory(rpcTransportFactory);
+	}
+	
+	/**
+	 * @see TestLinkTransport#execute(String, Object[])
+	 */
+	public Object execute(
+		String method,
+		Object[] params) throws TestLinkTransportException
+	{
+		try {
+			return rpcClient.execute(method, params);
+		} catch ( XmlRpcException e ) {
+			throw toTransportException(e);
+		}
+	}
+	
+	/**
+	 * Execute the method and hand the rows of the response to the
+	 * handler while the response is read. The returned results only
+	 * hold an error returned by TestLink.
+	 * 
+	 * @param method
+	 * @param params
+	 * @param handler
+	 * @return The results with the count of the handled rows
+	 * @throws TestLinkTransportException
+	 */
+	public Object execute(
+		String method,
+		Object[] params,
+		TestLinkAPIRowHandler handler) throws TestLinkTransportException
+	{
+		rpcTransportFactory.setRowHandler(handler);
+		try {
+			return rpcClient.execute(method, params);
+		} catch ( XmlRpcException e ) {
+			throw toTransportException(e);
+		} finally {
+			rpcTransportFactory.setRowHandler(null);
+		}
+	}
+	
+	/*
+	 * Keep the fault code and message of the XML-RPC exception so
+	 * callers do not depend on the XML-RPC library.
+	 */
+	private static TestLinkTransportException toTransportException(
+		XmlRpcException e)
+	{
+		Throwable cause = e.linkedException;
+		if ( cause == null ) {
+			cause = e;
+		}
+		return new TestLinkTransportException(e.code, e.getMessage(), cause);
+	}
+	
+	/**
+	 * @see TestLinkTransport#getServerURL()
+	 */
+	public String getServerURL()
+	{
+		return serverURL;
+	}
+	
+	/**
+	 * Set the time in milliseconds to wait for a connection to be
+	 * established. A value of 0 waits forever.
+	 * 
+	 * @param millis
+	 */
+	public void setConnectTimeout(
+		int millis)
+	{
+		rpcConfig.setConnectionTimeout(millis);
+	}
+	
+	/**
+	 * Get the connect timeout in milliseconds.
+	 * 
+	 * @return
+	 */
+	public int getConnectTimeout()
+	{
+		return rpcConfig.getConnectionTimeout();
+	}
+	
+	/**
+	 * Set the time in milliseconds to wait for a response.
+	 * A value of 0 waits forever.
+	 * 
+	 * @param millis
+	 */
+	public void setReadTimeout(
+		int millis)
+	{
+		rpcConfig.setReplyTimeout(millis);
+	}
+	
+	/**
+	 * Get the read timeout in milliseconds.
+	 * 
+	 * @return
+	 */
+	public int getReadTimeout()
+	{
+		return rpcConfig.getReplyTimeout();
+	}
+	
+	/**
+	 * Set the maximum number of HTTP connections used at the same time.
+	 * 
+	 * @param max
+	 */
+	public void setMaxConnections(
+		int max)
+	{
+		rpcTransportFactory.setMaxConnections(max);
+	}
+	
+	/**
+	 * Get the maximum number of HTTP connections used at the same time.
+	 * 
+	 * @return
+	 */
+	public int getMaxConnections()
+	{
+		return rpcTransportFactory.getMaxConnections();
+	}
+	
+	/**
+	 * Enable or disable decoding responses straight into TestLinkAPIResults.
+	 * 
+	 * @param enable
+	 */
+	public void setStreamingDecoder(
+		boolean enable)
+	{
+		rpcTransportFactory.setStreaming(enable);
+	}
+	
+	/**
+	 * True if responses are decoded straight into TestLinkAPIResults.
+	 * 
+	 * @return
+	 */
+	public boolean isStreamingDecoder()
+	{
+		return rpcTransportFactory.isStreaming();
+	}
+	
+	/**
+	 * Set the statistics the request and response bytes are counted in.
+	 * 
+	 * @param statistics	Optional
+	 */
+	public void setStatistics(
+		TestLinkAPIStatistics statistics)
+	{
+		rpcTransportFactory.setStatistics(statistics);
+	}
+}
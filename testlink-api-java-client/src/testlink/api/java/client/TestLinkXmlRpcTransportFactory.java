@@ -0,0 +1,419 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client;
+
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.client.XmlRpcSunHttpTransport;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcHttpRequestConfig;
+import org.apache.xmlrpc.common.XmlRpcStreamRequestConfig;
+import org.apache.xmlrpc.util.SAXParsers;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+
+/**
+ * Transport factory used by the TestLinkAPIClient so a single
+ * XmlRpcClient can be shared by every call the client makes.
+ * <p>
+ * The default Apache factory hands out one transport instance that
+ * keeps the open connection in a field and disconnects the socket
+ * after every response. This factory creates a light weight transport
+ * per request instead, applies the configured connect and read
+ * timeouts and releases the connection back to the JVM keep-alive
+ * cache rather than closing it. The number of connections in use at
+ * the same time is bounded by the maximum connections setting.
+ * <p>
+ * When the streaming decoder is enabled the responses are decoded
+ * straight into TestLinkAPIResults by the TestLinkXmlRpcResponseParser
+ * instead of the nested objects built by the Apache parser. A row
+ * handler set for the calling thread receives the rows of the response
+ * while it is read instead.
+ * <p>
+ * When statistics are set the bytes of each request and response are
+ * counted per method.
+ */
+class TestLinkXmlRpcTransportFactory extends XmlRpcTransportFactoryImpl
+{
+	private int maxConnections;
+	private int activeConnections = 0;
+	private volatile boolean isStreaming = false;
+	private volatile TestLinkAPIStatistics statistics = null;
+	
+	// The row handler of the request made by the current thread
+	private ThreadLocal rowHandler = new ThreadLocal();
+
+	/**
+	 * Create a factory for the client that allows at most
+	 * maxConnections simultaneous requests.
+	 *
+	 * @param client
+	 * @param maxConnections
+	 */
+	TestLinkXmlRpcTransportFactory(
+		XmlRpcClient client,
+		int maxConnections)
+	{
+		super(client);
+		setMaxConnections(maxConnections);
+	}
+
+	/**
+	 * Returns a new transport for each request since the transport
+	 * holds on to the connection while the request is processed.
+	 */
+	public XmlRpcTransport getTransport()
+	{
+		return new KeepAliveTransport(getClient());
+	}
+
+	/**
+	 * Change the number of requests that may use a connection at the
+	 * same time. Callers waiting for a connection are woken up so
+	 * a larger value takes effect immediately.
+	 *
+	 * @param maxConnections
+	 */
+	synchronized void setMaxConnections(
+		int maxConnections)
+	{
+		if ( maxConnections < 1 ) {
+			maxConnections = 1;
+		}
+		this.maxConnections = maxConnections;
+		notifyAll();
+	}
+
+	/**
+	 * Get the number of requests that may use a connection at the same time.
+	 *
+	 * @return
+	 */
+	synchronized int getMaxConnections()
+	{
+		return maxConnections;
+	}
+
+	/**
+	 * Enable or disable decoding the responses straight into
+	 * TestLinkAPIResults.
+	 *
+	 * @param isStreaming
+	 */
+	void setStreaming(
+		boolean isStreaming)
+	{
+		this.isStreaming = isStreaming;
+	}
+
+	/**
+	 * True if responses are decoded straight into TestLinkAPIResults.
+	 *
+	 * @return
+	 */
+	boolean isStreaming()
+	{
+		return isStreaming;
+	}
+
+	/**
+	 * Set the statistics the request and response bytes are counted in.
+	 *
+	 * @param statistics	Optional
+	 */
+	void setStatistics(
+		TestLinkAPIStatistics statistics)
+	{
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Set the handler that receives the rows of the next responses
+	 * read by the current thread. Set it to null when the request
+	 * is done.
+	 *
+	 * @param handler	Optional
+	 */
+	void setRowHandler(
+		TestLinkAPIRowHandler handler)
+	{
+		if ( handler == null ) {
+			rowHandler.remove();
+		} else {
+			rowHandler.set(handler);
+		}
+	}
+
+	/*
+	 * Wait until a connection slot is available.
+	 */
+	private synchronized void acquire() throws XmlRpcException
+	{
+		while ( activeConnections >= maxConnections ) {
+			try {
+				wait();
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				throw new XmlRpcException("Interrupted while waiting for a connection.", e);
+			}
+		}
+		activeConnections++;
+	}
+
+	/*
+	 * Give a connection slot back.
+	 */
+	private synchronized void release()
+	{
+		activeConnections--;
+		notifyAll();
+	}
+
+	/*
+	 * Transport for a single request. The connection is created by the
+	 * JVM HttpURLConnection implementation which reuses idle keep-alive
+	 * sockets to the same host as long as the previous response was
+	 * read completely and the connection was not disconnected.
+	 */
+	private class KeepAliveTransport extends XmlRpcSunHttpTransport
+	{
+		private URLConnection conn;
+		private InputStream connStream = null;
+		private String methodName;
+		private CountingOutputStream requestStream = null;
+		private CountingInputStream responseStream = null;
+
+		KeepAliveTransport(
+			XmlRpcClient client)
+		{
+			super(client);
+		}
+
+		protected URLConnection newURLConnection(
+			URL url) throws IOException
+		{
+			conn = super.newURLConnection(url);
+			XmlRpcHttpRequestConfig config = (XmlRpcHttpRequestConfig) getClient().getClientConfig();
+			conn.setConnectTimeout(config.getConnectionTimeout());
+			conn.setReadTimeout(config.getReplyTimeout());
+			return conn;
+		}
+
+		public Object sendRequest(
+			XmlRpcRequest request) throws XmlRpcException
+		{
+			methodName = request.getMethodName();
+			acquire();
+			try {
+				return super.sendRequest(request);
+			} catch ( XmlRpcException e ) {
+				// Do not hand a connection in an unknown state back to the cache
+				disconnect();
+				throw e;
+			} catch ( RuntimeException e ) {
+				disconnect();
+				throw e;
+			} finally {
+				release();
+				recordBytes();
+			}
+		}
+
+		protected void writeRequest(
+			ReqWriter writer) throws IOException, XmlRpcException, SAXException
+		{
+			if ( statistics == null ) {
+				super.writeRequest(writer);
+				return;
+			}
+			requestStream = new CountingOutputStream(conn.getOutputStream());
+			writer.write(requestStream);
+		}
+
+		protected InputStream getInputStream() throws XmlRpcException
+		{
+			InputStream stream = super.getInputStream();
+			connStream = stream;
+			if ( statistics == null ) {
+				return stream;
+			}
+			responseStream = new CountingInputStream(stream);
+			return responseStream;
+		}
+
+		private void recordBytes()
+		{
+			TestLinkAPIStatistics current = statistics;
+			if ( current != null && (requestStream != null || responseStream != null) ) {
+				current.recordBytes(methodName,
+					(requestStream == null) ? 0 : requestStream.count,
+					(responseStream == null) ? 0 : responseStream.count);
+			}
+		}
+
+		/*
+		 * The multicall response is an array of per call results and is
+		 * left to the Apache parser.
+		 */
+		protected Object readResponse(
+			XmlRpcStreamRequestConfig config,
+			InputStream stream) throws XmlRpcException
+		{
+			TestLinkAPIRowHandler handler = (TestLinkAPIRowHandler) rowHandler.get();
+			if ( TestLinkAPIConst.API_METHOD_MULTICALL.equals(methodName)
+				|| (!isStreaming && handler == null) ) {
+				return super.readResponse(config, stream);
+			}
+			TestLinkAPIResults results = (handler == null ? new TestLinkAPIResults()
+				: new TestLinkAPIResults(handler));
+			TestLinkXmlRpcResponseParser parser = new TestLinkXmlRpcResponseParser(results);
+			try {
+				XMLReader reader = SAXParsers.newXMLReader();
+				reader.setContentHandler(parser);
+				reader.parse(new InputSource(stream));
+			} catch ( SAXException e ) {
+				throw new XmlRpcClientException("Failed to parse servers response: "
+					+ e.getMessage(), e);
+			} catch ( IOException e ) {
+				throw new XmlRpcClientException("Failed to read servers response: "
+					+ e.getMessage(), e);
+			}
+			if ( parser.isFault() ) {
+				throw new XmlRpcException(parser.getFaultCode(), parser.getFaultString());
+			}
+			return parser.getResults();
+		}
+
+		/*
+		 * Closing the response stream instead of disconnecting lets
+		 * the JVM return the socket to its keep-alive cache. When no
+		 * response stream was obtained the connection is in an unknown
+		 * state and is disconnected.
+		 */
+		protected void close() throws XmlRpcClientException
+		{
+			if ( connStream == null ) {
+				disconnect();
+				return;
+			}
+			try {
+				connStream.close();
+			} catch ( IOException e ) {
+				disconnect();
+			}
+		}
+
+		private void disconnect()
+		{
+			if ( conn instanceof HttpURLConnection ) {
+				((HttpURLConnection) conn).disconnect();
+			}
+		}
+	}
+
+	/*
+	 * Counts the bytes written to the request.
+	 */
+	private static class CountingOutputStream extends FilterOutputStream
+	{
+		long count = 0;
+
+		CountingOutputStream(
+			OutputStream out)
+		{
+			super(out);
+		}
+
+		public void write(
+			int b) throws IOException
+		{
+			out.write(b);
+			count++;
+		}
+
+		public void write(
+			byte[] b,
+			int off,
+			int len) throws IOException
+		{
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+
+	/*
+	 * Counts the bytes read from the response.
+	 */
+	private static class CountingInputStream extends FilterInputStream
+	{
+		long count = 0;
+
+		CountingInputStream(
+			InputStream in)
+		{
+			super(in);
+		}
+
+		public int read() throws IOException
+		{
+			int b = in.read();
+			if ( b >= 0 ) {
+				count++;
+			}
+			return b;
+		}
+
+		public int read(
+			byte[] b,
+			int off,
+			int len) throws IOException
+		{
+			int read = in.read(b, off, len);
+			if ( read > 0 ) {
+				count += read;
+			}
+			return read;
+		}
+
+		public long skip(
+			long n) throws IOException
+		{
+			long skipped = in.skip(n);
+			count += skipped;
+			return skipped;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.autoexec;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import testlink.api.java.client.TestCase;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkTestCase;
+import testlink.api.java.client.TestLinkTestProject;
+import testlink.api.java.client.TestLinkTestSuite;
+import testlink.api.java.client.tc.autoexec.ConcurrentTestCaseRegistry;
+import testlink.api.java.client.tc.autoexec.TestCaseRegistry;
+
+
+/**
+ * Verifies the lookups and the execution order of the test case
+ * registry. The test cases are offline so no TestLink is needed.
+ */
+public class TestCaseRegistryTest implements TestLinkAPIConst
+{
+	private TestLinkTestProject project = TestLinkTestProject.getOffLineProject("Project");
+	private TestLinkTestSuite suite = TestLinkTestSuite.getOfflineTestSuite();
+
+	/**
+	 * Test cases are found by internal id, visible id and name.
+	 */
+	@Test
+	public void testLookups() throws Exception
+	{
+		TestCaseRegistry registry = new TestCaseRegistry();
+		TestCase login = createCase(1, "Login", 2);
+		TestCase logout = createCase(2, "Logout", 1);
+		registry.put(login);
+		registry.put(logout);
+
+		assertEquals(2, registry.size());
+		assertSame(login, registry.get(new Integer(1)));
+		assertSame(logout, registry.get("offline-2"));
+		assertSame(login, registry.get("Login"));
+		assertTrue(registry.contains("Logout"));
+		assertFalse(registry.contains(new Integer(3)));
+		assertNull(registry.get("Unknown"));
+
+		// A case with the same internal id replaces the registered one
+		TestCase renamed = createCase(1, "Sign in", 2);
+		registry.put(renamed);
+		assertEquals(2, registry.size());
+		assertSame(renamed, registry.get(new Integer(1)));
+		assertFalse(registry.contains("Login"));
+
+		registry.remove(logout);
+		assertEquals(1, registry.size());
+		assertFalse(registry.contains("offline-2"));
+	}
+
+	/**
+	 * Test cases are kept in execution order and then visible id order.
+	 */
+	@Test
+	public void testOrder() throws Exception
+	{
+		TestCaseRegistry registry = new TestCaseRegistry();
+		for ( int i = 1; i <= 9; i++ ) {
+			registry.put(createCase(i, "Case " + i, 3 - i % 3));
+		}
+		TestCase[] cases = registry.toArray();
+		assertEquals(9, cases.length);
+		for ( int i = 1; i < cases.length; i++ ) {
+			assertTrue(cases[i - 1].getExecOrder() <= cases[i].getExecOrder());
+			if ( cases[i - 1].getExecOrder() == cases[i].getExecOrder() ) {
+				assertTrue(cases[i - 1].getTestCaseVisibleID().compareTo(
+					cases[i].getTestCaseVisibleID()) < 0);
+			}
+			assertSame(cases[i], registry.get(i));
+			assertEquals(i, registry.find(cases[i]));
+		}
+
+		// The array is a snapshot
+		registry.remove(cases[0]);
+		assertEquals(9, cases.length);
+		assertEquals(8, registry.size());
+		assertSame(cases[1], registry.get(0));
+	}
+
+	/**
+	 * Test cases are added by several threads while the registry is read.
+	 */
+	@Test
+	public void testConcurrentRegistry() throws Exception
+	{
+		final TestCaseRegistry registry = new ConcurrentTestCaseRegistry();
+		final TestCase[][] created = new TestCase[4][250];
+		for ( int t = 0; t < created.length; t++ ) {
+			for ( int i = 0; i < created[t].length; i++ ) {
+				int id = t * created[t].length + i + 1;
+				created[t][i] = createCase(id, "Case " + id, id % 5);
+			}
+		}
+		Thread[] producers = new Thread[created.length];
+		for ( int t = 0; t < producers.length; t++ ) {
+			final TestCase[] cases = created[t];
+			producers[t] = new Thread() {
+				public void run()
+				{
+					for ( int i = 0; i < cases.length; i++ ) {
+						registry.put(cases[i]);
+					}
+				}
+			};
+			producers[t].start();
+		}
+		
+		// Every snapshot read while the cases are added is in order
+		boolean isRunning = true;
+		while ( isRunning ) {
+			isRunning = false;
+			for ( int t = 0; t < producers.length; t++ ) {
+				isRunning |= producers[t].isAlive();
+			}
+			TestCase[] cases = registry.toArray();
+			for ( int i = 1; i < cases.length; i++ ) {
+				assertTrue(cases[i - 1].getExecOrder() <= cases[i].getExecOrder());
+			}
+		}
+		assertEquals(1000, registry.size());
+		for ( int t = 0; t < created.length; t++ ) {
+			for ( int i = 0; i < created[t].length; i++ ) {
+				assertSame(created[t][i], registry.get(created[t][i].getTestCaseVisibleID()));
+			}
+		}
+	}
+
+	/*
+	 * Create an offline test case.
+	 */
+	private TestCase createCase(
+		int id,
+		String name,
+		int execOrder) throws Exception
+	{
+		HashMap info = new HashMap();
+		info.put(API_RESULT_TC_INTERNAL_ID, String.valueOf(id));
+		info.put(API_RESULT_NAME, name);
+		info.put(API_RESULT_EXEC_ORDER, String.valueOf(execOrder));
+		info.put(API_RESULT_TC_EXTERNAL_ID, String.valueOf(id));
+		info.put(API_RESULT_EXEC_TYPE, TESTCASE_EXECUTION_TYPE_AUTO);
+		info.put(API_RESULT_TC_SUITE, suite.getSuiteName());
+		TestLinkTestCase testCase = new TestLinkTestCase();
+		testCase.initExistingCase(project, suite, info);
+		return testCase;
+	}
+}
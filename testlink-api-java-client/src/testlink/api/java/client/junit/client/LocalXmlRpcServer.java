@@ -0,0 +1,347 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A minimal stand-in for the TestLink XML-RPC server used by tests
+ * that need to observe the requests the client sends. Each method
+ * name is mapped to the XML of the value that is returned and every
+ * request received is recorded by method name.
+ * <p>
+ * Connections are kept alive like a real HTTP/1.1 server would.
+ */
+public class LocalXmlRpcServer extends Thread
+{
+	private static final Pattern METHOD_NAME = Pattern.compile(
+		"<methodName>\\s*([^<\\s]+)\\s*</methodName>");
+
+	private ServerSocket serverSocket;
+	private Map responses = new HashMap();
+	private List requests = new ArrayList();
+	private Map delays = new HashMap();
+	private int connectionCount = 0;
+	private int activeRequests = 0;
+	private int maxActiveRequests = 0;
+	private boolean running = true;
+
+	/**
+	 * Start a server on a free local port.
+	 *
+	 * @throws IOException
+	 */
+	public LocalXmlRpcServer() throws IOException
+	{
+		serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+		setDaemon(true);
+		start();
+	}
+
+	/**
+	 * The URL a TestLinkAPIClient should use to reach this server.
+	 *
+	 * @return
+	 */
+	public String getURL()
+	{
+		return "http://127.0.0.1:" + serverSocket.getLocalPort() + "/lib/api/xmlrpc.php";
+	}
+
+	/**
+	 * Register the XML for the value returned by a method.
+	 *
+	 * @param method
+	 * @param valueXml
+	 */
+	public synchronized void setResponse(
+		String method,
+		String valueXml)
+	{
+		responses.put(method, valueXml);
+	}
+
+	/**
+	 * Wait before the response of a method is sent.
+	 *
+	 * @param method
+	 * @param millis
+	 */
+	public synchronized void setDelay(
+		String method,
+		long millis)
+	{
+		delays.put(method, new Long(millis));
+	}
+
+	/**
+	 * Number of connections accepted.
+	 *
+	 * @return
+	 */
+	public synchronized int getConnectionCount()
+	{
+		return connectionCount;
+	}
+
+	/**
+	 * The largest number of requests that were served at the same time.
+	 *
+	 * @return
+	 */
+	public synchronized int getMaxActiveRequests()
+	{
+		return maxActiveRequests;
+	}
+
+	/**
+	 * Number of requests received for a method.
+	 *
+	 * @param method
+	 * @return
+	 */
+	public synchronized int getRequestCount(
+		String method)
+	{
+		int count = 0;
+		for ( int i = 0; i < requests.size(); i++ ) {
+			if ( method.equals(requests.get(i)) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Number of requests received for all methods.
+	 *
+	 * @return
+	 */
+	public synchronized int getRequestCount()
+	{
+		return requests.size();
+	}
+
+	/**
+	 * Forget the requests received so far.
+	 */
+	public synchronized void resetRequestCount()
+	{
+		requests.clear();
+		maxActiveRequests = 0;
+	}
+
+	/**
+	 * Stop accepting connections.
+	 */
+	public void shutdown()
+	{
+		running = false;
+		try {
+			serverSocket.close();
+		} catch ( IOException e ) {}
+	}
+
+	/*
+	 * Helpers that build XML-RPC values for responses
+	 */
+
+	public static String string(
+		String value)
+	{
+		return "<value><string>" + value + "</string></value>";
+	}
+
+	public static String struct(
+		String[] namesAndValues)
+	{
+		StringBuffer xml = new StringBuffer("<value><struct>");
+		for ( int i = 0; i + 1 < namesAndValues.length; i += 2 ) {
+			xml.append("<member><name>" + namesAndValues[i] + "</name>"
+				+ string(namesAndValues[i + 1]) + "</member>");
+		}
+		xml.append("</struct></value>");
+		return xml.toString();
+	}
+
+	public static String array(
+		String[] values)
+	{
+		StringBuffer xml = new StringBuffer("<value><array><data>");
+		for ( int i = 0; i < values.length; i++ ) {
+			xml.append(values[i]);
+		}
+		xml.append("</data></array></value>");
+		return xml.toString();
+	}
+
+	public void run()
+	{
+		while ( running ) {
+			try {
+				final Socket socket = serverSocket.accept();
+				synchronized ( this ) {
+					connectionCount++;
+				}
+				Thread worker = new Thread() {
+					public void run()
+					{
+						serve(socket);
+					}
+				};
+				worker.setDaemon(true);
+				worker.start();
+			} catch ( IOException e ) {
+				return;
+			}
+		}
+	}
+
+	/*
+	 * Serve requests on a connection until the client closes it.
+	 */
+	private void serve(
+		Socket socket)
+	{
+		try {
+			InputStream in = socket.getInputStream();
+			OutputStream out = socket.getOutputStream();
+			while ( running ) {
+				int contentLength = readHeaders(in);
+				if ( contentLength < 0 ) {
+					break;
+				}
+				byte[] body = new byte[contentLength];
+				int read = 0;
+				while ( read < contentLength ) {
+					int n = in.read(body, read, contentLength - read);
+					if ( n < 0 ) {
+						return;
+					}
+					read += n;
+				}
+				String method = getMethodName(new String(body, "UTF-8"));
+				String valueXml;
+				Long delay;
+				synchronized ( this ) {
+					requests.add(method);
+					valueXml = (String) responses.get(method);
+					delay = (Long) delays.get(method);
+					activeRequests++;
+					if ( activeRequests > maxActiveRequests ) {
+						maxActiveRequests = activeRequests;
+					}
+				}
+				try {
+					if ( delay != null ) {
+						Thread.sleep(delay.longValue());
+					}
+				} catch ( InterruptedException e ) {
+					return;
+				} finally {
+					synchronized ( this ) {
+						activeRequests--;
+					}
+				}
+				byte[] response = buildResponse(method, valueXml).getBytes("UTF-8");
+				String head = "HTTP/1.1 200 OK\r\nContent-Type: text/xml\r\nContent-Length: "
+					+ response.length + "\r\n\r\n";
+				out.write(head.getBytes("US-ASCII"));
+				out.write(response);
+				out.flush();
+			}
+		} catch ( IOException e ) {
+		} finally {
+			try {
+				socket.close();
+			} catch ( IOException e ) {}
+		}
+	}
+
+	/*
+	 * Read the request headers and return the content length or -1 when
+	 * the connection was closed.
+	 */
+	private int readHeaders(
+		InputStream in) throws IOException
+	{
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int contentLength = 0;
+		boolean sawRequestLine = false;
+		int c;
+		while ( (c = in.read()) >= 0 ) {
+			if ( c == '\n' ) {
+				String header = new String(line.toByteArray(), "US-ASCII").trim();
+				line.reset();
+				if ( header.length() == 0 ) {
+					if ( sawRequestLine ) {
+						return contentLength;
+					}
+					continue;
+				}
+				sawRequestLine = true;
+				if ( header.toLowerCase().startsWith("content-length:") ) {
+					contentLength = Integer.parseInt(header.substring(15).trim());
+				}
+			} else {
+				line.write(c);
+			}
+		}
+		return -1;
+	}
+
+	private String getMethodName(
+		String body)
+	{
+		Matcher matcher = METHOD_NAME.matcher(body);
+		if ( matcher.find() ) {
+			return matcher.group(1);
+		}
+		return "";
+	}
+
+	private String buildResponse(
+		String method,
+		String valueXml)
+	{
+		if ( valueXml == null ) {
+			return "<?xml version=\"1.0\"?><methodResponse><fault><value><struct>"
+				+ "<member><name>faultCode</name><value><int>-32601</int></value></member>"
+				+ "<member><name>faultString</name><value><string>server error. requested method "
+				+ method + " does not exist.</string></value></member>"
+				+ "</struct></value></fault></methodResponse>";
+		}
+		return "<?xml version=\"1.0\"?><methodResponse><params><param>" + valueXml
+			+ "</param></params></methodResponse>";
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIBatch;
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIHelper;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkInMemoryTransport;
+import testlink.api.java.client.TestLinkTransportException;
+
+
+/**
+ * Verifies that TestLinkAPIBatch sends its calls in one system.multicall
+ * request and falls back to single calls when the server does not
+ * support multicall. The tests run against a local stand-in server.
+ */
+public class TestLinkAPIBatchTest implements TestLinkAPIConst
+{
+	private LocalXmlRpcServer server;
+	private TestLinkAPIClient api;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new LocalXmlRpcServer();
+		server.setResponse(API_METHOD_ABOUT, LocalXmlRpcServer.string("Testlink API"));
+		api = new TestLinkAPIClient("devKey", server.getURL());
+		server.resetRequestCount();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		server.shutdown();
+	}
+
+	/**
+	 * All the calls are sent in a single request.
+	 */
+	@Test
+	public void testMulticall() throws Exception
+	{
+		String report = LocalXmlRpcServer.struct(new String[] {
+			"status", "true", API_RESULT_MESSAGE, "Success!" });
+		String fault = LocalXmlRpcServer.struct(new String[] {
+			API_FAULT_CODE, "2000", API_FAULT_STRING, "Invalid test case" });
+		server.setResponse(API_METHOD_MULTICALL, LocalXmlRpcServer.array(new String[] {
+			LocalXmlRpcServer.array(new String[] { LocalXmlRpcServer.array(new String[] {
+				LocalXmlRpcServer.struct(new String[] { API_RESULT_IDENTIFIER, "10",
+					API_RESULT_NAME, "Case" }) }) }),
+			LocalXmlRpcServer.array(new String[] { report }),
+			fault }));
+
+		TestLinkAPIBatch batch = api.createBatch();
+		int cases = batch.getCasesForTestSuite(new Integer(1), new Integer(2));
+		int passed = batch.reportTestCaseResult(new Integer(3), new Integer(10), null, null,
+			TEST_PASSED);
+		int failed = batch.reportTestCaseResult(new Integer(3), new Integer(11), null, null,
+			TEST_PASSED);
+		TestLinkAPIResults[] results = batch.execute();
+
+		assertEquals(1, server.getRequestCount());
+		assertEquals(3, results.length);
+		assertEquals("Case", results[cases].getValueByName(0, API_RESULT_NAME));
+		assertFalse(batch.hasError(passed));
+		assertTrue(batch.hasError(failed));
+	}
+
+	/**
+	 * Without multicall support every call is sent on its own.
+	 */
+	@Test
+	public void testFallbackToSingleCalls() throws Exception
+	{
+		server.setResponse(API_METHOD_LAST_EXECUTION_RESULT, LocalXmlRpcServer.array(new String[] {
+			LocalXmlRpcServer.struct(new String[] { API_RESULT_IDENTIFIER, "5",
+				API_PARAM_STATUS, TEST_PASSED }) }));
+
+		TestLinkAPIBatch batch = api.createBatch();
+		batch.getLastExecutionResult(new Integer(3), new Integer(10));
+		batch.getLastExecutionResult(new Integer(3), new Integer(11));
+		TestLinkAPIResults[] results = batch.execute();
+
+		assertEquals(2, results.length);
+		assertEquals(TEST_PASSED, results[1].getValueByName(0, API_PARAM_STATUS));
+		assertEquals(1, server.getRequestCount(API_METHOD_MULTICALL));
+		assertEquals(2, server.getRequestCount(API_METHOD_LAST_EXECUTION_RESULT));
+
+		// The client remembers that multicall is not available
+		batch.execute();
+		assertEquals(1, server.getRequestCount(API_METHOD_MULTICALL));
+	}
+
+	/**
+	 * Without multicall support the calls are made at the same time,
+	 * at most as many as the maximum connections, and a failed call
+	 * does not lose the results of the other calls.
+	 */
+	@Test
+	public void testParallelFallback() throws Exception
+	{
+		final AtomicBoolean isBroken = new AtomicBoolean();
+		final AtomicInteger active = new AtomicInteger();
+		final AtomicInteger maxActive = new AtomicInteger();
+		TestLinkInMemoryTransport memory = new TestLinkInMemoryTransport() {
+			public Object execute(
+				String method,
+				Object[] params) throws TestLinkTransportException
+			{
+				if ( API_METHOD_MULTICALL.equals(method) ) {
+					throw new TestLinkTransportException(API_FAULT_METHOD_NOT_FOUND,
+						"server error. requested method " + method + " does not exist.");
+				} else if ( isBroken.get() && API_METHOD_GET_TEST_CASES_FOR_SUITE.equals(method) ) {
+					throw new TestLinkTransportException(0, "Connection reset");
+				} else if ( !API_METHOD_LAST_EXECUTION_RESULT.equals(method) ) {
+					return super.execute(method, params);
+				}
+				int current = active.incrementAndGet();
+				synchronized ( maxActive ) {
+					if ( current > maxActive.get() ) {
+						maxActive.set(current);
+					}
+				}
+				try {
+					Thread.sleep(50);
+					return super.execute(method, params);
+				} catch ( InterruptedException e ) {
+					throw new TestLinkTransportException(0, e.getMessage(), e);
+				} finally {
+					active.decrementAndGet();
+				}
+			}
+		};
+		TestLinkAPIClient client = new TestLinkAPIClient("devKey", memory, false);
+		client.setMaxConnections(2);
+		Integer projectID = client.createTestProject("Project", "PRJ", "Notes");
+		Integer planID = memory.createTestPlan(projectID, "Plan", "Notes");
+		Integer suiteID = client.createTestSuite(projectID, "Suite", "Details");
+		client.createTestCase("admin", "Project", "Suite", "Login", "Summary", "Steps",
+			"Expected", MEDIUM);
+		client.addTestCaseToTestPlan("Project", "Plan", "Login");
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(client, projectID, "Login");
+		Integer buildID = client.createBuild(planID, "Build", "Notes");
+
+		isBroken.set(true);
+		TestLinkAPIBatch batch = client.createBatch();
+		int passed = batch.reportTestCaseResult(planID, caseID, buildID, null, TEST_PASSED);
+		int failed = batch.getCasesForTestSuite(projectID, suiteID);
+		for ( int i = 0; i < 4; i++ ) {
+			batch.getLastExecutionResult(planID, caseID);
+		}
+		TestLinkAPIResults[] results = batch.execute();
+
+		assertEquals(6, results.length);
+		assertFalse(batch.hasError(passed));
+		assertTrue(batch.hasError(failed));
+		assertEquals("Connection reset", results[failed].getValueByName(0, API_RESULT_MESSAGE));
+		assertEquals(4, memory.getCallCount(API_METHOD_LAST_EXECUTION_RESULT));
+		assertEquals(2, maxActive.get());
+		assertEquals(TEST_PASSED, client.getLastExecutionResult(planID, caseID).getValueByName(0,
+			API_PARAM_STATUS));
+	}
+}
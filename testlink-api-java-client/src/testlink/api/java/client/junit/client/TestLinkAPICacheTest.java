@@ -0,0 +1,658 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPICache;
+import testlink.api.java.client.TestLinkAPICacheKey;
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkAPIHelper;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkInMemoryTransport;
+import testlink.api.java.client.TestLinkTransportException;
+
+
+/**
+ * Verifies the limits, expiry and invalidation of the client cache
+ * using the in-memory TestLink API.
+ */
+public class TestLinkAPICacheTest implements TestLinkAPIConst
+{
+	private TestLinkInMemoryTransport server;
+	private TestLinkAPIClient api;
+	private TestLinkAPICache cache;
+	private Integer[] planIDs = new Integer[3];
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new TestLinkInMemoryTransport();
+		api = new TestLinkAPIClient("devKey", server, true);
+		Integer projectID = api.createTestProject("Project", "PRJ", "Notes");
+		for ( int i = 0; i < planIDs.length; i++ ) {
+			planIDs[i] = server.createTestPlan(projectID, "Plan " + i, "Notes");
+			api.createBuild(planIDs[i], "Build A", "Notes");
+			api.createBuild(planIDs[i], "Build B", "Notes");
+		}
+		cache = api.getCache();
+		cache.clear();
+		server.resetCallCount();
+	}
+
+	/**
+	 * Repeated calls are answered by the cache.
+	 */
+	@Test
+	public void testHit() throws Exception
+	{
+		api.getProjects();
+		api.getProjects();
+		assertEquals(1, server.getCallCount(API_METHOD_GET_PROJECTS));
+		assertEquals(1, cache.size());
+		
+		api.getCasesForTestPlan(planIDs[0]);
+		api.getCasesForTestPlan(planIDs[0]);
+		assertEquals(1, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		assertEquals(2, cache.size());
+	}
+
+	/**
+	 * Errors reported by TestLink are not cached.
+	 */
+	@Test
+	public void testErrorNotCached() throws Exception
+	{
+		for ( int i = 0; i < 2; i++ ) {
+			try {
+				api.getBuildsForTestPlan(new Integer(999));
+				assertTrue("The plan does not exist.", false);
+			} catch ( TestLinkAPIException e ) {
+				// Expected
+			}
+		}
+		assertEquals(2, server.getCallCount(API_METHOD_GET_BUILDS_FOR_PLAN));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * The least recently used entry is dropped when there are too many.
+	 */
+	@Test
+	public void testMaxEntries() throws Exception
+	{
+		cache.setMaxEntries(2);
+		api.getBuildsForTestPlan(planIDs[0]);
+		api.getBuildsForTestPlan(planIDs[1]);
+		api.getBuildsForTestPlan(planIDs[0]);
+		api.getBuildsForTestPlan(planIDs[2]);
+		assertEquals(2, cache.size());
+		
+		// Plan 1 was the least recently used
+		api.getBuildsForTestPlan(planIDs[0]);
+		assertEquals(3, server.getCallCount(API_METHOD_GET_BUILDS_FOR_PLAN));
+		api.getBuildsForTestPlan(planIDs[1]);
+		assertEquals(4, server.getCallCount(API_METHOD_GET_BUILDS_FOR_PLAN));
+	}
+
+	/**
+	 * Entries are dropped when the cache holds too many rows.
+	 */
+	@Test
+	public void testMaxRows() throws Exception
+	{
+		cache.setMaxRows(5);
+		for ( int i = 0; i < planIDs.length; i++ ) {
+			api.getBuildsForTestPlan(planIDs[i]);
+		}
+		assertEquals(2, cache.size());
+		assertEquals(4, cache.getRowCount());
+	}
+
+	/**
+	 * Large results are compacted when they are cached and read the
+	 * same as before.
+	 */
+	@Test
+	public void testCompactRows() throws Exception
+	{
+		TestLinkAPIResults original = api.getBuildsForTestPlan(planIDs[0]);
+		assertFalse(original.isCompact());
+		ArrayList rows = new ArrayList();
+		for ( int i = 0; i < original.size(); i++ ) {
+			rows.add(new HashMap(original.getData(i)));
+		}
+		cache.clear();
+		cache.setCompactRowThreshold(2);
+		TestLinkAPIResults compact = api.getBuildsForTestPlan(planIDs[0]);
+		assertTrue(compact.isCompact());
+		assertEquals(rows.size(), compact.size());
+		for ( int i = 0; i < rows.size(); i++ ) {
+			assertEquals(rows.get(i), compact.getData(i));
+			assertEquals(compact.getData(i), rows.get(i));
+		}
+		
+		// Value types are kept and rows are expanded again when changed
+		TestLinkAPIResults results = new TestLinkAPIResults();
+		for ( int i = 0; i < 3; i++ ) {
+			HashMap row = new HashMap();
+			row.put(API_RESULT_IDENTIFIER, String.valueOf(i + 10));
+			row.put("count", new Integer(i));
+			row.put(API_RESULT_NAME, (i == 1) ? null : "Name");
+			results.add(row);
+		}
+		assertTrue(results.compact());
+		assertEquals("11", results.getValueByName(1, API_RESULT_IDENTIFIER));
+		assertEquals(new Integer(2), results.getValueByName(2, "count"));
+		assertTrue(results.getData(1).containsKey(API_RESULT_NAME));
+		assertEquals(null, results.getValueByName(1, API_RESULT_NAME));
+		assertEquals(11, results.getBuildRecord(1).getID());
+		HashMap added = new HashMap();
+		added.put(API_RESULT_IDENTIFIER, "13");
+		results.add(added);
+		assertFalse(results.isCompact());
+		assertEquals(4, results.size());
+		assertEquals("12", results.getValueByName(2, API_RESULT_IDENTIFIER));
+	}
+
+	/**
+	 * Entries of a method with a time to live are fetched again after it.
+	 */
+	@Test
+	public void testTimeToLive() throws Exception
+	{
+		cache.setTimeToLive(API_METHOD_GET_BUILDS_FOR_PLAN, 50);
+		api.getBuildsForTestPlan(planIDs[0]);
+		api.getProjects();
+		Thread.sleep(100);
+		api.getBuildsForTestPlan(planIDs[0]);
+		api.getProjects();
+		assertEquals(2, server.getCallCount(API_METHOD_GET_BUILDS_FOR_PLAN));
+		assertEquals(1, server.getCallCount(API_METHOD_GET_PROJECTS));
+	}
+
+	/**
+	 * Creating a test case only drops the test case lists that include it.
+	 */
+	@Test
+	public void testCreateCaseInvalidation() throws Exception
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(api, "Project");
+		Integer suiteA = api.createTestSuite(projectID, "Suite A", "Details");
+		Integer suiteB = api.createTestSuite(projectID, "Suite B", "Details");
+		Integer subSuite = api.createTestSuite(projectID, "Sub Suite", "Details", suiteA,
+			null, null);
+		api.getFirstLevelTestSuitesForTestProject(projectID);
+		api.getCasesForTestSuite(projectID, suiteA);
+		api.getCasesForTestSuite(projectID, suiteB);
+		server.resetCallCount();
+
+		api.createTestCase("admin", projectID, subSuite, "Case", "Summary", "Steps",
+			"Expected", null, null, null, null, null, MEDIUM);
+		server.resetCallCount();
+		
+		// The parent suite list includes the sub suite cases
+		assertEquals(1, api.getCasesForTestSuite(projectID, suiteA).size());
+		assertEquals(1, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_SUITE));
+		api.getCasesForTestSuite(projectID, suiteB);
+		api.getFirstLevelTestSuitesForTestProject(projectID);
+		api.getProjects();
+		assertEquals(1, server.getCallCount());
+	}
+
+	/**
+	 * Creating a build only drops the build lists of its plan.
+	 */
+	@Test
+	public void testCreateBuildInvalidation() throws Exception
+	{
+		api.getBuildsForTestPlan(planIDs[0]);
+		api.getBuildsForTestPlan(planIDs[1]);
+		api.createBuild(planIDs[0], "Build C", "Notes");
+		server.resetCallCount();
+		assertEquals(3, api.getBuildsForTestPlan(planIDs[0]).size());
+		assertEquals(2, api.getBuildsForTestPlan(planIDs[1]).size());
+		assertEquals(1, server.getCallCount(API_METHOD_GET_BUILDS_FOR_PLAN));
+	}
+
+	/**
+	 * Reporting a result drops the last execution of the test case.
+	 */
+	@Test
+	public void testReportInvalidation() throws Exception
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(api, "Project");
+		Integer suiteID = api.createTestSuite(projectID, "Suite", "Details");
+		Integer caseID = api.createTestCase("admin", projectID, suiteID, "Case", "Summary",
+			"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		api.addTestCaseToTestPlan("Project", "Plan 0", "Case");
+		api.getLastExecutionResult(planIDs[0], caseID);
+		api.getProjectTestPlans(projectID);
+		api.reportTestCaseResult(planIDs[0], caseID, null, null, TEST_BLOCKED);
+		server.resetCallCount();
+		assertEquals(TEST_BLOCKED, api.getLastExecutionResult(planIDs[0], caseID).getValueByName(
+			0, API_PARAM_STATUS));
+		api.getProjectTestPlans(projectID);
+		assertEquals(1, server.getCallCount());
+	}
+
+	/**
+	 * Names and identifiers are resolved from indexes of the cached lists
+	 * and new objects are found once the lists are invalidated.
+	 */
+	@Test
+	public void testIndexedLookups() throws Exception
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(api, "Project");
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals(projectID, TestLinkAPIHelper.getProjectID(api, "Project"));
+			assertEquals(planIDs[1], TestLinkAPIHelper.getPlanID(api, projectID, "Plan 1"));
+			assertNotNull(TestLinkAPIHelper.getBuildID(api, planIDs[2], "Build B"));
+		}
+		assertEquals(1, server.getCallCount(API_METHOD_GET_PROJECTS));
+		assertEquals(1, server.getCallCount(API_METHOD_GET_PROJECT_TEST_PLANS));
+		assertEquals(1, server.getCallCount(API_METHOD_GET_BUILDS_FOR_PLAN));
+		
+		TestLinkAPIResults projects = api.getProjects();
+		assertTrue(projects.getDataByValue(API_RESULT_IDENTIFIER, projectID)
+			== TestLinkAPIHelper.getProjectInfo(api, "Project"));
+		
+		Integer otherID = api.createTestProject("Other", "OTH", "Notes");
+		assertEquals(otherID, TestLinkAPIHelper.getProjectID(api, "Other"));
+		assertEquals("Other", TestLinkAPIHelper.getProjectInfo(api, otherID).get(API_RESULT_NAME));
+	}
+	
+	/**
+	 * Test cases are found by name, visible identifier and internal
+	 * identifier from one pass over the suites of the project.
+	 */
+	@Test
+	public void testTestCaseIndex() throws Exception
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(api, "Project");
+		Integer suiteA = api.createTestSuite(projectID, "Suite A", "Details");
+		Integer suiteB = api.createTestSuite(projectID, "Suite B", "Details");
+		Integer caseA = api.createTestCase("admin", projectID, suiteA, "Case A", "Summary",
+			"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		Integer caseB = api.createTestCase("admin", projectID, suiteB, "Case B", "Summary",
+			"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		
+		server.resetCallCount();
+		assertEquals(caseB, TestLinkAPIHelper.getCaseIDByName(api, projectID, "case b"));
+		assertEquals(caseA, TestLinkAPIHelper.getCaseIDByVisibleID(api, projectID, "prj-1"));
+		assertEquals(caseB, TestLinkAPIHelper.getCaseIDByVisibleID(api, projectID, "PRJ-2"));
+		assertEquals("Case A", TestLinkAPIHelper.getTestCaseInfo(api, projectID, caseA).get(
+			API_RESULT_NAME));
+		assertEquals(null, TestLinkAPIHelper.getCaseIDByName(api, projectID, "Case C"));
+		int calls = server.getCallCount();
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals(caseA, TestLinkAPIHelper.getCaseIDByName(api, projectID, "Case A"));
+		}
+		assertEquals(calls, server.getCallCount());
+		
+		// A created case is added to the index
+		Integer caseC = api.createTestCase("admin", projectID, suiteA, "Case C", "Summary",
+			"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		assertEquals(caseC, TestLinkAPIHelper.getCaseIDByName(api, projectID, "Case C"));
+		assertEquals(caseC, TestLinkAPIHelper.getCaseIDByVisibleID(api, projectID, "PRJ-3"));
+		assertEquals(1, server.getCallCount(API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT));
+		
+		// Clearing the cache builds the index again
+		cache.clear();
+		assertEquals(caseC, TestLinkAPIHelper.getCaseIDByName(api, projectID, "Case C"));
+		assertEquals(2, server.getCallCount(API_METHOD_GET_FIRST_LEVEL_SUITES_FOR_PROJECT));
+	}
+	
+	/**
+	 * Names that were not found are not searched again until the client
+	 * creates an object of the same kind.
+	 */
+	@Test
+	public void testLookupMisses() throws Exception
+	{
+		Integer projectID = TestLinkAPIHelper.getProjectID(api, "Project");
+		Integer suiteID = api.createTestSuite(projectID, "Suite", "Details");
+		api.createTestCase("admin", projectID, suiteID, "Case", "Summary", "Steps",
+			"Expected", null, null, null, null, null, MEDIUM);
+		
+		// Only the misses are kept
+		cache.setMaxEntries(0);
+		server.resetCallCount();
+		assertEquals(null, TestLinkAPIHelper.getTestCaseID(api, projectID, "New Case"));
+		assertTrue(server.getCallCount() > 0);
+		assertEquals(null, TestLinkAPIHelper.getBuildID(api, planIDs[0], "Build C"));
+		assertEquals(null, TestLinkAPIHelper.getProjectID(api, "New Project"));
+		
+		server.resetCallCount();
+		assertEquals(null, TestLinkAPIHelper.getTestCaseID(api, projectID, "New Case"));
+		assertEquals(null, TestLinkAPIHelper.getBuildID(api, planIDs[0], "Build C"));
+		assertEquals(null, TestLinkAPIHelper.getProjectID(api, "New Project"));
+		assertEquals(0, server.getCallCount());
+		
+		Integer caseID = api.createTestCase("admin", projectID, suiteID, "New Case", "Summary",
+			"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		Integer buildID = api.createBuild(planIDs[0], "Build C", "Notes");
+		assertEquals(caseID, TestLinkAPIHelper.getTestCaseID(api, projectID, "New Case"));
+		assertEquals(buildID, TestLinkAPIHelper.getBuildID(api, planIDs[0], "Build C"));
+		
+		api.setLookupMissTimeToLive(0);
+		server.resetCallCount();
+		assertEquals(null, TestLinkAPIHelper.getProjectID(api, "New Project"));
+		assertEquals(1, server.getCallCount());
+	}
+	
+	/**
+	 * Keys with the same method and parameters are equal and keep
+	 * their parts apart in the external form.
+	 */
+	@Test
+	public void testKeys() throws Exception
+	{
+		TestLinkAPICacheKey key = new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+			new Object[] { new Integer(1), null, "a,b" });
+		TestLinkAPICacheKey same = new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+			new Object[] { new Integer(1), null, "a,b" });
+		TestLinkAPICacheKey other = new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+			new Object[] { new Integer(1), "a", "b" });
+		assertEquals(key, same);
+		assertEquals(key.hashCode(), same.hashCode());
+		assertFalse(key.equals(other));
+		assertFalse(key.toExternalForm().equals(other.toExternalForm()));
+		assertTrue(key.toExternalForm().startsWith(
+			TestLinkAPICacheKey.getExternalPrefix(API_METHOD_GET_TEST_CASES_FOR_PLAN)));
+		
+		// The parts given to a public constructor are copied
+		Object[] parts = new Object[] { new Integer(1), null, "a,b" };
+		TestLinkAPICacheKey copied = new TestLinkAPICacheKey(API_METHOD_GET_TEST_CASES_FOR_PLAN,
+			parts);
+		parts[2] = "c";
+		assertEquals(key, copied);
+		
+		api.getBuildsForTestPlan(planIDs[0]);
+		cache.invalidate(new TestLinkAPICacheKey(API_METHOD_GET_BUILDS_FOR_PLAN, planIDs[0]));
+		assertEquals(0, cache.size());
+	}
+	
+	/**
+	 * The cache stays consistent when used by several threads.
+	 */
+	@Test
+	public void testConcurrentAccess() throws Exception
+	{
+		cache.setMaxEntries(2);
+		final Exception[] failure = new Exception[1];
+		Thread[] threads = new Thread[8];
+		for ( int t = 0; t < threads.length; t++ ) {
+			threads[t] = new Thread() {
+				public void run()
+				{
+					try {
+						for ( int i = 0; i < 300; i++ ) {
+							assertNotNull(api.getBuildsForTestPlan(planIDs[i % planIDs.length]));
+						}
+					} catch ( Exception e ) {
+						failure[0] = e;
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for ( int t = 0; t < threads.length; t++ ) {
+			threads[t].join();
+		}
+		assertEquals(null, failure[0]);
+		assertTrue(cache.size() <= 2);
+		assertEquals(cache.size() * 2, cache.getRowCount());
+	}
+
+	/**
+	 * Threads asking for the same results at the same time share one
+	 * call even when the cache is turned off.
+	 */
+	@Test
+	public void testSharedCalls() throws Exception
+	{
+		final TestLinkInMemoryTransport slowServer = new TestLinkInMemoryTransport() {
+			public Object execute(
+				String method,
+				Object[] params) throws TestLinkTransportException
+			{
+				if ( API_METHOD_GET_PROJECTS.equals(method) ) {
+					try {
+						Thread.sleep(300);
+					} catch ( InterruptedException e ) {
+						throw new TestLinkTransportException(0, e.getMessage(), e);
+					}
+				}
+				return super.execute(method, params);
+			}
+		};
+		final TestLinkAPIClient uncached = new TestLinkAPIClient("devKey", slowServer, false);
+		uncached.createTestProject("Project", "PRJ", "Notes");
+		
+		final TestLinkAPIResults[] results = new TestLinkAPIResults[6];
+		final Exception[] failure = new Exception[1];
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[results.length];
+		for ( int t = 0; t < threads.length; t++ ) {
+			final int index = t;
+			threads[t] = new Thread() {
+				public void run()
+				{
+					try {
+						start.await();
+						results[index] = uncached.getProjects();
+					} catch ( Exception e ) {
+						failure[0] = e;
+					}
+				}
+			};
+			threads[t].start();
+		}
+		start.countDown();
+		for ( int t = 0; t < threads.length; t++ ) {
+			threads[t].join();
+		}
+		assertEquals(null, failure[0]);
+		assertEquals(1, slowServer.getCallCount(API_METHOD_GET_PROJECTS));
+		for ( int t = 1; t < results.length; t++ ) {
+			assertTrue(results[0] == results[t]);
+		}
+		
+		// Later calls are not shared
+		uncached.getProjects();
+		assertEquals(2, slowServer.getCallCount(API_METHOD_GET_PROJECTS));
+	}
+	
+	/**
+	 * The test cases of the suites of a project are fetched at the same
+	 * time but never on more connections than the client allows.
+	 */
+	@Test
+	public void testParallelSuiteFetch() throws Exception
+	{
+		final AtomicInteger active = new AtomicInteger();
+		final AtomicInteger maxActive = new AtomicInteger();
+		TestLinkInMemoryTransport slowServer = new TestLinkInMemoryTransport() {
+			public Object execute(
+				String method,
+				Object[] params) throws TestLinkTransportException
+			{
+				if ( !API_METHOD_GET_TEST_CASES_FOR_SUITE.equals(method) ) {
+					return super.execute(method, params);
+				}
+				int current = active.incrementAndGet();
+				synchronized ( maxActive ) {
+					if ( current > maxActive.get() ) {
+						maxActive.set(current);
+					}
+				}
+				try {
+					Thread.sleep(100);
+					return super.execute(method, params);
+				} catch ( InterruptedException e ) {
+					throw new TestLinkTransportException(0, e.getMessage(), e);
+				} finally {
+					active.decrementAndGet();
+				}
+			}
+		};
+		TestLinkAPIClient slowApi = new TestLinkAPIClient("devKey", slowServer, true);
+		slowApi.setMaxConnections(3);
+		Integer projectID = slowApi.createTestProject("Project", "PRJ", "Notes");
+		Integer[] caseIDs = new Integer[8];
+		for ( int i = 0; i < caseIDs.length; i++ ) {
+			Integer suiteID = slowApi.createTestSuite(projectID, "Suite " + i, "Details");
+			caseIDs[i] = slowApi.createTestCase("admin", projectID, suiteID, "Case", "Summary",
+				"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		}
+		slowApi.getCache().clear();
+		slowServer.resetCallCount();
+		maxActive.set(0);
+		
+		// The last case created is the latest version of the name
+		assertEquals(null, TestLinkAPIHelper.getCaseIDByName(slowApi, projectID, "Unknown"));
+		assertEquals(caseIDs[7], TestLinkAPIHelper.getCaseIDByName(slowApi, projectID, "Case"));
+		assertEquals(caseIDs[3], TestLinkAPIHelper.getCaseIDByVisibleID(slowApi, projectID,
+			"PRJ-4"));
+		assertEquals(8, slowServer.getCallCount(API_METHOD_GET_TEST_CASES_FOR_SUITE));
+		assertTrue(maxActive.get() > 1);
+		assertTrue(maxActive.get() <= 3);
+	}
+	
+	/**
+	 * Changing the maximum connections while suites are fetched does
+	 * not make the fetch fail.
+	 */
+	@Test
+	public void testMaxConnectionsWhileFetching() throws Exception
+	{
+		final Integer projectID = TestLinkAPIHelper.getProjectID(api, "Project");
+		for ( int i = 0; i < 4; i++ ) {
+			Integer suiteID = api.createTestSuite(projectID, "Suite " + i, "Details");
+			api.createTestCase("admin", projectID, suiteID, "Case " + i, "Summary",
+				"Steps", "Expected", null, null, null, null, null, MEDIUM);
+		}
+		final Exception[] failure = new Exception[1];
+		final CountDownLatch done = new CountDownLatch(1);
+		Thread resizer = new Thread() {
+			public void run()
+			{
+				for ( int i = 0; done.getCount() > 0; i++ ) {
+					api.setMaxConnections(2 + i % 3);
+				}
+			}
+		};
+		resizer.start();
+		try {
+			for ( int i = 0; i < 200; i++ ) {
+				cache.clear();
+				assertNotNull(TestLinkAPIHelper.getCaseIDByName(api, projectID, "Case 3"));
+			}
+		} catch ( Exception e ) {
+			failure[0] = e;
+		} finally {
+			done.countDown();
+			resizer.join();
+		}
+		assertEquals(null, failure[0]);
+	}
+	
+	/**
+	 * A write made while a read of the same results is in flight is
+	 * seen by later reads and the older results are not cached.
+	 */
+	@Test
+	public void testWriteDuringSlowRead() throws Exception
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger armed = new AtomicInteger();
+		TestLinkInMemoryTransport slowServer = new TestLinkInMemoryTransport() {
+			public Object execute(
+				String method,
+				Object[] params) throws TestLinkTransportException
+			{
+				Object result = super.execute(method, params);
+				if ( API_METHOD_GET_TEST_CASES_FOR_SUITE.equals(method)
+					&& armed.compareAndSet(1, 2) ) {
+					// The read answers with what it saw before the write
+					started.countDown();
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch ( InterruptedException e ) {
+						throw new TestLinkTransportException(0, e.getMessage(), e);
+					}
+				}
+				return result;
+			}
+		};
+		final TestLinkAPIClient slowApi = new TestLinkAPIClient("devKey", slowServer, true);
+		final Integer projectID = slowApi.createTestProject("Project", "PRJ", "Notes");
+		final Integer suiteID = slowApi.createTestSuite(projectID, "Suite", "Details");
+		slowApi.createTestCase("admin", projectID, suiteID, "Old", "Summary", "Steps",
+			"Expected", null, null, null, null, null, MEDIUM);
+		
+		slowApi.getCache().clear();
+		armed.set(1);
+		final TestLinkAPIResults[] staleResults = new TestLinkAPIResults[1];
+		Thread reader = new Thread() {
+			public void run()
+			{
+				try {
+					staleResults[0] = slowApi.getCasesForTestSuite(projectID, suiteID);
+				} catch ( Exception e ) {
+					// Checked below
+				}
+			}
+		};
+		reader.start();
+		started.await();
+		
+		slowApi.createTestCase("admin", projectID, suiteID, "New", "Summary", "Steps",
+			"Expected", null, null, null, null, null, MEDIUM);
+		assertEquals(2, slowApi.getCasesForTestSuite(projectID, suiteID).size());
+		assertNotNull(TestLinkAPIHelper.getCaseIDByName(slowApi, projectID, "New"));
+		release.countDown();
+		reader.join();
+		
+		assertEquals(1, staleResults[0].size());
+		assertEquals(2, slowApi.getCasesForTestSuite(projectID, suiteID).size());
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIResults;
+
+
+/**
+ * Verifies that every shape of response returned by the TestLink API
+ * is decoded from a single request. The tests run against a local
+ * stand-in server so no TestLink installation is needed.
+ */
+public class TestLinkAPIDecodeTest implements TestLinkAPIConst
+{
+	private LocalXmlRpcServer server;
+	private TestLinkAPIClient api;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new LocalXmlRpcServer();
+		server.setResponse(API_METHOD_ABOUT, LocalXmlRpcServer.string(
+			"Testlink API Version: 1.0 Beta 3"));
+		api = new TestLinkAPIClient("devKey", server.getURL());
+		server.resetRequestCount();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		server.shutdown();
+	}
+
+	protected LocalXmlRpcServer getServer()
+	{
+		return server;
+	}
+	
+	protected TestLinkAPIClient getClient()
+	{
+		return api;
+	}
+	
+	/**
+	 * A plain string response is decoded into a single result entry.
+	 */
+	@Test
+	public void testStringResponse() throws Exception
+	{
+		TestLinkAPIResults results = api.about();
+		assertEquals(1, results.size());
+		assertEquals("Testlink API Version: 1.0 Beta 3", results.getValueByName(0, "RESULT_1"));
+		assertEquals(1, server.getRequestCount(API_METHOD_ABOUT));
+	}
+
+	/**
+	 * A single struct response is decoded without a second request.
+	 */
+	@Test
+	public void testStructResponse() throws Exception
+	{
+		server.setResponse(API_METHOD_CREATE_BUILD, LocalXmlRpcServer.struct(new String[] {
+			API_RESULT_IDENTIFIER, "42", API_RESULT_MESSAGE, "Success!" }));
+		Integer buildID = api.createBuild(new Integer(7), "Build", "Notes");
+		assertEquals(new Integer(42), buildID);
+		assertEquals(1, server.getRequestCount(API_METHOD_CREATE_BUILD));
+		assertEquals(1, server.getRequestCount());
+	}
+
+	/**
+	 * A report is only sent once even though the response is a struct.
+	 */
+	@Test
+	public void testReportIsSentOnce() throws Exception
+	{
+		server.setResponse(API_METHOD_REPORT_TEST_RESULT, LocalXmlRpcServer.struct(new String[] {
+			"status", "true", "operation", "reportTCResult", API_RESULT_MESSAGE, "Success!" }));
+		TestLinkAPIResults results = api.reportTestCaseResult(new Integer(1), new Integer(2),
+			new Integer(3), "notes", TEST_PASSED);
+		assertEquals(1, results.size());
+		assertEquals(1, server.getRequestCount(API_METHOD_REPORT_TEST_RESULT));
+	}
+
+	/**
+	 * A list of structs is decoded entry by entry.
+	 */
+	@Test
+	public void testArrayResponse() throws Exception
+	{
+		server.setResponse(API_METHOD_GET_PROJECTS, LocalXmlRpcServer.array(new String[] {
+			LocalXmlRpcServer.struct(new String[] { API_RESULT_IDENTIFIER, "1",
+				API_RESULT_NAME, "One" }),
+			LocalXmlRpcServer.struct(new String[] { API_RESULT_IDENTIFIER, "2",
+				API_RESULT_NAME, "Two" }) }));
+		TestLinkAPIResults results = api.getProjects();
+		assertEquals(2, results.size());
+		assertEquals("Two", results.getValueByName(1, API_RESULT_NAME));
+		assertEquals(1, server.getRequestCount(API_METHOD_GET_PROJECTS));
+	}
+
+	/**
+	 * A zero length string means an empty list.
+	 */
+	@Test
+	public void testEmptyStringResponse() throws Exception
+	{
+		server.setResponse(API_METHOD_GET_PROJECTS, LocalXmlRpcServer.string(""));
+		TestLinkAPIResults results = api.getProjects();
+		assertEquals(0, results.size());
+		assertEquals(1, server.getRequestCount(API_METHOD_GET_PROJECTS));
+	}
+
+	/**
+	 * A fault is reported as an exception after a single request.
+	 */
+	@Test
+	public void testFaultIsNotRetried() throws Exception
+	{
+		try {
+			api.getProjects();
+			assertTrue("A fault should have been reported.", false);
+		} catch ( Exception e ) {
+			assertEquals(1, server.getRequestCount(API_METHOD_GET_PROJECTS));
+		}
+	}
+}
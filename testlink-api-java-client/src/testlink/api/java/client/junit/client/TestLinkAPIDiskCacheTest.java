@@ -0,0 +1,292 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPICacheKey;
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIDiskCache;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkAPIVersionProbe;
+import testlink.api.java.client.TestLinkInMemoryTransport;
+import testlink.api.java.client.TestLinkPlanVersionProbe;
+
+
+/**
+ * Verifies that cached results are kept in a file and used by a new
+ * client without calling the TestLink API.
+ */
+public class TestLinkAPIDiskCacheTest implements TestLinkAPIConst
+{
+	private File file;
+	private Integer projectID;
+	private Integer planID;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		file = File.createTempFile("testlink", ".cache");
+		file.delete();
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		projectID = api.createTestProject("Project", "PRJ", "Notes");
+		planID = server.createTestPlan(projectID, "Plan", "Notes");
+		api.createBuild(planID, "Build A", "Notes");
+		
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		api.getProjects();
+		api.getBuildsForTestPlan(planID);
+		api.getLastExecutionResult(planID, new Integer(1));
+		disk.flush();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		file.delete();
+	}
+
+	/**
+	 * A new client reads the results from the file.
+	 */
+	@Test
+	public void testWarmStart() throws Exception
+	{
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		
+		// Execution results are not kept in the file
+		assertEquals(2, disk.size());
+		server.resetCallCount();
+		
+		TestLinkAPIResults projects = api.getProjects();
+		assertEquals("Project", projects.getValueByName(0, API_RESULT_NAME));
+		TestLinkAPIResults builds = api.getBuildsForTestPlan(planID);
+		assertEquals("Build A", builds.getValueByName(0, API_RESULT_NAME));
+		assertEquals(0, server.getCallCount());
+	}
+
+	/**
+	 * Entries past their time to live are fetched again.
+	 */
+	@Test
+	public void testTimeToLive() throws Exception
+	{
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		disk.setTimeToLive(API_METHOD_GET_PROJECTS, 1);
+		api.getCache().clear();
+		api.getProjects();
+		disk.flush();
+		Thread.sleep(10);
+		
+		api = new TestLinkAPIClient("devKey", server, true);
+		api.openDiskCache(file);
+		api.getProjects();
+		assertEquals(2, server.getCallCount(API_METHOD_GET_PROJECTS));
+	}
+
+	/**
+	 * Entries whose version changed are fetched again.
+	 */
+	@Test
+	public void testVersionProbe() throws Exception
+	{
+		final String[] version = new String[] { "1" };
+		TestLinkAPIVersionProbe probe = new TestLinkAPIVersionProbe() {
+			public String getVersion(
+				TestLinkAPICacheKey key)
+			{
+				return version[0];
+			}
+		};
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		disk.setVersionProbe(probe);
+		disk.clear();
+		api.getCache().clear();
+		api.getProjects();
+		disk.flush();
+		
+		api = new TestLinkAPIClient("devKey", server, true);
+		disk = api.openDiskCache(file);
+		disk.setVersionProbe(probe);
+		api.getProjects();
+		assertEquals(1, server.getCallCount(API_METHOD_GET_PROJECTS));
+		
+		version[0] = "2";
+		api = new TestLinkAPIClient("devKey", server, true);
+		disk = api.openDiskCache(file);
+		disk.setVersionProbe(probe);
+		assertNotNull(api.getProjects());
+		assertEquals(2, server.getCallCount(API_METHOD_GET_PROJECTS));
+	}
+
+	/**
+	 * The results of a plan are fetched again once a build was added.
+	 */
+	@Test
+	public void testPlanVersionProbe() throws Exception
+	{
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		Integer otherProjectID = api.createTestProject("Project", "PRJ", "Notes");
+		Integer otherPlanID = server.createTestPlan(otherProjectID, "Plan", "Notes");
+		api.createBuild(otherPlanID, "Build A", "Notes");
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		disk.setVersionProbe(new TestLinkPlanVersionProbe(api));
+		disk.clear();
+		api.getCache().clear();
+		api.getCasesForTestPlan(otherPlanID);
+		disk.flush();
+		
+		api = new TestLinkAPIClient("devKey", server, true);
+		disk = api.openDiskCache(file);
+		disk.setVersionProbe(new TestLinkPlanVersionProbe(api));
+		api.getCasesForTestPlan(otherPlanID);
+		assertEquals(1, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		
+		api.createBuild(otherPlanID, "Build B", "Notes");
+		api = new TestLinkAPIClient("devKey", server, true);
+		disk = api.openDiskCache(file);
+		disk.setVersionProbe(new TestLinkPlanVersionProbe(api));
+		api.getCasesForTestPlan(otherPlanID);
+		assertEquals(2, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+	}
+
+	/**
+	 * A truncated or damaged file leaves the cache empty.
+	 */
+	@Test
+	public void testDamagedFile() throws Exception
+	{
+		long length = file.length();
+		for ( long size = length - 1; size >= 0; size -= 7 ) {
+			File copy = File.createTempFile("testlink", ".cache");
+			copy(file, copy, size, -1);
+			assertDamaged(copy);
+		}
+		for ( int offset = 0; offset < length; offset += 5 ) {
+			File copy = File.createTempFile("testlink", ".cache");
+			copy(file, copy, length, offset);
+			assertDamaged(copy);
+		}
+	}
+
+	/**
+	 * A flush replaces a file that is still open by another cache.
+	 */
+	@Test
+	public void testReplaceFile() throws Exception
+	{
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		disk.flush();
+		disk.flush();
+		assertEquals(2, disk.size());
+		
+		api = new TestLinkAPIClient("devKey", server, true);
+		disk = api.openDiskCache(file);
+		assertEquals(2, disk.size());
+		server.resetCallCount();
+		assertEquals("Project", api.getProjects().getValueByName(0, API_RESULT_NAME));
+		assertEquals(0, server.getCallCount());
+		assertTrue(!new File(file.getPath() + ".old").exists());
+	}
+
+	/*
+	 * Copy the first size bytes of a file and flip the byte at offset.
+	 */
+	private static void copy(
+		File from,
+		File to,
+		long size,
+		int offset) throws Exception
+	{
+		RandomAccessFile in = new RandomAccessFile(from, "r");
+		byte[] data = new byte[(int) size];
+		in.readFully(data);
+		in.close();
+		if ( offset >= 0 ) {
+			data[offset] = (byte) ~data[offset];
+		}
+		RandomAccessFile out = new RandomAccessFile(to, "rw");
+		out.setLength(0);
+		out.write(data);
+		out.close();
+	}
+
+	/*
+	 * Open a damaged file: it must not throw and no entry may be wrong.
+	 */
+	private static void assertDamaged(
+		File copy) throws Exception
+	{
+		try {
+			TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+			TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+			TestLinkAPIDiskCache disk = api.openDiskCache(copy);
+			assertTrue(disk.size() <= 2);
+			assertNotNull(api.getProjects());
+			disk.flush();
+		} finally {
+			copy.delete();
+			new File(copy.getPath() + ".old").delete();
+		}
+	}
+
+	/**
+	 * A write drops the entries it affects from the file.
+	 */
+	@Test
+	public void testInvalidation() throws Exception
+	{
+		TestLinkInMemoryTransport server = new TestLinkInMemoryTransport();
+		TestLinkAPIClient api = new TestLinkAPIClient("devKey", server, true);
+		TestLinkAPIDiskCache disk = api.openDiskCache(file);
+		api.createTestProject("Other", "OTH", "Notes");
+		disk.flush();
+		assertEquals(1, disk.size());
+		assertTrue(file.length() > 0);
+	}
+}
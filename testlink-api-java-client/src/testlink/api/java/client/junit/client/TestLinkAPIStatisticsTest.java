@@ -0,0 +1,152 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkAPIMethodStatistics;
+import testlink.api.java.client.TestLinkAPIStatistics;
+
+
+/**
+ * Verifies the per method numbers kept by the client and their JMX
+ * MBean. The tests run against a local stand-in server.
+ */
+public class TestLinkAPIStatisticsTest implements TestLinkAPIConst
+{
+	private LocalXmlRpcServer server;
+	private TestLinkAPIClient api;
+	private TestLinkAPIStatistics statistics;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new LocalXmlRpcServer();
+		server.setResponse(API_METHOD_ABOUT, LocalXmlRpcServer.string("Testlink API"));
+		server.setResponse(API_METHOD_GET_PROJECTS, LocalXmlRpcServer.array(new String[] {
+			LocalXmlRpcServer.struct(new String[] { API_RESULT_IDENTIFIER, "1",
+				API_RESULT_NAME, "Project" }) }));
+		server.setResponse(API_METHOD_GET_BUILDS_FOR_PLAN, LocalXmlRpcServer.array(new String[] {
+			LocalXmlRpcServer.struct(new String[] { API_RESULT_CODE, "3000",
+				API_RESULT_MESSAGE, "The test plan does not exist." }) }));
+		api = new TestLinkAPIClient("devKey", server.getURL(), true);
+		statistics = api.getStatistics();
+		statistics.reset();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		statistics.unregisterMBean();
+		server.shutdown();
+	}
+
+	/**
+	 * Calls, cache lookups and bytes are counted per method.
+	 */
+	@Test
+	public void testCounts() throws Exception
+	{
+		api.getProjects();
+		api.getProjects();
+		api.getProjects();
+		
+		TestLinkAPIMethodStatistics projects = statistics.getSnapshot(API_METHOD_GET_PROJECTS);
+		assertEquals(1, projects.getCallCount());
+		assertEquals(0, projects.getErrorCount());
+		assertEquals(2, projects.getCacheHitCount());
+		assertEquals(1, projects.getCacheMissCount());
+		assertTrue(projects.getBytesSent() > 0);
+		assertTrue(projects.getBytesReceived() > 0);
+		assertTrue(projects.getLatency(50) <= projects.getMaxLatency());
+		assertTrue(statistics.getSnapshot().containsKey(API_METHOD_GET_PROJECTS));
+	}
+
+	/**
+	 * Errors returned by TestLink are counted.
+	 */
+	@Test
+	public void testErrors() throws Exception
+	{
+		try {
+			api.getBuildsForTestPlan(new Integer(5));
+		} catch ( TestLinkAPIException e ) {
+			// Expected
+		}
+		assertEquals(1, statistics.getSnapshot(API_METHOD_GET_BUILDS_FOR_PLAN).getErrorCount());
+		assertEquals(1, statistics.getErrorCount());
+	}
+
+	/**
+	 * The totals can be read over JMX.
+	 */
+	@Test
+	public void testMBean() throws Exception
+	{
+		ObjectName name = statistics.registerMBean("TestLinkAPIStatisticsTest");
+		api.getProjects();
+		
+		MBeanServer mbeans = ManagementFactory.getPlatformMBeanServer();
+		assertEquals(new Long(1), mbeans.getAttribute(name, "CallCount"));
+		assertEquals(new Long(1), mbeans.invoke(name, "getMethodCallCount",
+			new Object[] { API_METHOD_GET_PROJECTS }, new String[] { String.class.getName() }));
+		
+		statistics.unregisterMBean();
+		assertTrue(!mbeans.isRegistered(name));
+	}
+
+	/**
+	 * Percentiles stay within the width of a latency bucket.
+	 */
+	@Test
+	public void testLatencyBuckets() throws Exception
+	{
+		long previous = -1;
+		for ( int i = 0; i < 100; i++ ) {
+			long bound = TestLinkAPIMethodStatistics.getLatencyBucketBound(i);
+			assertTrue(bound > previous);
+			if ( previous >= 16 ) {
+				assertTrue(bound - previous <= (previous + 1) / 8);
+			}
+			previous = bound;
+		}
+	}
+}
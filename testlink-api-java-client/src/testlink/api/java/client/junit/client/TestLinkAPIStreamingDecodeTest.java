@@ -0,0 +1,232 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkAPIRowHandler;
+
+
+/**
+ * Runs the decode tests with the streaming decoder enabled and verifies
+ * the rows it builds match the ones of the default decoder.
+ */
+public class TestLinkAPIStreamingDecodeTest extends TestLinkAPIDecodeTest
+{
+	private static final String PLAN_CASES = "<value><struct>"
+		+ "<member><name>10</name><value><struct>"
+		+ "<member><name>tc_id</name><value><int>10</int></value></member>"
+		+ "<member><name>name</name><value>First</value></member>"
+		+ "</struct></value></member>"
+		+ "<member><name>11</name><value><struct>"
+		+ "<member><name>tc_id</name><value><int>11</int></value></member>"
+		+ "<member><name>name</name><value><string>Second</string></value></member>"
+		+ "</struct></value></member>"
+		+ "</struct></value>";
+
+	private static final String MIXED = "<value><struct>"
+		+ "<member><name>first</name><value><struct>"
+		+ "<member><name>name</name><value>First</value></member>"
+		+ "</struct></value></member>"
+		+ "<member><name>status</name><value><boolean>1</boolean></value></member>"
+		+ "<member><name>list</name><value><array><data>"
+		+ "<value><i4>1</i4></value><value><double>2.5</double></value>"
+		+ "</data></array></value></member>"
+		+ "</struct></value>";
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		super.setUp();
+		getClient().setStreamingDecoder(true);
+	}
+
+	/**
+	 * A struct of structs is split into one row per member.
+	 */
+	@Test
+	public void testStructOfStructsResponse() throws Exception
+	{
+		getServer().setResponse(API_METHOD_GET_TEST_CASES_FOR_PLAN, PLAN_CASES);
+		TestLinkAPIResults streamed = getClient().getCasesForTestPlan(new Integer(1));
+		TestLinkAPIResults decoded = getDefaultClient().getCasesForTestPlan(new Integer(1));
+		// The rows keep the order of the response
+		assertEquals(decoded.size(), streamed.size());
+		for ( int i = 0; i < decoded.size(); i++ ) {
+			assertTrue(decoded.toString().indexOf(streamed.getData(i).toString()) >= 0);
+		}
+		assertEquals(new Integer(11), streamed.getValueByName(1, API_RESULT_TC_INTERNAL_ID));
+		assertEquals("First", streamed.getValueByName(0, API_RESULT_NAME));
+	}
+
+	/**
+	 * A struct with members that are not structs is a single row.
+	 */
+	@Test
+	public void testMixedStructResponse() throws Exception
+	{
+		getServer().setResponse(API_METHOD_GET_TEST_CASES_FOR_PLAN, MIXED);
+		TestLinkAPIResults streamed = getClient().getCasesForTestPlan(new Integer(1));
+		TestLinkAPIResults decoded = getDefaultClient().getCasesForTestPlan(new Integer(1));
+		assertEquals(1, streamed.size());
+		assertEquals(Boolean.TRUE, streamed.getValueByName(0, "status"));
+		assertTrue(streamed.getValueByName(0, "list") instanceof Object[]);
+		assertEquals(decoded.getData(0).keySet(), streamed.getData(0).keySet());
+	}
+
+	/**
+	 * The rows are handed to a row handler while the response is read.
+	 */
+	@Test
+	public void testRowHandler() throws Exception
+	{
+		getServer().setResponse(API_METHOD_GET_TEST_CASES_FOR_PLAN, PLAN_CASES);
+		final ArrayList names = new ArrayList();
+		int count = getDefaultClient().getCasesForTestPlan(new Integer(1),
+			new TestLinkAPIRowHandler() {
+				public void handleRow(
+					Map row) throws TestLinkAPIException
+				{
+					names.add(row.get(API_RESULT_NAME));
+				}
+			});
+		assertEquals(2, count);
+		assertEquals("First", names.get(0));
+		assertEquals("Second", names.get(1));
+		
+		// The results can also be iterated
+		Iterator rows = getClient().getCasesForTestPlan(new Integer(1)).iterator();
+		assertEquals("First", ((Map) rows.next()).get(API_RESULT_NAME));
+		assertEquals("Second", ((Map) rows.next()).get(API_RESULT_NAME));
+		assertFalse(rows.hasNext());
+	}
+	
+	/**
+	 * Cached rows are replayed to a row handler and streamed rows are
+	 * not cached.
+	 */
+	@Test
+	public void testRowHandlerCache() throws Exception
+	{
+		getServer().setResponse(API_METHOD_GET_TEST_CASES_FOR_PLAN, PLAN_CASES);
+		final TestLinkAPIClient cached = new TestLinkAPIClient("devKey", getServer().getURL(), true);
+		cached.setStreamingDecoder(true);
+		final ArrayList names = new ArrayList();
+		TestLinkAPIRowHandler handler = new TestLinkAPIRowHandler() {
+			public void handleRow(
+				Map row) throws TestLinkAPIException
+			{
+				names.add(row.get(API_RESULT_NAME));
+			}
+		};
+		
+		// A miss is streamed and not cached
+		getServer().resetRequestCount();
+		assertEquals(2, cached.getCasesForTestPlan(new Integer(1), handler));
+		cached.getCasesForTestPlan(new Integer(1));
+		assertEquals(2, getServer().getRequestCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		
+		// A hit is replayed without a call
+		names.clear();
+		assertEquals(2, cached.getCasesForTestPlan(new Integer(1), handler));
+		assertEquals(2, getServer().getRequestCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		assertEquals("First", names.get(0));
+		assertEquals("Second", names.get(1));
+		
+		// A call in flight for the same plan is waited for
+		cached.getCache().clear();
+		getServer().resetRequestCount();
+		getServer().setDelay(API_METHOD_GET_TEST_CASES_FOR_PLAN, 200);
+		Thread fetch = new Thread() {
+			public void run()
+			{
+				try {
+					cached.getCasesForTestPlan(new Integer(1));
+				} catch ( TestLinkAPIException e ) {}
+			}
+		};
+		fetch.start();
+		while ( getServer().getRequestCount(API_METHOD_GET_TEST_CASES_FOR_PLAN) == 0 ) {
+			Thread.sleep(5);
+		}
+		names.clear();
+		assertEquals(2, cached.getCasesForTestPlan(new Integer(1), handler));
+		fetch.join();
+		assertEquals(1, getServer().getRequestCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		assertEquals(2, names.size());
+	}
+	
+	/**
+	 * Errors of the handler and of TestLink stop the call.
+	 */
+	@Test
+	public void testRowHandlerErrors() throws Exception
+	{
+		TestLinkAPIRowHandler failing = new TestLinkAPIRowHandler() {
+			public void handleRow(
+				Map row) throws TestLinkAPIException
+			{
+				throw new TestLinkAPIException("Stop");
+			}
+		};
+		getServer().setResponse(API_METHOD_GET_TEST_CASES_FOR_PLAN, PLAN_CASES);
+		try {
+			getClient().getCasesForTestPlan(new Integer(1), failing);
+			assertTrue("The handler failed.", false);
+		} catch ( TestLinkAPIException e ) {
+			assertEquals("Stop", e.getMessage());
+		}
+		
+		getServer().setResponse(API_METHOD_GET_TEST_CASES_FOR_PLAN, LocalXmlRpcServer.array(
+			new String[] { LocalXmlRpcServer.struct(new String[] { API_RESULT_CODE, "3000",
+				API_RESULT_MESSAGE, "Invalid test plan" }) }));
+		try {
+			getClient().getCasesForTestPlan(new Integer(1), failing);
+			assertTrue("The plan is not valid.", false);
+		} catch ( TestLinkAPIException e ) {
+			assertTrue(e.getMessage().indexOf("Invalid test plan") > 0);
+		}
+	}
+
+	/*
+	 * A client for the same server with the default decoder.
+	 */
+	private TestLinkAPIClient getDefaultClient()
+	{
+		return new TestLinkAPIClient("devKey", getServer().getURL());
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkAsyncClient;
+import testlink.api.java.client.TestLinkInMemoryTransport;
+import testlink.api.java.client.TestLinkTransportException;
+
+
+/**
+ * Verifies the results, errors, concurrency limit and shutdown of the
+ * asynchronous client using the in-memory TestLink API.
+ */
+public class TestLinkAsyncClientTest implements TestLinkAPIConst
+{
+	private AtomicInteger active = new AtomicInteger();
+	private AtomicInteger maxActive = new AtomicInteger();
+	private TestLinkInMemoryTransport server;
+	private TestLinkAPIClient api;
+	private Integer projectID;
+	private Integer planID;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		// Pings are slow so concurrent calls overlap
+		server = new TestLinkInMemoryTransport() {
+			public Object execute(
+				String method,
+				Object[] params) throws TestLinkTransportException
+			{
+				if ( !API_METHOD_PING.equals(method) ) {
+					return super.execute(method, params);
+				}
+				int current = active.incrementAndGet();
+				synchronized ( maxActive ) {
+					if ( current > maxActive.get() ) {
+						maxActive.set(current);
+					}
+				}
+				try {
+					Thread.sleep(50);
+					return super.execute(method, params);
+				} catch ( InterruptedException e ) {
+					throw new TestLinkTransportException(0, e.getMessage(), e);
+				} finally {
+					active.decrementAndGet();
+				}
+			}
+		};
+		api = new TestLinkAPIClient("devKey", server, true);
+		projectID = api.createTestProject("Project", "PRJ", "Notes");
+		planID = server.createTestPlan(projectID, "Plan", "Notes");
+		api.createBuild(planID, "Build A", "Notes");
+		api.getCache().clear();
+		server.resetCallCount();
+	}
+
+	/**
+	 * A future returns the same results as the synchronous client.
+	 */
+	@Test
+	public void testResults() throws Exception
+	{
+		TestLinkAsyncClient async = new TestLinkAsyncClient(api);
+		try {
+			Future projects = async.getProjects();
+			Future builds = async.getBuildsForTestPlan(planID);
+			TestLinkAPIResults results = (TestLinkAPIResults) projects.get();
+			assertEquals("Project", results.getValueByName(0, API_RESULT_NAME));
+			results = (TestLinkAPIResults) builds.get();
+			assertEquals("Build A", results.getValueByName(0, API_RESULT_NAME));
+			assertTrue(async.getClient() == api);
+		} finally {
+			async.shutdown();
+		}
+	}
+
+	/**
+	 * Test data can be created and read back by name.
+	 */
+	@Test
+	public void testCreate() throws Exception
+	{
+		TestLinkAsyncClient async = new TestLinkAsyncClient(api);
+		try {
+			Integer suiteID = (Integer) async.createTestSuite(projectID, "Suite", "Details").get();
+			Integer caseID = (Integer) async.createTestCase("admin", "Project", "Suite", "Login",
+				"Summary", "Steps", "Expected", MEDIUM).get();
+			Integer buildID = (Integer) async.createBuild("Project", "Plan", "Build B",
+				"Notes").get();
+			assertEquals(1, ((TestLinkAPIResults) async.getCasesForTestSuite(projectID,
+				suiteID).get()).size());
+			async.addTestCaseToTestPlan("Project", "Plan", "Login").get();
+			
+			TestLinkAPIResults builds = (TestLinkAPIResults) async.getBuildsForTestPlan("Project",
+				"Plan").get();
+			assertEquals(2, builds.size());
+			TestLinkAPIResults cases = (TestLinkAPIResults) async.getCasesForTestPlan(planID,
+				caseID, null, null, null, null, null, null).get();
+			assertEquals(1, cases.size());
+			async.reportTestCaseResult(planID, caseID, buildID, null, TEST_PASSED).get();
+			TestLinkAPIResults last = (TestLinkAPIResults) async.getLastExecutionResult("Project",
+				"Plan", "Login").get();
+			assertEquals(TEST_PASSED, last.getValueByName(0, API_PARAM_STATUS));
+		} finally {
+			async.shutdown();
+		}
+	}
+
+	/**
+	 * An error of a call is the cause of the execution exception.
+	 */
+	@Test
+	public void testErrors() throws Exception
+	{
+		TestLinkAsyncClient async = new TestLinkAsyncClient(api);
+		try {
+			Future missing = async.getCasesForTestSuite(projectID, null);
+			Future projects = async.getProjects();
+			try {
+				missing.get();
+				fail("The call without a suite identifier did not fail.");
+			} catch ( ExecutionException e ) {
+				assertTrue(e.getCause() instanceof TestLinkAPIException);
+			}
+			
+			// Other calls are not affected
+			assertEquals(1, ((TestLinkAPIResults) projects.get()).size());
+		} finally {
+			async.shutdown();
+		}
+	}
+
+	/**
+	 * No more calls than the maximum run at the same time even when
+	 * the executor has more threads.
+	 */
+	@Test
+	public void testMaxInFlight() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			TestLinkAsyncClient async = new TestLinkAsyncClient(api, executor, 2);
+			Future[] calls = new Future[8];
+			for ( int i = 0; i < calls.length; i++ ) {
+				calls[i] = async.ping();
+			}
+			for ( int i = 0; i < calls.length; i++ ) {
+				calls[i].get();
+			}
+			assertEquals(8, server.getCallCount(API_METHOD_PING));
+			assertEquals(2, maxActive.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Only an executor created by the client is shut down.
+	 */
+	@Test
+	public void testShutdown() throws Exception
+	{
+		TestLinkAsyncClient owned = new TestLinkAsyncClient(api);
+		Future ping = owned.ping();
+		owned.shutdown();
+		
+		// Calls submitted before the shutdown still run
+		ping.get();
+		try {
+			owned.ping();
+			fail("A call was accepted after the shutdown.");
+		} catch ( RejectedExecutionException e ) {
+			// Expected
+		}
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			TestLinkAsyncClient shared = new TestLinkAsyncClient(api, executor, 1);
+			shared.shutdown();
+			assertFalse(executor.isShutdown());
+			shared.ping().get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
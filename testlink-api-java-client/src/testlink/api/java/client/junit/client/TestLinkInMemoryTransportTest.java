@@ -0,0 +1,261 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIBatch;
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkAPIHelper;
+import testlink.api.java.client.TestLinkAPIRecord;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkBuildRecord;
+import testlink.api.java.client.TestLinkCaseRecord;
+import testlink.api.java.client.TestLinkExecutionRecord;
+import testlink.api.java.client.TestLinkInMemoryTransport;
+import testlink.api.java.client.TestLinkPreparedReport;
+import testlink.api.java.client.TestLinkProjectRecord;
+import testlink.api.java.client.TestLinkTransportException;
+
+
+/**
+ * Runs the TestLinkAPIClient against the in-memory TestLink API so
+ * the client can be exercised without a TestLink installation.
+ */
+public class TestLinkInMemoryTransportTest implements TestLinkAPIConst
+{
+	private TestLinkInMemoryTransport server;
+	private TestLinkAPIClient api;
+	private Integer projectID;
+	private Integer planID;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new TestLinkInMemoryTransport();
+		api = new TestLinkAPIClient("devKey", server, false);
+		projectID = api.createTestProject("Project", "PRJ", "Project notes");
+		planID = server.createTestPlan(projectID, "Plan", "Plan notes");
+		api.createTestSuite(projectID, "Suite", "Suite details");
+		api.createTestCase("admin", "Project", "Suite", "Login", "Summary", "Steps",
+			"Expected", MEDIUM);
+		api.createTestCase("admin", "Project", "Suite", "Logout", "Summary", "Steps",
+			"Expected", MEDIUM);
+		api.createBuild(planID, "Build 1", "Build notes");
+		server.resetCallCount();
+	}
+
+	/**
+	 * The client is connected to the in-memory server.
+	 */
+	@Test
+	public void testConnected() throws Exception
+	{
+		assertTrue(api.isConnected);
+		assertEquals(TestLinkInMemoryTransport.SERVER_URL, api.SERVER_URL);
+		assertEquals(1, api.getProjects().size());
+	}
+
+	/**
+	 * Test cases are added to a plan and results are reported by name.
+	 */
+	@Test
+	public void testReportResult() throws Exception
+	{
+		api.addTestCaseToTestPlan("Project", "Plan", "Login");
+		api.addTestCaseToTestPlan("Project", "Plan", "Logout");
+		TestLinkAPIResults planCases = api.getCasesForTestPlan(planID);
+		assertEquals(2, planCases.size());
+		assertEquals("Suite", planCases.getValueByName(0, API_RESULT_TC_SUITE));
+
+		api.reportTestCaseResult("Project", "Plan", "PRJ-2", "Build 1", "Notes", TEST_FAILED);
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(api, projectID, "Logout");
+		TestLinkAPIResults last = api.getLastExecutionResult(planID, caseID);
+		assertEquals(TEST_FAILED, last.getValueByName(0, API_PARAM_STATUS));
+		assertEquals(1, server.getCallCount(API_METHOD_REPORT_TEST_RESULT));
+	}
+
+	/**
+	 * A prepared report resolves the plan, build and test cases once
+	 * and sends one call per reported result.
+	 */
+	@Test
+	public void testPreparedReport() throws Exception
+	{
+		api.addTestCaseToTestPlan("Project", "Plan", "Login");
+		api.addTestCaseToTestPlan("Project", "Plan", "Logout");
+		TestLinkPreparedReport report = api.prepareReport("Project", "Plan", "Build 1");
+		Integer loginID = report.bindTestCase("Login");
+		Integer logoutID = report.bindTestCase("PRJ-2");
+		server.resetCallCount();
+		
+		for ( int i = 0; i < 3; i++ ) {
+			report.reportTestCaseResult("Login", "Notes", TEST_PASSED);
+			report.reportTestCaseResult("PRJ-2", null, TEST_BLOCKED);
+		}
+		assertEquals(6, server.getCallCount());
+		assertEquals(6, server.getCallCount(API_METHOD_REPORT_TEST_RESULT));
+		assertEquals(TEST_PASSED, api.getLastExecutionResult(planID, loginID).getValueByName(0,
+			API_PARAM_STATUS));
+		assertEquals(TEST_BLOCKED, api.getLastExecutionResult(planID, logoutID).getValueByName(
+			0, API_PARAM_STATUS));
+		
+		try {
+			report.reportTestCaseResult("Unknown", null, TEST_PASSED);
+			assertTrue("The case does not exist.", false);
+		} catch ( TestLinkAPIException e ) {
+			assertTrue(e.getMessage().indexOf("Unknown") > 0);
+		}
+	}
+
+	/**
+	 * Results can be read as typed records.
+	 */
+	@Test
+	public void testRecords() throws Exception
+	{
+		api.addTestCaseToTestPlan("Project", "Plan", "Logout");
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(api, projectID, "Logout");
+		api.reportTestCaseResult(planID, caseID, null, "Notes", TEST_BLOCKED);
+		
+		TestLinkProjectRecord project = api.getProjects().getProjectRecord(0);
+		assertEquals(projectID.intValue(), project.getID());
+		assertEquals("PRJ", project.getPrefix());
+		assertEquals(planID.intValue(), api.getProjectTestPlans(projectID).getPlanRecord(0).getID());
+		TestLinkBuildRecord build = api.getBuildsForTestPlan(planID).getBuildRecord(0);
+		assertEquals("Build 1", build.getName());
+		assertEquals(planID.intValue(), build.getPlanID());
+		
+		TestLinkAPIResults planCases = api.getCasesForTestPlan(planID);
+		TestLinkCaseRecord planCase = planCases.getCaseRecord(0);
+		assertEquals(caseID.intValue(), planCase.getID());
+		assertEquals("PRJ-2", planCase.getVisibleID("PRJ"));
+		assertEquals("Suite", planCase.getSuiteName());
+		assertTrue(planCase == planCases.getCaseRecord(0));
+		
+		TestLinkExecutionRecord execution = api.getLastExecutionResult(planID, caseID)
+			.getExecutionRecord(0);
+		assertEquals(TEST_BLOCKED, execution.getStatus());
+		assertEquals(caseID.intValue(), execution.getTestCaseID());
+		assertEquals(build.getID(), execution.getBuildID());
+		
+		// Values of nested results are found at any depth
+		HashMap inner = new HashMap();
+		inner.put("deep", "1");
+		HashMap middle = new HashMap();
+		middle.put("inner", inner);
+		HashMap outer = new HashMap();
+		outer.put(API_RESULT_IDENTIFIER, "5");
+		outer.put("other", new HashMap());
+		outer.put("middle", middle);
+		TestLinkAPIResults nested = new TestLinkAPIResults();
+		nested.add(outer);
+		assertEquals("1", nested.getValueByName(0, "deep"));
+		assertEquals(1, new TestLinkAPIRecord(outer).getInt("deep"));
+	}
+
+	/**
+	 * Errors are reported the way TestLink reports them.
+	 */
+	@Test
+	public void testError() throws Exception
+	{
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(api, projectID, "Login");
+		try {
+			api.reportTestCaseResult(planID, caseID, null, null, TEST_PASSED);
+			assertTrue("The case is not part of the plan.", false);
+		} catch ( TestLinkAPIException e ) {
+			assertTrue(e.getMessage().indexOf("is not part of test plan") > 0);
+		}
+		
+		// Unknown methods are a fault carrying the XML-RPC fault code
+		try {
+			server.execute("tl.unknown", new Object[] { new HashMap() });
+			assertTrue("The method does not exist.", false);
+		} catch ( TestLinkTransportException e ) {
+			assertEquals(API_FAULT_METHOD_NOT_FOUND, e.getCode());
+			assertTrue(e.getMessage().indexOf("tl.unknown") > 0);
+		}
+	}
+
+	/**
+	 * A batch is sent as a single multicall request.
+	 */
+	@Test
+	public void testBatch() throws Exception
+	{
+		api.addTestCaseToTestPlan("Project", "Plan", "Login");
+		Integer suiteID = TestLinkAPIHelper.getSuiteID(api, projectID, "Suite");
+		Integer caseID = TestLinkAPIHelper.getCaseIDByName(api, projectID, "Login");
+		server.resetCallCount();
+
+		TestLinkAPIBatch batch = api.createBatch();
+		int suiteCases = batch.getCasesForTestSuite(projectID, suiteID);
+		int report = batch.reportTestCaseResult(planID, caseID, null, null, TEST_PASSED);
+		int badReport = batch.reportTestCaseResult(planID, new Integer(9999), null, null,
+			TEST_PASSED);
+		TestLinkAPIResults[] results = batch.execute();
+
+		assertEquals(1, server.getCallCount());
+		assertEquals(2, results[suiteCases].size());
+		assertFalse(batch.hasError(report));
+		assertTrue(batch.hasError(badReport));
+		assertNotNull(api.getLastExecutionResult(planID, caseID).getValueByName(0, "build_id"));
+	}
+
+	/**
+	 * Test cases added to a plan in a batch drop the cached plan cases.
+	 */
+	@Test
+	public void testBatchAddToPlan() throws Exception
+	{
+		TestLinkAPIClient cachedApi = new TestLinkAPIClient("devKey", server, true);
+		cachedApi.addTestCaseToTestPlan("Project", "Plan", "Login");
+		assertEquals(1, cachedApi.getCasesForTestPlan(planID).size());
+		server.resetCallCount();
+
+		TestLinkAPIBatch batch = cachedApi.createBatch();
+		int added = batch.addTestCaseToTestPlan(projectID, planID, null, "PRJ-2",
+			new Integer(1), null, null);
+		int badAdd = batch.addTestCaseToTestPlan(projectID, planID, null, "PRJ-99",
+			new Integer(1), null, null);
+		batch.execute();
+
+		assertEquals(1, server.getCallCount());
+		assertFalse(batch.hasError(added));
+		assertTrue(batch.hasError(badAdd));
+		assertEquals(2, cachedApi.getCasesForTestPlan(planID).size());
+	}
+}
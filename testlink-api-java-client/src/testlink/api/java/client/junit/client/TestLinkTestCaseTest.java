@@ -0,0 +1,224 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkTestCase;
+import testlink.api.java.client.TestLinkTestProject;
+import testlink.api.java.client.TestLinkTestSuite;
+
+
+/**
+ * Verifies that projects, suites and test cases are initialized from
+ * the values returned by the TestLink API.
+ */
+public class TestLinkTestCaseTest implements TestLinkAPIConst
+{
+	private Map projectInfo;
+	private Map suiteInfo;
+	private Map caseInfo;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		// XML-RPC returns the numbers as strings
+		projectInfo = new HashMap();
+		projectInfo.put(API_RESULT_IDENTIFIER, "5");
+		projectInfo.put(API_RESULT_NAME, "Project");
+		projectInfo.put(API_RESULT_PREFIX, "PRJ");
+		projectInfo.put(API_RESULT_ACTIVE, "1");
+		projectInfo.put(API_RESULT_AUTO_OPTION, "0");
+		projectInfo.put(API_RESULT_NOTES, "Notes");
+		
+		suiteInfo = new HashMap();
+		suiteInfo.put(API_RESULT_IDENTIFIER, "7");
+		suiteInfo.put(API_RESULT_NAME, "Suite");
+		
+		caseInfo = new HashMap();
+		caseInfo.put(API_RESULT_IDENTIFIER, "12");
+		caseInfo.put(API_RESULT_NAME, "Case");
+		caseInfo.put(API_RESULT_TC_EXTERNAL_ID, "3");
+		caseInfo.put(API_RESULT_NODE_ORDER, "2");
+		caseInfo.put(API_RESULT_EXEC_TYPE, "2");
+		caseInfo.put(API_RESULT_ACTIVE, "0");
+		caseInfo.put(API_RESULT_TC_SUITE, "Suite");
+		caseInfo.put(API_RESULT_SUMMARY, "Summary");
+		caseInfo.put(API_RESULT_VERSION, "1");
+		caseInfo.put(API_RESULT_IMPORTANCE, HIGH);
+	}
+
+	/**
+	 * The values of the results are read into the objects.
+	 */
+	@Test
+	public void testExistingCase() throws Exception
+	{
+		TestLinkTestProject project = new TestLinkTestProject(projectInfo);
+		assertEquals(new Integer(5), project.getProjectID());
+		assertEquals("Project", project.getProjectName());
+		assertEquals("PRJ", project.getTestCasePrefix());
+		assertTrue(project.isActive());
+		assertFalse(project.allowsAutomation());
+		assertEquals("Notes", project.getProjectDescription());
+		
+		TestLinkTestSuite suite = new TestLinkTestSuite(suiteInfo);
+		assertEquals(new Integer(7), suite.getSuiteID());
+		assertEquals("Suite", suite.getSuiteName());
+		
+		TestLinkTestCase testCase = new TestLinkTestCase();
+		testCase.initExistingCase(project, suite, caseInfo);
+		assertEquals(new Integer(12), testCase.getTestCaseInternalID());
+		assertEquals("Case", testCase.getTestCaseName());
+		assertEquals("PRJ-3", testCase.getTestCaseVisibleID());
+		assertEquals(2, testCase.getExecOrder());
+		assertTrue(testCase.isAutoExec());
+		assertFalse(testCase.isActive());
+		assertEquals("Summary", testCase.getTestCaseSummary());
+		assertEquals("1", testCase.getVersion());
+		assertTrue(testCase.isHighImportance());
+		
+		// Plan results use tc_id for the test case
+		caseInfo.put(API_RESULT_TC_INTERNAL_ID, "14");
+		caseInfo.remove(API_RESULT_ACTIVE);
+		caseInfo.remove(API_RESULT_IMPORTANCE);
+		testCase = new TestLinkTestCase();
+		testCase.initExistingCase(project, suite, caseInfo);
+		assertEquals(new Integer(14), testCase.getTestCaseInternalID());
+		assertTrue(testCase.isActive());
+		assertTrue(testCase.isMediumImportance());
+	}
+
+	/**
+	 * Required values that are missing are reported.
+	 */
+	@Test
+	public void testMissingValues() throws Exception
+	{
+		projectInfo.remove(API_RESULT_IDENTIFIER);
+		assertRejected(projectInfo, null, null);
+		suiteInfo.remove(API_RESULT_NAME);
+		assertRejected(null, suiteInfo, null);
+		
+		String[] required = new String[] { API_RESULT_IDENTIFIER, API_RESULT_NAME,
+			API_RESULT_TC_EXTERNAL_ID, API_RESULT_NODE_ORDER, API_RESULT_EXEC_TYPE,
+			API_RESULT_TC_SUITE };
+		for ( int i = 0; i < required.length; i++ ) {
+			Map info = new HashMap(caseInfo);
+			info.remove(required[i]);
+			assertRejected(null, null, info);
+		}
+	}
+
+	/**
+	 * The large text fields of a test case read the same as they were
+	 * stored and are shared with its copies.
+	 */
+	@Test
+	public void testTestCaseText() throws Exception
+	{
+		StringBuffer steps = new StringBuffer();
+		for ( int i = 1; i <= 100; i++ ) {
+			steps.append("<p>Step ").append(i).append(": open the page and check the title</p>");
+		}
+		caseInfo.put(API_RESULT_STEPS, steps.toString());
+		caseInfo.put(API_RESULT_EXPECTED_RESULTS, "Expected \u00e9");
+		
+		TestLinkTestCase testCase = new TestLinkTestCase();
+		testCase.initExistingCase(new TestLinkTestProject(projectInfo),
+			new TestLinkTestSuite(suiteInfo), caseInfo);
+		assertEquals(steps.toString(), testCase.getTestCaseSteps());
+		assertEquals("Expected \u00e9", testCase.getTestCaseExpectedResults());
+		TestLinkTestCase copy = new TestLinkTestCase(testCase);
+		assertEquals(steps.toString(), copy.getTestCaseSteps());
+		copy.setTestCaseSteps(null);
+		assertEquals(null, copy.getTestCaseSteps());
+		assertEquals(steps.toString(), testCase.getTestCaseSteps());
+	}
+
+	/**
+	 * Texts that are short or do not compress are kept as they are and
+	 * read the same.
+	 */
+	@Test
+	public void testUncompressedText() throws Exception
+	{
+		// Random characters from a wide range do not get smaller
+		Random random = new Random(42);
+		StringBuffer noise = new StringBuffer();
+		for ( int i = 0; i < 1000; i++ ) {
+			noise.append((char) (0x20 + random.nextInt(0xd000 - 0x20)));
+		}
+		String[] texts = new String[] { "", "Short \u00e9", noise.toString(),
+			noise.substring(0, 256), noise.substring(0, 255) };
+		
+		TestLinkTestCase testCase = new TestLinkTestCase();
+		testCase.initExistingCase(new TestLinkTestProject(projectInfo),
+			new TestLinkTestSuite(suiteInfo), caseInfo);
+		for ( int i = 0; i < texts.length; i++ ) {
+			testCase.setTestCaseSummary(texts[i]);
+			testCase.setTestCaseSteps(texts[i]);
+			testCase.setTestCaseExpectedResults(texts[i]);
+			assertEquals(texts[i], testCase.getTestCaseSummary());
+			assertEquals(texts[i], testCase.getTestCaseSteps());
+			assertEquals(texts[i], new TestLinkTestCase(testCase).getTestCaseExpectedResults());
+		}
+	}
+
+	/*
+	 * Initialize from the project, suite or case values and expect an error.
+	 */
+	private void assertRejected(
+		Map project,
+		Map suite,
+		Map testCase)
+	{
+		try {
+			if ( project != null ) {
+				new TestLinkTestProject(project);
+			} else if ( suite != null ) {
+				new TestLinkTestSuite(suite);
+			} else {
+				new TestLinkTestCase().initExistingCase(new TestLinkTestProject(projectInfo),
+					new TestLinkTestSuite(suiteInfo), testCase);
+			}
+			fail("The missing value was not reported.");
+		} catch ( TestLinkAPIException e ) {
+			// Expected
+		}
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestCase;
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAPIException;
+import testlink.api.java.client.TestLinkAPIResults;
+import testlink.api.java.client.TestLinkInMemoryTransport;
+import testlink.api.java.client.TestLinkTestCase;
+import testlink.api.java.client.TestLinkTestPlan;
+import testlink.api.java.client.TestLinkTestProject;
+import testlink.api.java.client.TestLinkTestSuite;
+import testlink.api.java.client.TestLinkTransportException;
+
+
+/**
+ * Verifies how a test plan loads its test cases and adds new ones
+ * using the in-memory TestLink API.
+ */
+public class TestLinkTestPlanTest implements TestLinkAPIConst
+{
+	private TestLinkInMemoryTransport server;
+	private TestLinkAPIClient api;
+	private Integer projectID;
+	private Integer planID;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new TestLinkInMemoryTransport();
+		api = new TestLinkAPIClient("devKey", server, true);
+		projectID = api.createTestProject("Project", "PRJ", "Notes");
+		planID = server.createTestPlan(projectID, "Plan", "Notes");
+		api.createBuild(planID, "Build A", "Notes");
+	}
+
+	/**
+	 * The suites and the cases of a plan are read with one call each
+	 * and the cases of a suite share its instance.
+	 */
+	@Test
+	public void testLoadPlan() throws Exception
+	{
+		for ( int s = 0; s < 2; s++ ) {
+			Integer suiteID = api.createTestSuite(projectID, "Suite " + s, "Details");
+			for ( int c = 0; c < 3; c++ ) {
+				api.createTestCase("admin", projectID, suiteID, "Case " + s + c, "Summary",
+					"Steps", "Expected", null, null, null, null, null, MEDIUM);
+				api.addTestCaseToTestPlan(projectID, planID, null, "PRJ-" + (s * 3 + c + 1),
+					new Integer(1), null, null);
+			}
+		}
+		api.getCache().clear();
+		server.resetCallCount();
+		
+		TestLinkTestPlan plan = new TestLinkTestPlan(api, "Project", "Plan",
+			SuiteCase.class.getName());
+		TestCase[] cases = plan.getTestCases();
+		assertEquals(6, cases.length);
+		assertFalse(plan.isOffline());
+		assertEquals(1, server.getCallCount(API_METHOD_GET_SUITES_FOR_PLAN));
+		assertEquals(1, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		
+		Map suites = new HashMap();
+		for ( int i = 0; i < cases.length; i++ ) {
+			TestLinkTestSuite suite = ((SuiteCase) cases[i]).suite;
+			assertEquals(cases[i].getSuiteName(), suite.getSuiteName());
+			if ( suites.containsKey(suite.getSuiteName()) ) {
+				assertTrue(suites.get(suite.getSuiteName()) == suite);
+			} else {
+				suites.put(suite.getSuiteName(), suite);
+			}
+		}
+		assertEquals(2, suites.size());
+	}
+
+	/**
+	 * The cases of the plan are read once for many test cases put
+	 * into the plan one at a time.
+	 */
+	@Test
+	public void testPutTestCase() throws Exception
+	{
+		ArrayList cases = createCases(5, TestLinkTestCase.class);
+		api.addTestCaseToTestPlan(projectID, planID, null, "PRJ-1", new Integer(1), null, null);
+		TestLinkTestPlan plan = new TestLinkTestPlan(api, "Project", "Plan",
+			TestLinkTestCase.class.getName());
+		server.resetCallCount();
+		
+		for ( int i = 0; i < cases.size(); i++ ) {
+			plan.putTestCase((TestCase) cases.get(i), "admin");
+		}
+		assertEquals(1, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		assertEquals(4, server.getCallCount(API_METHOD_ADD_TEST_CASE_TO_PLAN));
+		assertEquals(5, api.getCasesForTestPlan(planID).size());
+		assertEquals(5, plan.getTestCases().length);
+	}
+
+	/**
+	 * The cases missing from the plan are added in one multicall.
+	 */
+	@Test
+	public void testPutTestCases() throws Exception
+	{
+		ArrayList cases = createCases(20, TestLinkTestCase.class);
+		api.addTestCaseToTestPlan(projectID, planID, null, "PRJ-1", new Integer(1), null, null);
+		TestLinkTestPlan plan = new TestLinkTestPlan(api, "Project", "Plan",
+			TestLinkTestCase.class.getName());
+		server.resetCallCount();
+		
+		plan.putTestCases(cases, "admin");
+		assertEquals(1, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+		assertEquals(1, server.getCallCount(API_METHOD_MULTICALL));
+		assertEquals(0, server.getCallCount(API_METHOD_ADD_TEST_CASE_TO_PLAN));
+		assertEquals(20, plan.getTestCases().length);
+		assertEquals(20, api.getCasesForTestPlan(planID).size());
+		
+		// Nothing is added the second time
+		server.resetCallCount();
+		plan.putTestCases(cases, "admin");
+		assertEquals(0, server.getCallCount(API_METHOD_MULTICALL));
+		assertEquals(0, server.getCallCount(API_METHOD_GET_TEST_CASES_FOR_PLAN));
+	}
+
+	/**
+	 * Cases without an internal identifier are added by their visible
+	 * identifier and are not taken for one another.
+	 */
+	@Test
+	public void testPutTestCasesWithoutInternalID() throws Exception
+	{
+		ArrayList cases = createCases(3, NoInternalIDCase.class);
+		TestLinkTestPlan plan = new TestLinkTestPlan(api, "Project", "Plan",
+			TestLinkTestCase.class.getName());
+		
+		TestLinkTestCase newCase = new TestLinkTestCase();
+		newCase.initNewCase(plan.getProject(), new TestLinkTestSuite(
+			api.getFirstLevelTestSuitesForTestProject(projectID).getData(0)), "New");
+		cases.add(newCase);
+		plan.putTestCases(cases, "admin");
+		assertEquals(3, api.getCasesForTestPlan(planID).size());
+	}
+
+	/**
+	 * Cases known only by their visible identifier are found in the plan
+	 * and are added once.
+	 */
+	@Test
+	public void testPutTestCaseWithoutInternalID() throws Exception
+	{
+		ArrayList cases = createCases(3, NoInternalIDCase.class);
+		api.addTestCaseToTestPlan(projectID, planID, null, "PRJ-1", new Integer(1), null, null);
+		TestLinkTestPlan plan = new TestLinkTestPlan(api, "Project", "Plan",
+			TestLinkTestCase.class.getName());
+		server.resetCallCount();
+		
+		for ( int i = 0; i < 2; i++ ) {
+			for ( int c = 0; c < cases.size(); c++ ) {
+				plan.putTestCase((TestCase) cases.get(c), "admin");
+			}
+		}
+		assertEquals(2, server.getCallCount(API_METHOD_ADD_TEST_CASE_TO_PLAN));
+		assertEquals(3, api.getCasesForTestPlan(planID).size());
+	}
+
+	/**
+	 * A case that does not know its version is added with the version
+	 * known by TestLink or reported when TestLink does not know it.
+	 */
+	@Test
+	public void testPutTestCaseWithoutVersion() throws Exception
+	{
+		final String[] suiteVersion = new String[] { "3" };
+		final ArrayList addedVersions = new ArrayList();
+		server = new TestLinkInMemoryTransport() {
+			public Object execute(
+				String method,
+				Object[] params) throws TestLinkTransportException
+			{
+				if ( API_METHOD_ADD_TEST_CASE_TO_PLAN.equals(method) ) {
+					addedVersions.add(((Map) params[0]).get(API_PARAM_VERSION).toString());
+				}
+				Object result = super.execute(method, params);
+				if ( API_METHOD_GET_TEST_CASES_FOR_SUITE.equals(method) ) {
+					Object[] rows = (Object[]) result;
+					for ( int i = 0; i < rows.length; i++ ) {
+						((Map) rows[i]).put(API_RESULT_VERSION, suiteVersion[0]);
+					}
+				}
+				return result;
+			}
+		};
+		api = new TestLinkAPIClient("devKey", server, true);
+		projectID = api.createTestProject("Project", "PRJ", "Notes");
+		planID = server.createTestPlan(projectID, "Plan", "Notes");
+		ArrayList cases = createCases(2, NoVersionCase.class);
+		TestLinkTestPlan plan = new TestLinkTestPlan(api, "Project", "Plan",
+			TestLinkTestCase.class.getName());
+		
+		plan.putTestCase((TestCase) cases.get(0), "admin");
+		assertEquals(1, addedVersions.size());
+		assertEquals("3", addedVersions.get(0));
+		
+		suiteVersion[0] = null;
+		api.getCache().clear();
+		try {
+			plan.putTestCase((TestCase) cases.get(1), "admin");
+			fail("A case without a version was added.");
+		} catch ( TestLinkAPIException e ) {
+			assertTrue(e.getMessage().indexOf("Case 1") > 0);
+		}
+		assertEquals(1, addedVersions.size());
+		assertEquals(1, api.getCasesForTestPlan(planID).size());
+	}
+
+	/*
+	 * Create test cases in a suite and return them as instances of the
+	 * test case class.
+	 */
+	private ArrayList createCases(
+		int count,
+		Class caseClass) throws Exception
+	{
+		Integer suiteID = api.createTestSuite(projectID, "Suite", "Details");
+		for ( int c = 0; c < count; c++ ) {
+			api.createTestCase("admin", projectID, suiteID, "Case " + c, "Summary", "Steps",
+				"Expected", null, null, null, null, null, MEDIUM);
+		}
+		TestLinkTestProject project = new TestLinkTestProject(api.getProjects().getData(0));
+		TestLinkTestSuite suite = new TestLinkTestSuite(
+			api.getFirstLevelTestSuitesForTestProject(projectID).getData(0));
+		TestLinkAPIResults rows = api.getCasesForTestSuite(projectID, suiteID);
+		ArrayList cases = new ArrayList();
+		for ( int i = 0; i < rows.size(); i++ ) {
+			Map caseInfo = new HashMap(rows.getData(i));
+			caseInfo.put(API_RESULT_TC_SUITE, "Suite");
+			TestLinkTestCase testCase = (TestLinkTestCase) caseClass.newInstance();
+			testCase.initExistingCase(project, suite, caseInfo);
+			cases.add(testCase);
+		}
+		return cases;
+	}
+
+	/**
+	 * A test case whose internal identifier is not known.
+	 */
+	public static class NoInternalIDCase extends TestLinkTestCase
+	{
+		public Integer getTestCaseInternalID()
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * A test case that does not know its version.
+	 */
+	public static class NoVersionCase extends TestLinkTestCase
+	{
+		public String getVersion()
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * A test case that keeps the suite it was initialized with.
+	 */
+	public static class SuiteCase extends TestLinkTestCase
+	{
+		TestLinkTestSuite suite;
+		
+		public void initExistingCase(
+			TestLinkTestProject projectInfo,
+			TestLinkTestSuite suiteInfo,
+			Map testCaseInfo) throws TestLinkAPIException
+		{
+			suite = suiteInfo;
+			super.initExistingCase(projectInfo, suiteInfo, testCaseInfo);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.client;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import testlink.api.java.client.TestLinkAPIClient;
+import testlink.api.java.client.TestLinkAPIConst;
+import testlink.api.java.client.TestLinkAsyncClient;
+
+
+/**
+ * Verifies that the XML-RPC transport keeps connections alive between
+ * calls and bounds the calls made at the same time by the maximum
+ * connections. The tests run against a local stand-in server.
+ */
+public class TestLinkXmlRpcTransportTest implements TestLinkAPIConst
+{
+	private LocalXmlRpcServer server;
+	private TestLinkAPIClient api;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new LocalXmlRpcServer();
+		server.setResponse(API_METHOD_ABOUT, LocalXmlRpcServer.string("Testlink API"));
+		server.setResponse(API_METHOD_PING, LocalXmlRpcServer.string("Hello!"));
+		api = new TestLinkAPIClient("devKey", server.getURL());
+		server.resetRequestCount();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		server.shutdown();
+	}
+
+	/**
+	 * Calls made one after the other share one connection.
+	 */
+	@Test
+	public void testKeepAlive() throws Exception
+	{
+		for ( int i = 0; i < 5; i++ ) {
+			api.ping();
+		}
+		// The connection of the about call made by the constructor is used
+		assertEquals(5, server.getRequestCount(API_METHOD_PING));
+		assertEquals(1, server.getConnectionCount());
+	}
+
+	/**
+	 * Callers wait for a connection once the maximum connections are
+	 * in use.
+	 */
+	@Test
+	public void testMaxConnections() throws Exception
+	{
+		api.setMaxConnections(2);
+		server.setDelay(API_METHOD_PING, 100);
+		ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			TestLinkAsyncClient async = new TestLinkAsyncClient(api, executor, 6);
+			Future[] calls = new Future[6];
+			for ( int i = 0; i < calls.length; i++ ) {
+				calls[i] = async.ping();
+			}
+			for ( int i = 0; i < calls.length; i++ ) {
+				calls[i].get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(6, server.getRequestCount(API_METHOD_PING));
+		assertEquals(2, server.getMaxActiveRequests());
+		assertEquals(2, server.getConnectionCount());
+	}
+}
@@ -1,30 +1,30 @@
-/*
- * Daniel R Padilla
- *
- * Copyright (c) 2009, Daniel R Padilla
- *
- * This copyrighted material is made available to anyone wishing to use, modify,
- * copy, or redistribute it subject to the terms and conditions of the GNU
- * Lesser General Public License, as published by the Free Software Foundation.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
- * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
- * for more details.
- *
- * You should have received a copy of the GNU Lesser General Public License
- * along with this distribution; if not, write to:
- * Free Software Foundation, Inc.
- * 51 Franklin Street, Fifth Floor
- * Boston, MA  02110-1301  USA
- */
-package testlink.api.java.client.junit.constants;
-
-public interface TestConst {
-	// The URL path to testing TestLink application instance. You want to avoid production.
-	public static final String api182URL = "http://localhost/testlink1.8.2/lib/api/xmlrpc.php";
-	public static final String api185URL = "http://localhost/testlink1.8.5/lib/api/xmlrpc.php";
-	
-	// The user script_key value
-	public static final String userKey = "fc7eaf2092095e912af73ce44c26080b";
-}
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.junit.constants;
+
+public interface TestConst {
+	// The URL path to testing TestLink application instance. You want to avoid production.
+	public static final String api182URL = "http://localhost/testlink1.8.2/lib/api/xmlrpc.php";
+	public static final String api185URL = "http://localhost/testlink1.8.5/lib/api/xmlrpc.php";
+	
+	// The user script_key value
+	public static final String userKey = "fc7eaf2092095e912af73ce44c26080b";
+}
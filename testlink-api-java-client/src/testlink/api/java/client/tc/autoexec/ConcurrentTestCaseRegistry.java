@@ -0,0 +1,318 @@
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.tc.autoexec;
+
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import testlink.api.java.client.TestCase;
+
+
+/**
+ * A test case registry that can be filled and read by several threads
+ * at the same time, for example while a plan is loaded and its test
+ * cases are executed.
+ * <p>
+ * Changes are made under a lock. Reads use an immutable snapshot of the
+ * registry without locking. The snapshot is rebuilt by the first read
+ * after a change so many changes in a row cost one rebuild.
+ * <p>
+ * The array returned by toArray() is a consistent snapshot in execution
+ * order that can be iterated while the registry changes.
+ */
+public class ConcurrentTestCaseRegistry extends TestCaseRegistry
+{
+	private volatile Snapshot snapshot = null;
+	
+	/**
+	 * Removes all TestCases from this registry
+	 */
+	public synchronized void clear()
+	{
+		super.clear();
+		snapshot = null;
+	}
+	
+	/**
+	 * Add a test case to the registry. A test case with the same
+	 * internal identifier, visible identifier or name is replaced.
+	 * 
+	 * @param testCase
+	 */
+	public synchronized void put(
+		TestCase testCase)
+	{
+		super.put(testCase);
+		snapshot = null;
+	}
+	
+	/**
+	 * Remove a test case from the registery
+	 * 
+	 * @param testCase
+	 */
+	public synchronized void remove(
+		TestCase testCase)
+	{
+		super.remove(testCase);
+		snapshot = null;
+	}
+	
+	/**
+	 * Check to see if the test case is contained in the registry by TestCase object.
+	 * 
+	 * @param testCase
+	 * @return
+	 */
+	public boolean contains(
+		TestCase testCase)
+	{
+		return getSnapshot().find(testCase) > -1;
+	}
+	
+	/**
+	 * Check to see if the TestCase is contained in the registry by case name or visible identifier.
+	 * 
+	 * @param caseNameOrVisibleID
+	 * @return
+	 */
+	public boolean contains(
+		String caseNameOrVisibleID)
+	{
+		return getSnapshot().find(caseNameOrVisibleID) > -1;
+	}
+	
+	/**
+	 * Check to see if the test cases is contained in the registry by internal identifier.
+	 * 
+	 * @param internalID
+	 * @return
+	 */
+	public boolean contains(
+		Integer internalID)
+	{
+		return getSnapshot().find(internalID) > -1;
+	}
+	
+	/**
+	 * Get the TestCase by name for visible identifier.
+	 * 
+	 * @param caseNameOrVisibleID
+	 * @return The test case or null if it is not in the registry
+	 */
+	public TestCase get(
+		String caseNameOrVisibleID)
+	{
+		Snapshot current = getSnapshot();
+		return current.get(current.find(caseNameOrVisibleID));
+	}
+	
+	/**
+	 * Get the TestCase by internal identifier.
+	 * 
+	 * @param internalID
+	 * @return The test case or null if it is not in the registry
+	 */
+	public TestCase get(
+		Integer internalID)
+	{
+		Snapshot current = getSnapshot();
+		return current.get(current.find(internalID));
+	}
+	
+	/**
+	 * Get a TestCase by registry index.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestCase get(
+		int index)
+	{
+		return getSnapshot().ordered[index].testCase;
+	}
+	
+	/**
+	 * Check to see if the registry is empty
+	 * 
+	 * @return
+	 */
+	public boolean isEmpty()
+	{
+		return size() == 0;
+	}
+	
+	/**
+	 * Get the the number of entries in the registry.
+	 * 
+	 * @return
+	 */
+	public int size()
+	{
+		return getSnapshot().ordered.length;
+	}
+	
+	/**
+	 * Get the test cases in execution order. The array is a snapshot
+	 * that is not changed by later changes to the registry.
+	 * 
+	 * @return
+	 */
+	public TestCase[] toArray()
+	{
+		Entry[] ordered = getSnapshot().ordered;
+		TestCase[] cases = new TestCase[ordered.length];
+		for ( int i = 0; i < ordered.length; i++ ) {
+			cases[i] = ordered[i].testCase;
+		}
+		return cases;
+	}
+	
+	/*
+	 * Returns the index if the record is found
+	 */
+	public int find(
+		TestCase testCase)
+	{
+		return getSnapshot().find(testCase);
+	}
+	
+	/*
+	 * Returns the index if the record is found
+	 */
+	public int find(
+		Integer internalID)
+	{
+		return getSnapshot().find(internalID);
+	}
+	
+	/*
+	 * The current snapshot, rebuilt if the registry changed.
+	 */
+	private Snapshot getSnapshot()
+	{
+		Snapshot current = snapshot;
+		if ( current == null ) {
+			current = rebuildSnapshot();
+		}
+		return current;
+	}
+	
+	private synchronized Snapshot rebuildSnapshot()
+	{
+		if ( snapshot == null ) {
+			snapshot = new Snapshot(getOrdered());
+		}
+		return snapshot;
+	}
+	
+	/*
+	 * The registry at one point in time. Each index holds the position
+	 * of the first test case in execution order for a key, the same
+	 * test case the registry finds.
+	 */
+	private static class Snapshot
+	{
+		Entry[] ordered;
+		Map positions = new IdentityHashMap();
+		Map byInternalID = new HashMap();
+		Map byVisibleID = new HashMap();
+		Map byName = new HashMap();
+		
+		Snapshot(
+			Entry[] ordered)
+		{
+			this.ordered = ordered;
+			for ( int i = ordered.length - 1; i >= 0; i-- ) {
+				Integer position = new Integer(i);
+				Entry entry = ordered[i];
+				positions.put(entry.testCase, position);
+				putIndex(byInternalID, entry.internalID, position);
+				putIndex(byVisibleID, entry.visibleID, position);
+				putIndex(byName, entry.name, position);
+			}
+		}
+		
+		TestCase get(
+			int index)
+		{
+			return (index < 0) ? null : ordered[index].testCase;
+		}
+		
+		int find(
+			TestCase testCase)
+		{
+			Integer position = (Integer) positions.get(testCase);
+			if ( position != null ) {
+				return position.intValue();
+			}
+			
+			// Internal id is most reliable and takes priority
+			int idx = find(testCase.getTestCaseInternalID());
+			
+			// Now search by Visible ID and Name
+			if ( idx < 0 ) {
+				idx = find(testCase.getTestCaseVisibleID());
+				if ( idx < 0 ) {
+					idx = find(testCase.getTestCaseName());
+				}
+			}
+			return idx;
+		}
+		
+		int find(
+			String caseNameOrVisibleID)
+		{
+			// Visible ID takes priority over the name
+			int idx = getIndex(byVisibleID, caseNameOrVisibleID);
+			if ( idx < 0 ) {
+				idx = getIndex(byName, caseNameOrVisibleID);
+			}
+			return idx;
+		}
+		
+		int find(
+			Integer internalID)
+		{
+			return getIndex(byInternalID, internalID);
+		}
+		
+		private static void putIndex(
+			Map index,
+			Object key,
+			Integer position)
+		{
+			if ( key != null ) {
+				index.put(key, position);
+			}
+		}
+		
+		private static int getIndex(
+			Map index,
+			Object key)
+		{
+			Integer position = (key == null) ? null : (Integer) index.get(key);
+			return (position == null) ? -1 : position.intValue();
+		}
+	}
+}
@@ -1,270 +1,441 @@
-/*
- * Daniel R Padilla
- *
- * Copyright (c) 2009, Daniel R Padilla
- *
- * This copyrighted material is made available to anyone wishing to use, modify,
- * copy, or redistribute it subject to the terms and conditions of the GNU
- * Lesser General Public License, as published by the Free Software Foundation.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
- * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
- * for more details.
- *
- * You should have received a copy of the GNU Lesser General Public License
- * along with this distribution; if not, write to:
- * Free Software Foundation, Inc.
- * 51 Franklin Street, Fifth Floor
- * Boston, MA  02110-1301  USA
- */
-package testlink.api.java.client.tc.autoexec;
-
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-
-import testlink.api.java.client.TestCase;
-
-
-/**
- * A registry of test cases.
- * 
- * @author Daniel Padilla
- *
- */
-public class TestCaseRegistry
-{
-	Comparator orderByExecOrder = new TestCaseExecOrderCompare();
-	ArrayList caseList = new ArrayList();
-	
-	/**
-	 * Removes all TestCases from this registry
-	 */
-	public void clear()
-	{
-		caseList.clear();
-	}
- 
-	/**
-	 * Check to see if the test case is contained in the registry by TestCase object.
-	 * 
-	 * @param testCase
-	 * @return
-	 */
-	public boolean contains(
-		TestCase testCase)
-	{
-		int idx = find(testCase);
-		if ( idx < 0 ) {
-			return false;
-		}
-		return true;
-	}
-    
-	/**
-	 * Check to see if the TestCase is contained in the registry by case name or visible identifier.
-	 * 
-	 * @param caseNameOrVisibleID
-	 * @return
-	 */
-	public boolean contains(
-		String caseNameOrVisibleID)
-	{
-		if ( find(caseNameOrVisibleID) > -1 ) {
-			return true;
-		}
-		return false;
-	}
-
-	/**
-	 * Check to see if the test cases is contained in the registry by internal identifier.
-	 * 
-	 * @param internalID
-	 * @return
-	 */
-	public boolean contains(
-		Integer internalID)
-	{
-		if ( find(internalID) > -1 ) {
-			return true;
-		}
-		return false;
-	}
-    
-	/**
-	 * Get the TestCase by name for visible identifier.
-	 * 
-	 * @param caseNameOrVisibleID
-	 * @return
-	 */
-	public TestCase get(
-		String caseNameOrVisibleID)
-	{
-		int idx = find(caseNameOrVisibleID);
-		return (TestCase) caseList.get(idx);
-	}
-        
-	/**
-	 * Get the TestCase by internal identifier.
-	 * 
-	 * @param internalID
-	 * @return
-	 */
-	public TestCase get(
-		Integer internalID)
-	{
-		int idx = find(internalID);
-		return (TestCase) caseList.get(idx);
-	}
-	
-	/**
-	 * Get a TestCase by registry index.
-	 * 
-	 * @param index
-	 * @return
-	 */
-	public TestCase get(
-		int index)
-	{
-		return (TestCase) caseList.get(index);
-	}
-	    
-	/**
-	 * Check to see if the registry is empty
-	 * 
-	 * @return
-	 */
-	public boolean isEmpty()
-	{
-		return caseList.isEmpty();
-	}
-
-	/**
-	 * Add a test case to the registry
-	 * 
-	 * @param testCase
-	 */
-	public void put(
-		TestCase testCase)
-	{
-		int idx = find(testCase);
-		if ( idx < 0 ) {
-			caseList.add(testCase);
-		} else {
-			caseList.set(idx, testCase);
-		}
-		Collections.sort(caseList, orderByExecOrder);
-	}
-
-	/**
-	 * Remove a test case from the registery
-	 * 
-	 * @param testCase
-	 */
-	public void remove(
-		TestCase testCase)
-	{
-		int idx = find(testCase);
-		if ( idx > -1 ) {
-			caseList.remove(idx);
-		}
-		Collections.sort(caseList, orderByExecOrder);
-	}
-    
-	/**
-	 * Get the the number of entries in the registry.
-	 * 
-	 * @return
-	 */
-	public int size()
-	{
-		return caseList.size();
-	}
-	
-	public TestCase[] toArray() {
-		int count = caseList.size();
-		TestCase cases[] = new TestCase[count];
-		for (int i=0; i < caseList.size(); i++) {
-			TestCase tc = (TestCase) caseList.get(i);
-			cases[i] = tc;
-		}
-		return cases;
-	}
-
-	/*
-	 * Private Methods
-	 */
-    
-	/*
-	 * Returns the index if the record is found
-	 */
-	public int find(
-		TestCase testCase)
-	{
-    	
-		// Internal id is most reliable and takes priority
-		int idx = find(testCase.getTestCaseInternalID());
-    	
-		// Now search by Visible ID and Name
-		if ( idx < 0 ) {
-			idx = find(testCase.getTestCaseVisibleID());
-			if ( idx < 0 ) {
-				idx = find(testCase.getTestCaseName());
-			} 
-		}
-		return idx;
-	}
-
-	private int find(
-		String caseNameOrVisibleID)
-	{
-    	
-		// Visible ID takes priority over the name
-		for ( int i = 0; i < caseList.size(); i++ ) {
-			TestCase tcase = (TestCase) caseList.get(i);
-			if ( isEqual(tcase.getTestCaseVisibleID(), caseNameOrVisibleID) ) {
-				return i;
-			}
-		}
-    	
-		// Search by name
-		for ( int i = 0; i < caseList.size(); i++ ) {
-			TestCase tcase = (TestCase) caseList.get(i);
-			if ( isEqual(tcase.getTestCaseName(), caseNameOrVisibleID) ) {
-				return i;
-			}
-		}
-		return -1;
-	}
-    
-	/*
-	 * Returns the index if the record is found
-	 */
-	public int find(
-		Integer internalID)
-	{
-		for ( int i = 0; i < caseList.size(); i++ ) {
-			TestCase tcase = (TestCase) caseList.get(i);
-			if ( isEqual(tcase.getTestCaseInternalID(), internalID) ) {
-				return i;
-			}
-		}
-		return -1;
-	}
-    
-	/*
-	 * Check the objects for equal value. Undefined nulls result in false match.
-	 */
-	private boolean isEqual(
-		Object o1,
-		Object o2)
-	{
-		if ( o1 == null || o2 == null ) {
-			return false;
-		}
-		return o1.equals(o2);
-	}
-    
-}
+/*
+ * Daniel R Padilla
+ *
+ * Copyright (c) 2009, Daniel R Padilla
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package testlink.api.java.client.tc.autoexec;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import testlink.api.java.client.TestCase;
+
+
+/**
+ * A registry of test cases.
+ * <p>
+ * The test cases are indexed by internal identifier, visible identifier
+ * and name so lookups do not scan the registry. The cases are kept in
+ * execution order as they are added and the ordered array used by
+ * get(int) and toArray() is only rebuilt after the registry changes.
+ * <p>
+ * The order and the index keys of a test case are taken when it is put
+ * in the registry. Put the test case again after changing them.
+ * 
+ * @author Daniel Padilla
+ *
+ */
+public class TestCaseRegistry
+{
+	private TreeMap order = new TreeMap();
+	private Map entries = new IdentityHashMap();
+	private Map byInternalID = new HashMap();
+	private Map byVisibleID = new HashMap();
+	private Map byName = new HashMap();
+	private long nextSequence = 0;
+	
+	// Ordered snapshot rebuilt on first use after a change
+	private Entry[] ordered = null;
+	
+	/**
+	 * Removes all TestCases from this registry
+	 */
+	public void clear()
+	{
+		order.clear();
+		entries.clear();
+		byInternalID.clear();
+		byVisibleID.clear();
+		byName.clear();
+		ordered = null;
+	}
+ 
+	/**
+	 * Check to see if the test case is contained in the registry by TestCase object.
+	 * 
+	 * @param testCase
+	 * @return
+	 */
+	public boolean contains(
+		TestCase testCase)
+	{
+		return findEntry(testCase) != null;
+	}
+    
+	/**
+	 * Check to see if the TestCase is contained in the registry by case name or visible identifier.
+	 * 
+	 * @param caseNameOrVisibleID
+	 * @return
+	 */
+	public boolean contains(
+		String caseNameOrVisibleID)
+	{
+		return findEntry(caseNameOrVisibleID) != null;
+	}
+
+	/**
+	 * Check to see if the test cases is contained in the registry by internal identifier.
+	 * 
+	 * @param internalID
+	 * @return
+	 */
+	public boolean contains(
+		Integer internalID)
+	{
+		return findEntry(internalID) != null;
+	}
+    
+	/**
+	 * Get the TestCase by name for visible identifier.
+	 * 
+	 * @param caseNameOrVisibleID
+	 * @return The test case or null if it is not in the registry
+	 */
+	public TestCase get(
+		String caseNameOrVisibleID)
+	{
+		Entry entry = findEntry(caseNameOrVisibleID);
+		return (entry == null) ? null : entry.testCase;
+	}
+        
+	/**
+	 * Get the TestCase by internal identifier.
+	 * 
+	 * @param internalID
+	 * @return The test case or null if it is not in the registry
+	 */
+	public TestCase get(
+		Integer internalID)
+	{
+		Entry entry = findEntry(internalID);
+		return (entry == null) ? null : entry.testCase;
+	}
+	
+	/**
+	 * Get a TestCase by registry index.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public TestCase get(
+		int index)
+	{
+		return getOrdered()[index].testCase;
+	}
+	    
+	/**
+	 * Check to see if the registry is empty
+	 * 
+	 * @return
+	 */
+	public boolean isEmpty()
+	{
+		return order.isEmpty();
+	}
+
+	/**
+	 * Add a test case to the registry. A test case with the same
+	 * internal identifier, visible identifier or name is replaced.
+	 * 
+	 * @param testCase
+	 */
+	public void put(
+		TestCase testCase)
+	{
+		Entry old = findEntry(testCase);
+		long sequence;
+		if ( old == null ) {
+			sequence = nextSequence++;
+		} else {
+			// The replacement keeps the place of the old case among equals
+			sequence = old.sequence;
+			removeEntry(old);
+		}
+		Entry entry = new Entry(testCase, sequence);
+		order.put(entry, entry);
+		entries.put(testCase, entry);
+		addIndex(byInternalID, entry.internalID, entry);
+		addIndex(byVisibleID, entry.visibleID, entry);
+		addIndex(byName, entry.name, entry);
+		ordered = null;
+	}
+
+	/**
+	 * Remove a test case from the registery
+	 * 
+	 * @param testCase
+	 */
+	public void remove(
+		TestCase testCase)
+	{
+		Entry entry = findEntry(testCase);
+		if ( entry != null ) {
+			removeEntry(entry);
+		}
+	}
+    
+	/**
+	 * Get the the number of entries in the registry.
+	 * 
+	 * @return
+	 */
+	public int size()
+	{
+		return order.size();
+	}
+	
+	/**
+	 * Get the test cases in execution order. The array is a snapshot
+	 * that is not changed by later changes to the registry.
+	 * 
+	 * @return
+	 */
+	public TestCase[] toArray() {
+		Entry[] entries = getOrdered();
+		TestCase cases[] = new TestCase[entries.length];
+		for (int i=0; i < entries.length; i++) {
+			cases[i] = entries[i].testCase;
+		}
+		return cases;
+	}
+
+	/*
+	 * Returns the index if the record is found
+	 */
+	public int find(
+		TestCase testCase)
+	{
+		return indexOf(findEntry(testCase));
+	}
+    
+	/*
+	 * Returns the index if the record is found
+	 */
+	public int find(
+		Integer internalID)
+	{
+		return indexOf(findEntry(internalID));
+	}
+
+	/*
+	 * Private Methods
+	 */
+    
+	/*
+	 * Find the entry of a test case. The same test case object is found
+	 * directly, otherwise the internal id is most reliable and takes
+	 * priority over the visible id and the name.
+	 */
+	private Entry findEntry(
+		TestCase testCase)
+	{
+		Entry entry = (Entry) entries.get(testCase);
+		if ( entry != null ) {
+			return entry;
+		}
+		entry = findEntry(testCase.getTestCaseInternalID());
+		
+		// Now search by Visible ID and Name
+		if ( entry == null ) {
+			entry = findEntry(testCase.getTestCaseVisibleID());
+			if ( entry == null ) {
+				entry = findEntry(testCase.getTestCaseName());
+			}
+		}
+		return entry;
+	}
+
+	private Entry findEntry(
+		String caseNameOrVisibleID)
+	{
+		// Visible ID takes priority over the name
+		Entry entry = getIndex(byVisibleID, caseNameOrVisibleID);
+		if ( entry == null ) {
+			entry = getIndex(byName, caseNameOrVisibleID);
+		}
+		return entry;
+	}
+    
+	private Entry findEntry(
+		Integer internalID)
+	{
+		return getIndex(byInternalID, internalID);
+	}
+	
+	private void removeEntry(
+		Entry entry)
+	{
+		order.remove(entry);
+		entries.remove(entry.testCase);
+		removeIndex(byInternalID, entry.internalID, entry);
+		removeIndex(byVisibleID, entry.visibleID, entry);
+		removeIndex(byName, entry.name, entry);
+		ordered = null;
+	}
+	
+	/*
+	 * The position of the entry in execution order or -1.
+	 */
+	private int indexOf(
+		Entry entry)
+	{
+		if ( entry == null ) {
+			return -1;
+		}
+		return Arrays.binarySearch(getOrdered(), entry);
+	}
+	
+	/*
+	 * The entries in execution order. The array is replaced and never
+	 * changed when the registry changes.
+	 */
+	Entry[] getOrdered()
+	{
+		if ( ordered == null ) {
+			ordered = (Entry[]) order.keySet().toArray(new Entry[order.size()]);
+		}
+		return ordered;
+	}
+	
+	/*
+	 * Several test cases can share a name so each index key holds a
+	 * list of entries. Undefined nulls are not indexed.
+	 */
+	private static void addIndex(
+		Map index,
+		Object key,
+		Entry entry)
+	{
+		if ( key == null ) {
+			return;
+		}
+		ArrayList list = (ArrayList) index.get(key);
+		if ( list == null ) {
+			list = new ArrayList(1);
+			index.put(key, list);
+		}
+		list.add(entry);
+	}
+	
+	private static void removeIndex(
+		Map index,
+		Object key,
+		Entry entry)
+	{
+		if ( key == null ) {
+			return;
+		}
+		ArrayList list = (ArrayList) index.get(key);
+		if ( list != null ) {
+			list.remove(entry);
+			if ( list.isEmpty() ) {
+				index.remove(key);
+			}
+		}
+	}
+	
+	/*
+	 * The first entry in execution order for the key.
+	 */
+	private static Entry getIndex(
+		Map index,
+		Object key)
+	{
+		if ( key == null ) {
+			return null;
+		}
+		ArrayList list = (ArrayList) index.get(key);
+		if ( list == null ) {
+			return null;
+		}
+		Entry first = null;
+		Iterator entries = list.iterator();
+		while ( entries.hasNext() ) {
+			Entry entry = (Entry) entries.next();
+			if ( first == null || entry.compareTo(first) < 0 ) {
+				first = entry;
+			}
+		}
+		return first;
+	}
+	
+	/*
+	 * A registered test case with the keys it was registered with. The
+	 * entries are ordered by execution order, visible id and name with
+	 * undefined nulls first. Cases that compare equal keep the order in
+	 * which they were added.
+	 */
+	static class Entry implements Comparable
+	{
+		TestCase testCase;
+		Integer internalID;
+		String visibleID;
+		String name;
+		int execOrder;
+		long sequence;
+		
+		Entry(
+			TestCase testCase,
+			long sequence)
+		{
+			this.testCase = testCase;
+			this.internalID = testCase.getTestCaseInternalID();
+			this.visibleID = testCase.getTestCaseVisibleID();
+			this.name = testCase.getTestCaseName();
+			this.execOrder = testCase.getExecOrder();
+			this.sequence = sequence;
+		}
+		
+		public int compareTo(
+			Object o)
+		{
+			Entry other = (Entry) o;
+			if ( execOrder != other.execOrder ) {
+				return (execOrder < other.execOrder) ? -1 : 1;
+			}
+			int result = compare(visibleID, other.visibleID);
+			if ( result == 0 ) {
+				result = compare(name, other.name);
+			}
+			if ( result != 0 ) {
+				return result;
+			}
+			if ( sequence != other.sequence ) {
+				return (sequence < other.sequence) ? -1 : 1;
+			}
+			return 0;
+		}
+		
+		private static int compare(
+			String s1,
+			String s2)
+		{
+			if ( s1 == null ) {
+				return (s2 == null) ? 0 : -1;
+			}
+			return (s2 == null) ? 1 : s1.compareTo(s2);
+		}
+	}
+}